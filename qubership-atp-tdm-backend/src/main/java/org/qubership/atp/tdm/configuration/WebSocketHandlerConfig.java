@@ -34,6 +34,8 @@ import org.qubership.atp.tdm.service.ColumnService;
 import org.qubership.atp.tdm.service.DataRefreshService;
 import org.qubership.atp.tdm.service.TestDataService;
 import org.qubership.atp.tdm.utils.CurrentTime;
+import org.qubership.atp.tdm.websocket.bulkaction.BulkActionJobs;
+import org.qubership.atp.tdm.websocket.bulkaction.BulkActionsHandler;
 import org.qubership.atp.tdm.websocket.bulkaction.cleanup.BulkDataCleanupHandler;
 import org.qubership.atp.tdm.websocket.bulkaction.dataload.BulkDataImportHandler;
 import org.qubership.atp.tdm.websocket.bulkaction.dataload.BulkDataRefreshHandler;
@@ -54,6 +56,7 @@ import lombok.RequiredArgsConstructor;
 public class WebSocketHandlerConfig implements WebSocketConfigurer {
 
     private final ExecutorService executorService = Executors.newCachedThreadPool();
+    private final BulkActionJobs bulkActionJobs;
     private final CatalogRepository catalogRepository;
     private final ImportInfoRepository importInfoRepository;
     private final DataRefreshService dataRefreshService;
@@ -72,21 +75,26 @@ public class WebSocketHandlerConfig implements WebSocketConfigurer {
 
     @Override
     public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
-        registry.addHandler(new BulkDataRefreshHandler(executorService, catalogRepository, importInfoRepository,
-                dataRefreshService, environmentsService, bulkRefreshMailSender, currentTime,
-                lockManager, mdcHelper), "websocket/bulk/refresh").setAllowedOrigins("*");
-        registry.addHandler(new BulkDataCleanupHandler(executorService, catalogRepository, environmentsService,
-                cleanupService, cleanupConfigRepository, bulkCleanupMailSender, currentTime,
-                lockManager, mdcHelper), "websocket/bulk/cleanup").setAllowedOrigins("*");
-        registry.addHandler(new BulkDataImportHandler(executorService, catalogRepository, environmentsService,
-                bulkCleanupMailSender, dataRefreshService, importInfoRepository, currentTime,
-                lockManager, mdcHelper), "websocket/bulk/import").setAllowedOrigins("*");
-        registry.addHandler(new BulkDataDropHandler(executorService, catalogRepository, environmentsService,
-                        testDataService, bulkDropMailSender, currentTime, lockManager, mdcHelper),
-                "websocket/bulk/drop").setAllowedOrigins("*");
-        registry.addHandler(new BulkDataLinksRefreshHandler(executorService, catalogRepository, environmentsService,
-                        columnService, bulkLinksRefreshMailSender, currentTime, lockManager, mdcHelper),
-                "websocket/bulk/links").setAllowedOrigins("*");
+        addHandler(registry, new BulkDataRefreshHandler(executorService, bulkActionJobs, catalogRepository,
+                importInfoRepository, dataRefreshService, environmentsService, bulkRefreshMailSender, currentTime,
+                lockManager, mdcHelper), "websocket/bulk/refresh");
+        addHandler(registry, new BulkDataCleanupHandler(executorService, bulkActionJobs, catalogRepository,
+                environmentsService, cleanupService, cleanupConfigRepository, bulkCleanupMailSender, currentTime,
+                lockManager, mdcHelper), "websocket/bulk/cleanup");
+        addHandler(registry, new BulkDataImportHandler(executorService, bulkActionJobs, catalogRepository,
+                environmentsService, bulkCleanupMailSender, dataRefreshService, importInfoRepository, currentTime,
+                lockManager, mdcHelper), "websocket/bulk/import");
+        addHandler(registry, new BulkDataDropHandler(executorService, bulkActionJobs, catalogRepository,
+                        environmentsService, testDataService, bulkDropMailSender, currentTime, lockManager, mdcHelper),
+                "websocket/bulk/drop");
+        addHandler(registry, new BulkDataLinksRefreshHandler(executorService, bulkActionJobs, catalogRepository,
+                        environmentsService, columnService, bulkLinksRefreshMailSender, currentTime, lockManager,
+                        mdcHelper), "websocket/bulk/links");
+    }
+
+    private void addHandler(WebSocketHandlerRegistry registry, BulkActionsHandler handler, String path) {
+        bulkActionJobs.register(handler);
+        registry.addHandler(handler, path).setAllowedOrigins("*");
     }
 
     @Bean(destroyMethod = "shutdown")
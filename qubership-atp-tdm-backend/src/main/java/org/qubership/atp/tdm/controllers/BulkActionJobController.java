@@ -0,0 +1,94 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.controllers;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.qubership.atp.integration.configuration.configuration.AuditAction;
+import org.qubership.atp.tdm.model.bulkaction.BulkActionJob;
+import org.qubership.atp.tdm.websocket.bulkaction.BulkActionJobs;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.annotation.Nonnull;
+
+@RequestMapping("/api/tdm/bulk/jobs")
+@RestController()
+public class BulkActionJobController {
+
+    private final BulkActionJobs bulkActionJobs;
+
+    @Autowired
+    public BulkActionJobController(@Nonnull BulkActionJobs bulkActionJobs) {
+        this.bulkActionJobs = bulkActionJobs;
+    }
+
+    /**
+     * Get running and recent bulk action jobs of the project.
+     *
+     * @param projectId project id.
+     * @return jobs without tasks, latest first.
+     */
+    @Operation(description = "Get running and recent bulk action jobs of the project.")
+    @PreAuthorize("@entityAccess.checkAccess("
+            + "T(org.qubership.atp.tdm.utils.UsersManagementEntities).TEST_DATA.getName(),"
+            + "#projectId, 'READ')")
+    @AuditAction(auditAction = "Get bulk action jobs. Project {{#projectId}}")
+    @GetMapping
+    public List<BulkActionJob> getJobs(@RequestParam("projectId") UUID projectId) {
+        return bulkActionJobs.getJobs(projectId);
+    }
+
+    /**
+     * Get bulk action job with status and results of its tables.
+     *
+     * @param jobId bulk action job id.
+     * @return job with tasks.
+     */
+    @Operation(description = "Get bulk action job with status and results of its tables.")
+    @PreAuthorize("@entityAccess.checkAccess("
+            + "T(org.qubership.atp.tdm.utils.UsersManagementEntities).TEST_DATA.getName(),"
+            + "@bulkActionJobs.getProjectId(#jobId), 'READ')")
+    @AuditAction(auditAction = "Get bulk action job {{#jobId}}")
+    @GetMapping(path = "/{jobId}")
+    public BulkActionJob getJob(@PathVariable("jobId") UUID jobId) {
+        return bulkActionJobs.getJob(jobId);
+    }
+
+    /**
+     * Cancel bulk action job. Tables not started yet are skipped, tables being processed are completed.
+     *
+     * @param jobId bulk action job id.
+     */
+    @Operation(description = "Cancel bulk action job.")
+    @PreAuthorize("@entityAccess.checkAccess("
+            + "T(org.qubership.atp.tdm.utils.UsersManagementEntities).TEST_DATA.getName(),"
+            + "@bulkActionJobs.getProjectId(#jobId), 'UPDATE')")
+    @AuditAction(auditAction = "Cancel bulk action job {{#jobId}}")
+    @DeleteMapping(path = "/{jobId}")
+    public void cancelJob(@PathVariable("jobId") UUID jobId) {
+        bulkActionJobs.cancelJob(jobId);
+    }
+}
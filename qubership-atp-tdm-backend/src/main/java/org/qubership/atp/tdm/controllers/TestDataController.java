@@ -45,6 +45,7 @@ import org.qubership.atp.tdm.utils.HttpUtils;
 import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -57,9 +58,12 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.google.gson.Gson;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.annotation.Nonnull;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -67,6 +71,8 @@ import lombok.extern.slf4j.Slf4j;
 @RestController()
 public class TestDataController /* implements TestDataControllerApi */ {
 
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
     private final TestDataService testDataService;
     private final MetricService metricService;
 
@@ -166,6 +172,28 @@ public class TestDataController /* implements TestDataControllerApi */ {
                 testDataRequest.isOccupied());
     }
 
+    /**
+     * Writes a page of test data table to the response as it is read from the database.
+     * Pages are requested by the "nextPage" position of the previous page instead of offset.
+     *
+     * @param testDataRequest - test data request.
+     * @param response        - http response.
+     */
+    @Operation(description = "Get test data table page by keyset.")
+    @PreAuthorize("@entityAccess.checkAccess("
+            + "T(org.qubership.atp.tdm.utils.UsersManagementEntities).TEST_DATA.getName(),"
+            + "@catalogRepository.findByTableName(#testDataRequest.tableName).getProjectId(), 'READ')")
+    @AuditAction(auditAction = "Get test data table {{#testDataRequest.tableName}}")
+    @PostMapping(value = "/table/page", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void getTestDataPage(@RequestBody TestDataRequest testDataRequest, HttpServletResponse response)
+            throws IOException {
+        metricService.incrementGetAction(MDC.get(MdcField.PROJECT_ID.toString()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        try (JsonGenerator jsonGenerator = JSON_FACTORY.createGenerator(response.getOutputStream())) {
+            testDataService.writeTestData(testDataRequest, jsonGenerator);
+        }
+    }
+
     @Operation(description = "Occupy test data.")
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.tdm.utils.UsersManagementEntities).TEST_DATA.getName(),"
@@ -18,6 +18,8 @@ package org.qubership.atp.tdm.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
 
 import org.qubership.atp.tdm.model.table.OrderType;
 import org.qubership.atp.tdm.model.table.TestDataTableFilter;
@@ -26,6 +28,7 @@ import org.qubership.atp.tdm.model.table.TestDataType;
 import org.qubership.atp.tdm.model.table.conditions.factories.SearchConditionFactory;
 import org.qubership.atp.tdm.model.table.conditions.factories.TestDataTypeConditionFactory;
 import org.qubership.atp.tdm.model.table.conditions.search.SearchCondition;
+import org.qubership.atp.tdm.repo.impl.SystemColumns;
 import org.qubership.atp.tdm.utils.TestDataUtils;
 
 import com.healthmarketscience.sqlbuilder.BinaryCondition;
@@ -35,6 +38,7 @@ import com.healthmarketscience.sqlbuilder.CustomSql;
 import com.healthmarketscience.sqlbuilder.FunctionCall;
 import com.healthmarketscience.sqlbuilder.OrderObject;
 import com.healthmarketscience.sqlbuilder.SelectQuery;
+import com.healthmarketscience.sqlbuilder.UnaryCondition;
 import com.healthmarketscience.sqlbuilder.dbspec.Column;
 import com.healthmarketscience.sqlbuilder.dbspec.basic.DbColumn;
 import com.healthmarketscience.sqlbuilder.dbspec.basic.DbSchema;
@@ -170,6 +174,51 @@ public class QueryInfo {
             return this;
         }
 
+        /**
+         * Sets keyset ordering by the order column and ROW_ID, and selects rows after the given position.
+         * Nulls of the order column go last for ascending and first for descending order, as PostgreSQL
+         * sorts them by default, so the ordering can be served by an index on the column.
+         *
+         * @param testDataTableOrder order column, rows are ordered by ROW_ID only if it is null.
+         * @param afterValue         order column value of the last row of the previous page.
+         * @param afterRowId         ROW_ID of the last row of the previous page, null for the first page.
+         */
+        public Builder setSeek(TestDataTableOrder testDataTableOrder, String afterValue, UUID afterRowId) {
+            CustomSql rowId = new CustomSql("\"" + SystemColumns.ROW_ID.getName() + "\"");
+            boolean descending = Objects.nonNull(testDataTableOrder)
+                    && OrderType.DESC.equals(testDataTableOrder.getOrderType());
+            CustomSql column = Objects.isNull(testDataTableOrder) ? null
+                    : new CustomSql("\"" + testDataTableOrder.getColumnName() + "\"");
+            if (Objects.nonNull(column)) {
+                String nulls = descending ? " DESC NULLS FIRST" : " ASC NULLS LAST";
+                query.addCustomOrderings(new CustomSql(column + nulls));
+            }
+            query.addCustomOrdering(rowId, descending ? OrderObject.Dir.DESCENDING : OrderObject.Dir.ASCENDING);
+            if (Objects.isNull(afterRowId)) {
+                return this;
+            }
+            Condition afterRow = descending
+                    ? BinaryCondition.lessThan(rowId, afterRowId.toString())
+                    : BinaryCondition.greaterThan(rowId, afterRowId.toString());
+            if (Objects.isNull(column)) {
+                query.addCondition(afterRow);
+                return this;
+            }
+            if (Objects.isNull(afterValue)) {
+                Condition sameNull = ComboCondition.and(UnaryCondition.isNull(column), afterRow);
+                query.addCondition(descending ? ComboCondition.or(sameNull, UnaryCondition.isNotNull(column))
+                        : sameNull);
+                return this;
+            }
+            String value = TestDataUtils.escapeCharacters(afterValue);
+            Condition sameValue = ComboCondition.and(BinaryCondition.equalTo(column, value), afterRow);
+            query.addCondition(descending
+                    ? ComboCondition.or(BinaryCondition.lessThan(column, value), sameValue)
+                    : ComboCondition.or(BinaryCondition.greaterThan(column, value), sameValue,
+                    UnaryCondition.isNull(column)));
+            return this;
+        }
+
         public QueryInfo build() {
             return QueryInfo.this;
         }
@@ -17,6 +17,7 @@
 package org.qubership.atp.tdm.model;
 
 import java.util.List;
+import java.util.UUID;
 
 import org.qubership.atp.tdm.model.table.TestDataTableFilter;
 import org.qubership.atp.tdm.model.table.TestDataTableOrder;
@@ -35,4 +36,6 @@ public class TestDataRequest {
     private Integer limit;
     private List<TestDataTableFilter> filters;
     private TestDataTableOrder dataTableOrder;
+    private String afterValue;
+    private UUID afterRowId;
 }
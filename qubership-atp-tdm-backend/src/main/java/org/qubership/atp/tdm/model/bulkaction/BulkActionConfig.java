@@ -32,4 +32,5 @@ public class BulkActionConfig {
     private boolean sendResult;
     private String recipients;
     private String tableTitle;
+    private UUID jobId;
 }
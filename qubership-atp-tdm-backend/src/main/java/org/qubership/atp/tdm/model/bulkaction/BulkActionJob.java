@@ -0,0 +1,61 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.model.bulkaction;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Bulk action persisted with a task per test data table, so the action is continued
+ * by any node after restart of the node which started it.
+ */
+@Data
+@NoArgsConstructor
+public class BulkActionJob {
+
+    private UUID id;
+    private String action;
+    private UUID projectId;
+    private BulkActionConfig config;
+    private long processId;
+    private BulkActionJobStatus status;
+    private LocalDateTime createdWhen;
+    private LocalDateTime finishedWhen;
+    private List<BulkActionTask> tasks = new ArrayList<>();
+
+    /**
+     * Creates running job of bulk action.
+     *
+     * @param action    bulk action name.
+     * @param config    bulk action config.
+     * @param processId id of bulk action process sent to the client.
+     */
+    public BulkActionJob(String action, BulkActionConfig config, long processId) {
+        this.id = UUID.randomUUID();
+        this.action = action;
+        this.projectId = config.getProjectId();
+        this.config = config;
+        this.processId = processId;
+        this.status = BulkActionJobStatus.RUNNING;
+        this.createdWhen = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.model.bulkaction;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Bulk action task processing one test data table. A running task is owned by the node processing it,
+ * the owner updates heartbeat of the task, so a task of a failed node is taken over by another node.
+ */
+@Data
+@NoArgsConstructor
+public class BulkActionTask {
+
+    private UUID id;
+    private UUID jobId;
+    private int index;
+    private String tableName;
+    private String tableTitle;
+    private String environmentName;
+    private BulkActionTaskStatus status;
+    private String owner;
+    private LocalDateTime heartbeat;
+    private LocalDateTime startedWhen;
+    private LocalDateTime finishedWhen;
+    @JsonRawValue
+    private String result;
+    private String error;
+
+    /**
+     * Creates pending task of bulk action job.
+     *
+     * @param jobId           bulk action job id.
+     * @param index           index of the task in the job.
+     * @param tableName       test data table name.
+     * @param tableTitle      test data table title.
+     * @param environmentName name of environment of the table.
+     */
+    public BulkActionTask(UUID jobId, int index, String tableName, String tableTitle, String environmentName) {
+        this.id = UUID.randomUUID();
+        this.jobId = jobId;
+        this.index = index;
+        this.tableName = tableName;
+        this.tableTitle = tableTitle;
+        this.environmentName = environmentName;
+        this.status = BulkActionTaskStatus.PENDING;
+    }
+}
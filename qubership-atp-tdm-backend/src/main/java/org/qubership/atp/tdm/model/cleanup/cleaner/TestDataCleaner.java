@@ -22,9 +22,26 @@ import java.util.Map;
 import org.qubership.atp.tdm.model.table.TestDataTable;
 
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 
 public interface TestDataCleaner {
 
+    /**
+     * Selects rows to be deleted. Can be called several times for consecutive pages of one table.
+     *
+     * @param testDataTable page of test data table rows with header of all table columns.
+     * @return rows to be deleted.
+     */
     @Nonnull
     List<Map<String, Object>> runCleanup(@Nonnull TestDataTable testDataTable) throws Exception;
+
+    /**
+     * Columns the cleaner reads from rows in addition to "ROW_ID".
+     *
+     * @return column names, null if all columns are required.
+     */
+    @Nullable
+    default List<String> getRequiredColumns() {
+        return null;
+    }
 }
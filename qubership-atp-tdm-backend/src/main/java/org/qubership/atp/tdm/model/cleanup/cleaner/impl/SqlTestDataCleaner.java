@@ -19,11 +19,17 @@ package org.qubership.atp.tdm.model.cleanup.cleaner.impl;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.SQLSyntaxErrorException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -34,6 +40,7 @@ import java.util.regex.Pattern;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import org.apache.commons.lang3.StringUtils;
 import org.owasp.esapi.Encoder;
 import org.owasp.esapi.codecs.OracleCodec;
 import org.owasp.esapi.reference.DefaultEncoder;
@@ -44,6 +51,7 @@ import org.qubership.atp.tdm.model.table.TestDataTable;
 import org.qubership.atp.tdm.utils.TestDataUtils;
 import org.slf4j.MDC;
 
+import com.google.common.collect.Lists;
 import liquibase.repackaged.net.sf.jsqlparser.parser.CCJSqlParserUtil;
 import liquibase.repackaged.net.sf.jsqlparser.statement.Statement;
 import liquibase.repackaged.net.sf.jsqlparser.statement.select.Select;
@@ -53,16 +61,25 @@ import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @RequiredArgsConstructor
-public class SqlTestDataCleaner implements TestDataCleaner {
+public class SqlTestDataCleaner implements TestDataCleaner, AutoCloseable {
     private static final Pattern COLUMN_PATTERN = Pattern.compile("\\$\\{'([^']+)'}");
 
     private static final Pattern IDENTIFIER_PATTERN = Pattern.compile("^[a-zA-Z_][a-zA-Z0-9_]{0,63}$");
 
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_BATCH_PARAMETERS = 30000;
+    private static final String PARAMS_ALIAS = "TDM_PARAMS";
+    private static final String PARAM_COLUMN = "TDM_P";
+    private static final String ROW_INDEX_COLUMN = "TDM_ROW_IDX";
+
     private final ExecutorService executorService = Executors.newSingleThreadExecutor();
     private int queryTimeout;
     private final Connection connection;
     @Getter
     private String query;
+    private String sourceQuery;
+    private List<String> parameterColumns;
+    private boolean batchedEvaluation = true;
 
     private final Encoder esapiEncoder = DefaultEncoder.getInstance();
     private final OracleCodec oracleCodec = new OracleCodec();
@@ -79,13 +96,16 @@ public class SqlTestDataCleaner implements TestDataCleaner {
     @Override
     @Nonnull
     public List<Map<String, Object>> runCleanup(@Nonnull TestDataTable testDataTable) throws Exception {
-        List<String> columns = collectParameterColumnsList(testDataTable);
+        if (parameterColumns == null) {
+            sourceQuery = query;
+            parameterColumns = collectParameterColumnsList(testDataTable);
 
-        /*
-            All column placeholders are replaced with '?' character, and columns list is populated.
-            Let's parse the resulting query.
-         */
-        parseQuery();
+            /*
+                All column placeholders are replaced with '?' character, and columns list is populated.
+                Let's parse the resulting query.
+             */
+            parseQuery();
+        }
 
         /*
             Check rows existence in the testDataTable.
@@ -98,11 +118,163 @@ public class SqlTestDataCleaner implements TestDataCleaner {
             return new ArrayList<>();
         }
 
-        /*
-            Prepare statement and execute it in the loop through all rows of testDataTable.
-            As a result, collect rows-to-be-deleted into rowsToBeDeleted list.
-            TODO: Should be re-analyzed, because it can be very resource-consuming in case wide target table.
-         */
+        if (batchedEvaluation) {
+            List<Map<String, Object>> rowsToBeDeleted = runBatchedCleanup(sourceQuery, rows);
+            if (rowsToBeDeleted != null) {
+                return rowsToBeDeleted;
+            }
+            batchedEvaluation = false;
+        }
+        return runRowByRowCleanup(parameterColumns, rows, testDataTable);
+    }
+
+    /**
+     * Stops the thread executing cleanup queries, a query still running after timeout is interrupted.
+     */
+    @Override
+    public void close() {
+        executorService.shutdownNow();
+    }
+
+    @Override
+    @Nonnull
+    public List<String> getRequiredColumns() {
+        List<String> columns = new ArrayList<>();
+        Matcher m = COLUMN_PATTERN.matcher(Objects.toString(sourceQuery == null ? query : sourceQuery, ""));
+        while (m.find()) {
+            if (!columns.contains(m.group(1))) {
+                columns.add(m.group(1));
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Evaluates cleanup query for chunks of rows at once: parameters of the chunk are passed as a derived table,
+     * and the query is correlated to it through EXISTS, so the result contains indexes of rows to keep.
+     *
+     * @return rows to be deleted, or null if the query can't be evaluated in batches.
+     */
+    @Nullable
+    private List<Map<String, Object>> runBatchedCleanup(@Nonnull String sourceQuery,
+                                                        @Nonnull List<Map<String, Object>> rows) throws Exception {
+        List<String> columns = new ArrayList<>();
+        String correlatedQuery = correlateQuery(sourceQuery, columns);
+        int batchSize = Math.max(1, Math.min(BATCH_SIZE, MAX_BATCH_PARAMETERS / (columns.size() + 1)));
+        boolean oracle = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT)
+                .contains("oracle");
+        List<Map<String, Object>> rowsToBeDeleted = new ArrayList<>();
+        boolean firstBatch = true;
+        for (List<Map<String, Object>> batch : Lists.partition(rows, batchSize)) {
+            String batchQuery = buildBatchQuery(correlatedQuery, columns.size(), batch.size(), oracle);
+            Set<Integer> rowsToKeep;
+            try (PreparedStatement preparedStatement = connection.prepareStatement(batchQuery)) {
+                int parameterIndex = 1;
+                for (int rowIndex = 0; rowIndex < batch.size(); rowIndex++) {
+                    preparedStatement.setInt(parameterIndex++, rowIndex);
+                    for (String columnName : columns) {
+                        preparedStatement.setString(parameterIndex++,
+                                esapiEncoder.encodeForSQL(oracleCodec, String.valueOf(batch.get(rowIndex)
+                                        .get(columnName))));
+                    }
+                }
+                rowsToKeep = executeWithTimeout(() -> {
+                    Set<Integer> indexes = new HashSet<>();
+                    try (ResultSet rs = preparedStatement.executeQuery()) {
+                        while (rs.next()) {
+                            indexes.add(rs.getInt(1));
+                        }
+                    }
+                    return indexes;
+                });
+            } catch (SQLException | ExecutionException e) {
+                if (firstBatch) {
+                    log.warn("Cleanup query can't be evaluated in batches, rows will be checked one by one.", e);
+                    return null;
+                }
+                throw e;
+            }
+            for (int rowIndex = 0; rowIndex < batch.size(); rowIndex++) {
+                if (!rowsToKeep.contains(rowIndex)) {
+                    log.debug("Row with id: {} will be marked for deleting", batch.get(rowIndex).get("ROW_ID"));
+                    rowsToBeDeleted.add(batch.get(rowIndex));
+                }
+            }
+            firstBatch = false;
+        }
+        log.debug("Cleanup query evaluated in batches: {}", correlatedQuery);
+        return rowsToBeDeleted;
+    }
+
+    private String correlateQuery(@Nonnull String sourceQuery, @Nonnull List<String> columns) {
+        Matcher m = COLUMN_PATTERN.matcher(sourceQuery);
+        StringBuffer correlatedQuery = new StringBuffer();
+        while (m.find()) {
+            String column = esapiEncoder.encodeForSQL(oracleCodec, m.group(1));
+            int index = columns.indexOf(column);
+            if (index < 0) {
+                columns.add(column);
+                index = columns.size() - 1;
+            }
+            m.appendReplacement(correlatedQuery, PARAMS_ALIAS + "." + PARAM_COLUMN + (index + 1));
+        }
+        m.appendTail(correlatedQuery);
+        return correlatedQuery.toString().trim();
+    }
+
+    private String buildBatchQuery(@Nonnull String correlatedQuery, int columnsCount, int rowsCount,
+                                   boolean oracle) {
+        StringBuilder params = new StringBuilder();
+        if (oracle) {
+            for (int row = 0; row < rowsCount; row++) {
+                params.append(row == 0 ? "SELECT ? " + ROW_INDEX_COLUMN : " UNION ALL SELECT ?");
+                for (int column = 1; column <= columnsCount; column++) {
+                    params.append(", ?");
+                    if (row == 0) {
+                        params.append(' ').append(PARAM_COLUMN).append(column);
+                    }
+                }
+                params.append(" FROM DUAL");
+            }
+            params.append(") ").append(PARAMS_ALIAS);
+        } else {
+            params.append("VALUES ");
+            for (int row = 0; row < rowsCount; row++) {
+                params.append(row == 0 ? "(?" : ", (?");
+                params.append(StringUtils.repeat(", ?", columnsCount)).append(')');
+            }
+            params.append(") AS ").append(PARAMS_ALIAS).append('(').append(ROW_INDEX_COLUMN);
+            for (int column = 1; column <= columnsCount; column++) {
+                params.append(", ").append(PARAM_COLUMN).append(column);
+            }
+            params.append(')');
+        }
+        return "SELECT " + PARAMS_ALIAS + "." + ROW_INDEX_COLUMN + " FROM (" + params
+                + " WHERE EXISTS (" + correlatedQuery + ")";
+    }
+
+    private <T> T executeWithTimeout(@Nonnull Callable<T> callable) throws Exception {
+        Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+        try {
+            return executorService.submit(() -> {
+                MdcUtils.setContextMap(mdcContext);
+                return callable.call();
+            }).get(queryTimeout, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            throw new TimeoutException("SQL execution has been stopped as maximum time of execution in "
+                    + queryTimeout + " sec is exceeded.");
+        }
+    }
+
+    /*
+        Prepare statement and execute it in the loop through all rows of testDataTable.
+        As a result, collect rows-to-be-deleted into rowsToBeDeleted list.
+        Used for queries which can't be evaluated in batches.
+     */
+    @Nonnull
+    private List<Map<String, Object>> runRowByRowCleanup(@Nonnull List<String> columns,
+                                                         @Nonnull List<Map<String, Object>> rows,
+                                                         @Nonnull TestDataTable testDataTable) throws Exception {
         List<Map<String, Object>> rowsToBeDeleted = new ArrayList<>();
         try (PreparedStatement preparedStatement = connection.prepareStatement(query)) {
             log.info("Cleanup query: {}", query);
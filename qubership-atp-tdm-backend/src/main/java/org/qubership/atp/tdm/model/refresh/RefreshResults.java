@@ -29,5 +29,14 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class RefreshResults extends CommonResults {
 
+    private String tableName;
+    private String error;
     private int recordsTotal;
+
+    /**
+     * Create refresh result without error message.
+     */
+    public RefreshResults(int recordsTotal) {
+        this.recordsTotal = recordsTotal;
+    }
 }
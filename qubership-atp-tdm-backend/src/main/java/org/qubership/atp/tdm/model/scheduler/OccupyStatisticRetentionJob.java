@@ -0,0 +1,54 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.model.scheduler;
+
+import java.time.LocalDate;
+
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.qubership.atp.tdm.repo.StatisticsRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Deletes occupy statistics older than the retention period. Retention of 0 days keeps all statistics.
+ */
+@Component
+@Slf4j
+public class OccupyStatisticRetentionJob implements Job {
+
+    @Autowired
+    private StatisticsRepository statisticsRepository;
+
+    @Value("${occupy.statistic.retention.days:0}")
+    private int retentionDays;
+
+    @Override
+    public void execute(JobExecutionContext jobExecutionContext) throws JobExecutionException {
+        if (retentionDays <= 0) {
+            return;
+        }
+        LocalDate keptFrom = LocalDate.now().minusDays(retentionDays);
+        log.info("Delete occupy statistics before: [{}]", keptFrom);
+        int deleted = statisticsRepository.deleteOccupyStatisticsBefore(keptFrom);
+        log.info("Occupy statistics deleted: {}", deleted);
+    }
+}
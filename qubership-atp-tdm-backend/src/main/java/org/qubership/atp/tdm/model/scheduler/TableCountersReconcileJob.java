@@ -0,0 +1,58 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.model.scheduler;
+
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.qubership.atp.tdm.model.TestDataTableCatalog;
+import org.qubership.atp.tdm.repo.CatalogRepository;
+import org.qubership.atp.tdm.repo.TableCountersRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Recounts available and occupied rows of all test data tables, so counters drifted by concurrent
+ * or unknown changes are corrected.
+ */
+@Component
+@Slf4j
+public class TableCountersReconcileJob implements Job {
+
+    @Autowired
+    private CatalogRepository catalogRepository;
+
+    @Autowired
+    private TableCountersRepository tableCountersRepository;
+
+    @Override
+    public void execute(JobExecutionContext jobExecutionContext) throws JobExecutionException {
+        log.info("Reconcile counters of test data tables.");
+        int failed = 0;
+        for (TestDataTableCatalog table : catalogRepository.findAll()) {
+            try {
+                tableCountersRepository.recount(table.getTableName());
+            } catch (Exception e) {
+                failed++;
+                log.warn("Failed to recount rows of table: [{}]", table.getTableName(), e);
+            }
+        }
+        log.info("Counters of test data tables reconciled, failed tables: {}", failed);
+    }
+}
@@ -18,30 +18,16 @@ package org.qubership.atp.tdm.model.statistics;
 
 import java.time.LocalDate;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
-import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
 
 @Data
-@EqualsAndHashCode()
-public class OutdatedStatisticsInner {
-
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyStatisticsCounter {
+    private String tableName;
     private LocalDate date;
-    private Long created;
-    private Long consumed;
-    private Long outdated;
-
-    /**
-     * Constructor.
-     *
-     * @param date - date.
-     * @param created - created.
-     * @param consumed - consumed.
-     * @param outdated - outdated
-     */
-    public OutdatedStatisticsInner(LocalDate date, Long created, Long consumed, Long outdated) {
-        this.date = date;
-        this.created = created;
-        this.consumed = consumed;
-        this.outdated = outdated;
-    }
+    private long created;
+    private long consumed;
 }
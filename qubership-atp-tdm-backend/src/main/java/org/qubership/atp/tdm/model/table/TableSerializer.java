@@ -45,26 +45,90 @@ public class TableSerializer extends JsonSerializer<TestDataTable> {
     @Override
     public void serialize(TestDataTable table, JsonGenerator jsonGenerator,
                           SerializerProvider serializerProvider) throws IOException {
-        jsonGenerator.writeStartObject();
-
         removeColumns(table);
+        List<TestDataTableColumn> orderedColumns = writeHeader(jsonGenerator, table.getColumns());
+        for (Map<String, Object> row : table.getData()) {
+            writeRow(jsonGenerator, orderedColumns, row);
+        }
+        writeBodyEnd(jsonGenerator);
+        writeSummary(jsonGenerator, table.getRecords(), table.getName(), table.getQuery(),
+                table.getUpdateByQuery());
+        jsonGenerator.writeEndObject();
+    }
 
+    /**
+     * Opens the table object, writes the header and opens the body rows array, so rows can be written
+     * one by one with {@link #writeRow}.
+     *
+     * @param jsonGenerator json generator.
+     * @param columns       visible columns of the table.
+     * @return columns in order of writing.
+     */
+    public List<TestDataTableColumn> writeHeader(@Nonnull JsonGenerator jsonGenerator,
+                                                 @Nonnull List<TestDataTableColumn> columns) throws IOException {
+        jsonGenerator.writeStartObject();
         jsonGenerator.writeFieldName("data");
         jsonGenerator.writeStartObject();
-        List<TestDataTableColumn> columns = table.getColumns();
-
         LinkedList<TestDataTableColumn> orderedColumns = getOrderedColumns(columns);
         buildHeader(jsonGenerator, orderedColumns);
-        buildBody(jsonGenerator, orderedColumns, table.getData());
+        jsonGenerator.writeFieldName("body");
+        jsonGenerator.writeStartObject();
+        jsonGenerator.writeFieldName("rows");
+        jsonGenerator.writeStartArray();
+        return orderedColumns;
+    }
 
+    /**
+     * Writes one body row.
+     *
+     * @param jsonGenerator json generator.
+     * @param columns       columns returned by {@link #writeHeader}.
+     * @param row           row values by column name, ROW_ID included.
+     */
+    public void writeRow(@Nonnull JsonGenerator jsonGenerator, @Nonnull List<TestDataTableColumn> columns,
+                         @Nonnull Map<String, Object> row) throws IOException {
+        buildColumns(jsonGenerator, columns, row);
+    }
+
+    /**
+     * Closes the body rows array and the data object.
+     */
+    public void writeBodyEnd(@Nonnull JsonGenerator jsonGenerator) throws IOException {
+        jsonGenerator.writeEndArray();
         jsonGenerator.writeEndObject();
-        jsonGenerator.writeNumberField("records", table.getRecords());
-        jsonGenerator.writeStringField("name", table.getName());
-        jsonGenerator.writeStringField("query", table.getQuery());
-        jsonGenerator.writeStringField("updateByQuery", table.getUpdateByQuery());
         jsonGenerator.writeEndObject();
     }
 
+    /**
+     * Writes table fields following the data, the table object is left open.
+     */
+    public void writeSummary(@Nonnull JsonGenerator jsonGenerator, int records, String name, String query,
+                             String updateByQuery) throws IOException {
+        jsonGenerator.writeNumberField("records", records);
+        jsonGenerator.writeStringField("name", name);
+        jsonGenerator.writeStringField("query", query);
+        jsonGenerator.writeStringField("updateByQuery", updateByQuery);
+    }
+
+    /**
+     * Gets columns shown in the grid for the test data type.
+     */
+    public List<TestDataTableColumn> getVisibleColumns(@Nonnull List<TestDataTableColumn> columns,
+                                                       TestDataType type) {
+        if (TestDataType.OCCUPIED.equals(type)) {
+            return columns.stream()
+                    .filter(c -> !SystemColumns.SELECTED.getName().equals(c.getIdentity().getColumnName())
+                            && !SystemColumns.ROW_ID.getName().equals(c.getIdentity().getColumnName()))
+                    .collect(Collectors.toList());
+        }
+        return columns.stream()
+                .filter(c -> !SystemColumns.SELECTED.getName().equals(c.getIdentity().getColumnName())
+                        && !SystemColumns.ROW_ID.getName().equals(c.getIdentity().getColumnName())
+                        && !SystemColumns.OCCUPIED_DATE.getName().equals(c.getIdentity().getColumnName())
+                        && !SystemColumns.OCCUPIED_BY.getName().equals(c.getIdentity().getColumnName()))
+                .collect(Collectors.toList());
+    }
+
     private LinkedList<TestDataTableColumn> getOrderedColumns(List<TestDataTableColumn> columns) {
         LinkedList<TestDataTableColumn> orderedColumns = new LinkedList<>();
         int unknown = -1;
@@ -92,19 +156,7 @@ public class TableSerializer extends JsonSerializer<TestDataTable> {
     }
 
     private void removeColumns(@Nonnull TestDataTable table) {
-        if (TestDataType.OCCUPIED.equals(table.getType())) {
-            table.setColumns(table.getColumns().stream()
-                    .filter(c -> !SystemColumns.SELECTED.getName().equals(c.getIdentity().getColumnName())
-                            && !SystemColumns.ROW_ID.getName().equals(c.getIdentity().getColumnName()))
-                    .collect(Collectors.toList()));
-        } else {
-            table.setColumns(table.getColumns().stream()
-                    .filter(c -> !SystemColumns.SELECTED.getName().equals(c.getIdentity().getColumnName())
-                            && !SystemColumns.ROW_ID.getName().equals(c.getIdentity().getColumnName())
-                            && !SystemColumns.OCCUPIED_DATE.getName().equals(c.getIdentity().getColumnName())
-                            && !SystemColumns.OCCUPIED_BY.getName().equals(c.getIdentity().getColumnName()))
-                    .collect(Collectors.toList()));
-        }
+        table.setColumns(getVisibleColumns(table.getColumns(), table.getType()));
     }
 
     private void buildHeader(JsonGenerator jsonGenerator, List<TestDataTableColumn> headers) throws IOException {
@@ -117,19 +169,6 @@ public class TableSerializer extends JsonSerializer<TestDataTable> {
         jsonGenerator.writeEndObject();
     }
 
-    private void buildBody(JsonGenerator jsonGenerator, List<TestDataTableColumn> headers,
-                           List<Map<String, Object>> rows) throws IOException {
-        jsonGenerator.writeFieldName("body");
-        jsonGenerator.writeStartObject();
-        jsonGenerator.writeFieldName("rows");
-        jsonGenerator.writeStartArray();
-        for (Map<String, Object> row : rows) {
-            buildColumns(jsonGenerator, headers, row);
-        }
-        jsonGenerator.writeEndArray();
-        jsonGenerator.writeEndObject();
-    }
-
     private void buildColumns(JsonGenerator jsonGenerator, List<TestDataTableColumn> headers,
                               Map<String, Object> columns) throws IOException {
         jsonGenerator.writeStartObject();
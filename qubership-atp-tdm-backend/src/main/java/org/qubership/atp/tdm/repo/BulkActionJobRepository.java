@@ -0,0 +1,158 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.qubership.atp.tdm.model.bulkaction.BulkActionJob;
+import org.qubership.atp.tdm.model.bulkaction.BulkActionJobStatus;
+import org.qubership.atp.tdm.model.bulkaction.BulkActionTask;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+public interface BulkActionJobRepository {
+
+    /**
+     * Saves new job with its tasks.
+     *
+     * @param job bulk action job with pending tasks.
+     */
+    void createJob(@Nonnull BulkActionJob job);
+
+    /**
+     * Gets job with its tasks.
+     *
+     * @param jobId bulk action job id.
+     * @return job, or null if there is no such job.
+     */
+    @Nullable
+    BulkActionJob getJob(@Nonnull UUID jobId);
+
+    /**
+     * Gets status of the job.
+     *
+     * @param jobId bulk action job id.
+     * @return status, or null if there is no such job.
+     */
+    @Nullable
+    BulkActionJobStatus getJobStatus(@Nonnull UUID jobId);
+
+    /**
+     * Gets tasks of the job completed since the given moment, with id, finish time and result only.
+     *
+     * @param jobId         bulk action job id.
+     * @param finishedSince tasks finished before this moment by the database clock are skipped.
+     * @return completed tasks in order of completion.
+     */
+    List<BulkActionTask> getCompletedTasks(@Nonnull UUID jobId, @Nonnull LocalDateTime finishedSince);
+
+    /**
+     * Gets jobs of the project without tasks.
+     *
+     * @param projectId    project id.
+     * @param createdAfter finished jobs created before this moment are skipped.
+     * @return running and recent jobs, latest first.
+     */
+    List<BulkActionJob> getJobs(@Nonnull UUID projectId, @Nonnull LocalDateTime createdAfter);
+
+    /**
+     * Gets running jobs of the action in the project without tasks.
+     *
+     * @param action    bulk action name.
+     * @param projectId project id.
+     * @return running jobs.
+     */
+    List<BulkActionJob> getRunningJobs(@Nonnull String action, @Nonnull UUID projectId);
+
+    /**
+     * Gets tasks of running jobs which are pending or whose owner stopped updating heartbeat.
+     *
+     * @param taskTimeout seconds after the last heartbeat when running task expires.
+     * @param limit       max number of tasks.
+     * @return tasks in order of jobs creation.
+     */
+    List<BulkActionTask> getClaimableTasks(long taskTimeout, int limit);
+
+    /**
+     * Makes the node owner of the task, if the task is pending or its heartbeat expired and the job is running.
+     * Task of sequential job is not claimed while another task of the job is running.
+     *
+     * @param jobId       bulk action job id.
+     * @param taskId      bulk action task id.
+     * @param owner       node id.
+     * @param taskTimeout seconds after the last heartbeat when running task expires.
+     * @param parallel    whether tasks of the job may run in parallel.
+     * @return true if the task is claimed by the node.
+     */
+    boolean claimTask(@Nonnull UUID jobId, @Nonnull UUID taskId, @Nonnull String owner,
+                      long taskTimeout, boolean parallel);
+
+    /**
+     * Returns the task owned by the node to pending, so any node can claim it at once.
+     *
+     * @param taskId bulk action task id.
+     * @param owner  node id.
+     */
+    void unclaimTask(@Nonnull UUID taskId, @Nonnull String owner);
+
+    /**
+     * Saves result of the task owned by the node.
+     *
+     * @param taskId bulk action task id.
+     * @param owner  node id.
+     * @param result bulk action result as sent to the client.
+     * @param error  error of the task, if failed.
+     * @return false if the task was taken over by another node.
+     */
+    boolean completeTask(@Nonnull UUID taskId, @Nonnull String owner, @Nonnull String result,
+                         @Nullable String error);
+
+    /**
+     * Updates heartbeat of running tasks owned by the node.
+     *
+     * @param owner   node id.
+     * @param taskIds ids of tasks being processed by the node.
+     */
+    void updateHeartbeat(@Nonnull String owner, @Nonnull Collection<UUID> taskIds);
+
+    /**
+     * Marks the job finished, if it is running and all its tasks are completed.
+     *
+     * @param jobId bulk action job id.
+     * @return true if the job is finished by this call.
+     */
+    boolean finishJob(@Nonnull UUID jobId);
+
+    /**
+     * Cancels the running job and its pending tasks. Running tasks are completed.
+     *
+     * @param jobId bulk action job id.
+     * @return true if the job is cancelled by this call.
+     */
+    boolean cancelJob(@Nonnull UUID jobId);
+
+    /**
+     * Removes finished and cancelled jobs with their tasks.
+     *
+     * @param finishedBefore jobs finished before this moment are removed.
+     */
+    void deleteFinishedJobs(@Nonnull LocalDateTime finishedBefore);
+}
@@ -17,6 +17,8 @@
 package org.qubership.atp.tdm.repo;
 
 import java.sql.Connection;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import org.qubership.atp.tdm.env.configurator.model.Server;
 import org.qubership.atp.tdm.env.configurator.service.EnvironmentsService;
@@ -26,9 +28,13 @@ public interface SqlRepository {
 
     Connection createConnection(Server server);
 
+    boolean isConnectionValid(Server server);
+
     Server getServer(String tableName, CatalogRepository catalogRepository, EnvironmentsService environmentsService);
 
     JdbcTemplate createJdbcTemplate(Server server);
 
     JdbcTemplate createJdbcTemplate(Server server, int queryTimeout);
+
+    void queryRows(JdbcTemplate jdbcTemplate, String query, Consumer<Map<String, Object>> rowConsumer);
 }
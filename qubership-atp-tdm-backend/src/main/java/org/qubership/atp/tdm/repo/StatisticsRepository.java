@@ -18,6 +18,7 @@ package org.qubership.atp.tdm.repo;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.qubership.atp.tdm.model.TestDataOccupyStatistic;
@@ -27,6 +28,7 @@ import org.qubership.atp.tdm.model.statistics.DateStatistics;
 import org.qubership.atp.tdm.model.statistics.GeneralStatisticsItem;
 import org.qubership.atp.tdm.model.statistics.OutdatedStatistics;
 import org.qubership.atp.tdm.model.statistics.report.StatisticsReport;
+import org.qubership.atp.tdm.model.table.TableColumnValues;
 
 import jakarta.annotation.Nonnull;
 
@@ -50,5 +52,28 @@ public interface StatisticsRepository {
     List<StatisticsReport> getTestDataMonitoringStatistics(@Nonnull List<TestDataTableCatalog> catalogList,
                                                            @Nonnull UUID projectId);
 
+    /**
+     * Counts available rows per value of the column in each table.
+     *
+     * @param tablesColumns test data tables with column values to count.
+     * @param columnName    column the rows are grouped by.
+     * @return numbers of available rows by value in order of tables, values without rows are missing.
+     */
+    List<Map<String, Long>> getAvailableDataByValues(@Nonnull List<TableColumnValues> tablesColumns,
+                                                     @Nonnull String columnName);
+
     List<String> alterOccupiedDateColumn(List<String> tableNames);
+
+    void saveOccupyStatistics(@Nonnull List<TestDataOccupyStatistic> statistics);
+
+    void deleteOccupyStatistics(@Nonnull List<UUID> rowIds);
+
+    /**
+     * Deletes occupy statistics of rows occupied, or created if never occupied, before the date.
+     * Daily counters are kept, so reports over the pruned period are still built from them.
+     *
+     * @param date date the statistics are kept from.
+     * @return number of deleted statistics.
+     */
+    int deleteOccupyStatisticsBefore(@Nonnull LocalDate date);
 }
@@ -0,0 +1,50 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.qubership.atp.tdm.model.TestDataOccupyStatistic;
+import org.qubership.atp.tdm.model.statistics.DailyStatisticsCounter;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+public interface StatisticsRollupRepository {
+
+    /**
+     * Updates daily counters when occupy statistics of the rows are replaced by new statistics.
+     * Must be called in the transaction changing occupy statistics, before the change.
+     *
+     * @param rowIds     rows whose current occupy statistics are removed.
+     * @param statistics new occupy statistics, may be empty.
+     */
+    void replaceStatistics(@Nonnull List<UUID> rowIds, @Nonnull List<TestDataOccupyStatistic> statistics);
+
+    /**
+     * Gets daily counters of the tables.
+     *
+     * @param tableNames test data table names in lower case.
+     * @param dateFrom   first date, inclusive.
+     * @param dateTo     last date, exclusive. Not limited if null.
+     * @return daily counters.
+     */
+    List<DailyStatisticsCounter> getCounters(@Nonnull List<String> tableNames, @Nonnull LocalDate dateFrom,
+                                             @Nullable LocalDate dateTo);
+}
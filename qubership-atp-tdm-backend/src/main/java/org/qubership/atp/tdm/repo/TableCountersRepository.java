@@ -0,0 +1,71 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.qubership.atp.tdm.model.statistics.TableCounters;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+public interface TableCountersRepository {
+
+    /**
+     * Adds deltas to the counters of the table. Counters which are not calculated yet are created uncounted,
+     * they are recounted on first read.
+     *
+     * @param tableName    test data table name.
+     * @param available    delta of available rows.
+     * @param occupied     delta of occupied rows.
+     * @param occupiedDate date of occupation, if rows are occupied.
+     */
+    void addDelta(@Nonnull String tableName, long available, long occupied, @Nullable LocalDateTime occupiedDate);
+
+    /**
+     * Sets counters of the emptied table.
+     *
+     * @param tableName test data table name.
+     */
+    void reset(@Nonnull String tableName);
+
+    /**
+     * Removes counters of the table, they are recounted on next read.
+     * Used when the change of available and occupied rows is unknown.
+     *
+     * @param tableName test data table name.
+     */
+    void invalidate(@Nonnull String tableName);
+
+    /**
+     * Counts available and occupied rows of the table and saves the counters.
+     *
+     * @param tableName test data table name.
+     * @return actual counters.
+     */
+    TableCounters recount(@Nonnull String tableName);
+
+    /**
+     * Gets saved counters of the tables.
+     *
+     * @param tableNames test data table names.
+     * @return counters by table name in lower case, tables without counters are missing.
+     */
+    Map<String, TableCounters> getCounters(@Nonnull List<String> tableNames);
+}
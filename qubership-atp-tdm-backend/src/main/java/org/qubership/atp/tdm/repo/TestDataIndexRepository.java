@@ -0,0 +1,53 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo;
+
+import java.util.List;
+
+import org.qubership.atp.tdm.model.table.TestDataTableFilter;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+public interface TestDataIndexRepository {
+
+    /**
+     * Creates missing primary key on "ROW_ID" and indexes on available rows and creation date.
+     * Primary key is not created for a table with duplicated or empty row ids, a plain index is created instead.
+     *
+     * @param tableName test data table name.
+     */
+    void createIndexes(@Nonnull String tableName);
+
+    /**
+     * Creates missing primary key and indexes of an existing table without blocking writes to it:
+     * indexes are built concurrently on PostgreSQL. Row ids are checked for duplicates only once,
+     * a table left with plain "ROW_ID" index is not checked again.
+     *
+     * @param tableName test data table name.
+     */
+    void createMissingIndexes(@Nonnull String tableName);
+
+    /**
+     * Counts queries filtering the table by equality of user columns. When a column is used by configured
+     * number of queries, an index on it is created in background.
+     *
+     * @param tableName test data table name.
+     * @param filters   filters of the query.
+     */
+    void recordFilterUsage(@Nonnull String tableName, @Nullable List<TestDataTableFilter> filters);
+}
@@ -18,19 +18,23 @@ package org.qubership.atp.tdm.repo;
 
 import java.io.File;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.qubership.atp.tdm.env.configurator.model.Server;
 import org.qubership.atp.tdm.model.ColumnValues;
 import org.qubership.atp.tdm.model.ImportTestDataStatistic;
+import org.qubership.atp.tdm.model.TestDataRequest;
 import org.qubership.atp.tdm.model.table.TestDataTable;
 import org.qubership.atp.tdm.model.table.TestDataTableFilter;
 import org.qubership.atp.tdm.model.table.TestDataTableOrder;
 import org.qubership.atp.tdm.model.table.TestDataType;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 
@@ -53,8 +57,24 @@ public interface TestDataTableRepository {
     TestDataTable getTestData(@Nonnull String tableName, @Nonnull List<String> columnNames,
                               @Nullable List<TestDataTableFilter> filters);
 
+    /**
+     * Writes a page of the test data table to the json generator as it is read from the database.
+     * Page follows the row given by after value and after row id of the request, offset is ignored.
+     * Limit of the request is required and is reduced to the configured maximum page size.
+     *
+     * @param testDataRequest test data request.
+     * @param jsonGenerator   json generator to write the table to.
+     */
+    void writeTestData(@Nonnull TestDataRequest testDataRequest, @Nonnull JsonGenerator jsonGenerator);
+
+    List<Map<String, Object>> getTestDataRows(@Nonnull String tableName, @Nonnull TestDataType testDataType,
+                                              @Nullable List<TestDataTableFilter> filters, @Nullable Integer limit);
+
     TestDataTable getFullTestData(@Nonnull String tableName);
 
+    void forEachTestDataPage(@Nonnull String tableName, @Nullable List<String> columnNames, int pageSize,
+                             @Nonnull Consumer<List<Map<String, Object>>> pageConsumer);
+
     File getTestDataTableAsExcel(@Nonnull String tableName, @Nullable Integer offset,
                                  @Nullable Integer limit, @Nullable List<TestDataTableFilter> filters);
 
@@ -67,8 +87,41 @@ public interface TestDataTableRepository {
 
     String occupyTestData(@Nonnull String tableName, @Nonnull String occupiedBy, @Nonnull List<UUID> rows);
 
+    /**
+     * Gets creation dates of the rows in one query per thousand rows.
+     *
+     * @param tableName test data table name.
+     * @param rows      row ids.
+     * @return creation date by row id, missing rows are absent.
+     */
+    Map<UUID, LocalDateTime> getCreatedWhen(@Nonnull String tableName, @Nonnull List<UUID> rows);
+
+    /**
+     * Occupies available rows matching the filters.
+     *
+     * @param tableName  test data table name.
+     * @param occupiedBy user occupying the rows.
+     * @param filters    filters of rows to occupy.
+     * @param count      number of rows to occupy.
+     * @return occupied rows with values as read from the database, timestamps are not formatted.
+     */
+    List<Map<String, Object>> occupyAvailableRows(@Nonnull String tableName, @Nonnull String occupiedBy,
+                                                  @Nullable List<TestDataTableFilter> filters, int count);
+
     void releaseTestData(@Nonnull String tableName, @Nonnull List<UUID> rows);
 
+    /**
+     * Loads rows streamed by the producer into the test data table with adaptive JDBC batches.
+     * Table is created or altered for columns of the first row.
+     *
+     * @param tableName    test data table name.
+     * @param exists       whether the table already exists.
+     * @param rowsProducer passes rows to the given consumer.
+     * @return number of loaded rows.
+     */
+    int loadRows(@Nonnull String tableName, boolean exists,
+                 @Nonnull Consumer<Consumer<Map<String, Object>>> rowsProducer);
+
     void insertRows(@Nonnull String tableName, boolean exists, @Nonnull List<Map<String, Object>> rows,
                     boolean skipSchemaUpdate);
 
@@ -119,6 +172,8 @@ public interface TestDataTableRepository {
 
     void updateLastUsage(@Nonnull String tableName);
 
+    List<String> getTableColumns(@Nonnull String tableName);
+
     List<String> getTablesBySystemIdAndExistingColumn(@Nonnull UUID systemId, @Nonnull UUID environmentId,
                                                       @Nonnull String columnName);
 
@@ -16,9 +16,12 @@
 
 package org.qubership.atp.tdm.repo.impl;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -28,9 +31,9 @@ import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.qubership.atp.common.lock.LockManager;
-import org.qubership.atp.tdm.exceptions.internal.TdmOccupyDataIncorrectlyException;
 import org.qubership.atp.tdm.exceptions.internal.TdmOccupyDataResponseMessageException;
 import org.qubership.atp.tdm.exceptions.internal.TdmSearchCleanupConfigException;
+import org.qubership.atp.tdm.model.TestDataOccupyStatistic;
 import org.qubership.atp.tdm.model.TestDataTableCatalog;
 import org.qubership.atp.tdm.model.cleanup.CleanupResults;
 import org.qubership.atp.tdm.model.cleanup.TestDataCleanupConfig;
@@ -45,11 +48,13 @@ import org.qubership.atp.tdm.model.rest.requests.ReleaseRowRequest;
 import org.qubership.atp.tdm.model.rest.requests.UpdateRowRequest;
 import org.qubership.atp.tdm.model.table.TableDetails;
 import org.qubership.atp.tdm.model.table.TestDataTable;
+import org.qubership.atp.tdm.model.table.TestDataTableFilter;
 import org.qubership.atp.tdm.model.table.TestDataType;
 import org.qubership.atp.tdm.repo.AtpActionRepository;
 import org.qubership.atp.tdm.repo.CatalogRepository;
 import org.qubership.atp.tdm.repo.CleanupConfigRepository;
 import org.qubership.atp.tdm.repo.TestDataTableRepository;
+import org.qubership.atp.tdm.repo.impl.extractors.TestDataRowMapper;
 import org.qubership.atp.tdm.service.ColumnService;
 import org.qubership.atp.tdm.service.DataRefreshService;
 import org.qubership.atp.tdm.service.TestDataFlagsService;
@@ -73,6 +78,7 @@ public class AtpActionRepositoryImpl implements AtpActionRepository {
     private final CatalogRepository catalogRepository;
     private final TestDataTableRepository testDataTableRepository;
     private final CleanupConfigRepository cleanupConfigRepository;
+    private final OccupyStatisticJournal occupyStatisticJournal;
     private final ColumnService columnService;
     private final DataRefreshService dataRefreshService;
     private final TestDataFlagsService testDataFlagsService;
@@ -86,6 +92,7 @@ public class AtpActionRepositoryImpl implements AtpActionRepository {
     public AtpActionRepositoryImpl(@Nonnull CatalogRepository catalogRepository,
                                    @Nonnull TestDataTableRepository testDataTableRepository,
                                    @Nonnull CleanupConfigRepository cleanupConfigRepository,
+                                   @Nonnull OccupyStatisticJournal occupyStatisticJournal,
                                    @Nonnull ColumnService columnService,
                                    @Nonnull DataRefreshService dataRefreshService,
                                    @Nonnull TestDataFlagsService testDataFlagsService,
@@ -94,6 +101,7 @@ public class AtpActionRepositoryImpl implements AtpActionRepository {
         this.catalogRepository = catalogRepository;
         this.testDataTableRepository = testDataTableRepository;
         this.cleanupConfigRepository = cleanupConfigRepository;
+        this.occupyStatisticJournal = occupyStatisticJournal;
         this.columnService = columnService;
         this.dataRefreshService = dataRefreshService;
         this.testDataFlagsService = testDataFlagsService;
@@ -141,36 +149,33 @@ public class AtpActionRepositoryImpl implements AtpActionRepository {
         TableDetails tableDetails = getTableDetails(projectId, systemId, tableTitle);
         String finalResultLink = resultLink + "/" + tableDetails.getTableName();
         if (tableDetails.isExists()) {
-            lockManager.executeWithLockWithUniqueLockKey("occupyTestData: " + projectId + " " + tableTitle, () -> {
-                for (OccupyRowRequest occupyRowRequest : occupyRowRequests) {
-                    TestDataTable table = testDataTableRepository.getTestData(false, tableDetails.getTableName(),
-                            null, 1, occupyRowRequest.getFilters(), null);
-                    Optional<Map<String, Object>> row = table.getData().stream().findFirst();
-                    if (row.isPresent()) {
-                        String nameColumnResponse = occupyRowRequest.getNameColumnResponse();
-                        if (row.get().containsKey(nameColumnResponse)) {
-                            UUID rowId = table.getData().stream()
-                                    .map(r -> UUID.fromString(String.valueOf(r.get("ROW_ID"))))
-                                    .findFirst().orElseThrow(() -> new TdmOccupyDataIncorrectlyException(tableTitle));
-                            testDataTableRepository.occupyTestData(tableDetails.getTableName(), occupiedBy,
-                                    Collections.singletonList(rowId));
-                            testDataTableRepository.updateLastUsage(tableDetails.getTableName());
-                            String value = row.get().get(nameColumnResponse).toString();
-                            responseMessages.add(new ResponseMessage(ResponseType.SUCCESS, value, finalResultLink));
-                        } else {
-                            log.warn("Occupation test data. Response column with name: [{}] was not found.",
-                                    nameColumnResponse);
-                            responseMessages.add(new ResponseMessage(ResponseType.ERROR,
-                                    String.format("Column with name \"%s\" was not found!", nameColumnResponse)));
-                        }
-                    } else {
-                        log.warn("Occupation test data. Rows were not found. Filters: {}",
-                                occupyRowRequest.getFilters());
-                        responseMessages.add(new ResponseMessage(ResponseType.ERROR,
-                                "No test data available for requested criteria!"));
-                    }
+            String tableName = tableDetails.getTableName();
+            List<String> tableColumns = testDataTableRepository.getTableColumns(tableName);
+            Map<Integer, List<TestDataTableFilter>> filtersToOccupy = new LinkedHashMap<>();
+            for (int index = 0; index < occupyRowRequests.size(); index++) {
+                if (tableColumns.contains(occupyRowRequests.get(index).getNameColumnResponse())) {
+                    filtersToOccupy.put(index, occupyRowRequests.get(index).getFilters());
                 }
-            });
+            }
+            Map<Integer, Map<String, Object>> occupiedRows = occupyRows(projectId, systemId, tableTitle, tableName,
+                    occupiedBy, filtersToOccupy);
+            for (int index = 0; index < occupyRowRequests.size(); index++) {
+                OccupyRowRequest occupyRowRequest = occupyRowRequests.get(index);
+                String nameColumnResponse = occupyRowRequest.getNameColumnResponse();
+                Map<String, Object> row = occupiedRows.get(index);
+                if (Objects.nonNull(row)) {
+                    String value = String.valueOf(TestDataRowMapper.formatValue(row.get(nameColumnResponse)));
+                    responseMessages.add(new ResponseMessage(ResponseType.SUCCESS, value, finalResultLink));
+                } else if (!filtersToOccupy.containsKey(index)
+                        && hasAvailableRow(tableName, occupyRowRequest.getFilters())) {
+                    log.warn("Occupation test data. Response column with name: [{}] was not found.",
+                            nameColumnResponse);
+                    responseMessages.add(new ResponseMessage(ResponseType.ERROR,
+                            String.format("Column with name \"%s\" was not found!", nameColumnResponse)));
+                } else {
+                    responseMessages.add(noTestDataAvailable("Occupation test data", occupyRowRequest.getFilters()));
+                }
+            }
         } else {
             log.warn("Occupation test data. Table with title:  [{}] was not found.", tableTitle);
             responseMessages.add(new ResponseMessage(ResponseType.ERROR,
@@ -191,53 +196,49 @@ public class AtpActionRepositoryImpl implements AtpActionRepository {
         TableDetails tableDetails = getTableDetails(projectId, systemId, tableTitle);
         String finalResultLink = resultLink + "/" + tableDetails.getTableName();
         if (tableDetails.isExists()) {
-            lockManager.executeWithLockWithUniqueLockKey("Occupy data in table: " + tableDetails.getTableName(), () -> {
-                for (OccupyFullRowRequest occupyRowRequest : occupyRowRequests) {
-                    TestDataTable table = testDataTableRepository.getTestData(false, tableDetails.getTableName(),
-                            null, 1, occupyRowRequest.getFilters(), null);
-                    Optional<Map<String, Object>> row = table.getData().stream().findFirst();
-                    if (row.isPresent()) {
-                        UUID rowId = table.getData().stream()
-                                .map(r -> UUID.fromString(String.valueOf(r.get("ROW_ID"))))
-                                .findFirst().orElseThrow(() -> new TdmOccupyDataIncorrectlyException(tableTitle));
-                        boolean columnsExists = true;
-                        Map<String, String> responseValues = new HashMap<>();
-                        for (String responseColumnName : occupyRowRequest.getResponseColumnNames()) {
-                            if (row.get().containsKey(responseColumnName)) {
-                                String columnValue = String.valueOf(row.get().get(responseColumnName));
-                                responseValues.put(responseColumnName, columnValue);
-                            } else {
-                                columnsExists = false;
-                                log.warn("Occupation test data to return several rows. Response column with name: [{}] "
-                                                + "was not found.",
-                                        responseColumnName);
-                                responseMessages.add(new ResponseMessage(ResponseType.ERROR,
-                                        String.format("Column with name \"%s\" was not found!",
-                                                responseColumnName)));
-                            }
-                        }
-                        if (columnsExists) {
-                            testDataTableRepository.occupyTestData(tableDetails.getTableName(), occupiedBy,
-                                    Collections.singletonList(rowId));
-                            testDataTableRepository.updateLastUsage(tableDetails.getTableName());
-                            try {
-                                responseMessages.add(new ResponseMessage(ResponseType.SUCCESS,
-                                        new ObjectMapper().writeValueAsString(responseValues),
-                                        responseValues,
-                                        finalResultLink));
-                            } catch (Exception e) {
-                                log.error(TdmOccupyDataResponseMessageException.DEFAULT_MESSAGE, e);
-                                throw new TdmOccupyDataResponseMessageException();
-                            }
+            String tableName = tableDetails.getTableName();
+            List<String> tableColumns = testDataTableRepository.getTableColumns(tableName);
+            Map<Integer, List<TestDataTableFilter>> filtersToOccupy = new LinkedHashMap<>();
+            for (int index = 0; index < occupyRowRequests.size(); index++) {
+                if (tableColumns.containsAll(occupyRowRequests.get(index).getResponseColumnNames())) {
+                    filtersToOccupy.put(index, occupyRowRequests.get(index).getFilters());
+                }
+            }
+            Map<Integer, Map<String, Object>> occupiedRows = occupyRows(projectId, systemId, tableTitle, tableName,
+                    occupiedBy, filtersToOccupy);
+            for (int index = 0; index < occupyRowRequests.size(); index++) {
+                OccupyFullRowRequest occupyRowRequest = occupyRowRequests.get(index);
+                Map<String, Object> row = occupiedRows.get(index);
+                if (Objects.nonNull(row)) {
+                    Map<String, String> responseValues = new HashMap<>();
+                    for (String responseColumnName : occupyRowRequest.getResponseColumnNames()) {
+                        responseValues.put(responseColumnName,
+                                String.valueOf(TestDataRowMapper.formatValue(row.get(responseColumnName))));
+                    }
+                    try {
+                        responseMessages.add(new ResponseMessage(ResponseType.SUCCESS,
+                                new ObjectMapper().writeValueAsString(responseValues),
+                                responseValues,
+                                finalResultLink));
+                    } catch (Exception e) {
+                        log.error(TdmOccupyDataResponseMessageException.DEFAULT_MESSAGE, e);
+                        throw new TdmOccupyDataResponseMessageException();
+                    }
+                } else if (!filtersToOccupy.containsKey(index)
+                        && hasAvailableRow(tableName, occupyRowRequest.getFilters())) {
+                    for (String responseColumnName : occupyRowRequest.getResponseColumnNames()) {
+                        if (!tableColumns.contains(responseColumnName)) {
+                            log.warn("Occupation test data to return several rows. Response column with name: [{}] "
+                                    + "was not found.", responseColumnName);
+                            responseMessages.add(new ResponseMessage(ResponseType.ERROR,
+                                    String.format("Column with name \"%s\" was not found!", responseColumnName)));
                         }
-                    } else {
-                        log.warn("Occupation test data to return several rows. Rows were not found. Filters: {}",
-                                occupyRowRequest.getFilters());
-                        responseMessages.add(new ResponseMessage(ResponseType.ERROR,
-                                "No test data available for requested criteria!"));
                     }
+                } else {
+                    responseMessages.add(noTestDataAvailable("Occupation test data to return several rows",
+                            occupyRowRequest.getFilters()));
                 }
-            });
+            }
         } else {
             log.warn("Occupation test data to return several rows. Table with title:  [{}] was not found.", tableTitle);
             responseMessages.add(new ResponseMessage(ResponseType.ERROR,
@@ -247,6 +248,56 @@ public class AtpActionRepositoryImpl implements AtpActionRepository {
         return responseMessages;
     }
 
+    /**
+     * Occupies one row per request. Requests with identical filters are grouped and all their rows
+     * are claimed by one statement, occupy statistics of all claimed rows are saved in one batch.
+     *
+     * @param filtersToOccupy - filters by request index.
+     * @return occupied rows by request index, requests without available data are absent.
+     */
+    private Map<Integer, Map<String, Object>> occupyRows(@Nonnull UUID projectId, @Nullable UUID systemId,
+                                                         @Nonnull String tableTitle, @Nonnull String tableName,
+                                                         @Nonnull String occupiedBy,
+                                                         @Nonnull Map<Integer, List<TestDataTableFilter>>
+                                                                 filtersToOccupy) {
+        Map<List<TestDataTableFilter>, List<Integer>> requestsByFilters = new LinkedHashMap<>();
+        filtersToOccupy.forEach((index, filters) ->
+                requestsByFilters.computeIfAbsent(filters, key -> new ArrayList<>()).add(index));
+        Map<Integer, Map<String, Object>> occupiedRows = new HashMap<>();
+        List<TestDataOccupyStatistic> statistics = new ArrayList<>();
+        requestsByFilters.forEach((filters, indexes) -> {
+            List<Map<String, Object>> rows = testDataTableRepository.occupyAvailableRows(tableName, occupiedBy,
+                    filters, indexes.size());
+            for (int rowNum = 0; rowNum < rows.size(); rowNum++) {
+                Map<String, Object> row = rows.get(rowNum);
+                occupiedRows.put(indexes.get(rowNum), row);
+                statistics.add(new TestDataOccupyStatistic(
+                        UUID.fromString(String.valueOf(row.get(SystemColumns.ROW_ID.getName()))),
+                        projectId, systemId, tableName, tableTitle, occupiedBy,
+                        toLocalDateTime(row.get(SystemColumns.OCCUPIED_DATE.getName())),
+                        toLocalDateTime(row.get(SystemColumns.CREATED_WHEN.getName()))));
+            }
+        });
+        if (!occupiedRows.isEmpty()) {
+            occupyStatisticJournal.save(statistics);
+            testDataTableRepository.updateLastUsage(tableName);
+        }
+        return occupiedRows;
+    }
+
+    private LocalDateTime toLocalDateTime(@Nullable Object date) {
+        return date instanceof Timestamp ? ((Timestamp) date).toLocalDateTime() : null;
+    }
+
+    private boolean hasAvailableRow(@Nonnull String tableName, @Nullable List<TestDataTableFilter> filters) {
+        return !testDataTableRepository.getTestDataRows(tableName, TestDataType.AVAILABLE, filters, 1).isEmpty();
+    }
+
+    private ResponseMessage noTestDataAvailable(@Nonnull String action, @Nullable List<TestDataTableFilter> filters) {
+        log.warn("{}. Rows were not found. Filters: {}", action, filters);
+        return new ResponseMessage(ResponseType.ERROR, "No test data available for requested criteria!");
+    }
+
     @Override
     public List<ResponseMessage> releaseTestData(@Nonnull UUID projectId, @Nullable UUID systemId,
                                                  @Nonnull String tableTitle,
@@ -255,9 +306,8 @@ public class AtpActionRepositoryImpl implements AtpActionRepository {
         TableDetails tableDetails = getTableDetails(projectId, systemId, tableTitle);
         if (tableDetails.isExists()) {
             for (ReleaseRowRequest releaseRowRequest : releaseRowRequests) {
-                TestDataTable table = testDataTableRepository.getTestData(true, tableDetails.getTableName(),
-                        null, null, releaseRowRequest.getFilters(), null);
-                List<Map<String, Object>> data = table.getData();
+                List<Map<String, Object>> data = testDataTableRepository.getTestDataRows(
+                        tableDetails.getTableName(), TestDataType.OCCUPIED, releaseRowRequest.getFilters(), 2);
                 if (data.size() == 1) {
                     Map<String, Object> row = data.stream().findFirst().get();
                     String nameColumnResponse = releaseRowRequest.getNameColumnResponse();
@@ -426,10 +476,10 @@ public class AtpActionRepositoryImpl implements AtpActionRepository {
         TableDetails tableDetails = getTableDetails(projectId, systemId, tableTitle);
         if (tableDetails.isExists()) {
             for (GetRowRequest getRowRequest : getRowRequests) {
-                TestDataTable table = testDataTableRepository.getTestData(false, tableDetails.getTableName(),
-                        null, 1, getRowRequest.getFilters(), null);
+                Optional<Map<String, Object>> row = testDataTableRepository.getTestDataRows(
+                        tableDetails.getTableName(), TestDataType.AVAILABLE, getRowRequest.getFilters(), 1)
+                        .stream().findFirst();
                 testDataTableRepository.updateLastUsage(tableDetails.getTableName());
-                Optional<Map<String, Object>> row = table.getData().stream().findFirst();
                 if (row.isPresent()) {
                     String nameColumnResponse = getRowRequest.getNameColumnResponse();
                     if (row.get().containsKey(nameColumnResponse)) {
@@ -0,0 +1,202 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.qubership.atp.integration.configuration.mdc.MdcUtils;
+import org.qubership.atp.tdm.model.TestDataTableCatalog;
+import org.qubership.atp.tdm.model.statistics.GeneralStatisticsItem;
+import org.qubership.atp.tdm.model.table.TableColumnValues;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Keeps availability counters of test data tables for a short time, so dashboards and monitoring mails
+ * of large projects do not scan every table on each call. Missing counters are calculated in parallel
+ * on a bounded pool. Entries of a table are invalidated by every data change of this table.
+ * Available rows per column value are kept the same way, so monitoring of several environments
+ * sharing the tables of a system counts them once. Keys hold the invalidation generation of the table,
+ * so a value calculated before an invalidation is put under an outdated key and never read; such values
+ * are evicted by size and expiration. Generations are unique across tables, so a generation evicted
+ * and created again never matches old keys.
+ */
+@Component
+public class AvailabilityStatisticsCache {
+
+    private final Cache<AvailabilityKey, GeneralStatisticsItem> items;
+    private final Cache<ValuesKey, Map<String, Long>> valueCounts;
+    private final ExecutorService executorService;
+    private final Cache<String, Long> generations;
+    private final AtomicLong lastGeneration = new AtomicLong();
+
+    /**
+     * Creates cache of availability statistics.
+     */
+    public AvailabilityStatisticsCache(
+            @Value("${availability.statistics.cache.duration:30}") long cacheDuration,
+            @Value("${availability.statistics.cache.size:10000}") long cacheSize,
+            @Value("${availability.statistics.threads:4}") int threads) {
+        this.items = CacheBuilder.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(cacheDuration, TimeUnit.SECONDS)
+                .build();
+        this.valueCounts = CacheBuilder.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(cacheDuration, TimeUnit.SECONDS)
+                .build();
+        this.generations = CacheBuilder.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterAccess(cacheDuration * 2, TimeUnit.SECONDS)
+                .build();
+        this.executorService = Executors.newFixedThreadPool(threads,
+                new ThreadFactoryBuilder().setNameFormat("tdm-availability-statistics-%d").build());
+    }
+
+    /**
+     * Gets availability statistics of the tables from cache or calculates missing ones.
+     *
+     * @param catalogList test data tables.
+     * @param dayStart    start of the current day in project time zone, counters of other days are not reused.
+     * @param loader      availability calculation of the table.
+     * @return statistics in order of tables, items are not shared with the cache.
+     */
+    public List<GeneralStatisticsItem> getAll(@Nonnull List<TestDataTableCatalog> catalogList, @Nonnull String dayStart,
+                                              @Nonnull Function<TestDataTableCatalog, GeneralStatisticsItem> loader) {
+        List<GeneralStatisticsItem> loaded = loadAll(catalogList, items, catalog -> {
+            String tableName = catalog.getTableName().toLowerCase();
+            return new AvailabilityKey(tableName, getGeneration(tableName), dayStart);
+        }, loader);
+        List<GeneralStatisticsItem> result = new ArrayList<>(loaded.size());
+        for (int index = 0; index < loaded.size(); index++) {
+            GeneralStatisticsItem item = loaded.get(index);
+            result.add(new GeneralStatisticsItem(catalogList.get(index).getTableTitle(), item.getAvailable(),
+                    item.getOccupied(), item.getOccupiedToday(), item.getTotal()));
+        }
+        return result;
+    }
+
+    /**
+     * Gets numbers of available rows per column value of the tables from cache or calculates missing ones.
+     *
+     * @param tablesColumns test data tables with column values.
+     * @param columnName    column the rows are grouped by.
+     * @param loader        calculation of available rows per value of the table.
+     * @return read-only numbers of available rows by value in order of tables, values without rows are missing.
+     */
+    public List<Map<String, Long>> getValueCounts(@Nonnull List<TableColumnValues> tablesColumns,
+                                                  @Nonnull String columnName,
+                                                  @Nonnull Function<TableColumnValues, Map<String, Long>> loader) {
+        return loadAll(tablesColumns, valueCounts, columnValues -> {
+            String tableName = columnValues.getTableName().toLowerCase();
+            return new ValuesKey(tableName, getGeneration(tableName), columnName,
+                    new TreeSet<>(columnValues.getValues()));
+        }, loader);
+    }
+
+    private <S, K, V> List<V> loadAll(List<S> sources, Cache<K, V> cache, Function<S, K> keyOf,
+                                      Function<S, V> loader) {
+        Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+        List<CompletableFuture<V>> futures = new ArrayList<>(sources.size());
+        for (S source : sources) {
+            K key = keyOf.apply(source);
+            V value = cache.getIfPresent(key);
+            if (value != null) {
+                futures.add(CompletableFuture.completedFuture(value));
+                continue;
+            }
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                if (mdcContext != null) {
+                    MdcUtils.setContextMap(mdcContext);
+                }
+                try {
+                    V loaded = loader.apply(source);
+                    cache.put(key, loaded);
+                    return loaded;
+                } finally {
+                    MDC.clear();
+                }
+            }, executorService));
+        }
+        List<V> result = new ArrayList<>(futures.size());
+        try {
+            for (CompletableFuture<V> future : futures) {
+                result.add(future.join());
+            }
+        } catch (CompletionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException(e.getCause());
+        }
+        return result;
+    }
+
+    /**
+     * Invalidates cached availability statistics of the table.
+     *
+     * @param tableName test data table name.
+     */
+    public void invalidate(@Nonnull String tableName) {
+        generations.put(tableName.toLowerCase(), lastGeneration.incrementAndGet());
+    }
+
+    private long getGeneration(String tableName) {
+        return generations.asMap().computeIfAbsent(tableName, key -> lastGeneration.incrementAndGet());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+
+    @Data
+    @AllArgsConstructor
+    private static class AvailabilityKey {
+        private final String tableName;
+        private final long generation;
+        private final String dayStart;
+    }
+
+    @Data
+    @AllArgsConstructor
+    private static class ValuesKey {
+        private final String tableName;
+        private final long generation;
+        private final String columnName;
+        private final Set<String> values;
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.qubership.atp.tdm.exceptions.websocket.TdmBulkActionJobException;
+import org.qubership.atp.tdm.model.bulkaction.BulkActionConfig;
+import org.qubership.atp.tdm.model.bulkaction.BulkActionJob;
+import org.qubership.atp.tdm.model.bulkaction.BulkActionJobStatus;
+import org.qubership.atp.tdm.model.bulkaction.BulkActionTask;
+import org.qubership.atp.tdm.model.bulkaction.BulkActionTaskStatus;
+import org.qubership.atp.tdm.repo.BulkActionJobRepository;
+import org.qubership.atp.tdm.utils.TestDataQueries;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Lists;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps bulk action jobs and their tasks. Tasks are taken by nodes with conditional updates,
+ * so a task is processed by one node at a time. Claims of a sequential job are serialized by the job row lock.
+ * Heartbeats are written and compared by the database clock, so clock skew between nodes does not expire
+ * live tasks.
+ */
+@Slf4j
+@Repository
+public class BulkActionJobRepositoryImpl implements BulkActionJobRepository {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final int TASK_IDS_PARTITION_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    public BulkActionJobRepositoryImpl(@Nonnull JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    @Override
+    @Transactional
+    public void createJob(@Nonnull BulkActionJob job) {
+        jdbcTemplate.update(TestDataQueries.INSERT_BULK_ACTION_JOB, job.getId(), job.getAction(),
+                job.getProjectId(), writeConfig(job), job.getProcessId(), job.getStatus().name(),
+                Timestamp.valueOf(job.getCreatedWhen()));
+        jdbcTemplate.batchUpdate(TestDataQueries.INSERT_BULK_ACTION_TASK, job.getTasks(), job.getTasks().size(),
+                (ps, task) -> {
+                    ps.setObject(1, task.getId());
+                    ps.setObject(2, task.getJobId());
+                    ps.setInt(3, task.getIndex());
+                    ps.setString(4, task.getTableName());
+                    ps.setString(5, task.getTableTitle());
+                    ps.setString(6, task.getEnvironmentName());
+                    ps.setString(7, task.getStatus().name());
+                });
+    }
+
+    @Nullable
+    @Override
+    public BulkActionJob getJob(@Nonnull UUID jobId) {
+        List<BulkActionJob> jobs = jdbcTemplate.query(TestDataQueries.GET_BULK_ACTION_JOB,
+                (resultSet, rowNum) -> mapJob(resultSet), jobId);
+        if (jobs.isEmpty()) {
+            return null;
+        }
+        BulkActionJob job = jobs.get(0);
+        job.setTasks(jdbcTemplate.query(TestDataQueries.GET_BULK_ACTION_TASKS,
+                (resultSet, rowNum) -> mapTask(resultSet), jobId));
+        return job;
+    }
+
+    @Nullable
+    @Override
+    public BulkActionJobStatus getJobStatus(@Nonnull UUID jobId) {
+        List<String> statuses = jdbcTemplate.queryForList(TestDataQueries.GET_BULK_ACTION_JOB_STATUS, String.class,
+                jobId);
+        return statuses.isEmpty() ? null : BulkActionJobStatus.valueOf(statuses.get(0));
+    }
+
+    @Override
+    public List<BulkActionTask> getCompletedTasks(@Nonnull UUID jobId, @Nonnull LocalDateTime finishedSince) {
+        return jdbcTemplate.query(TestDataQueries.GET_COMPLETED_BULK_ACTION_TASKS, (resultSet, rowNum) -> {
+            BulkActionTask task = new BulkActionTask();
+            task.setId(resultSet.getObject("id", UUID.class));
+            task.setJobId(jobId);
+            task.setStatus(BulkActionTaskStatus.COMPLETED);
+            task.setFinishedWhen(toLocalDateTime(resultSet.getTimestamp("finished_when")));
+            task.setResult(resultSet.getString("result"));
+            return task;
+        }, jobId, Timestamp.valueOf(finishedSince));
+    }
+
+    @Override
+    public List<BulkActionJob> getJobs(@Nonnull UUID projectId, @Nonnull LocalDateTime createdAfter) {
+        return jdbcTemplate.query(TestDataQueries.GET_BULK_ACTION_JOBS, (resultSet, rowNum) -> mapJob(resultSet),
+                projectId, Timestamp.valueOf(createdAfter));
+    }
+
+    @Override
+    public List<BulkActionJob> getRunningJobs(@Nonnull String action, @Nonnull UUID projectId) {
+        return jdbcTemplate.query(TestDataQueries.GET_RUNNING_BULK_ACTION_JOBS,
+                (resultSet, rowNum) -> mapJob(resultSet), action, projectId);
+    }
+
+    @Override
+    public List<BulkActionTask> getClaimableTasks(long taskTimeout, int limit) {
+        return jdbcTemplate.query(TestDataQueries.GET_CLAIMABLE_BULK_ACTION_TASKS,
+                (resultSet, rowNum) -> mapTask(resultSet), taskTimeout, limit);
+    }
+
+    /**
+     * Tasks of a sequential job are claimed under the lock of the job row. Otherwise two nodes could claim
+     * different tasks of the job, as neither sees the uncommitted claim of the other.
+     */
+    @Override
+    @Transactional
+    public boolean claimTask(@Nonnull UUID jobId, @Nonnull UUID taskId, @Nonnull String owner,
+                             long taskTimeout, boolean parallel) {
+        if (!parallel && jdbcTemplate.queryForList(TestDataQueries.LOCK_BULK_ACTION_JOB, UUID.class, jobId)
+                .isEmpty()) {
+            return false;
+        }
+        return jdbcTemplate.update(TestDataQueries.CLAIM_BULK_ACTION_TASK, owner, taskId, taskTimeout, parallel,
+                taskTimeout) > 0;
+    }
+
+    @Override
+    public void unclaimTask(@Nonnull UUID taskId, @Nonnull String owner) {
+        jdbcTemplate.update(TestDataQueries.UNCLAIM_BULK_ACTION_TASK, taskId, owner);
+    }
+
+    @Override
+    public boolean completeTask(@Nonnull UUID taskId, @Nonnull String owner, @Nonnull String result,
+                                @Nullable String error) {
+        return jdbcTemplate.update(TestDataQueries.COMPLETE_BULK_ACTION_TASK, result, error, taskId, owner) > 0;
+    }
+
+    @Override
+    public void updateHeartbeat(@Nonnull String owner, @Nonnull Collection<UUID> taskIds) {
+        for (List<UUID> taskIdsPartition : Lists.partition(new ArrayList<>(taskIds), TASK_IDS_PARTITION_SIZE)) {
+            namedParameterJdbcTemplate.update(TestDataQueries.UPDATE_BULK_ACTION_TASKS_HEARTBEAT,
+                    new MapSqlParameterSource("owner", owner).addValue("taskIds", taskIdsPartition));
+        }
+    }
+
+    @Override
+    public boolean finishJob(@Nonnull UUID jobId) {
+        return jdbcTemplate.update(TestDataQueries.FINISH_BULK_ACTION_JOB, jobId) > 0;
+    }
+
+    @Override
+    @Transactional
+    public boolean cancelJob(@Nonnull UUID jobId) {
+        if (jdbcTemplate.update(TestDataQueries.CANCEL_BULK_ACTION_JOB, jobId) == 0) {
+            return false;
+        }
+        jdbcTemplate.update(TestDataQueries.CANCEL_BULK_ACTION_TASKS, jobId);
+        return true;
+    }
+
+    @Override
+    public void deleteFinishedJobs(@Nonnull LocalDateTime finishedBefore) {
+        int deleted = jdbcTemplate.update(TestDataQueries.DELETE_FINISHED_BULK_ACTION_JOBS,
+                Timestamp.valueOf(finishedBefore));
+        if (deleted > 0) {
+            log.info("Removed {} finished bulk action jobs.", deleted);
+        }
+    }
+
+    private static String writeConfig(BulkActionJob job) {
+        try {
+            return objectMapper.writeValueAsString(job.getConfig());
+        } catch (IOException e) {
+            log.error(String.format(TdmBulkActionJobException.DEFAULT_MESSAGE, job.getId(), e.getMessage()), e);
+            throw new TdmBulkActionJobException(job.getId().toString(), e.getMessage());
+        }
+    }
+
+    private static BulkActionJob mapJob(ResultSet resultSet) throws SQLException {
+        BulkActionJob job = new BulkActionJob();
+        job.setId(resultSet.getObject("id", UUID.class));
+        job.setAction(resultSet.getString("action"));
+        job.setProjectId(resultSet.getObject("project_id", UUID.class));
+        try {
+            job.setConfig(objectMapper.readValue(resultSet.getString("config"), BulkActionConfig.class));
+        } catch (IOException e) {
+            log.error(String.format(TdmBulkActionJobException.DEFAULT_MESSAGE, job.getId(), e.getMessage()), e);
+            throw new TdmBulkActionJobException(job.getId().toString(), e.getMessage());
+        }
+        job.setProcessId(resultSet.getLong("process_id"));
+        job.setStatus(BulkActionJobStatus.valueOf(resultSet.getString("status")));
+        job.setCreatedWhen(toLocalDateTime(resultSet.getTimestamp("created_when")));
+        job.setFinishedWhen(toLocalDateTime(resultSet.getTimestamp("finished_when")));
+        return job;
+    }
+
+    private static BulkActionTask mapTask(ResultSet resultSet) throws SQLException {
+        BulkActionTask task = new BulkActionTask();
+        task.setId(resultSet.getObject("id", UUID.class));
+        task.setJobId(resultSet.getObject("job_id", UUID.class));
+        task.setIndex(resultSet.getInt("task_index"));
+        task.setTableName(resultSet.getString("table_name"));
+        task.setTableTitle(resultSet.getString("table_title"));
+        task.setEnvironmentName(resultSet.getString("environment_name"));
+        task.setStatus(BulkActionTaskStatus.valueOf(resultSet.getString("status")));
+        task.setOwner(resultSet.getString("owner"));
+        task.setHeartbeat(toLocalDateTime(resultSet.getTimestamp("heartbeat")));
+        task.setStartedWhen(toLocalDateTime(resultSet.getTimestamp("started_when")));
+        task.setFinishedWhen(toLocalDateTime(resultSet.getTimestamp("finished_when")));
+        task.setResult(resultSet.getString("result"));
+        task.setError(resultSet.getString("error"));
+        return task;
+    }
+
+    @Nullable
+    private static LocalDateTime toLocalDateTime(@Nullable Timestamp timestamp) {
+        return Objects.isNull(timestamp) ? null : timestamp.toLocalDateTime();
+    }
+}
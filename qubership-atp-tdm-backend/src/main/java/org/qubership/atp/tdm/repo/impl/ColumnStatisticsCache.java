@@ -0,0 +1,106 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.qubership.atp.tdm.model.FilterType;
+import org.qubership.atp.tdm.model.table.TestDataType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import jakarta.annotation.Nonnull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Keeps column filter types calculated from distinct values count, so the test data table view
+ * does not scan every column on each read. Entries of a table are invalidated by every data change
+ * of this table and expire after configured duration as a safety net.
+ * Keys hold the invalidation generation of the table, so a value calculated before an invalidation
+ * is put under an outdated key and never read; such values are evicted by size and expiration.
+ * Generations are unique across tables, so a generation evicted and created again never matches old keys.
+ */
+@Component
+public class ColumnStatisticsCache {
+
+    private final Cache<ColumnKey, FilterType> filterTypes;
+    private final Cache<String, Long> generations;
+    private final AtomicLong lastGeneration = new AtomicLong();
+
+    /**
+     * Creates cache of column filter types.
+     */
+    public ColumnStatisticsCache(@Value("${column.statistics.cache.duration:60}") long cacheDuration,
+                                 @Value("${column.statistics.cache.size:100000}") long cacheSize) {
+        this.filterTypes = CacheBuilder.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(cacheDuration, TimeUnit.MINUTES)
+                .build();
+        this.generations = CacheBuilder.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterAccess(cacheDuration * 2, TimeUnit.MINUTES)
+                .build();
+    }
+
+    /**
+     * Gets column filter type from cache or calculates it.
+     *
+     * @param tableName    test data table name.
+     * @param columnName   column name.
+     * @param testDataType type of test data the filter type is calculated for.
+     * @param loader       filter type calculation.
+     * @return column filter type.
+     */
+    public FilterType getFilterType(@Nonnull String tableName, @Nonnull String columnName,
+                                    @Nonnull TestDataType testDataType, @Nonnull Supplier<FilterType> loader) {
+        String table = tableName.toLowerCase();
+        ColumnKey key = new ColumnKey(table, getGeneration(table), columnName, testDataType);
+        FilterType filterType = filterTypes.getIfPresent(key);
+        if (filterType == null) {
+            filterType = loader.get();
+            filterTypes.put(key, filterType);
+        }
+        return filterType;
+    }
+
+    /**
+     * Invalidates all cached column statistics of the table.
+     *
+     * @param tableName test data table name.
+     */
+    public void invalidate(@Nonnull String tableName) {
+        generations.put(tableName.toLowerCase(), lastGeneration.incrementAndGet());
+    }
+
+    private long getGeneration(String tableName) {
+        return generations.asMap().computeIfAbsent(tableName, key -> lastGeneration.incrementAndGet());
+    }
+
+    @Data
+    @AllArgsConstructor
+    private static class ColumnKey {
+        private final String tableName;
+        private final long generation;
+        private final String columnName;
+        private final TestDataType testDataType;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.stereotype.Component;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps connection pools of external environment databases, so refresh, import and cleanup jobs
+ * reuse opened connections instead of connecting to the environment on each call.
+ * Pools are evicted after configured idle duration and the number of pools is bounded.
+ */
+@Slf4j
+@Component
+public class EnvironmentDataSourceRegistry {
+
+    private final Cache<Map<String, String>, HikariDataSource> pools;
+    private final Queue<HikariDataSource> retiredPools = new ConcurrentLinkedQueue<>();
+    private final MeterRegistry meterRegistry;
+    private final int maxPoolSize;
+
+    /**
+     * Creates registry of environment database pools.
+     */
+    public EnvironmentDataSourceRegistry(MeterRegistry meterRegistry,
+                                         @Value("${environment.datasource.max-pool-size:5}") int maxPoolSize,
+                                         @Value("${environment.datasource.idle-duration:30}") long idleDuration,
+                                         @Value("${environment.datasource.max-pools:50}") long maxPools) {
+        this.meterRegistry = meterRegistry;
+        this.maxPoolSize = maxPoolSize;
+        this.pools = CacheBuilder.newBuilder()
+                .expireAfterAccess(idleDuration, TimeUnit.MINUTES)
+                .maximumSize(maxPools)
+                .removalListener(this::retire)
+                .build();
+    }
+
+    /**
+     * Gets data source borrowing connections from the pool of the environment database.
+     * The pool is created (and the connection checked) on first call for the key.
+     * Returned data source survives eviction of the pool: a new pool is created on next connection request.
+     *
+     * @param key           connection parameters identifying the environment database.
+     * @param configFactory creates pool configuration with resolved url and credentials.
+     * @return data source of the environment database.
+     */
+    public DataSource getDataSource(@Nonnull Map<String, String> key, @Nonnull Supplier<HikariConfig> configFactory) {
+        getPool(key, configFactory);
+        return new AbstractDataSource() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return getPool(key, configFactory).getConnection();
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                throw new SQLFeatureNotSupportedException("Environment database pool uses credentials of "
+                        + "the environment, connection with other credentials is not supported");
+            }
+        };
+    }
+
+    /**
+     * Gets connection from the pool of the environment database.
+     *
+     * @param key           connection parameters identifying the environment database.
+     * @param configFactory creates pool configuration with resolved url and credentials.
+     * @return pooled connection, closing it returns the connection to the pool.
+     */
+    public Connection getConnection(@Nonnull Map<String, String> key,
+                                    @Nonnull Supplier<HikariConfig> configFactory) throws SQLException {
+        return getPool(key, configFactory).getConnection();
+    }
+
+    private HikariDataSource getPool(Map<String, String> key, Supplier<HikariConfig> configFactory) {
+        closeRetiredPools();
+        try {
+            return pools.get(key, () -> createPool(configFactory.get()));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private HikariDataSource createPool(HikariConfig config) {
+        config.setMinimumIdle(0);
+        if (config.getMaximumPoolSize() <= 0) {
+            config.setMaximumPoolSize(maxPoolSize);
+        }
+        config.setMetricRegistry(meterRegistry);
+        log.info("Create connection pool [{}] with max size: {}", config.getPoolName(), config.getMaximumPoolSize());
+        return new HikariDataSource(config);
+    }
+
+    private void retire(RemovalNotification<Map<String, String>, HikariDataSource> notification) {
+        HikariDataSource pool = notification.getValue();
+        if (pool != null) {
+            log.info("Evict connection pool [{}], cause: {}", pool.getPoolName(), notification.getCause());
+            retiredPools.add(pool);
+            closeRetiredPools();
+        }
+    }
+
+    private void closeRetiredPools() {
+        retiredPools.removeIf(pool -> {
+            if (pool.getHikariPoolMXBean() != null && pool.getHikariPoolMXBean().getActiveConnections() > 0) {
+                return false;
+            }
+            pool.close();
+            return true;
+        });
+    }
+
+    /**
+     * Closes all environment database pools.
+     */
+    @PreDestroy
+    public void close() {
+        pools.invalidateAll();
+        pools.cleanUp();
+        retiredPools.forEach(HikariDataSource::close);
+        retiredPools.clear();
+    }
+}
@@ -0,0 +1,402 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.qubership.atp.tdm.model.TestDataOccupyStatistic;
+import org.qubership.atp.tdm.repo.StatisticsRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Takes occupy statistics changes off the occupy and release requests. Changes are put into a bounded
+ * queue and written in order by one background thread, consecutive changes of the same kind in one JDBC
+ * batch. The queue is written when it reaches the batch size or its oldest change is older than the
+ * allowed lag, and on shutdown. A change which could not be written is appended to a local spill file
+ * together with all later changes, until the spill file is written again, so changes are always written in
+ * order. When the queue is full, the caller writes the queue and its own change, no other change is queued
+ * meanwhile. A change failing for a reason other than unavailable database is retried the configured number
+ * of times and then moved to a dead letter file next to the spill file, so it does not block later changes.
+ * The spill file must be on a persistent volume, otherwise spilled changes are lost on restart of the container.
+ */
+@Slf4j
+@Component
+public class OccupyStatisticJournal {
+
+    private static final String METRIC_NAME = "atp_tdm_occupy_statistic_journal";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+    private static final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private final StatisticsRepository statisticsRepository;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long maxLagMillis;
+    private final int maxAttempts;
+    private final Path spillFile;
+    private final Path deadLetterFile;
+    private final BlockingQueue<JournalEntry> queue;
+    private final ScheduledExecutorService executorService;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final Object writeLock = new Object();
+    private final Object appendLock = new Object();
+    private final Counter writtenCounter;
+    private final Counter spilledCounter;
+    private final Counter deadLetterCounter;
+    private boolean spilled;
+
+    /**
+     * Creates journal of occupy statistics changes.
+     */
+    public OccupyStatisticJournal(@Nonnull StatisticsRepository statisticsRepository,
+                                  @Nonnull MeterRegistry meterRegistry,
+                                  @Value("${occupy.statistic.journal.enabled:true}") boolean enabled,
+                                  @Value("${occupy.statistic.journal.capacity:10000}") int capacity,
+                                  @Value("${occupy.statistic.journal.batch-size:1000}") int batchSize,
+                                  @Value("${occupy.statistic.journal.max-lag-ms:1000}") long maxLagMillis,
+                                  @Value("${occupy.statistic.journal.max-attempts:10}") int maxAttempts,
+                                  @Value("${occupy.statistic.journal.spill-file:./occupy-statistic-journal.jsonl}")
+                                  String spillFile) {
+        this.statisticsRepository = statisticsRepository;
+        this.enabled = enabled;
+        this.batchSize = Math.max(batchSize, 1);
+        this.maxLagMillis = Math.max(maxLagMillis, 1);
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.spillFile = Paths.get(spillFile);
+        this.deadLetterFile = this.spillFile.resolveSibling(this.spillFile.getFileName() + ".dead");
+        this.spilled = Files.exists(this.spillFile);
+        this.queue = new ArrayBlockingQueue<>(Math.max(capacity, 1));
+        this.executorService = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("tdm-statistic-journal-%d").setDaemon(true).build());
+        this.writtenCounter = meterRegistry.counter(METRIC_NAME + "_written");
+        this.spilledCounter = meterRegistry.counter(METRIC_NAME + "_spilled");
+        this.deadLetterCounter = meterRegistry.counter(METRIC_NAME + "_dead_letter");
+        Gauge.builder(METRIC_NAME + "_size", queue, BlockingQueue::size).register(meterRegistry);
+        Gauge.builder(METRIC_NAME + "_lag_ms", this, OccupyStatisticJournal::getLagMillis).register(meterRegistry);
+    }
+
+    /**
+     * Writes changes left in the spill file by previous run and starts periodic writing.
+     */
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        executorService.execute(this::flushQuietly);
+        executorService.scheduleWithFixedDelay(this::flushQuietly, maxLagMillis, maxLagMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Saves statistics of occupied rows, statistics previously saved for the same rows are replaced.
+     *
+     * @param statistics statistics of occupied rows.
+     */
+    public void save(@Nonnull List<TestDataOccupyStatistic> statistics) {
+        if (!statistics.isEmpty()) {
+            append(new JournalEntry(new ArrayList<>(statistics), null, System.currentTimeMillis(), 0));
+        }
+    }
+
+    /**
+     * Deletes statistics of released rows.
+     *
+     * @param rowIds released row ids.
+     */
+    public void delete(@Nonnull List<UUID> rowIds) {
+        if (!rowIds.isEmpty()) {
+            append(new JournalEntry(null, new ArrayList<>(rowIds), System.currentTimeMillis(), 0));
+        }
+    }
+
+    /**
+     * Writes spilled and all queued changes.
+     */
+    public void flush() {
+        synchronized (writeLock) {
+            flushRequested.set(false);
+            long lag = getLagMillis();
+            if (lag > maxLagMillis * 10) {
+                log.warn("Occupy statistics journal lags behind by {} ms, queued changes: {}", lag, queue.size());
+            }
+            if (spilled) {
+                replaySpilled();
+            }
+            List<JournalEntry> entries = new ArrayList<>();
+            while (queue.drainTo(entries, batchSize) > 0) {
+                write(entries);
+                entries.clear();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdown();
+        try {
+            executorService.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    private void append(JournalEntry entry) {
+        if (!enabled) {
+            writeEntries(Collections.singletonList(entry));
+            return;
+        }
+        synchronized (appendLock) {
+            if (!queue.offer(entry)) {
+                log.debug("Occupy statistics journal is full, write it on the caller thread.");
+                synchronized (writeLock) {
+                    flush();
+                    write(Collections.singletonList(entry));
+                }
+                return;
+            }
+        }
+        if ((queue.size() >= batchSize || getLagMillis() >= maxLagMillis)
+                && flushRequested.compareAndSet(false, true)) {
+            try {
+                executorService.execute(this::flushQuietly);
+            } catch (RejectedExecutionException e) {
+                log.debug("Occupy statistics journal is shut down, queued changes are written on shutdown.");
+            }
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Failed to write occupy statistics journal.", e);
+        }
+    }
+
+    /**
+     * Writes changes in order. Spilled changes are written first, if they still can not be written,
+     * the changes are spilled after them. Changes left unwritten are spilled.
+     */
+    private void write(List<JournalEntry> entries) {
+        if (spilled && !replaySpilled()) {
+            spill(entries);
+            return;
+        }
+        int written = writeInOrder(entries);
+        spill(entries.subList(written, entries.size()));
+    }
+
+    /**
+     * Writes consecutive changes of the same kind together. If a group fails, its changes are written
+     * one by one up to the first failed change. Changes moved to the dead letter file are counted as written.
+     *
+     * @return number of changes written from the start of the list.
+     */
+    private int writeInOrder(List<JournalEntry> entries) {
+        int groupStart = 0;
+        for (int index = 1; index <= entries.size(); index++) {
+            if (index == entries.size() || entries.get(groupStart).isDelete() != entries.get(index).isDelete()) {
+                int written = writeGroup(entries.subList(groupStart, index));
+                if (groupStart + written < index) {
+                    return groupStart + written;
+                }
+                groupStart = index;
+            }
+        }
+        return entries.size();
+    }
+
+    private int writeGroup(List<JournalEntry> group) {
+        try {
+            writeEntries(group);
+            return group.size();
+        } catch (Exception e) {
+            log.error("Failed to write occupy statistics, write changes one by one.", e);
+        }
+        for (int index = 0; index < group.size(); index++) {
+            JournalEntry entry = group.get(index);
+            try {
+                writeEntries(Collections.singletonList(entry));
+            } catch (Exception e) {
+                if (isDatabaseUnavailable(e)) {
+                    return index;
+                }
+                entry.setAttempts(entry.getAttempts() + 1);
+                if (entry.getAttempts() < maxAttempts) {
+                    return index;
+                }
+                deadLetter(entry, e);
+            }
+        }
+        return group.size();
+    }
+
+    private static boolean isDatabaseUnavailable(Exception e) {
+        return e instanceof TransientDataAccessException || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException;
+    }
+
+    private void writeEntries(List<JournalEntry> entries) {
+        if (entries.get(0).isDelete()) {
+            Set<UUID> rowIds = new LinkedHashSet<>();
+            entries.forEach(entry -> rowIds.addAll(entry.getDeletedRowIds()));
+            statisticsRepository.deleteOccupyStatistics(new ArrayList<>(rowIds));
+            writtenCounter.increment(rowIds.size());
+        } else {
+            Map<UUID, TestDataOccupyStatistic> statistics = new LinkedHashMap<>();
+            entries.forEach(entry -> entry.getStatistics().forEach(statistic ->
+                    statistics.put(statistic.getRowId(), statistic)));
+            statisticsRepository.saveOccupyStatistics(new ArrayList<>(statistics.values()));
+            writtenCounter.increment(statistics.size());
+        }
+    }
+
+    private void spill(List<JournalEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (JournalEntry entry : entries) {
+                writer.write(objectMapper.writeValueAsString(entry));
+                writer.newLine();
+            }
+            spilled = true;
+            spilledCounter.increment(entries.size());
+            log.warn("Occupy statistics changes are spilled to file {}: {}", spillFile, entries.size());
+        } catch (IOException e) {
+            log.error("Failed to spill occupy statistics changes, lost changes: {}", entries.size(), e);
+        }
+    }
+
+    private void deadLetter(JournalEntry entry, Exception cause) {
+        try (BufferedWriter writer = Files.newBufferedWriter(deadLetterFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            writer.write(objectMapper.writeValueAsString(entry));
+            writer.newLine();
+            deadLetterCounter.increment();
+            log.error("Occupy statistics change failed {} times and is moved to file {}", entry.getAttempts(),
+                    deadLetterFile, cause);
+        } catch (IOException e) {
+            log.error("Failed to move occupy statistics change to file {}, the change is lost: {}", deadLetterFile,
+                    entry, e);
+        }
+    }
+
+    /**
+     * Writes spilled changes in order. The spill file is replaced with changes failing again, so the attempts
+     * of the first failed change are kept.
+     *
+     * @return true if all spilled changes are written.
+     */
+    private boolean replaySpilled() {
+        List<JournalEntry> entries = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(spillFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    entries.add(objectMapper.readValue(line, JournalEntry.class));
+                }
+            }
+        } catch (NoSuchFileException e) {
+            spilled = false;
+            return true;
+        } catch (IOException e) {
+            log.error("Failed to read spilled occupy statistics changes from file {}", spillFile, e);
+            return false;
+        }
+        int attempts = entries.isEmpty() ? 0 : entries.get(0).getAttempts();
+        int written = writeInOrder(entries);
+        if (written == 0 && !entries.isEmpty() && entries.get(0).getAttempts() == attempts) {
+            return false;
+        }
+        log.info("Spilled occupy statistics changes are written: {} of {}", written, entries.size());
+        Path replayFile = spillFile.resolveSibling(spillFile.getFileName() + ".replay");
+        try {
+            Files.move(spillFile, replayFile, StandardCopyOption.REPLACE_EXISTING);
+            spilled = false;
+            spill(entries.subList(written, entries.size()));
+            Files.deleteIfExists(replayFile);
+        } catch (IOException e) {
+            log.error("Failed to replace file {}", spillFile, e);
+        }
+        return !spilled;
+    }
+
+    private long getLagMillis() {
+        JournalEntry oldest = queue.peek();
+        return Objects.isNull(oldest) ? 0 : System.currentTimeMillis() - oldest.getCreatedWhen();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class JournalEntry {
+
+        private List<TestDataOccupyStatistic> statistics;
+        private List<UUID> deletedRowIds;
+        private long createdWhen;
+        private int attempts;
+
+        boolean isDelete() {
+            return Objects.isNull(statistics);
+        }
+    }
+}
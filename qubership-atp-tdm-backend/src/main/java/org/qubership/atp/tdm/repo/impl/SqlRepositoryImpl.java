@@ -19,10 +19,16 @@ package org.qubership.atp.tdm.repo.impl;
 import static java.lang.String.format;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-
-import javax.sql.DataSource;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import org.qubership.atp.crypt.api.Decryptor;
 import org.qubership.atp.crypt.exception.AtpDecryptException;
@@ -38,11 +44,16 @@ import org.qubership.atp.tdm.repo.CatalogRepository;
 import org.qubership.atp.tdm.repo.SqlRepository;
 import org.qubership.atp.tdm.utils.TestDataUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.google.common.base.Strings;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.pool.HikariPool.PoolInitializationException;
 import jakarta.annotation.Nonnull;
 import lombok.extern.slf4j.Slf4j;
 
@@ -54,44 +65,112 @@ public class SqlRepositoryImpl implements SqlRepository {
     private static final String POSTGRES_DB_TYPE = "postgresql";
     private static final String H2_DB_TYPE = "h2";
     private static final String DB_CONNECTION_NAME = "DB";
+    private static final String DB_POOL_SIZE = "db_pool_size";
+    private static final int CONNECTION_VALIDATION_TIMEOUT_SECONDS = 5;
+    private static final List<String> CONNECTION_PROPERTIES = Arrays.asList("db_type", "jdbc_url", "db_host",
+            "db_port", "db_name", "db_login", "db_password", DB_POOL_SIZE);
     private final Decryptor decryptor;
+    private final EnvironmentDataSourceRegistry dataSourceRegistry;
+    private final AtomicInteger poolCounter = new AtomicInteger();
+
+    @Value("${data.load.source.fetch.size:1000}")
+    private int sourceFetchSize;
 
     @Autowired
-    public SqlRepositoryImpl(@Nonnull Decryptor decryptor) {
+    public SqlRepositoryImpl(@Nonnull Decryptor decryptor,
+                             @Nonnull EnvironmentDataSourceRegistry dataSourceRegistry) {
         this.decryptor = decryptor;
+        this.dataSourceRegistry = dataSourceRegistry;
     }
 
     /**
      * Create and return java.sql.Connection that is instantiated by the provided server object.
+     * Connection is borrowed from the pool of the environment database, closing it returns it to the pool.
      *
      * @param server server representation object
      * @return java.sql.Connection object created and configured.
      */
     @Override
     public Connection createConnection(Server server) {
+        try {
+            return dataSourceRegistry.getConnection(getConnectionKey(server), () -> createPoolConfig(server));
+        } catch (SQLException | PoolInitializationException e) {
+            String connectionString = getConnectionString(server);
+            log.error(format(TdmDbConnectionException.DEFAULT_MESSAGE, connectionString), e);
+            throw new TdmDbConnectionException(connectionString);
+        }
+    }
+
+    /**
+     * Checks the environment database is reachable. Connection is borrowed from the pool and validated,
+     * so a pool created earlier does not hide a database which became unavailable.
+     *
+     * @param server server representation object
+     * @return true if the borrowed connection is valid.
+     */
+    @Override
+    public boolean isConnectionValid(Server server) {
+        try (Connection connection = createConnection(server)) {
+            return connection.isValid(CONNECTION_VALIDATION_TIMEOUT_SECONDS);
+        } catch (SQLException e) {
+            log.error(format(TdmDbConnectionException.DEFAULT_MESSAGE, getConnectionString(server)), e);
+            return false;
+        }
+    }
+
+    private Map<String, String> getConnectionKey(Server server) {
+        Map<String, String> key = new HashMap<>();
+        for (String property : CONNECTION_PROPERTIES) {
+            String value = server.getProperty(property);
+            if (value != null) {
+                key.put(property, value);
+            }
+        }
+        return key;
+    }
+
+    private HikariConfig createPoolConfig(Server server) {
         String dbType = server.getProperty("db_type");
         getDbDriverName(dbType);
-        String jdbcUrl = server.getProperty("jdbc_url");
-        String dbLogin = server.getProperty("db_login");
-        String dbPassword = server.getProperty("db_password");
-        String connectionString = createConnectionString(dbType, server);
-        validateConnectionString(connectionString);
-        if (Strings.isNullOrEmpty(jdbcUrl)) {
-            return createConnection(connectionString, dbLogin, dbPassword);
-        } else {
-            return createConnection(jdbcUrl, dbLogin, dbPassword);
+        validateConnectionString(createConnectionString(dbType, server));
+        String connectionString = getConnectionString(server);
+        log.debug("Connection string: {}", connectionString);
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(format("tdm-env-%d-%s", poolCounter.incrementAndGet(), dbType));
+        config.setJdbcUrl(connectionString);
+        config.setUsername(getDecryptIfEncrypted(server.getProperty("db_login")));
+        config.setPassword(getDecryptIfEncrypted(server.getProperty("db_password")));
+        int poolSize = getPoolSize(server);
+        if (poolSize > 0) {
+            config.setMaximumPoolSize(poolSize);
         }
+        return config;
     }
 
-    private Connection createConnection(String connectionString, String user, String password) {
+    /**
+     * Gets pool size configured for the environment connection. Zero (pool size by default) is returned
+     * if the size is not set or is not a positive number.
+     */
+    private int getPoolSize(Server server) {
+        String poolSize = server.getProperty(DB_POOL_SIZE);
+        if (Strings.isNullOrEmpty(poolSize)) {
+            return 0;
+        }
         try {
-            log.debug("Connection string: {}", connectionString);
-            return DriverManager.getConnection(connectionString, decryptor.decryptIfEncrypted(user),
-                    decryptor.decryptIfEncrypted(password));
-        } catch (Exception e) {
-            log.error(format(TdmDbConnectionException.DEFAULT_MESSAGE, connectionString), e);
-            throw new TdmDbConnectionException(connectionString);
+            int size = Integer.parseInt(poolSize.trim());
+            if (size > 0) {
+                return size;
+            }
+        } catch (NumberFormatException e) {
+            log.debug("Pool size [{}] is not a number", poolSize, e);
         }
+        log.warn("Invalid {} [{}], default pool size is used", DB_POOL_SIZE, poolSize);
+        return 0;
+    }
+
+    private String getConnectionString(Server server) {
+        String jdbcUrl = server.getProperty("jdbc_url");
+        return Strings.isNullOrEmpty(jdbcUrl) ? createConnectionString(server.getProperty("db_type"), server) : jdbcUrl;
     }
 
     private void validateConnectionString(String connectionString) {
@@ -115,19 +194,9 @@ public class SqlRepositoryImpl implements SqlRepository {
 
     @Override
     public JdbcTemplate createJdbcTemplate(Server server) {
-        String dbType = server.getProperty("db_type");
-        String dbDriverName = getDbDriverName(dbType);
-        try (Connection connection = createConnection(server)) {
-            JdbcTemplate jdbcTemplate = null;
-            if (server.getProperty("jdbc_url").isEmpty()) {
-                String jdbcUrl = createConnectionString(dbType, server);
-                jdbcTemplate = new JdbcTemplate(createDataSource(dbDriverName, jdbcUrl,
-                        server.getProperty("db_login"), server.getProperty("db_password")));
-            } else {
-                jdbcTemplate = new JdbcTemplate(createDataSource(dbDriverName, server.getProperty("jdbc_url"),
-                        server.getProperty("db_login"), server.getProperty("db_password")));
-            }
-            return jdbcTemplate;
+        try {
+            return new JdbcTemplate(dataSourceRegistry.getDataSource(getConnectionKey(server),
+                    () -> createPoolConfig(server)));
         } catch (Exception e) {
             log.error(TdmDbJdbsTemplateException.DEFAULT_MESSAGE, e);
             throw new TdmDbJdbsTemplateException();
@@ -138,16 +207,32 @@ public class SqlRepositoryImpl implements SqlRepository {
     public JdbcTemplate createJdbcTemplate(Server server, int queryTimeout) {
         JdbcTemplate template = createJdbcTemplate(server);
         template.setQueryTimeout(queryTimeout);
+        template.setFetchSize(sourceFetchSize);
         return template;
     }
 
-    private DataSource createDataSource(String driverName, String connectionString, String user, String password) {
-        DriverManagerDataSource dataSource = new DriverManagerDataSource();
-        dataSource.setDriverClassName(driverName);
-        dataSource.setUrl(connectionString);
-        dataSource.setUsername(getDecryptIfEncrypted(user));
-        dataSource.setPassword(getDecryptIfEncrypted(password));
-        return dataSource;
+    /**
+     * Streams rows of the query to the consumer. Query runs in a transaction of the environment database,
+     * so drivers fetching rows by cursor (PostgreSQL) do not read whole result set into memory.
+     *
+     * @param jdbcTemplate template of the environment database.
+     * @param query        query to execute.
+     * @param rowConsumer  consumer of rows, row keys are in order of query columns.
+     */
+    @Override
+    public void queryRows(@Nonnull JdbcTemplate jdbcTemplate, @Nonnull String query,
+                          @Nonnull Consumer<Map<String, Object>> rowConsumer) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(
+                new DataSourceTransactionManager(Objects.requireNonNull(jdbcTemplate.getDataSource())));
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(query,
+                (RowCallbackHandler) resultSet -> {
+                    ResultSetMetaData metaData = resultSet.getMetaData();
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    for (int columnIndex = 1; columnIndex <= metaData.getColumnCount(); columnIndex++) {
+                        row.put(metaData.getColumnName(columnIndex), resultSet.getObject(columnIndex));
+                    }
+                    rowConsumer.accept(row);
+                }));
     }
 
     /**
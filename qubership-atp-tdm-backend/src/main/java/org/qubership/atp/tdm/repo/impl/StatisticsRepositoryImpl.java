@@ -16,13 +16,20 @@
 
 package org.qubership.atp.tdm.repo.impl;
 
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.qubership.atp.tdm.exceptions.internal.TdmStatisticsException;
 import org.qubership.atp.tdm.model.TestDataOccupyStatistic;
@@ -33,22 +40,28 @@ import org.qubership.atp.tdm.model.statistics.DateStatistics;
 import org.qubership.atp.tdm.model.statistics.DateStatisticsItem;
 import org.qubership.atp.tdm.model.statistics.GeneralStatisticsItem;
 import org.qubership.atp.tdm.model.statistics.OutdatedStatistics;
-import org.qubership.atp.tdm.model.statistics.OutdatedStatisticsInner;
 import org.qubership.atp.tdm.model.statistics.OutdatedStatisticsItem;
-import org.qubership.atp.tdm.model.statistics.StatisticsItem;
+import org.qubership.atp.tdm.model.statistics.StatisticsInterval;
+import org.qubership.atp.tdm.model.statistics.TableCounters;
 import org.qubership.atp.tdm.model.statistics.report.StatisticsReport;
+import org.qubership.atp.tdm.model.table.TableColumnValues;
 import org.qubership.atp.tdm.repo.ProjectInformationRepository;
 import org.qubership.atp.tdm.repo.StatisticsRepository;
-import org.qubership.atp.tdm.repo.impl.extractors.ConsumedStatisticsExtractor;
-import org.qubership.atp.tdm.repo.impl.extractors.GeneralStatisticsExtractor;
-import org.qubership.atp.tdm.repo.impl.extractors.OutdatedStatisticsExtractor;
+import org.qubership.atp.tdm.repo.StatisticsRollupRepository;
+import org.qubership.atp.tdm.repo.TableCountersRepository;
 import org.qubership.atp.tdm.repo.impl.extractors.TestDataExtractorProvider;
 import org.qubership.atp.tdm.utils.DataUtils;
 import org.qubership.atp.tdm.utils.TestDataQueries;
+import org.qubership.atp.tdm.utils.TimeBucketAggregator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.google.common.collect.Lists;
 import jakarta.annotation.Nonnull;
 import lombok.extern.slf4j.Slf4j;
 
@@ -57,10 +70,15 @@ import lombok.extern.slf4j.Slf4j;
 public class StatisticsRepositoryImpl implements StatisticsRepository {
 
     private static final String NA = "N/A";
+    private static final int VALUES_PARTITION_SIZE = 1000;
 
     private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
     private final TestDataExtractorProvider extractorProvider;
     private final ProjectInformationRepository projectInformationRepository;
+    private final StatisticsRollupRepository rollupRepository;
+    private final AvailabilityStatisticsCache availabilityStatisticsCache;
+    private final TableCountersRepository tableCountersRepository;
 
     /**
      * TestDataRepositoryImpl Constructor.
@@ -68,10 +86,17 @@ public class StatisticsRepositoryImpl implements StatisticsRepository {
     @Autowired
     public StatisticsRepositoryImpl(@Nonnull JdbcTemplate jdbcTemplate,
                                     @Nonnull TestDataExtractorProvider extractorProvider,
-                                    @Nonnull ProjectInformationRepository projectInformationRepository) {
+                                    @Nonnull ProjectInformationRepository projectInformationRepository,
+                                    @Nonnull StatisticsRollupRepository rollupRepository,
+                                    @Nonnull AvailabilityStatisticsCache availabilityStatisticsCache,
+                                    @Nonnull TableCountersRepository tableCountersRepository) {
         this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
         this.extractorProvider = extractorProvider;
         this.projectInformationRepository = projectInformationRepository;
+        this.rollupRepository = rollupRepository;
+        this.availabilityStatisticsCache = availabilityStatisticsCache;
+        this.tableCountersRepository = tableCountersRepository;
     }
 
     @Override
@@ -79,17 +104,15 @@ public class StatisticsRepositoryImpl implements StatisticsRepository {
                                                                @Nonnull UUID projectId) {
         List<GeneralStatisticsItem> listStatisticsItems = new ArrayList<>();
         String timeZone = getTimeZone(projectId);
-        Map<String, String> timeStampsMap = DataUtils.generateTimeStampDailyRange(timeZone);
-        catalogList.forEach(item -> {
-            GeneralStatisticsItem statisticsItem = getGeneralStatisticsItem(item, timeStampsMap);
-            if (Objects.nonNull(statisticsItem)) {
-                UUID system = item.getSystemId();
-                if (system != null) {
-                    statisticsItem.setSystem(system.toString());
-                }
-                listStatisticsItems.add(statisticsItem);
+        List<GeneralStatisticsItem> statisticsItems = getGeneralStatisticsItems(catalogList, timeZone);
+        for (int index = 0; index < catalogList.size(); index++) {
+            GeneralStatisticsItem statisticsItem = statisticsItems.get(index);
+            UUID system = catalogList.get(index).getSystemId();
+            if (system != null) {
+                statisticsItem.setSystem(system.toString());
             }
-        });
+            listStatisticsItems.add(statisticsItem);
+        }
         listStatisticsItems.sort(Comparator.comparing(GeneralStatisticsItem::getContext));
         return listStatisticsItems;
     }
@@ -100,15 +123,18 @@ public class StatisticsRepositoryImpl implements StatisticsRepository {
                                                      @Nonnull LocalDate dateTo) {
         ConsumedStatistics consumedStatistics = new ConsumedStatistics();
         consumedStatistics.setDates(DataUtils.getStatisticsInterval(dateFrom, dateTo));
+        TimeBucketAggregator consumed = TimeBucketAggregator.forPeriod(dateFrom, dateTo);
+        rollupRepository.getCounters(getTableNames(occupyStatisticList, TestDataOccupyStatistic::getTableName),
+                dateFrom, dateTo).forEach(counter -> consumed.add(counter.getTableName(), counter.getDate(),
+                counter.getConsumed()));
         List<ConsumedStatisticsItem> listStatisticsItems = new ArrayList<>();
         occupyStatisticList.forEach(occupyStatisticItem -> {
             ConsumedStatisticsItem statisticsItem = new ConsumedStatisticsItem(occupyStatisticItem.getTableTitle());
-            ConsumedStatisticsExtractor extractor = extractorProvider.consumedStatisticsExtractor();
-            List<Map<LocalDate, Long>> dbOutput = jdbcTemplate.query(TestDataQueries.GET_TEST_DATA_CONSUMPTION_ITEM,
-                    extractor, occupyStatisticItem.getTableName().toLowerCase(),
-                    dateFrom.toString(), dateTo.toString());
-            List<Long> consumed = calculateStatistic(dbOutput, dateFrom, dateTo, statisticsItem, occupyStatisticItem);
-            statisticsItem.setConsumed(consumed);
+            statisticsItem.setConsumed(consumed.getCounts(occupyStatisticItem.getTableName().toLowerCase()));
+            UUID system = occupyStatisticItem.getSystemId();
+            if (system != null) {
+                statisticsItem.setSystem(system.toString());
+            }
             listStatisticsItems.add(statisticsItem);
         });
         listStatisticsItems.sort(Comparator.comparing(ConsumedStatisticsItem::getContext));
@@ -116,80 +142,11 @@ public class StatisticsRepositoryImpl implements StatisticsRepository {
         return consumedStatistics;
     }
 
-    private List<Long> calculateStatistic(List<Map<LocalDate, Long>> dbOutput, LocalDate dateFrom, LocalDate dateTo,
-                                          StatisticsItem statisticsItem, TestDataOccupyStatistic occupyStatisticItem) {
-        List<Long> consumed = new ArrayList<>();
-        long count;
-        switch (DataUtils.statisticsInterval) {
-            case YEARS:
-                do {
-                    count = 0L;
-                    for (Map<LocalDate, Long> outIt : dbOutput) {
-                        for (Map.Entry<LocalDate, Long> entry : outIt.entrySet()) {
-                            if (dateFrom.getYear() == entry.getKey().getYear()) {
-                                count += entry.getValue();
-                            }
-                        }
-                    }
-                    consumed.add(count);
-                    dateFrom = dateFrom.plusYears(1);
-                } while (!dateFrom.isAfter(dateTo));
-                break;
-            case WEEKS:
-                do {
-                    count = 0L;
-                    for (Map<LocalDate, Long> outIt : dbOutput) {
-                        for (Map.Entry<LocalDate, Long> entry : outIt.entrySet()) {
-                            if (dateFrom.getYear() == entry.getKey().getYear()
-                                    && dateFrom.getMonth() == entry.getKey().getMonth()
-                                    && (entry.getKey().isEqual(dateFrom) || entry.getKey().isAfter(dateFrom))
-                                    && entry.getKey().isBefore(dateFrom.plusWeeks(1))) {
-                                count += entry.getValue();
-                            }
-                        }
-                    }
-                    consumed.add(count);
-                    dateFrom = dateFrom.plusWeeks(1);
-                } while (!dateFrom.isAfter(dateTo));
-                break;
-            case DAYS:
-                do {
-                    count = 0L;
-                    for (Map<LocalDate, Long> outIt : dbOutput) {
-                        for (Map.Entry<LocalDate, Long> entry : outIt.entrySet()) {
-                            if (dateFrom.getYear() == entry.getKey().getYear()
-                                    && dateFrom.getMonth() == entry.getKey().getMonth()
-                                    && dateFrom.getDayOfMonth() == entry.getKey().getDayOfMonth()) {
-                                count += entry.getValue();
-                            }
-                        }
-                    }
-                    consumed.add(count);
-                    dateFrom = dateFrom.plusDays(1);
-                } while (!dateFrom.isAfter(dateTo));
-                break;
-            default:
-                do {
-                    count = 0L;
-                    for (Map<LocalDate, Long> outIt : dbOutput) {
-                        for (Map.Entry<LocalDate, Long> entry : outIt.entrySet()) {
-                            if (dateFrom.getYear() == entry.getKey().getYear()
-                                    && dateFrom.getMonth() == entry.getKey().getMonth()) {
-                                count += entry.getValue();
-                            }
-                        }
-                    }
-                    consumed.add(count);
-                    dateFrom = dateFrom.plusMonths(1);
-                } while (!dateFrom.isAfter(dateTo));
-                break;
-        }
-        UUID system = occupyStatisticItem.getSystemId();
-        if (system != null) {
-            statisticsItem.setSystem(system.toString());
-        }
-
-        return consumed;
+    private <T> List<String> getTableNames(List<T> items, Function<T, String> tableName) {
+        return items.stream()
+                .map(item -> tableName.apply(item).toLowerCase())
+                .distinct()
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -198,126 +155,41 @@ public class StatisticsRepositoryImpl implements StatisticsRepository {
                                                              @Nonnull LocalDate dateTo, int expirationDate) {
         OutdatedStatistics outdatedStatistics = new OutdatedStatistics();
         outdatedStatistics.setDates(DataUtils.getStatisticsInterval(dateFrom, dateTo));
+        StatisticsInterval interval = DataUtils.getStatisticsIntervalType(dateFrom, dateTo);
+        TimeBucketAggregator created = new TimeBucketAggregator(interval, dateFrom, dateTo);
+        TimeBucketAggregator consumed = new TimeBucketAggregator(interval, dateFrom, dateTo);
+        TimeBucketAggregator outdated = new TimeBucketAggregator(interval, dateFrom, dateTo);
+        LocalDate outdatedFrom = dateFrom.plusDays(expirationDate);
+        rollupRepository.getCounters(getTableNames(catalogList, TestDataTableCatalog::getTableName), dateFrom, null)
+                .forEach(counter -> {
+                    consumed.add(counter.getTableName(), counter.getDate(), counter.getConsumed());
+                    if (!counter.getDate().isBefore(outdatedFrom)) {
+                        outdated.add(counter.getTableName(), counter.getDate(), counter.getConsumed());
+                    }
+                });
         List<OutdatedStatisticsItem> listStatisticsItems = new ArrayList<>();
         catalogList.forEach(occupyStatisticItem -> {
-            LocalDate iterDate = dateFrom;
-            OutdatedStatisticsItem statisticsItem = new OutdatedStatisticsItem(occupyStatisticItem.getTableTitle());
-            List<Long> created = new ArrayList<>();
-            List<Long> consumed = new ArrayList<>();
-            List<Long> outdated = new ArrayList<>();
-            List<OutdatedStatisticsInner> dbOutput;
-
+            String tableName = occupyStatisticItem.getTableName().toLowerCase();
             try {
-                OutdatedStatisticsExtractor extractor = extractorProvider.outdatedStatisticsExtractor();
-                String query = String.format(TestDataQueries.GET_TEST_DATA_OUTDATED_ITEM,
-                        occupyStatisticItem.getTableName().toLowerCase());
-                dbOutput = jdbcTemplate.query(query, extractor, dateFrom.toString(), dateTo.toString(),
-                        occupyStatisticItem.getTableName().toLowerCase(),
-                        occupyStatisticItem.getTableName().toLowerCase(),
-                        dateFrom.plusDays(expirationDate).toString());
+                String query = String.format(TestDataQueries.GET_TEST_DATA_CREATED_ITEM, tableName);
+                List<Map<LocalDate, Long>> dbOutput = jdbcTemplate.query(query,
+                        extractorProvider.consumedStatisticsExtractor(), dateFrom.toString(), dateTo.toString());
+                Objects.requireNonNull(dbOutput).forEach(item -> item.forEach((date, count) ->
+                        created.add(tableName, date, count)));
             } catch (Exception e) {
                 log.error(String.format(TdmStatisticsException.DEFAULT_MESSAGE,
                         occupyStatisticItem.getTableName()), e);
                 throw new TdmStatisticsException(occupyStatisticItem.getTableName());
             }
-
-            if (Objects.nonNull(dbOutput)) {
-                long countCreated;
-                long countConsumed;
-                long countOutdated;
-                switch (DataUtils.statisticsInterval) {
-                    case YEARS:
-                        do {
-                            countCreated = 0L;
-                            countConsumed = 0L;
-                            countOutdated = 0L;
-                            for (OutdatedStatisticsInner outdatedStatisticsItem : dbOutput) {
-                                if (iterDate.getYear() == outdatedStatisticsItem.getDate().getYear()) {
-                                    countCreated += outdatedStatisticsItem.getCreated();
-                                    countConsumed += outdatedStatisticsItem.getConsumed();
-                                    countOutdated += outdatedStatisticsItem.getOutdated();
-                                }
-                            }
-                            created.add(countCreated);
-                            consumed.add(countConsumed);
-                            outdated.add(countOutdated);
-                            iterDate = iterDate.plusYears(1);
-                        } while (!iterDate.isAfter(dateTo));
-                        break;
-                    case WEEKS:
-                        do {
-                            countCreated = 0L;
-                            countConsumed = 0L;
-                            countOutdated = 0L;
-                            for (OutdatedStatisticsInner outdatedStatisticsItem : dbOutput) {
-                                if (iterDate.getYear() == outdatedStatisticsItem.getDate().getYear()
-                                        && iterDate.getMonth() == outdatedStatisticsItem.getDate().getMonth()
-                                        && (outdatedStatisticsItem.getDate().isEqual(iterDate)
-                                        || outdatedStatisticsItem.getDate().isAfter(iterDate))
-                                        && outdatedStatisticsItem.getDate().isBefore(iterDate.plusWeeks(1))) {
-                                    countCreated += outdatedStatisticsItem.getCreated();
-                                    countConsumed += outdatedStatisticsItem.getConsumed();
-                                    countOutdated += outdatedStatisticsItem.getOutdated();
-                                }
-                            }
-                            created.add(countCreated);
-                            consumed.add(countConsumed);
-                            outdated.add(countOutdated);
-                            iterDate = iterDate.plusWeeks(1);
-                        } while (!iterDate.isAfter(dateTo));
-                        break;
-                    case DAYS:
-                        do {
-                            countCreated = 0L;
-                            countConsumed = 0L;
-                            countOutdated = 0L;
-                            for (OutdatedStatisticsInner outdatedStatisticsItem : dbOutput) {
-                                if (iterDate.getYear() == outdatedStatisticsItem.getDate().getYear()
-                                        && iterDate.getMonth() == outdatedStatisticsItem.getDate().getMonth()
-                                        && iterDate.getDayOfMonth() == outdatedStatisticsItem.getDate()
-                                        .getDayOfMonth()) {
-                                    countCreated += outdatedStatisticsItem.getCreated();
-                                    countConsumed += outdatedStatisticsItem.getConsumed();
-                                    countOutdated += outdatedStatisticsItem.getOutdated();
-                                }
-                            }
-                            created.add(countCreated);
-                            consumed.add(countConsumed);
-                            outdated.add(countOutdated);
-                            iterDate = iterDate.plusDays(1);
-                        } while (!iterDate.isAfter(dateTo));
-                        break;
-                    default:
-                        do {
-                            countCreated = 0L;
-                            countConsumed = 0L;
-                            countOutdated = 0L;
-                            for (OutdatedStatisticsInner outdatedStatisticsItem : dbOutput) {
-                                if (iterDate.getYear() == outdatedStatisticsItem.getDate().getYear()
-                                        && iterDate.getMonth() == outdatedStatisticsItem.getDate().getMonth()) {
-                                    countCreated += outdatedStatisticsItem.getCreated();
-                                    countConsumed += outdatedStatisticsItem.getConsumed();
-                                    countOutdated += outdatedStatisticsItem.getOutdated();
-                                }
-                            }
-                            created.add(countCreated);
-                            consumed.add(countConsumed);
-                            outdated.add(countOutdated);
-                            iterDate = iterDate.plusMonths(1);
-                        } while (!iterDate.isAfter(dateTo));
-                        break;
-                }
-                UUID system = occupyStatisticItem.getSystemId();
-                if (system != null) {
-                    statisticsItem.setSystem(system.toString());
-                }
-                statisticsItem.setCreated(created);
-                statisticsItem.setConsumed(consumed);
-                statisticsItem.setOutdated(outdated);
-                listStatisticsItems.add(statisticsItem);
-            } else {
-                log.warn("Outdated data in table:[{}] not found.", occupyStatisticItem.getTableName());
+            OutdatedStatisticsItem statisticsItem = new OutdatedStatisticsItem(occupyStatisticItem.getTableTitle());
+            UUID system = occupyStatisticItem.getSystemId();
+            if (system != null) {
+                statisticsItem.setSystem(system.toString());
             }
+            statisticsItem.setCreated(created.getCounts(tableName));
+            statisticsItem.setConsumed(consumed.getCounts(tableName));
+            statisticsItem.setOutdated(outdated.getCounts(tableName));
+            listStatisticsItems.add(statisticsItem);
         });
         listStatisticsItems.sort(Comparator.comparing(OutdatedStatisticsItem::getContext));
         outdatedStatistics.setItems(listStatisticsItems);
@@ -330,15 +202,18 @@ public class StatisticsRepositoryImpl implements StatisticsRepository {
                                                  @Nonnull LocalDate dateTo) {
         DateStatistics dateStatistics = new DateStatistics();
         dateStatistics.setDates(DataUtils.getStatisticsInterval(dateFrom, dateTo));
+        TimeBucketAggregator created = TimeBucketAggregator.forPeriod(dateFrom, dateTo);
+        rollupRepository.getCounters(getTableNames(occupyStatisticList, TestDataOccupyStatistic::getTableName),
+                dateFrom, dateTo.plusDays(1)).forEach(counter -> created.add(counter.getTableName(),
+                counter.getDate(), counter.getCreated()));
         List<DateStatisticsItem> listStatisticsItems = new ArrayList<>();
         occupyStatisticList.forEach(occupyStatisticItem -> {
             DateStatisticsItem statisticsItem = new DateStatisticsItem(occupyStatisticItem.getTableTitle());
-            ConsumedStatisticsExtractor extractor = extractorProvider.consumedStatisticsExtractor();
-            List<Map<LocalDate, Long>> dbOutput = jdbcTemplate.query(TestDataQueries.GET_STATISTIC_CREATED_WHEN,
-                    extractor, occupyStatisticItem.getTableName().toLowerCase(),
-                    dateFrom.toString(), dateTo.toString());
-            List<Long> consumed = calculateStatistic(dbOutput, dateFrom, dateTo, statisticsItem, occupyStatisticItem);
-            statisticsItem.setCreated(consumed);
+            statisticsItem.setCreated(created.getCounts(occupyStatisticItem.getTableName().toLowerCase()));
+            UUID system = occupyStatisticItem.getSystemId();
+            if (system != null) {
+                statisticsItem.setSystem(system.toString());
+            }
             listStatisticsItems.add(statisticsItem);
         });
         listStatisticsItems.sort(Comparator.comparing(DateStatisticsItem::getContext));
@@ -351,15 +226,36 @@ public class StatisticsRepositoryImpl implements StatisticsRepository {
                                                                   @Nonnull UUID projectId) {
         List<StatisticsReport> statisticsReport = new ArrayList<>();
         String timeZone = getTimeZone(projectId);
-        Map<String, String> timeStampsMap = DataUtils.generateTimeStampDailyRange(timeZone);
-        catalogList.forEach(item -> {
-            GeneralStatisticsItem statisticsItem = getGeneralStatisticsItem(item, timeStampsMap);
-            String system = Objects.isNull(item.getSystemId()) ? NA : String.valueOf(item.getSystemId());
-            statisticsReport.add(new StatisticsReport(NA, system, statisticsItem));
-        });
+        List<GeneralStatisticsItem> statisticsItems = getGeneralStatisticsItems(catalogList, timeZone);
+        for (int index = 0; index < catalogList.size(); index++) {
+            UUID systemId = catalogList.get(index).getSystemId();
+            String system = Objects.isNull(systemId) ? NA : String.valueOf(systemId);
+            statisticsReport.add(new StatisticsReport(NA, system, statisticsItems.get(index)));
+        }
         return statisticsReport;
     }
 
+    @Override
+    public List<Map<String, Long>> getAvailableDataByValues(@Nonnull List<TableColumnValues> tablesColumns,
+                                                            @Nonnull String columnName) {
+        DataUtils.checkColumnName(columnName);
+        return availabilityStatisticsCache.getValueCounts(tablesColumns, columnName,
+                columnValues -> countAvailableDataByValues(columnValues, columnName));
+    }
+
+    private Map<String, Long> countAvailableDataByValues(TableColumnValues columnValues, String columnName) {
+        DataUtils.checkTableName(columnValues.getTableName());
+        String query = String.format(TestDataQueries.GET_AVAILABLE_DATA_FOR_EACH_VALUE, columnName,
+                columnValues.getTableName());
+        Map<String, Long> counts = new HashMap<>();
+        for (List<String> valuesPartition : Lists.partition(columnValues.getValues(), VALUES_PARTITION_SIZE)) {
+            namedParameterJdbcTemplate.query(query, new MapSqlParameterSource("values", valuesPartition),
+                    (RowCallbackHandler) resultSet -> counts.put(String.valueOf(resultSet.getObject(1)),
+                            resultSet.getLong(2)));
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+
     @Override
     public List<String> alterOccupiedDateColumn(List<String> tableNames) {
         log.info("Adding missing column \"OCCUPIED_DATE\"");
@@ -379,18 +275,106 @@ public class StatisticsRepositoryImpl implements StatisticsRepository {
         return result;
     }
 
+    /**
+     * Saves occupy statistics of several rows in one JDBC batch.
+     * Statistics previously saved for the same rows are replaced.
+     * Table names are saved in lower case, so they are looked up without functions on the column.
+     */
+    @Override
+    @Transactional
+    public void saveOccupyStatistics(@Nonnull List<TestDataOccupyStatistic> statistics) {
+        if (statistics.isEmpty()) {
+            return;
+        }
+        List<UUID> rowIds = statistics.stream()
+                .map(TestDataOccupyStatistic::getRowId)
+                .collect(Collectors.toList());
+        rollupRepository.replaceStatistics(rowIds, statistics);
+        deleteOccupiedStatistic(rowIds);
+        jdbcTemplate.batchUpdate(TestDataQueries.INSERT_OCCUPIED_STATISTIC, statistics, VALUES_PARTITION_SIZE,
+                (ps, statistic) -> {
+                    ps.setObject(1, statistic.getRowId());
+                    ps.setObject(2, statistic.getProjectId());
+                    ps.setObject(3, statistic.getSystemId());
+                    ps.setString(4, statistic.getTableName().toLowerCase());
+                    ps.setString(5, statistic.getTableTitle());
+                    ps.setString(6, statistic.getOccupiedBy());
+                    ps.setTimestamp(7, toTimestamp(statistic.getOccupiedDate()));
+                    ps.setTimestamp(8, toTimestamp(statistic.getCreatedWhen()));
+                });
+    }
+
+    /**
+     * Deletes occupy statistics of released rows together with their daily counters.
+     */
+    @Override
+    @Transactional
+    public void deleteOccupyStatistics(@Nonnull List<UUID> rowIds) {
+        if (rowIds.isEmpty()) {
+            return;
+        }
+        rollupRepository.replaceStatistics(rowIds, Collections.emptyList());
+        deleteOccupiedStatistic(rowIds);
+    }
+
+    private void deleteOccupiedStatistic(List<UUID> rowIds) {
+        for (List<UUID> rowIdsPartition : Lists.partition(rowIds, VALUES_PARTITION_SIZE)) {
+            namedParameterJdbcTemplate.update(TestDataQueries.DELETE_OCCUPIED_STATISTIC,
+                    new MapSqlParameterSource("rowIds", rowIdsPartition));
+        }
+    }
+
+    /**
+     * Deletes statistics in batches, so each statement holds locks on a limited number of rows.
+     */
+    @Override
+    public int deleteOccupyStatisticsBefore(@Nonnull LocalDate date) {
+        Timestamp occupiedBefore = Timestamp.valueOf(date.atStartOfDay());
+        int deleted = 0;
+        int batchDeleted;
+        do {
+            batchDeleted = jdbcTemplate.update(TestDataQueries.DELETE_OCCUPIED_STATISTIC_BEFORE, occupiedBefore,
+                    VALUES_PARTITION_SIZE);
+            deleted += batchDeleted;
+        } while (batchDeleted == VALUES_PARTITION_SIZE);
+        return deleted;
+    }
+
+    private Timestamp toTimestamp(LocalDateTime dateTime) {
+        return Objects.isNull(dateTime) ? null : Timestamp.valueOf(dateTime);
+    }
+
     private String getTimeZone(UUID projectId) {
         return projectInformationRepository
                 .getProjectInformationTableByProjectId(projectId).getTimeZone();
     }
 
-    private GeneralStatisticsItem getGeneralStatisticsItem(TestDataTableCatalog item, Map<String, String> map) {
-        GeneralStatisticsExtractor extractor = extractorProvider.generalStatisticsExtractor(item.getTableTitle());
-        GeneralStatisticsItem statisticsItem = jdbcTemplate.query(
-                String.format(TestDataQueries.GET_TEST_DATA_AVAILABILITY_ITEM,
-                        item.getTableName().toLowerCase(), item.getTableName().toLowerCase(),
-                        item.getTableName().toLowerCase(), map.get("startTimeStamp"),
-                        map.get("endTimeStamp"), item.getTableName().toLowerCase()), extractor);
-        return statisticsItem;
+    private List<GeneralStatisticsItem> getGeneralStatisticsItems(List<TestDataTableCatalog> catalogList,
+                                                                  String timeZone) {
+        Map<String, String> map = DataUtils.generateTimeStampDailyRange(timeZone);
+        ZoneId zoneId = ZoneId.of(timeZone);
+        LocalDateTime dayStart = LocalDate.now(zoneId).atStartOfDay(zoneId)
+                .withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        Map<String, TableCounters> counters = tableCountersRepository.getCounters(catalogList.stream()
+                .map(TestDataTableCatalog::getTableName)
+                .collect(Collectors.toList()));
+        return availabilityStatisticsCache.getAll(catalogList, map.get("startTimeStamp"),
+                item -> getGeneralStatisticsItem(item, counters.get(item.getTableName().toLowerCase()), dayStart,
+                        map));
+    }
+
+    private GeneralStatisticsItem getGeneralStatisticsItem(TestDataTableCatalog item, TableCounters counters,
+                                                           LocalDateTime dayStart, Map<String, String> map) {
+        if (Objects.isNull(counters)) {
+            counters = tableCountersRepository.recount(item.getTableName());
+        }
+        long occupiedToday = 0;
+        if (Objects.nonNull(counters.getLastOccupied()) && !counters.getLastOccupied().isBefore(dayStart)) {
+            occupiedToday = jdbcTemplate.queryForObject(String.format(TestDataQueries.GET_TEST_DATA_OCCUPIED_TODAY,
+                    item.getTableName().toLowerCase(), map.get("startTimeStamp"), map.get("endTimeStamp")),
+                    Long.class);
+        }
+        return new GeneralStatisticsItem(item.getTableTitle(), counters.getAvailable(), counters.getOccupied(),
+                occupiedToday, counters.getTotal());
     }
 }
@@ -0,0 +1,129 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.qubership.atp.tdm.model.TestDataOccupyStatistic;
+import org.qubership.atp.tdm.model.statistics.DailyStatisticsCounter;
+import org.qubership.atp.tdm.repo.StatisticsRollupRepository;
+import org.qubership.atp.tdm.utils.DataUtils;
+import org.qubership.atp.tdm.utils.TestDataQueries;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.google.common.collect.Lists;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * Keeps per-table, per-day counters of created and consumed test data, so statistics are read from
+ * a few pre-aggregated rows instead of all occupy statistics. Counters are changed by deltas
+ * in the transaction changing occupy statistics.
+ */
+@Repository
+public class StatisticsRollupRepositoryImpl implements StatisticsRollupRepository {
+
+    private static final int ROW_IDS_PARTITION_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    public StatisticsRollupRepositoryImpl(@Nonnull JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    @Override
+    public void replaceStatistics(@Nonnull List<UUID> rowIds, @Nonnull List<TestDataOccupyStatistic> statistics) {
+        Map<String, Map<LocalDate, long[]>> deltas = new TreeMap<>();
+        for (List<UUID> rowIdsPartition : Lists.partition(rowIds, ROW_IDS_PARTITION_SIZE)) {
+            namedParameterJdbcTemplate.query(TestDataQueries.GET_OCCUPY_STATISTIC_DATES,
+                    new MapSqlParameterSource("rowIds", rowIdsPartition),
+                    (RowCallbackHandler) resultSet -> addDelta(deltas, resultSet.getString("table_name"),
+                            toLocalDate(resultSet.getTimestamp("occupied_date")),
+                            toLocalDate(resultSet.getTimestamp("created_when")), -1));
+        }
+        statistics.forEach(statistic -> addDelta(deltas, statistic.getTableName(),
+                toLocalDate(statistic.getOccupiedDate()), toLocalDate(statistic.getCreatedWhen()), 1));
+        deltas.forEach((tableName, tableDeltas) -> tableDeltas.forEach((date, delta) -> {
+            if (delta[0] != 0 || delta[1] != 0) {
+                updateCounters(tableName, date, delta);
+            }
+        }));
+    }
+
+    private void addDelta(Map<String, Map<LocalDate, long[]>> deltas, String tableName,
+                          @Nullable LocalDate occupiedDate, @Nullable LocalDate createdWhen, int sign) {
+        Map<LocalDate, long[]> tableDeltas = deltas.computeIfAbsent(tableName.toLowerCase(), name -> new TreeMap<>());
+        if (Objects.nonNull(createdWhen)) {
+            tableDeltas.computeIfAbsent(createdWhen, date -> new long[2])[0] += sign;
+        }
+        if (Objects.nonNull(occupiedDate)) {
+            tableDeltas.computeIfAbsent(occupiedDate, date -> new long[2])[1] += sign;
+        }
+    }
+
+    private void updateCounters(String tableName, LocalDate date, long[] delta) {
+        DataUtils.updateOrInsert(jdbcTemplate, TestDataQueries.UPDATE_OCCUPY_STATISTIC_DAILY,
+                TestDataQueries.INSERT_OCCUPY_STATISTIC_DAILY,
+                new Object[]{delta[0], delta[1], tableName, Date.valueOf(date)}, null);
+    }
+
+    @Override
+    public List<DailyStatisticsCounter> getCounters(@Nonnull List<String> tableNames, @Nonnull LocalDate dateFrom,
+                                                    @Nullable LocalDate dateTo) {
+        if (tableNames.isEmpty()) {
+            return Collections.emptyList();
+        }
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        parameters.addValue("tableNames", tableNames);
+        parameters.addValue("dateFrom", Date.valueOf(dateFrom));
+        String query = TestDataQueries.GET_OCCUPY_STATISTIC_DAILY;
+        if (Objects.nonNull(dateTo)) {
+            parameters.addValue("dateTo", Date.valueOf(dateTo));
+            query += " AND stat_date < :dateTo";
+        }
+        return namedParameterJdbcTemplate.query(query, parameters, (resultSet, rowNum) -> new DailyStatisticsCounter(
+                resultSet.getString("table_name"), resultSet.getDate("stat_date").toLocalDate(),
+                resultSet.getLong("created"), resultSet.getLong("consumed")));
+    }
+
+    @Nullable
+    private static LocalDate toLocalDate(@Nullable Timestamp timestamp) {
+        return Objects.isNull(timestamp) ? null : timestamp.toLocalDateTime().toLocalDate();
+    }
+
+    @Nullable
+    private static LocalDate toLocalDate(@Nullable LocalDateTime dateTime) {
+        return Objects.isNull(dateTime) ? null : dateTime.toLocalDate();
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.qubership.atp.tdm.model.statistics.TableCounters;
+import org.qubership.atp.tdm.repo.TableCountersRepository;
+import org.qubership.atp.tdm.utils.DataUtils;
+import org.qubership.atp.tdm.utils.TestDataQueries;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.google.common.collect.Lists;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * Keeps numbers of available and occupied rows per test data table, so availability is read from
+ * one row instead of scanning the table. Counters are changed by deltas in the transaction changing
+ * the table; changes with unknown effect remove the counters and they are recounted on next read.
+ * A delta to missing counters creates an uncounted row, which is not read until recounted, so a change
+ * running concurrently with a recount always finds the counters row to wait for.
+ */
+@Repository
+public class TableCountersRepositoryImpl implements TableCountersRepository {
+
+    private static final int TABLE_NAMES_PARTITION_SIZE = 1000;
+    private static final int[] ADD_TABLE_COUNTERS_TYPES = {Types.BIGINT, Types.BIGINT, Types.TIMESTAMP,
+            Types.VARCHAR};
+    private static final int[] SAVE_TABLE_COUNTERS_TYPES = {Types.BIGINT, Types.BIGINT, Types.TIMESTAMP,
+            Types.TIMESTAMP, Types.VARCHAR};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate recountTransactionTemplate;
+
+    /**
+     * Creates repository of test data table counters.
+     */
+    @Autowired
+    public TableCountersRepositoryImpl(@Nonnull JdbcTemplate jdbcTemplate,
+                                       @Nonnull PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.recountTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.recountTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public void addDelta(@Nonnull String tableName, long available, long occupied,
+                         @Nullable LocalDateTime occupiedDate) {
+        if (available == 0 && occupied == 0) {
+            return;
+        }
+        lockOrCreate(tableName.toLowerCase(), available, occupied, occupiedDate);
+    }
+
+    private void lockOrCreate(String name, long available, long occupied, @Nullable LocalDateTime occupiedDate) {
+        DataUtils.updateOrInsert(jdbcTemplate, TestDataQueries.ADD_TABLE_COUNTERS,
+                TestDataQueries.INSERT_UNCOUNTED_TABLE_COUNTERS,
+                new Object[]{available, occupied, toTimestamp(occupiedDate), name}, ADD_TABLE_COUNTERS_TYPES);
+    }
+
+    @Override
+    public void reset(@Nonnull String tableName) {
+        save(new TableCounters(tableName.toLowerCase(), 0, 0, null));
+    }
+
+    @Override
+    public void invalidate(@Nonnull String tableName) {
+        jdbcTemplate.update(TestDataQueries.DELETE_TABLE_COUNTERS, tableName.toLowerCase());
+    }
+
+    /**
+     * Counts rows under the lock of the counters row, so deltas of changes committed after the count
+     * wait for the recount and are added to its result instead of being overwritten. Missing counters row
+     * is created before the count, changes which created it earlier are committed before the count.
+     */
+    @Override
+    public TableCounters recount(@Nonnull String tableName) {
+        DataUtils.checkTableName(tableName);
+        String name = tableName.toLowerCase();
+        return recountTransactionTemplate.execute(status -> {
+            lockOrCreate(name, 0, 0, null);
+            TableCounters counters = jdbcTemplate.queryForObject(String.format(TestDataQueries.COUNT_TEST_DATA_TABLE,
+                    name), (resultSet, rowNum) -> new TableCounters(name, resultSet.getLong("available"),
+                    resultSet.getLong("occupied"), toLocalDateTime(resultSet.getTimestamp("last_occupied"))));
+            save(Objects.requireNonNull(counters));
+            return counters;
+        });
+    }
+
+    private void save(TableCounters counters) {
+        Object[] parameters = {counters.getAvailable(), counters.getOccupied(),
+                toTimestamp(counters.getLastOccupied()), Timestamp.valueOf(LocalDateTime.now()),
+                counters.getTableName()};
+        DataUtils.updateOrInsert(jdbcTemplate, TestDataQueries.UPDATE_TABLE_COUNTERS,
+                TestDataQueries.INSERT_TABLE_COUNTERS, parameters, SAVE_TABLE_COUNTERS_TYPES);
+    }
+
+    @Override
+    public Map<String, TableCounters> getCounters(@Nonnull List<String> tableNames) {
+        Map<String, TableCounters> counters = new HashMap<>();
+        List<String> names = tableNames.stream()
+                .map(String::toLowerCase)
+                .distinct()
+                .collect(Collectors.toList());
+        for (List<String> namesPartition : Lists.partition(names, TABLE_NAMES_PARTITION_SIZE)) {
+            namedParameterJdbcTemplate.query(TestDataQueries.GET_TABLE_COUNTERS,
+                    new MapSqlParameterSource("tableNames", namesPartition),
+                    (RowCallbackHandler) resultSet -> {
+                        String name = resultSet.getString("table_name");
+                        counters.put(name, new TableCounters(name, resultSet.getLong("available"),
+                                resultSet.getLong("occupied"),
+                                toLocalDateTime(resultSet.getTimestamp("last_occupied"))));
+                    });
+        }
+        return counters;
+    }
+
+    @Nullable
+    private static Timestamp toTimestamp(@Nullable LocalDateTime dateTime) {
+        return Objects.isNull(dateTime) ? null : Timestamp.valueOf(dateTime);
+    }
+
+    @Nullable
+    private static LocalDateTime toLocalDateTime(@Nullable Timestamp timestamp) {
+        return Objects.isNull(timestamp) ? null : timestamp.toLocalDateTime();
+    }
+}
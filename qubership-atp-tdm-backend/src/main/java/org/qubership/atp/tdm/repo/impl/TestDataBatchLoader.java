@@ -0,0 +1,318 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import javax.sql.DataSource;
+
+import org.qubership.atp.integration.configuration.mdc.MdcUtils;
+import org.qubership.atp.tdm.exceptions.db.TdmDbExecuteQueryException;
+import org.qubership.atp.tdm.exceptions.internal.TdmDataLoadInterruptedException;
+import org.qubership.atp.tdm.utils.TestDataUtils;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Loads streamed rows into a test data table with JDBC batches. One prepared statement is reused
+ * for the whole load and a batch is flushed when it reaches configured size in bytes or in rows,
+ * so narrow rows are sent in large batches and wide rows do not blow up the driver buffers.
+ * Rows are produced on a reader thread and passed to the writer through a bounded queue, so reading
+ * of the source overlaps with inserting into the test data table, and a slow writer holds the reader back.
+ */
+@Slf4j
+@Component
+public class TestDataBatchLoader {
+
+    private static final String LOADED_ROWS = "atp_tdm_loaded_rows";
+    private static final String LOAD_ROWS_PER_SECOND = "atp_tdm_load_rows_per_second";
+    private static final String LOAD_STAGE_TIME = "atp_tdm_load_stage_time";
+    private static final String STAGE = "stage";
+    private static final int VALUE_OVERHEAD_BYTES = 8;
+    private static final int CHUNK_ROWS = 500;
+    private static final List<Map<String, Object>> END_OF_ROWS = Collections.emptyList();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Counter loadedRows;
+    private final DistributionSummary loadRate;
+    private final ExecutorService readerExecutor;
+    private final long maxBatchBytes;
+    private final int maxBatchRows;
+    private final int queueCapacity;
+
+    /**
+     * Creates loader of test data rows.
+     */
+    public TestDataBatchLoader(@Nonnull JdbcTemplate jdbcTemplate,
+                               @Nonnull MeterRegistry meterRegistry,
+                               @Value("${data.load.batch.max.bytes:4194304}") long maxBatchBytes,
+                               @Value("${data.load.batch.max.rows:5000}") int maxBatchRows,
+                               @Value("${data.load.queue.capacity:8}") int queueCapacity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+        this.loadedRows = meterRegistry.counter(LOADED_ROWS);
+        this.loadRate = DistributionSummary.builder(LOAD_ROWS_PER_SECOND)
+                .baseUnit("rows")
+                .register(meterRegistry);
+        this.readerExecutor = Executors.newCachedThreadPool(
+                new ThreadFactoryBuilder().setNameFormat("tdm-data-load-reader-%d").build());
+        this.maxBatchBytes = maxBatchBytes;
+        this.maxBatchRows = maxBatchRows;
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getMaxBatchRows() {
+        return maxBatchRows;
+    }
+
+    /**
+     * Loads rows passed by the producer to its row consumer. Columns of the load are taken from the first row.
+     * The producer runs on a reader thread, rows are written on the calling thread,
+     * so loading joins the transaction of the caller, if any.
+     *
+     * @param rowsProducer   passes rows to the given consumer.
+     * @param insertTemplate prepares test data table for the columns and returns insert statement for them.
+     * @return number of loaded rows.
+     */
+    public int load(@Nonnull Consumer<Consumer<Map<String, Object>>> rowsProducer,
+                    @Nonnull Function<List<String>, String> insertTemplate) {
+        long started = System.nanoTime();
+        DataSource dataSource = Objects.requireNonNull(jdbcTemplate.getDataSource());
+        BatchWriter writer = new BatchWriter(dataSource, insertTemplate);
+        RowsReader reader = new RowsReader(rowsProducer);
+        Future<?> readerTask = readerExecutor.submit(reader);
+        try {
+            List<Map<String, Object>> chunk;
+            while ((chunk = writer.take(reader.chunks)) != END_OF_ROWS) {
+                chunk.forEach(writer::add);
+            }
+            reader.rethrowFailure();
+            writer.flush();
+        } finally {
+            readerTask.cancel(true);
+            writer.close();
+        }
+        long elapsedMillis = Math.max(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), 1);
+        double rowsPerSecond = writer.rows * 1000.0 / elapsedMillis;
+        if (writer.rows > 0) {
+            loadRate.record(rowsPerSecond);
+        }
+        recordStageTime("read", reader.readNanos);
+        recordStageTime("read_wait", reader.waitNanos);
+        recordStageTime("write", writer.writeNanos);
+        recordStageTime("write_wait", writer.waitNanos);
+        log.info("Loaded {} rows in {} batches, {} ms ({} rows/sec). Read: {} ms, blocked by writer: {} ms. "
+                        + "Write: {} ms, waiting for reader: {} ms.", writer.rows, writer.batches, elapsedMillis,
+                Math.round(rowsPerSecond), TimeUnit.NANOSECONDS.toMillis(reader.readNanos),
+                TimeUnit.NANOSECONDS.toMillis(reader.waitNanos), TimeUnit.NANOSECONDS.toMillis(writer.writeNanos),
+                TimeUnit.NANOSECONDS.toMillis(writer.waitNanos));
+        return writer.rows;
+    }
+
+    private void recordStageTime(String stage, long nanos) {
+        meterRegistry.timer(LOAD_STAGE_TIME, STAGE, stage).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        readerExecutor.shutdownNow();
+    }
+
+    private class RowsReader implements Runnable {
+
+        private final Consumer<Consumer<Map<String, Object>>> rowsProducer;
+        private final BlockingQueue<List<Map<String, Object>>> chunks = new ArrayBlockingQueue<>(queueCapacity);
+        private final Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+        private volatile Throwable failure;
+        private volatile long readNanos;
+        private volatile long waitNanos;
+        private List<Map<String, Object>> chunk = new ArrayList<>(CHUNK_ROWS);
+
+        RowsReader(Consumer<Consumer<Map<String, Object>>> rowsProducer) {
+            this.rowsProducer = rowsProducer;
+        }
+
+        @Override
+        public void run() {
+            if (mdcContext != null) {
+                MdcUtils.setContextMap(mdcContext);
+            }
+            long started = System.nanoTime();
+            try {
+                rowsProducer.accept(row -> {
+                    chunk.add(row);
+                    if (chunk.size() >= CHUNK_ROWS) {
+                        put(chunk);
+                        chunk = new ArrayList<>(CHUNK_ROWS);
+                    }
+                });
+                if (!chunk.isEmpty()) {
+                    put(chunk);
+                }
+            } catch (Throwable e) {
+                failure = e;
+            } finally {
+                readNanos = System.nanoTime() - started - waitNanos;
+                try {
+                    put(END_OF_ROWS);
+                } catch (TdmDataLoadInterruptedException e) {
+                    log.debug("Data load is cancelled, end of rows is not passed to the writer.");
+                }
+                MDC.clear();
+            }
+        }
+
+        private void put(List<Map<String, Object>> rows) {
+            long started = System.nanoTime();
+            try {
+                chunks.put(rows);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TdmDataLoadInterruptedException();
+            } finally {
+                waitNanos += System.nanoTime() - started;
+            }
+        }
+
+        void rethrowFailure() {
+            if (failure != null) {
+                Throwables.throwIfUnchecked(failure);
+                throw new IllegalStateException(failure);
+            }
+        }
+    }
+
+    private class BatchWriter {
+
+        private final DataSource dataSource;
+        private final Function<List<String>, String> insertTemplate;
+        private List<String> columns;
+        private Connection connection;
+        private PreparedStatement statement;
+        private int batchRows;
+        private long batchBytes;
+        private int rows;
+        private int batches;
+        private long writeNanos;
+        private long waitNanos;
+
+        BatchWriter(DataSource dataSource, Function<List<String>, String> insertTemplate) {
+            this.dataSource = dataSource;
+            this.insertTemplate = insertTemplate;
+        }
+
+        List<Map<String, Object>> take(BlockingQueue<List<Map<String, Object>>> chunks) {
+            long started = System.nanoTime();
+            try {
+                return chunks.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TdmDataLoadInterruptedException();
+            } finally {
+                waitNanos += System.nanoTime() - started;
+            }
+        }
+
+        void add(Map<String, Object> row) {
+            long started = System.nanoTime();
+            try {
+                if (statement == null) {
+                    columns = new ArrayList<>(row.keySet());
+                    String query = insertTemplate.apply(columns);
+                    connection = DataSourceUtils.getConnection(dataSource);
+                    statement = connection.prepareStatement(query);
+                }
+                for (int index = 1; index <= columns.size(); index++) {
+                    String value = TestDataUtils.toColumnValue(row.get(columns.get(index - 1)));
+                    statement.setObject(index, value);
+                    batchBytes += value.length() + VALUE_OVERHEAD_BYTES;
+                }
+                statement.addBatch();
+                batchRows++;
+                if (batchRows >= maxBatchRows || batchBytes >= maxBatchBytes) {
+                    executeBatch();
+                }
+            } catch (SQLException e) {
+                log.error(TdmDbExecuteQueryException.DEFAULT_MESSAGE, e);
+                throw new TdmDbExecuteQueryException(e.getMessage());
+            } finally {
+                writeNanos += System.nanoTime() - started;
+            }
+        }
+
+        void flush() {
+            if (batchRows == 0) {
+                return;
+            }
+            long started = System.nanoTime();
+            try {
+                executeBatch();
+            } catch (SQLException e) {
+                log.error(TdmDbExecuteQueryException.DEFAULT_MESSAGE, e);
+                throw new TdmDbExecuteQueryException(e.getMessage());
+            } finally {
+                writeNanos += System.nanoTime() - started;
+            }
+        }
+
+        private void executeBatch() throws SQLException {
+            statement.executeBatch();
+            log.debug("Flushed batch of {} rows, ~{} bytes.", batchRows, batchBytes);
+            rows += batchRows;
+            loadedRows.increment(batchRows);
+            batches++;
+            batchRows = 0;
+            batchBytes = 0;
+        }
+
+        void close() {
+            JdbcUtils.closeStatement(statement);
+            if (connection != null) {
+                DataSourceUtils.releaseConnection(connection, dataSource);
+            }
+        }
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl;
+
+import static java.lang.String.format;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.qubership.atp.tdm.model.table.TestDataTableFilter;
+import org.qubership.atp.tdm.model.table.conditions.search.SearchConditionType;
+import org.qubership.atp.tdm.repo.TestDataIndexRepository;
+import org.qubership.atp.tdm.utils.DataUtils;
+import org.qubership.atp.tdm.utils.TestDataQueries;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Manages indexes of test data tables: row id, available rows and creation date are indexed for every table,
+ * user columns are indexed when equality filters on them are used often enough.
+ * Indexes on available rows are partial on PostgreSQL; H2 has no partial indexes, "SELECTED" is indexed instead.
+ */
+@Slf4j
+@Repository
+public class TestDataIndexRepositoryImpl implements TestDataIndexRepository {
+
+    private static final String COLUMN_INDEX_SUFFIX = "_col_";
+    private static final String ROW_ID_INDEX_SUFFIX = "_row_id_idx";
+    private static final String PRIMARY_KEY_SUFFIX = "_pk";
+    private static final String AVAILABLE_ROWS_INDEX_SUFFIX = "_available_idx";
+    private static final String CREATED_WHEN_INDEX_SUFFIX = "_created_when_idx";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean postgres;
+    private final int filterUsageThreshold;
+    private final int maxColumnIndexes;
+    private final ExecutorService indexExecutor;
+    private final Cache<String, Map<String, AtomicInteger>> filterUsage = CacheBuilder.newBuilder()
+            .expireAfterAccess(1, TimeUnit.DAYS)
+            .build();
+    private final Cache<String, Set<String>> indexedColumns = CacheBuilder.newBuilder()
+            .expireAfterAccess(1, TimeUnit.DAYS)
+            .build();
+
+    /**
+     * Creates manager of test data table indexes.
+     */
+    public TestDataIndexRepositoryImpl(@Nonnull JdbcTemplate jdbcTemplate,
+                                       @Value("${jdbc.Url}") String url,
+                                       @Value("${test.data.indexes.filter.threshold:0}") int filterUsageThreshold,
+                                       @Value("${test.data.indexes.filter.max-per-table:3}") int maxColumnIndexes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.postgres = !url.startsWith("jdbc:h2:");
+        this.filterUsageThreshold = filterUsageThreshold;
+        this.maxColumnIndexes = maxColumnIndexes;
+        this.indexExecutor = Executors.newSingleThreadExecutor(
+                new ThreadFactoryBuilder().setNameFormat("tdm-table-index-%d").build());
+    }
+
+    @Override
+    public void createIndexes(@Nonnull String tableName) {
+        DataUtils.checkTableName(tableName);
+        if (!hasRowIdIndex(tableName)) {
+            if (hasUniqueRowIds(tableName)) {
+                jdbcTemplate.execute(format(TestDataQueries.ADD_ROW_ID_PRIMARY_KEY, tableName));
+            } else {
+                jdbcTemplate.execute(format(TestDataQueries.CREATE_ROW_ID_INDEX, tableName));
+            }
+        }
+        jdbcTemplate.execute(format(postgres ? TestDataQueries.CREATE_AVAILABLE_ROWS_INDEX
+                : TestDataQueries.CREATE_SELECTED_INDEX, tableName));
+        jdbcTemplate.execute(format(TestDataQueries.CREATE_CREATED_WHEN_INDEX, tableName));
+    }
+
+    /**
+     * On PostgreSQL the primary key is added on a unique index built concurrently, so only adding
+     * the constraint locks the table. If the constraint can not be added, the unique index is dropped.
+     */
+    @Override
+    public void createMissingIndexes(@Nonnull String tableName) {
+        if (!postgres) {
+            createIndexes(tableName);
+            return;
+        }
+        DataUtils.checkTableName(tableName);
+        if (!hasRowIdIndex(tableName)) {
+            if (hasUniqueRowIds(tableName)) {
+                try {
+                    createIndexConcurrently(format(TestDataQueries.CREATE_ROW_ID_UNIQUE_INDEX_CONCURRENTLY,
+                            tableName), tableName, tableName + PRIMARY_KEY_SUFFIX);
+                    jdbcTemplate.execute(format(TestDataQueries.ADD_ROW_ID_PRIMARY_KEY_USING_INDEX, tableName));
+                } catch (RuntimeException e) {
+                    dropRowIdUniqueIndex(tableName, e);
+                    throw e;
+                }
+            } else {
+                createIndexConcurrently(format(TestDataQueries.CREATE_ROW_ID_INDEX_CONCURRENTLY, tableName),
+                        tableName, tableName + ROW_ID_INDEX_SUFFIX);
+            }
+        }
+        createIndexConcurrently(format(TestDataQueries.CREATE_AVAILABLE_ROWS_INDEX_CONCURRENTLY, tableName),
+                tableName, tableName + AVAILABLE_ROWS_INDEX_SUFFIX);
+        createIndexConcurrently(format(TestDataQueries.CREATE_CREATED_WHEN_INDEX_CONCURRENTLY, tableName),
+                tableName, tableName + CREATED_WHEN_INDEX_SUFFIX);
+    }
+
+    /**
+     * Failed or interrupted concurrent build leaves the index invalid: it is not used by queries,
+     * but "IF NOT EXISTS" skips it. So invalid index is dropped before the build and after its failure.
+     */
+    private void createIndexConcurrently(String createQuery, String tableName, String indexName) {
+        dropInvalidIndex(tableName, indexName);
+        try {
+            jdbcTemplate.execute(createQuery);
+        } catch (RuntimeException e) {
+            try {
+                dropInvalidIndex(tableName, indexName);
+            } catch (RuntimeException dropException) {
+                e.addSuppressed(dropException);
+            }
+            throw e;
+        }
+    }
+
+    private void dropInvalidIndex(String tableName, String indexName) {
+        Integer invalidIndexes = jdbcTemplate.queryForObject(TestDataQueries.HAS_INVALID_INDEX_POSTGRES,
+                Integer.class, tableName, indexName);
+        if (Objects.nonNull(invalidIndexes) && invalidIndexes > 0) {
+            log.warn("Drop invalid index [{}] of table [{}] left by failed build.", indexName, tableName);
+            jdbcTemplate.execute(format(TestDataQueries.DROP_INDEX_CONCURRENTLY, indexName));
+        }
+    }
+
+    private void dropRowIdUniqueIndex(String tableName, RuntimeException cause) {
+        try {
+            jdbcTemplate.execute(format(TestDataQueries.DROP_ROW_ID_UNIQUE_INDEX_CONCURRENTLY, tableName));
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    /**
+     * Checks the table has primary key or plain "ROW_ID" index, which is created when row ids are not unique.
+     * Either of them means row ids of the table are already checked.
+     */
+    private boolean hasRowIdIndex(String tableName) {
+        Integer primaryKeys = jdbcTemplate.queryForObject(TestDataQueries.HAS_PRIMARY_KEY, Integer.class, tableName);
+        if (Objects.nonNull(primaryKeys) && primaryKeys > 0) {
+            return true;
+        }
+        Integer indexes = jdbcTemplate.queryForObject(postgres ? TestDataQueries.HAS_INDEX_POSTGRES
+                : TestDataQueries.HAS_INDEX_H2, Integer.class, tableName, tableName + ROW_ID_INDEX_SUFFIX);
+        return Objects.nonNull(indexes) && indexes > 0;
+    }
+
+    private boolean hasUniqueRowIds(String tableName) {
+        Integer notUniqueRowIds = jdbcTemplate.queryForObject(
+                format(TestDataQueries.COUNT_NOT_UNIQUE_ROW_IDS, tableName), Integer.class);
+        if (Objects.requireNonNull(notUniqueRowIds) == 0) {
+            return true;
+        }
+        log.warn("Table [{}] has {} duplicated or empty row ids, primary key is replaced by index.",
+                tableName, notUniqueRowIds);
+        return false;
+    }
+
+    @Override
+    public void recordFilterUsage(@Nonnull String tableName, @Nullable List<TestDataTableFilter> filters) {
+        if (filterUsageThreshold <= 0 || Objects.isNull(filters)) {
+            return;
+        }
+        for (TestDataTableFilter filter : filters) {
+            String column = filter.getColumn();
+            if (Objects.isNull(column) || column.contains("\"")
+                    || SystemColumns.getColumnNames().contains(column) || !isEqualsCondition(filter)) {
+                continue;
+            }
+            int usage = filterUsage.asMap()
+                    .computeIfAbsent(tableName.toLowerCase(), key -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(column, key -> new AtomicInteger())
+                    .incrementAndGet();
+            if (usage == filterUsageThreshold) {
+                Set<String> columns = indexedColumns.asMap()
+                        .computeIfAbsent(tableName.toLowerCase(), key -> new HashSet<>());
+                synchronized (columns) {
+                    if (columns.size() >= maxColumnIndexes || !columns.add(column)) {
+                        continue;
+                    }
+                }
+                indexExecutor.submit(() -> createColumnIndex(tableName, column));
+            }
+        }
+    }
+
+    private void createColumnIndex(String tableName, String column) {
+        String indexName = tableName.toLowerCase() + COLUMN_INDEX_SUFFIX + Integer.toHexString(column.hashCode());
+        log.info("Create index [{}] on column [{}] of table [{}] used by filters.", indexName, column, tableName);
+        try {
+            if (postgres) {
+                createIndexConcurrently(format(TestDataQueries.CREATE_COLUMN_INDEX_CONCURRENTLY,
+                        indexName, tableName, column), tableName, indexName);
+            } else {
+                jdbcTemplate.execute(format(TestDataQueries.CREATE_COLUMN_INDEX, indexName, tableName, column));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to create index on column [{}] of table [{}]", column, tableName, e);
+        }
+    }
+
+    private static boolean isEqualsCondition(TestDataTableFilter filter) {
+        String condition = filter.getSearchCondition();
+        return Objects.nonNull(condition)
+                && SearchConditionType.EQUALS.getValues().stream().anyMatch(condition::equalsIgnoreCase);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        indexExecutor.shutdownNow();
+    }
+}
@@ -25,13 +25,14 @@ import java.sql.CallableStatement;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
@@ -45,7 +46,8 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -66,14 +68,18 @@ import org.qubership.atp.tdm.exceptions.file.TdmWriteFileException;
 import org.qubership.atp.tdm.exceptions.internal.TdmCreateTestDataTableException;
 import org.qubership.atp.tdm.exceptions.internal.TdmInsertDataException;
 import org.qubership.atp.tdm.exceptions.internal.TdmTestDataOccupiedException;
+import org.qubership.atp.tdm.exceptions.internal.TdmTestDataPageLimitException;
 import org.qubership.atp.tdm.model.ColumnValues;
 import org.qubership.atp.tdm.model.DateFormatter;
 import org.qubership.atp.tdm.model.ExportFileType;
 import org.qubership.atp.tdm.model.ImportTestDataStatistic;
 import org.qubership.atp.tdm.model.QueryInfo;
+import org.qubership.atp.tdm.model.TestDataRequest;
 import org.qubership.atp.tdm.model.TestDataTableCatalog;
 import org.qubership.atp.tdm.model.TestDataTableImportInfo;
 import org.qubership.atp.tdm.model.cleanup.TestDataCleanupConfig;
+import org.qubership.atp.tdm.model.statistics.TableCounters;
+import org.qubership.atp.tdm.model.table.TableSerializer;
 import org.qubership.atp.tdm.model.table.TestDataTable;
 import org.qubership.atp.tdm.model.table.TestDataTableFilter;
 import org.qubership.atp.tdm.model.table.TestDataTableOrder;
@@ -84,9 +90,12 @@ import org.qubership.atp.tdm.repo.CatalogRepository;
 import org.qubership.atp.tdm.repo.CleanupConfigRepository;
 import org.qubership.atp.tdm.repo.ImportInfoRepository;
 import org.qubership.atp.tdm.repo.SqlRepository;
+import org.qubership.atp.tdm.repo.TableCountersRepository;
+import org.qubership.atp.tdm.repo.TestDataIndexRepository;
 import org.qubership.atp.tdm.repo.TestDataTableRepository;
 import org.qubership.atp.tdm.repo.impl.extractors.TestDataExtractorProvider;
 import org.qubership.atp.tdm.repo.impl.loader.TestDataExcelLoader;
+import org.qubership.atp.tdm.repo.impl.occupy.OccupyStrategyProvider;
 import org.qubership.atp.tdm.utils.DataUtils;
 import org.qubership.atp.tdm.utils.QueryEvaluator;
 import org.qubership.atp.tdm.utils.TestDataQueries;
@@ -97,6 +106,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.BadSqlGrammarException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
@@ -107,12 +118,13 @@ import org.springframework.transaction.support.TransactionCallbackWithoutResult;
 import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.google.common.collect.Lists;
 import com.healthmarketscience.sqlbuilder.BinaryCondition;
 import com.healthmarketscience.sqlbuilder.CustomExpression;
 import com.healthmarketscience.sqlbuilder.CustomSql;
 import com.healthmarketscience.sqlbuilder.UpdateQuery;
 import com.healthmarketscience.sqlbuilder.custom.postgresql.PgBinaryCondition;
-import com.healthmarketscience.sqlbuilder.dbspec.basic.DbColumn;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
@@ -124,6 +136,7 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
     private static final String ALTER_COLUMN_HARD_MODE = "hard";
     private static final Pattern INDEX_COLUMN_PATTERN = Pattern.compile("\\$\\{'([^']+)'}");
     private static final Integer UPDATE_TEST_DATA_LIMIT = 100;
+    private static final int ROW_IDS_PARTITION_SIZE = 1000;
     private static final String EXCEL_IMPORT_FILE_MASK = "ExcelForImport_%s.xlsx";
 
     private final JdbcTemplate jdbcTemplate;
@@ -137,6 +150,12 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
     private final CatalogRepository catalogRepository;
     private final CleanupConfigRepository cleanupConfigRepository;
     private final LockManager lockManager;
+    private final OccupyStrategyProvider occupyStrategyProvider;
+    private final ColumnStatisticsCache columnStatisticsCache;
+    private final AvailabilityStatisticsCache availabilityStatisticsCache;
+    private final TableCountersRepository tableCountersRepository;
+    private final TestDataBatchLoader batchLoader;
+    private final TestDataIndexRepository indexRepository;
     private final Encoder esapiEncoder = DefaultEncoder.getInstance();
     private final OracleCodec oracleCodec = new OracleCodec();
     private final ConcurrentHashMap<String, String> cacheLastUsageTable = new ConcurrentHashMap<>();
@@ -145,6 +164,8 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
     private String alterColumnMode;
     @Value("${excel.import.directory}")
     private String excelImportDirectory;
+    @Value("${test.data.page.max-limit:1000}")
+    private int maxPageLimit;
 
     /**
      * TestDataTableRepository Constructor.
@@ -158,7 +179,13 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
                                        @Nonnull QueryEvaluator queryEvaluator,
                                        @Nonnull CatalogRepository catalogRepository,
                                        @Nonnull CleanupConfigRepository cleanupConfigRepository,
-                                       @Nonnull LockManager lockManager) {
+                                       @Nonnull LockManager lockManager,
+                                       @Nonnull OccupyStrategyProvider occupyStrategyProvider,
+                                       @Nonnull ColumnStatisticsCache columnStatisticsCache,
+                                       @Nonnull AvailabilityStatisticsCache availabilityStatisticsCache,
+                                       @Nonnull TableCountersRepository tableCountersRepository,
+                                       @Nonnull TestDataBatchLoader batchLoader,
+                                       @Nonnull TestDataIndexRepository indexRepository) {
         this.jdbcTemplate = jdbcTemplate;
         this.transactionManager = transactionManager;
         this.sqlRepository = sqlRepository;
@@ -169,6 +196,12 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         this.catalogRepository = catalogRepository;
         this.cleanupConfigRepository = cleanupConfigRepository;
         this.lockManager = lockManager;
+        this.occupyStrategyProvider = occupyStrategyProvider;
+        this.columnStatisticsCache = columnStatisticsCache;
+        this.availabilityStatisticsCache = availabilityStatisticsCache;
+        this.tableCountersRepository = tableCountersRepository;
+        this.batchLoader = batchLoader;
+        this.indexRepository = indexRepository;
     }
 
     @Override
@@ -223,49 +256,19 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         DataUtils.checkQuery(query);
         DataUtils.checkTableName(tableName);
         JdbcTemplate jdbcTemplate = sqlRepository.createJdbcTemplate(server, queryTimeout);
-        int batchSize = 100;
-        List<String> col = new ArrayList<>();
-        List<Map<String, Object>> rowsBuf = new ArrayList<>();
-        AtomicReference<Integer> refRows = new AtomicReference<>(0);
+        int processedRows;
         try {
-            jdbcTemplate.query(query, resultSet -> {
-                if (col.isEmpty()) {
-                    ResultSetMetaData metaData = resultSet.getMetaData();
-                    int columnCount = metaData.getColumnCount();
-                    for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
-                        col.add(metaData.getColumnName(columnIndex));
-                    }
-                }
-                Map<String, Object> row = new HashMap<>();
-                for (String column : col) {
-                    row.put(column, resultSet.getObject(column));
-                }
-                rowsBuf.add(row);
-                if (rowsBuf.size() == batchSize) {
-                    if (refRows.get() > 0) {
-                        saveTestData(tableName, true, col, rowsBuf, false);
-                    } else {
-                        saveTestData(tableName, exists, col, rowsBuf, true);
-                    }
-                    refRows.updateAndGet(v -> v + batchSize);
-                    rowsBuf.clear();
-                }
-            });
+            processedRows = loadRows(tableName, exists, sink -> sqlRepository.queryRows(jdbcTemplate, query, sink));
         } catch (Exception e) {
             log.error(TdmDbExecuteQueryException.DEFAULT_MESSAGE, e);
             throw new TdmDbExecuteQueryException(e.getMessage());
         }
-        if (!rowsBuf.isEmpty()) {
-            saveTestData(tableName, exists || refRows.get() > 0, col, rowsBuf,
-                    refRows.get() > 0);
-            refRows.updateAndGet(v -> v + rowsBuf.size());
-        }
-        if (refRows.get() == 0) {
+        if (processedRows == 0) {
             log.info(TdmDbRowNotFoundException.DEFAULT_MESSAGE);
             throw new TdmDbRowNotFoundException();
         }
         ImportTestDataStatistic statistic = new ImportTestDataStatistic();
-        statistic.setProcessedRows(refRows.get());
+        statistic.setProcessedRows(processedRows);
         return statistic;
     }
 
@@ -334,6 +337,10 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
                     }
                 }
                 statistic.setProcessedRows(countOfUpdatedRows);
+                if (changesAvailability(queryColumnNames)) {
+                    tableCountersRepository.invalidate(tableName);
+                }
+                invalidateStatistics(tableName);
             } catch (Exception e) {
                 statistic = new ImportTestDataStatistic();
                 String message = "Error while updating table: " + tableName;
@@ -429,6 +436,68 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         return table;
     }
 
+    @Override
+    public void writeTestData(@Nonnull TestDataRequest testDataRequest, @Nonnull JsonGenerator jsonGenerator) {
+        String tableName = testDataRequest.getTableName();
+        DataUtils.checkTableName(tableName);
+        TestDataTableOrder testDataTableOrder = testDataRequest.getDataTableOrder();
+        if (Objects.nonNull(testDataTableOrder)) {
+            DataUtils.checkColumnName(testDataTableOrder.getColumnName());
+        }
+        if (Objects.isNull(testDataRequest.getLimit()) || testDataRequest.getLimit() <= 0) {
+            log.error(TdmTestDataPageLimitException.DEFAULT_MESSAGE);
+            throw new TdmTestDataPageLimitException();
+        }
+        int limit = Math.min(testDataRequest.getLimit(), maxPageLimit);
+        TestDataType testDataType = testDataRequest.isOccupied() ? TestDataType.OCCUPIED : TestDataType.AVAILABLE;
+        QueryInfo.Builder queryInfoBuilder = QueryInfo.newBuilder(tableName, testDataType).setLimit(limit);
+        if (Objects.nonNull(testDataRequest.getFilters())) {
+            queryInfoBuilder.setFilters(testDataRequest.getFilters());
+        }
+        queryInfoBuilder.setSeek(testDataTableOrder, testDataRequest.getAfterValue(),
+                testDataRequest.getAfterRowId());
+        QueryInfo queryInfo = queryInfoBuilder.build();
+        String sanitizedTableName = esapiEncoder.encodeForSQL(oracleCodec, tableName);
+        try {
+            log.debug("Start writing test data page.");
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(queryInfo.getQuery().toString());
+                statement.setFetchSize(limit);
+                return statement;
+            }, extractorProvider.streamExtractor(sanitizedTableName, testDataType, testDataTableOrder, limit,
+                    jsonGenerator));
+            int records = countTestData(tableName, testDataType, testDataRequest.getFilters(), queryInfo);
+            Optional<TestDataTableImportInfo> testDataTableInfo = importInfoRepository.findById(sanitizedTableName);
+            new TableSerializer().writeSummary(jsonGenerator, records, tableName,
+                    testDataTableInfo.map(TestDataTableImportInfo::getTableQuery).orElse(null),
+                    testDataTableInfo.map(TestDataTableImportInfo::getUpdateByQuery).orElse(null));
+            jsonGenerator.writeEndObject();
+            log.debug("Stop writing test data page.");
+        } catch (Exception e) {
+            log.error(TdmDbExecuteQueryException.DEFAULT_MESSAGE, e);
+            throw new TdmDbExecuteQueryException(e.getMessage());
+        }
+    }
+
+    /**
+     * Counts rows of the page query without the page bounds. Rows of unfiltered tables are taken
+     * from the table counters instead of scanning the table.
+     */
+    private int countTestData(@Nonnull String tableName, @Nonnull TestDataType testDataType,
+                              @Nullable List<TestDataTableFilter> filters, @Nonnull QueryInfo queryInfo) {
+        if (Objects.isNull(filters) || filters.isEmpty()) {
+            TableCounters counters = tableCountersRepository.getCounters(Collections.singletonList(tableName))
+                    .get(tableName.toLowerCase());
+            if (Objects.isNull(counters)) {
+                counters = tableCountersRepository.recount(tableName);
+            }
+            return (int) (TestDataType.OCCUPIED.equals(testDataType) ? counters.getOccupied()
+                    : counters.getAvailable());
+        }
+        Integer count = jdbcTemplate.queryForObject(queryInfo.getCountQuery().toString(), Integer.class);
+        return Objects.isNull(count) ? 0 : count;
+    }
+
     @Override
     public TestDataTable getTestData(@Nonnull String tableName, @Nonnull List<String> columnNames,
                                      @Nullable List<TestDataTableFilter> filters) {
@@ -460,6 +529,7 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
             table = jdbcTemplate.query(queryInfo.getQuery().toString(),
                     extractorProvider.multipleExtractor(tableName, TestDataType.AVAILABLE));
             log.debug("Finish DB query.");
+            indexRepository.recordFilterUsage(tableName, filters);
         } catch (Exception e) {
             log.error(TdmDbExecuteQueryException.DEFAULT_MESSAGE, e);
             throw new TdmDbExecuteQueryException(e.getMessage());
@@ -469,12 +539,76 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         return table;
     }
 
+    /**
+     * Gets matching rows as flat column-value maps. Unlike {@link #getTestData}, no column metadata
+     * (filter types, column types, order) and no total count are calculated, so it is the cheap way
+     * to fetch a single row.
+     */
+    @Override
+    public List<Map<String, Object>> getTestDataRows(@Nonnull String tableName, @Nonnull TestDataType testDataType,
+                                                     @Nullable List<TestDataTableFilter> filters,
+                                                     @Nullable Integer limit) {
+        DataUtils.checkTableName(tableName);
+        QueryInfo.Builder queryInfoBuilder = QueryInfo.newBuilder(tableName, testDataType);
+        if (Objects.nonNull(limit)) {
+            queryInfoBuilder.setLimit(limit);
+        }
+        if (Objects.nonNull(filters)) {
+            queryInfoBuilder.setFilters(filters);
+        }
+        QueryInfo queryInfo = queryInfoBuilder.build();
+        try {
+            List<Map<String, Object>> rows = jdbcTemplate.query(queryInfo.getQuery().toString(),
+                    extractorProvider.rowMapper());
+            indexRepository.recordFilterUsage(tableName, filters);
+            return rows;
+        } catch (Exception e) {
+            log.error(TdmDbExecuteQueryException.DEFAULT_MESSAGE, e);
+            throw new TdmDbExecuteQueryException(e.getMessage());
+        }
+    }
+
     @Override
     public TestDataTable getFullTestData(@Nonnull String tableName) {
         DataUtils.checkTableName(tableName);
         return getTestData(tableName, TestDataType.ALL, null, null, null, null);
     }
 
+    /**
+     * Streams all table rows page by page. Pages are read by ROW_ID keyset, each by its own short query,
+     * so only one page is kept in memory and no transaction is held while the consumer processes a page.
+     * The consumer may modify or delete already read rows. ROW_ID is added to the selected columns.
+     */
+    @Override
+    public void forEachTestDataPage(@Nonnull String tableName, @Nullable List<String> columnNames, int pageSize,
+                                    @Nonnull Consumer<List<Map<String, Object>>> pageConsumer) {
+        DataUtils.checkTableName(tableName);
+        List<String> selectedColumns = null;
+        if (Objects.nonNull(columnNames)) {
+            columnNames.forEach(DataUtils::checkColumnName);
+            selectedColumns = new ArrayList<>(columnNames);
+            if (!selectedColumns.contains(SystemColumns.ROW_ID.getName())) {
+                selectedColumns.add(0, SystemColumns.ROW_ID.getName());
+            }
+        }
+        RowMapper<Map<String, Object>> rowMapper = extractorProvider.rowMapper();
+        UUID afterRowId = null;
+        List<Map<String, Object>> page;
+        do {
+            QueryInfo.Builder queryInfoBuilder = Objects.isNull(selectedColumns)
+                    ? QueryInfo.newBuilder(tableName, TestDataType.ALL)
+                    : QueryInfo.newBuilder(tableName, selectedColumns, TestDataType.ALL);
+            String query = queryInfoBuilder.setSeek(null, null, afterRowId).setLimit(pageSize).build()
+                    .getQuery().toString();
+            page = jdbcTemplate.query(query, rowMapper);
+            if (page.isEmpty()) {
+                return;
+            }
+            afterRowId = UUID.fromString(String.valueOf(page.get(page.size() - 1).get(SystemColumns.ROW_ID.getName())));
+            pageConsumer.accept(page);
+        } while (page.size() >= pageSize);
+    }
+
     @Override
     public File getTestDataTableAsExcel(@Nonnull String tableName, @Nullable Integer offset,
                                         @Nullable Integer limit, @Nullable List<TestDataTableFilter> filters) {
@@ -508,51 +642,88 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         if (skipSchemaUpdate) {
             log.info("Saving test data to a database table with the name: [{}]", tableName);
         }
+        boolean systemColumnsExists = isSystemColumnsExists(rows);
+        String insertTemplate = prepareTestDataTable(tableName, exists, columns, systemColumnsExists,
+                skipSchemaUpdate);
+        if (!skipSchemaUpdate) {
+            log.info("Saving test data. Processing rows. Table name: [{}]", tableName);
+        }
+        jdbcTemplate.batchUpdate(insertTemplate,
+                rows,
+                Math.min(rows.size(), batchLoader.getMaxBatchRows()),
+                (PreparedStatement ps, Map<String, Object> row) -> {
+                    for (int ind = 1; ind <= columns.size(); ind++) {
+                        ps.setObject(ind, TestDataUtils.toColumnValue(row.get(columns.get(ind - 1))));
+                    }
+                });
+        countInsertedRows(tableName, systemColumnsExists, rows.size());
+        invalidateStatistics(tableName);
+        if (!skipSchemaUpdate) {
+            log.info("Test data table saved.");
+        }
+    }
+
+    @Override
+    public int loadRows(@Nonnull String tableName, boolean exists,
+                        @Nonnull Consumer<Consumer<Map<String, Object>>> rowsProducer) {
+        DataUtils.checkTableName(tableName);
+        log.info("Loading test data to a database table with the name: [{}]", tableName);
+        AtomicBoolean systemColumnsExists = new AtomicBoolean();
+        boolean loaded = false;
+        try {
+            int loadedRows = batchLoader.load(rowsProducer, columns -> {
+                systemColumnsExists.set(columns.contains(SystemColumns.ROW_ID.getName()));
+                return prepareTestDataTable(tableName, exists, columns, systemColumnsExists.get(), false);
+            });
+            countInsertedRows(tableName, systemColumnsExists.get(), loadedRows);
+            loaded = true;
+            return loadedRows;
+        } finally {
+            if (!loaded) {
+                tableCountersRepository.invalidate(tableName);
+            }
+            invalidateStatistics(tableName);
+        }
+    }
+
+    private String prepareTestDataTable(@Nonnull String tableName, boolean exists, List<String> columns,
+                                        boolean systemColumnsExists, boolean skipSchemaUpdate) {
         if (exists && !skipSchemaUpdate) {
             alterMissingColumns(tableName, columns, TestDataQueries.ADD_NEW_COLUMN_VARCHAR);
         }
         TestDataTableCreator tableCreator = new TestDataTableCreator(tableName);
-        Map<String, DbColumn> dbColumns = new HashMap<>();
         List<String> sanitizedColumns = new ArrayList<>();
         for (String columnName : columns) {
             String sanitizedColumnName = esapiEncoder.encodeForSQL(oracleCodec, columnName);
             sanitizedColumns.add(sanitizedColumnName);
-            dbColumns.put(sanitizedColumnName, tableCreator.buildColumn(sanitizedColumnName));
+            tableCreator.buildColumn(sanitizedColumnName);
         }
         if (!exists) {
             log.info("Creating test data table with the name: [{}]", tableName);
             jdbcTemplate.execute(tableCreator.createTableQuery());
-        }
-        boolean systemColumnsExists = isSystemColumnsExists(rows);
-        if (systemColumnsExists) {
-            List<String> columnNames = SystemColumns.getColumnNames();
-            columnNames.forEach(c -> dbColumns.put(c, tableCreator.getDbColumns().get(c)));
-        }
-        if (!skipSchemaUpdate) {
-            log.info("Saving test data. Processing rows. Table name: [{}]", tableName);
+            indexRepository.createIndexes(tableName);
         }
         String sanitizedTableName = esapiEncoder.encodeForSQL(oracleCodec, tableName);
-        jdbcTemplate.batchUpdate(TestDataUtils.generateInsertTemplate(sanitizedTableName, sanitizedColumns,
-                        systemColumnsExists),
-                rows,
-                Math.min(rows.size(), 100),
-                (PreparedStatement ps, Map<String, Object> row) -> {
-                    for (int ind = 1; ind <= columns.size(); ind++) {
-                        Object rowValue = row.get(columns.get(ind - 1));
-                        if (rowValue instanceof String && !rowValue.equals("null")) {
-                            ps.setObject(ind, String.valueOf(rowValue));
-                        } else if (!(rowValue instanceof String) && rowValue != null) {
-                            ps.setObject(ind, TestDataUtils.convertToJsonString(rowValue));
-                        } else {
-                            ps.setObject(ind, "");
-                        }
-                    }
-                });
-        if (!skipSchemaUpdate) {
-            log.info("Test data table saved.");
+        return TestDataUtils.generateInsertTemplate(sanitizedTableName, sanitizedColumns, systemColumnsExists);
+    }
+
+    private void invalidateStatistics(String tableName) {
+        columnStatisticsCache.invalidate(tableName);
+        availabilityStatisticsCache.invalidate(tableName);
+    }
+
+    private void countInsertedRows(String tableName, boolean systemColumnsExists, int insertedRows) {
+        if (systemColumnsExists) {
+            tableCountersRepository.invalidate(tableName);
+        } else {
+            tableCountersRepository.addDelta(tableName, insertedRows, 0, null);
         }
     }
 
+    private boolean changesAvailability(Collection<String> columns) {
+        return columns.stream().anyMatch(SystemColumns.SELECTED.getName()::equalsIgnoreCase);
+    }
+
     private boolean isSystemColumnsExists(List<Map<String, Object>> rows) {
         if (rows.isEmpty()) {
             log.error(TdmCreateTestDataTableException.DEFAULT_MESSAGE);
@@ -565,7 +736,8 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
     @Override
     public String occupyTestData(@Nonnull String tableName, @Nonnull String occupiedBy, @Nonnull List<UUID> rows) {
         DataUtils.checkColumnName(tableName);
-        String date = DateFormatter.DB_DATE_FORMATTER.format(new Timestamp(new Date().getTime()));
+        Timestamp occupiedDate = new Timestamp(new Date().getTime());
+        String date = DateFormatter.DB_DATE_FORMATTER.format(occupiedDate);
 
         MapSqlParameterSource parameters = new MapSqlParameterSource();
         parameters.addValue("ids", rows);
@@ -574,11 +746,16 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         String sanitizedTableName = esapiEncoder.encodeForSQL(oracleCodec, tableName);
 
         try {
-            int updatedRowsCount = namedParameterJdbcTemplate.update(
-                    format(TestDataQueries.OCCUPY_TEST_DATA, sanitizedTableName, date), parameters);
-            if (updatedRowsCount == 0) {
-                throw new TdmTestDataOccupiedException();
-            }
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                int updatedRowsCount = namedParameterJdbcTemplate.update(
+                        format(TestDataQueries.OCCUPY_TEST_DATA, sanitizedTableName, date), parameters);
+                if (updatedRowsCount == 0) {
+                    throw new TdmTestDataOccupiedException();
+                }
+                tableCountersRepository.addDelta(tableName, -updatedRowsCount, updatedRowsCount,
+                        occupiedDate.toLocalDateTime());
+            });
+            invalidateStatistics(tableName);
         } catch (TdmInternalException atpTdmException) {
             throw atpTdmException;
         } catch (Exception e) {
@@ -588,13 +765,68 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         return DateFormatter.DB_DATE_FORMATTER.format(new Timestamp(new Date().getTime()));
     }
 
+    @Override
+    public Map<UUID, LocalDateTime> getCreatedWhen(@Nonnull String tableName, @Nonnull List<UUID> rows) {
+        DataUtils.checkTableName(tableName);
+        String query = format(TestDataQueries.GET_CREATED_WHEN_BY_ROW_IDS,
+                esapiEncoder.encodeForSQL(oracleCodec, tableName));
+        Map<UUID, LocalDateTime> createdWhen = new HashMap<>();
+        for (List<UUID> rowsPartition : Lists.partition(rows, ROW_IDS_PARTITION_SIZE)) {
+            namedParameterJdbcTemplate.query(query, new MapSqlParameterSource("ids", rowsPartition),
+                    (RowCallbackHandler) resultSet -> {
+                        Timestamp created = resultSet.getTimestamp(SystemColumns.CREATED_WHEN.getName());
+                        createdWhen.put(UUID.fromString(resultSet.getString(SystemColumns.ROW_ID.getName())),
+                                Objects.isNull(created) ? null : created.toLocalDateTime());
+                    });
+        }
+        return createdWhen;
+    }
+
+    @Override
+    public List<Map<String, Object>> occupyAvailableRows(@Nonnull String tableName, @Nonnull String occupiedBy,
+                                                         @Nullable List<TestDataTableFilter> filters, int count) {
+        DataUtils.checkTableName(tableName);
+        String sanitizedTableName = esapiEncoder.encodeForSQL(oracleCodec, tableName);
+        QueryInfo.Builder builder = QueryInfo.newBuilder(sanitizedTableName,
+                Collections.singletonList(SystemColumns.ROW_ID.getName()), TestDataType.AVAILABLE).setLimit(count);
+        if (Objects.nonNull(filters)) {
+            builder.setFilters(filters);
+        }
+        String candidatesQuery = builder.build().getQuery().toString();
+        try {
+            Timestamp occupiedDate = new Timestamp(new Date().getTime());
+            List<Map<String, Object>> occupiedRows = new TransactionTemplate(transactionManager).execute(status -> {
+                List<Map<String, Object>> rows = occupyStrategyProvider.getStrategy().occupy(sanitizedTableName,
+                        esapiEncoder.encodeForSQL(oracleCodec, occupiedBy), occupiedDate, candidatesQuery);
+                if (!rows.isEmpty()) {
+                    tableCountersRepository.addDelta(tableName, -rows.size(), rows.size(),
+                            occupiedDate.toLocalDateTime());
+                }
+                return rows;
+            });
+            if (!occupiedRows.isEmpty()) {
+                invalidateStatistics(tableName);
+            }
+            indexRepository.recordFilterUsage(tableName, filters);
+            return occupiedRows;
+        } catch (Exception e) {
+            log.error(TdmDbExecuteQueryException.DEFAULT_MESSAGE, e);
+            throw new TdmDbExecuteQueryException(e.getMessage());
+        }
+    }
+
     @Override
     public void releaseTestData(@Nonnull String tableName, @Nonnull List<UUID> rows) {
         DataUtils.checkColumnName(tableName);
         MapSqlParameterSource parameters = new MapSqlParameterSource();
         parameters.addValue("ids", rows);
         String sanitizedTableName = esapiEncoder.encodeForSQL(oracleCodec, tableName);
-        namedParameterJdbcTemplate.update(format(TestDataQueries.RELEASE_TEST_DATA, sanitizedTableName), parameters);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            int releasedRowsCount = namedParameterJdbcTemplate.update(format(TestDataQueries.RELEASE_TEST_DATA,
+                    sanitizedTableName), parameters);
+            tableCountersRepository.addDelta(tableName, releasedRowsCount, -releasedRowsCount, null);
+        });
+        invalidateStatistics(tableName);
         updateLastUsage(sanitizedTableName);
     }
 
@@ -618,7 +850,12 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         for (String key : dataForUpdate.keySet()) {
             query.addCustomSetClause(new CustomSql("\"" + key + "\""), dataForUpdate.get(key));
         }
-        return jdbcTemplate.update(query.toString());
+        int updatedRowsCount = jdbcTemplate.update(query.toString());
+        if (updatedRowsCount > 0 && changesAvailability(dataForUpdate.keySet())) {
+            tableCountersRepository.invalidate(tableName);
+        }
+        invalidateStatistics(tableName);
+        return updatedRowsCount;
     }
 
     @Override
@@ -632,7 +869,9 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
             query.addCustomSetClause(new CustomSql("\"" + key + "\""),
                     new CustomExpression("CONCAT(" + "\"" + key + "\",'\r\n" + dataForUpdate.get(key) + "')"));
         }
-        return jdbcTemplate.update(query.toString());
+        int updatedRowsCount = jdbcTemplate.update(query.toString());
+        invalidateStatistics(tableName);
+        return updatedRowsCount;
     }
 
     @Override
@@ -643,6 +882,8 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         parameters.addValue("ids", rows);
         String sanitizedTableName = esapiEncoder.encodeForSQL(oracleCodec, tableName);
         namedParameterJdbcTemplate.update(format(TestDataQueries.DELETE_ROWS_BY_ID, sanitizedTableName), parameters);
+        tableCountersRepository.invalidate(tableName);
+        invalidateStatistics(tableName);
     }
 
     @Override
@@ -651,6 +892,8 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         DataUtils.checkColumnName(tableName);
         String sanitizedTableName = esapiEncoder.encodeForSQL(oracleCodec, tableName);
         jdbcTemplate.execute(format(TestDataQueries.DELETE_ALL_TABLE_ROWS, sanitizedTableName));
+        tableCountersRepository.reset(tableName);
+        invalidateStatistics(tableName);
     }
 
     @Override
@@ -658,7 +901,13 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         log.info("Deleting rows from table with name [{}] by date", tableName);
         DataUtils.checkColumnName(tableName);
         String sanitizedTableName = esapiEncoder.encodeForSQL(oracleCodec, tableName);
-        return jdbcTemplate.update(format(TestDataQueries.DELETE_ROWS_BY_DATE, sanitizedTableName, date));
+        int deletedRowsCount = jdbcTemplate.update(format(TestDataQueries.DELETE_ROWS_BY_DATE, sanitizedTableName,
+                date));
+        if (deletedRowsCount > 0) {
+            tableCountersRepository.invalidate(tableName);
+        }
+        invalidateStatistics(tableName);
+        return deletedRowsCount;
     }
 
     @Override
@@ -674,6 +923,8 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         DataUtils.checkColumnName(tableName);
         String sanitizedTableName = esapiEncoder.encodeForSQL(oracleCodec, tableName);
         jdbcTemplate.execute(format(TestDataQueries.DELETE_UNOCCUPIED_ROWS, sanitizedTableName));
+        tableCountersRepository.invalidate(tableName);
+        invalidateStatistics(tableName);
     }
 
     @Override
@@ -699,6 +950,8 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         DataUtils.checkTableName(tableName);
         String sanitizedTableName = esapiEncoder.encodeForSQL(oracleCodec, tableName);
         jdbcTemplate.execute(format(TestDataQueries.DROP_TABLE, sanitizedTableName));
+        tableCountersRepository.invalidate(tableName);
+        invalidateStatistics(tableName);
     }
 
     @Override
@@ -707,6 +960,8 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         DataUtils.checkTableName(tableName);
         String sanitizedTableName = esapiEncoder.encodeForSQL(oracleCodec, tableName);
         jdbcTemplate.execute(format(TestDataQueries.TRUNCATE_TABLE, sanitizedTableName));
+        tableCountersRepository.reset(tableName);
+        invalidateStatistics(tableName);
     }
 
     @Override
@@ -869,12 +1124,13 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
     }
 
     /**
-     * Get all columns except system columns.
+     * Get all table columns including system columns.
      *
      * @param tableName - data table name
-     * @return list of additional table columns
+     * @return list of table columns
      */
-    private List<String> getTableColumns(@Nonnull String tableName) {
+    @Override
+    public List<String> getTableColumns(@Nonnull String tableName) {
         String sanitizedTableName = esapiEncoder.encodeForSQL(oracleCodec, tableName);
         return jdbcTemplate.queryForList(TestDataQueries.DATA_TABLE_COLUMNS, String.class, sanitizedTableName);
     }
@@ -898,6 +1154,7 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
                 jdbcTemplate.execute(insertQuery);
                 jdbcTemplate.execute(format(TestDataQueries.DROP_TABLE, tableName));
                 jdbcTemplate.execute(format(TestDataQueries.RENAME_TABLE, tmpTableName, tableName));
+                indexRepository.createIndexes(tableName);
                 jdbcTemplate.execute(TestDataQueries.COMMIT_WORK);
             }
         });
@@ -23,6 +23,7 @@ import org.qubership.atp.tdm.service.ColumnService;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import lombok.AllArgsConstructor;
@@ -45,6 +46,14 @@ public class TestDataExtractorProvider {
                 testDataTableOrder);
     }
 
+    public TestDataTableStreamExtractor streamExtractor(@Nonnull String tableName, @Nonnull TestDataType testDataType,
+                                                        @Nullable TestDataTableOrder testDataTableOrder,
+                                                        @Nullable Integer limit,
+                                                        @Nonnull JsonGenerator jsonGenerator) {
+        return new TestDataTableStreamExtractor(columnService, tableName, testDataType, testDataTableOrder, limit,
+                jsonGenerator);
+    }
+
     public TestDataTableMultipleExtractor multipleExtractor(@Nonnull String tableName,
                                                             @Nonnull TestDataType testDataType) {
         return new TestDataTableMultipleExtractor(columnService, tableName, testDataType);
@@ -54,12 +63,12 @@ public class TestDataExtractorProvider {
         return new TestDataTableAsFileExtractor(columnService, tableName, exportFileType);
     }
 
-    public GeneralStatisticsExtractor generalStatisticsExtractor(@Nonnull String tableTitle) {
-        return new GeneralStatisticsExtractor(tableTitle);
+    public TestDataRowMapper rowMapper() {
+        return new TestDataRowMapper(true);
     }
 
-    public OutdatedStatisticsExtractor outdatedStatisticsExtractor() {
-        return new OutdatedStatisticsExtractor();
+    public TestDataRowMapper rawRowMapper() {
+        return new TestDataRowMapper(false);
     }
 
     public ConsumedStatisticsExtractor consumedStatisticsExtractor() {
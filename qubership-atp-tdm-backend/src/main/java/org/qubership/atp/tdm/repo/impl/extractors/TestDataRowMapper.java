@@ -0,0 +1,67 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl.extractors;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.qubership.atp.tdm.utils.DateFormatters;
+import org.springframework.jdbc.core.RowMapper;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * Maps a test data row to a flat column-value map without any column metadata processing.
+ * Timestamps are formatted the same way as in {@link TestDataTableExtractor}, unless raw values are requested.
+ */
+public class TestDataRowMapper implements RowMapper<Map<String, Object>> {
+
+    private final boolean formatValues;
+
+    TestDataRowMapper(boolean formatValues) {
+        this.formatValues = formatValues;
+    }
+
+    @Override
+    public Map<String, Object> mapRow(@Nonnull ResultSet resultSet, int rowNum) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int columnCount = metaData.getColumnCount();
+        Map<String, Object> row = new HashMap<>(columnCount * 2);
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            Object value = resultSet.getObject(columnIndex);
+            row.put(metaData.getColumnName(columnIndex), formatValues ? formatValue(value) : value);
+        }
+        return row;
+    }
+
+    /**
+     * Formats value of a raw row the same way as the mapper formats it.
+     *
+     * @param value column value as read from the database.
+     * @return formatted value.
+     */
+    public static Object formatValue(Object value) {
+        if (value instanceof Timestamp) {
+            return DateFormatters.FULL_DATE_FORMATTER.format(((Timestamp) value).toLocalDateTime());
+        }
+        return value;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl.extractors;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.qubership.atp.tdm.model.table.TableSerializer;
+import org.qubership.atp.tdm.model.table.TestDataTableOrder;
+import org.qubership.atp.tdm.model.table.TestDataType;
+import org.qubership.atp.tdm.model.table.column.TestDataTableColumn;
+import org.qubership.atp.tdm.repo.impl.SystemColumns;
+import org.qubership.atp.tdm.service.ColumnService;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes a page of test data rows straight from the result set to the json generator, in the same
+ * format as {@link TableSerializer}, without collecting the rows. If the page is full, the position of
+ * its last row is written as "nextPage" to request the next page by keyset.
+ * Writes the table object up to the summary fields, the caller writes them and closes the object.
+ */
+@Slf4j
+public class TestDataTableStreamExtractor implements ResultSetExtractor<Integer> {
+
+    private final TableSerializer tableSerializer = new TableSerializer();
+    private final ColumnService columnService;
+    private final String tableName;
+    private final TestDataType testDataType;
+    private final TestDataTableOrder testDataTableOrder;
+    private final Integer limit;
+    private final JsonGenerator jsonGenerator;
+
+    TestDataTableStreamExtractor(@Nonnull ColumnService columnService, @Nonnull String tableName,
+                                 @Nonnull TestDataType testDataType,
+                                 @Nullable TestDataTableOrder testDataTableOrder, @Nullable Integer limit,
+                                 @Nonnull JsonGenerator jsonGenerator) {
+        this.columnService = columnService;
+        this.tableName = tableName;
+        this.testDataType = testDataType;
+        this.testDataTableOrder = testDataTableOrder;
+        this.limit = limit;
+        this.jsonGenerator = jsonGenerator;
+    }
+
+    @Override
+    public Integer extractData(@Nonnull ResultSet resultSet) throws SQLException, DataAccessException {
+        log.debug("Write test data page start");
+        List<TestDataTableColumn> columns = columnService.extractColumns(tableName, testDataType, resultSet,
+                testDataTableOrder);
+        Map<String, Object> row = new HashMap<>();
+        Object lastValue = null;
+        Object lastRowId = null;
+        int rows = 0;
+        try {
+            List<TestDataTableColumn> orderedColumns = tableSerializer.writeHeader(jsonGenerator,
+                    tableSerializer.getVisibleColumns(columns, testDataType));
+            while (resultSet.next()) {
+                row.clear();
+                for (TestDataTableColumn column : columns) {
+                    String columnName = column.getIdentity().getColumnName();
+                    row.put(columnName, formatColumn(resultSet.getObject(columnName)));
+                }
+                tableSerializer.writeRow(jsonGenerator, orderedColumns, row);
+                if (Objects.nonNull(testDataTableOrder)) {
+                    lastValue = resultSet.getObject(testDataTableOrder.getColumnName());
+                }
+                lastRowId = row.get(SystemColumns.ROW_ID.getName());
+                rows++;
+            }
+            tableSerializer.writeBodyEnd(jsonGenerator);
+            if (Objects.nonNull(limit) && rows == limit && rows > 0) {
+                writeNextPage(lastValue, lastRowId);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.debug("Write test data page finish, rows: {}", rows);
+        return rows;
+    }
+
+    private void writeNextPage(@Nullable Object lastValue, @Nonnull Object lastRowId) throws IOException {
+        jsonGenerator.writeFieldName("nextPage");
+        jsonGenerator.writeStartObject();
+        jsonGenerator.writeStringField("afterValue", Objects.isNull(lastValue) ? null : lastValue.toString());
+        jsonGenerator.writeStringField("afterRowId", lastRowId.toString());
+        jsonGenerator.writeEndObject();
+    }
+
+    private Object formatColumn(Object value) {
+        return TestDataRowMapper.formatValue(value);
+    }
+}
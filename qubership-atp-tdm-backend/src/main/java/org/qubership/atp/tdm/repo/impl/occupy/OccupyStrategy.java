@@ -0,0 +1,39 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl.occupy;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.annotation.Nonnull;
+
+public interface OccupyStrategy {
+
+    /**
+     * Atomically occupies rows selected by the candidates query and returns them.
+     * Concurrent callers never get the same row.
+     *
+     * @param tableName       sanitized test data table name.
+     * @param occupiedBy      user the rows are occupied by.
+     * @param occupiedDate    occupation date.
+     * @param candidatesQuery query selecting "ROW_ID" of available rows to occupy, limited to the wanted amount.
+     * @return occupied rows, empty list if there were no available rows.
+     */
+    List<Map<String, Object>> occupy(@Nonnull String tableName, @Nonnull String occupiedBy,
+                                     @Nonnull Timestamp occupiedDate, @Nonnull String candidatesQuery);
+}
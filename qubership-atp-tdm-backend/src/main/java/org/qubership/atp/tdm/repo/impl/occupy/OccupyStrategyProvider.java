@@ -0,0 +1,56 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl.occupy;
+
+import org.qubership.atp.tdm.repo.impl.extractors.TestDataExtractorProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class OccupyStrategyProvider {
+
+    private final OccupyStrategy occupyStrategy;
+
+    /**
+     * Chooses occupy strategy supported by the TDM database.
+     */
+    public OccupyStrategyProvider(@Value("${jdbc.Url}") String url,
+                                  JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  TestDataExtractorProvider extractorProvider) {
+        NamedParameterJdbcTemplate namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        if (url.startsWith("jdbc:h2:")) {
+            this.occupyStrategy = new SelectForUpdateOccupyStrategy(namedParameterJdbcTemplate,
+                    new TransactionTemplate(transactionManager), extractorProvider.rawRowMapper());
+        } else {
+            this.occupyStrategy = new SkipLockedOccupyStrategy(namedParameterJdbcTemplate,
+                    extractorProvider.rawRowMapper());
+        }
+        log.info("Test data occupy strategy: {}", occupyStrategy.getClass().getSimpleName());
+    }
+
+    public OccupyStrategy getStrategy() {
+        return occupyStrategy;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl.occupy;
+
+import static java.lang.String.format;
+
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.qubership.atp.tdm.utils.TestDataQueries;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * Strategy for databases without SKIP LOCKED and UPDATE ... RETURNING support (H2).
+ * Candidates are locked by SELECT ... FOR UPDATE inside one transaction, then occupied and read back,
+ * so parallel callers wait for each other on row locks instead of a table-wide distributed lock.
+ */
+public class SelectForUpdateOccupyStrategy implements OccupyStrategy {
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RowMapper<Map<String, Object>> rowMapper;
+
+    SelectForUpdateOccupyStrategy(@Nonnull NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                                  @Nonnull TransactionTemplate transactionTemplate,
+                                  @Nonnull RowMapper<Map<String, Object>> rowMapper) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.rowMapper = rowMapper;
+    }
+
+    @Override
+    public List<Map<String, Object>> occupy(@Nonnull String tableName, @Nonnull String occupiedBy,
+                                            @Nonnull Timestamp occupiedDate, @Nonnull String candidatesQuery) {
+        return transactionTemplate.execute(status -> {
+            List<UUID> rowIds = namedParameterJdbcTemplate.getJdbcTemplate().query(candidatesQuery + " FOR UPDATE",
+                    (resultSet, rowNum) -> UUID.fromString(resultSet.getString(1)));
+            if (rowIds.isEmpty()) {
+                return Collections.emptyList();
+            }
+            MapSqlParameterSource parameters = new MapSqlParameterSource();
+            parameters.addValue("ids", rowIds);
+            parameters.addValue("user", occupiedBy);
+            parameters.addValue("date", occupiedDate);
+            namedParameterJdbcTemplate.update(format(TestDataQueries.OCCUPY_LOCKED_ROWS, tableName), parameters);
+            return namedParameterJdbcTemplate.query(format(TestDataQueries.GET_ROWS_BY_ID, tableName),
+                    parameters, rowMapper);
+        });
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl.occupy;
+
+import static java.lang.String.format;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+
+import org.qubership.atp.tdm.utils.TestDataQueries;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * PostgreSQL strategy: candidates are locked with SKIP LOCKED and occupied by a single UPDATE ... RETURNING,
+ * so parallel callers skip rows being occupied by others instead of waiting for them.
+ */
+public class SkipLockedOccupyStrategy implements OccupyStrategy {
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final RowMapper<Map<String, Object>> rowMapper;
+
+    SkipLockedOccupyStrategy(@Nonnull NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                             @Nonnull RowMapper<Map<String, Object>> rowMapper) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.rowMapper = rowMapper;
+    }
+
+    @Override
+    public List<Map<String, Object>> occupy(@Nonnull String tableName, @Nonnull String occupiedBy,
+                                            @Nonnull Timestamp occupiedDate, @Nonnull String candidatesQuery) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        parameters.addValue("user", occupiedBy);
+        parameters.addValue("date", occupiedDate);
+        return namedParameterJdbcTemplate.query(
+                format(TestDataQueries.OCCUPY_AVAILABLE_ROWS_SKIP_LOCKED, tableName, candidatesQuery),
+                parameters, rowMapper);
+    }
+}
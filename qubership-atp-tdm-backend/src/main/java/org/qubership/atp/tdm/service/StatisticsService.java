@@ -78,7 +78,7 @@ public interface StatisticsService {
 
     List<String> alterOccupiedDateColumn();
 
-    void saveOccupyStatistic(@Nonnull TestDataOccupyStatistic testDataOccupyStatistic);
+    void saveOccupyStatistics(@Nonnull List<TestDataOccupyStatistic> statistics);
 
     void deleteAllOccupyStatisticByRowId(@Nonnull List<UUID> rows);
 
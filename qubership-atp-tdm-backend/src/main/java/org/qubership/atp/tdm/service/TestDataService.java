@@ -27,6 +27,7 @@ import org.qubership.atp.tdm.model.ColumnValues;
 import org.qubership.atp.tdm.model.DropResults;
 import org.qubership.atp.tdm.model.EnvsList;
 import org.qubership.atp.tdm.model.ImportTestDataStatistic;
+import org.qubership.atp.tdm.model.TestDataRequest;
 import org.qubership.atp.tdm.model.TestDataTableCatalog;
 import org.qubership.atp.tdm.model.ei.TdmDataToExport;
 import org.qubership.atp.tdm.model.statistics.DateStatistics;
@@ -37,6 +38,7 @@ import org.qubership.atp.tdm.model.table.TestDataTableFilter;
 import org.qubership.atp.tdm.model.table.TestDataTableOrder;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 
@@ -57,6 +59,8 @@ public interface TestDataService {
     TestDataTable getTestData(@Nonnull String tableName, @Nonnull List<String> columnNames,
                               @Nullable List<TestDataTableFilter> filters);
 
+    void writeTestData(@Nonnull TestDataRequest testDataRequest, @Nonnull JsonGenerator jsonGenerator);
+
     List<ImportTestDataStatistic> importExcelTestData(@Nonnull UUID projectId, @Nullable UUID environmentId,
                                                       @Nullable UUID systemId, @Nonnull String tableTitle,
                                                       @Nonnull Boolean runSqlScript, @Nonnull MultipartFile file);
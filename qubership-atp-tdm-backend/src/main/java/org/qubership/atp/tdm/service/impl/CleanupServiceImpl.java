@@ -54,11 +54,14 @@ import org.qubership.atp.tdm.model.cleanup.cleaner.TestDataCleaner;
 import org.qubership.atp.tdm.model.cleanup.cleaner.impl.SqlTestDataCleaner;
 import org.qubership.atp.tdm.model.scheduler.DataCleanupJob;
 import org.qubership.atp.tdm.model.table.TestDataTable;
+import org.qubership.atp.tdm.model.table.column.TestDataTableColumn;
+import org.qubership.atp.tdm.model.table.column.TestDataTableColumnIdentity;
 import org.qubership.atp.tdm.repo.CatalogRepository;
 import org.qubership.atp.tdm.repo.CleanupConfigRepository;
 import org.qubership.atp.tdm.repo.ImportInfoRepository;
 import org.qubership.atp.tdm.repo.SqlRepository;
 import org.qubership.atp.tdm.repo.TestDataTableRepository;
+import org.qubership.atp.tdm.repo.impl.SystemColumns;
 import org.qubership.atp.tdm.service.CleanupService;
 import org.qubership.atp.tdm.service.SchedulerService;
 import org.qubership.atp.tdm.utils.DataUtils;
@@ -70,6 +73,7 @@ import org.springframework.stereotype.Service;
 import com.google.common.base.Preconditions;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
+import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -86,11 +90,14 @@ public class CleanupServiceImpl implements CleanupService {
     private final ImportInfoRepository importInfoRepository;
     private final MetricService metricService;
     private final TdmMdcHelper tdmMdcHelper;
+    private final EnvironmentTaskExecutor environmentTaskExecutor;
     private final Map<String, Class<? extends TestDataCleaner>> classMethodWhiteList = new HashMap<>();
     @Value("${external.query.max.timeout:3600}")
     private Integer maxQueryTimeout;
     @Value("${external.query.default.timeout:1800}")
     private Integer defaultQueryTimeout;
+    @Value("${cleanup.page.size:1000}")
+    private Integer cleanupPageSize;
 
     /**
      * Default constructor.
@@ -105,6 +112,7 @@ public class CleanupServiceImpl implements CleanupService {
                               @Nonnull ImportInfoRepository importInfoRepository,
                               @Nonnull MetricService metricService,
                               TdmMdcHelper helper,
+                              @Nonnull EnvironmentTaskExecutor environmentTaskExecutor,
                               List<TestDataCleaner> implementations) {
         this.environmentsService = environmentsService;
         this.schedulerService = schedulerService;
@@ -115,6 +123,7 @@ public class CleanupServiceImpl implements CleanupService {
         this.importInfoRepository = importInfoRepository;
         this.metricService = metricService;
         tdmMdcHelper = helper;
+        this.environmentTaskExecutor = environmentTaskExecutor;
         for (TestDataCleaner impl : implementations) {
             classMethodWhiteList.put(impl.getClass().getSimpleName(), impl.getClass());
         }
@@ -226,27 +235,17 @@ public class CleanupServiceImpl implements CleanupService {
 
         TestDataCleanupConfig config = getCleanupConfig(configId);
         if (config.isEnabled()) {
-            List<CleanupResults> cleanupResults = new ArrayList<>();
-            List<UUID> connectionRefusedEnvs = new ArrayList<>();
-            catalogs.forEach(catalog -> {
-                UUID environmentId = catalog.getEnvironmentId();
-                try {
-                    String tableName = catalog.getTableName();
-                    if (!connectionRefusedEnvs.contains(environmentId)) {
-                        log.info("Preparing to clean up with ID {}. Table: {}", configId, tableName);
-                        cleanupResults.add(runCleanup(tableName, config));
-                    } else {
-                        log.warn("Can not establish connection for envId: {}, table: {}, cleanup ID: {}", environmentId,
-                                tableName, configId);
-                    }
-                } catch (Exception e) {
-                    log.error("Error during scheduled clean up with ID: {}. Table: {}", configId,
-                            catalog.getTableName(), e);
-                    connectionRefusedEnvs.add(environmentId);
-                    cleanupResults.add(new CleanupResults(catalog.getTableName(),
-                            e.getMessage(), 0, 0));
-                }
-            });
+            List<CleanupResults> cleanupResults = environmentTaskExecutor.execute(catalogs,
+                    TestDataTableCatalog::getEnvironmentId,
+                    catalog -> {
+                        log.info("Preparing to clean up with ID {}. Table: {}", configId, catalog.getTableName());
+                        return runCleanup(catalog.getTableName(), config);
+                    },
+                    (catalog, e) -> {
+                        log.error("Error during scheduled clean up with ID: {}. Table: {}", configId,
+                                catalog.getTableName(), e);
+                        return new CleanupResults(catalog.getTableName(), e.getMessage(), 0, 0);
+                    });
             log.info("Cleanup has been finished.");
             return cleanupResults;
         }
@@ -255,32 +254,21 @@ public class CleanupServiceImpl implements CleanupService {
 
     @Override
     public List<CleanupResults> runCleanup(@Nonnull CleanupSettings cleanupSettings) {
-        List<CleanupResults> cleanupResults = new ArrayList<>();
-        List<UUID> connectionRefusedEnvs = new ArrayList<>();
-        List<String> cleanupTableNames = getTablesByTableNameAndEnvironmentsListWithSameSystemName(
+        List<TestDataTableCatalog> cleanupTables = getTablesByTableNameAndEnvironmentsListWithSameSystemName(
                 cleanupSettings.getEnvironmentsList(),
-                cleanupSettings.getTableName());
-
-        for (String cleanupTableName : cleanupTableNames) {
-            testDataTableRepository.updateLastUsage(cleanupTableName);
-            TestDataTableCatalog table = catalogRepository.findByTableName(cleanupTableName);
-            UUID envId = table.getEnvironmentId();
-            try {
-                if (!connectionRefusedEnvs.contains(envId)) {
-                    log.info("Preparing to clean up. Table: {}", cleanupTableName);
-                    cleanupResults.add(runCleanup(cleanupTableName, cleanupSettings.getTestDataCleanupConfig()));
-                } else {
-                    log.warn("Can not establish connection for envId: {}, table: {}, cleanup ID", envId,
-                            cleanupTableName);
-                }
-            } catch (Exception e) {
-                log.error("Error during scheduled clean up. Table: {}",
-                        cleanupTableName, e);
-                connectionRefusedEnvs.add(envId);
-                cleanupResults.add(new CleanupResults(cleanupTableName, e.getMessage(), 0, 0));
-            }
-        }
-        return cleanupResults;
+                cleanupSettings.getTableName()).stream()
+                .map(catalogRepository::findByTableName)
+                .collect(Collectors.toList());
+        return environmentTaskExecutor.execute(cleanupTables, TestDataTableCatalog::getEnvironmentId,
+                table -> {
+                    testDataTableRepository.updateLastUsage(table.getTableName());
+                    log.info("Preparing to clean up. Table: {}", table.getTableName());
+                    return runCleanup(table.getTableName(), cleanupSettings.getTestDataCleanupConfig());
+                },
+                (table, e) -> {
+                    log.error("Error during scheduled clean up. Table: {}", table.getTableName(), e);
+                    return new CleanupResults(table.getTableName(), e.getMessage(), 0, 0);
+                });
     }
 
     /**
@@ -294,13 +282,13 @@ public class CleanupServiceImpl implements CleanupService {
         if (CleanupType.SQL.equals(config.getType())) {
             Server server = sqlRepository.getServer(tableName, catalogRepository, environmentsService);
             try (Connection connection = sqlRepository.createConnection(server)) {
-                if (config.getQueryTimeout() == null) {
-                    int queryTimeout = ObjectUtils.defaultIfNull(
-                            importInfoRepository.findByTableName(tableName).getQueryTimeout(), defaultQueryTimeout);
-                    config.setQueryTimeout(queryTimeout);
+                int queryTimeout = config.getQueryTimeout() != null ? config.getQueryTimeout()
+                        : ObjectUtils.defaultIfNull(importInfoRepository.findByTableName(tableName).getQueryTimeout(),
+                        defaultQueryTimeout);
+                try (SqlTestDataCleaner cleaner = new SqlTestDataCleaner(connection, config.getSearchSql(),
+                        queryTimeout)) {
+                    return runCleanup(tableName, cleaner);
                 }
-                return runCleanup(tableName, new SqlTestDataCleaner(connection,
-                        config.getSearchSql(), config.getQueryTimeout()));
             } catch (Exception ex) {
                 log.error("Error while run cleanup.", ex);
                 throw new TdmRunCleanupException(ex.getMessage());
@@ -323,30 +311,59 @@ public class CleanupServiceImpl implements CleanupService {
     }
 
     @Nonnull
-    private CleanupResults runCleanup(@Nonnull String tableName, @Nonnull TestDataCleaner cleaner) throws Exception {
+    private CleanupResults runCleanup(@Nonnull String tableName, @Nonnull TestDataCleaner cleaner) {
         CleanupResults results = new CleanupResults();
-        TestDataTable table = testDataTableRepository.getFullTestData(tableName);
         results.setTableName(tableName);
-        results.setRecordsTotal(table.getData().size());
-        List<Map<String, Object>> cleanedRows = cleaner.runCleanup(table);
-        if (cleanedRows.isEmpty()) {
+        List<String> tableColumns = testDataTableRepository.getTableColumns(tableName);
+        List<TestDataTableColumn> header = tableColumns.stream()
+                .map(column -> new TestDataTableColumn(new TestDataTableColumnIdentity(tableName, column)))
+                .collect(Collectors.toList());
+        List<String> selectedColumns = null;
+        List<String> requiredColumns = cleaner.getRequiredColumns();
+        if (requiredColumns != null) {
+            selectedColumns = new ArrayList<>();
+            selectedColumns.add(SystemColumns.ROW_ID.getName());
+            requiredColumns.stream()
+                    .filter(tableColumns::contains)
+                    .filter(column -> !SystemColumns.ROW_ID.getName().equals(column))
+                    .forEach(selectedColumns::add);
+        }
+        testDataTableRepository.forEachTestDataPage(tableName, selectedColumns, cleanupPageSize,
+                rows -> cleanupPage(tableName, cleaner, header, rows, results));
+        if (results.getRecordsTotal() == 0) {
+            // Cleaner validates its settings against the table header even if there are no rows.
+            cleanupPage(tableName, cleaner, header, new ArrayList<>(), results);
+        }
+        if (results.getRecordsRemoved() == 0) {
             log.info("Nothing to clean up");
         } else {
-            results.setRecordsRemoved(cleanedRows.size());
-            log.info("Following data to be removed from database:\n"
-                    + cleanedRows.stream().map(Map::toString).collect(Collectors.joining("; ")));
-            List<UUID> rows = cleanedRows.stream()
-                    .map(row -> UUID.fromString(String.valueOf(row.get("ROW_ID"))))
-                    .collect(Collectors.toList());
-            if (!rows.isEmpty()) {
-                testDataTableRepository.deleteRows(tableName, rows);
-            } else {
-                log.info("There are no rows to delete.");
-            }
+            log.info("Removed {} of {} rows from table {}", results.getRecordsRemoved(), results.getRecordsTotal(),
+                    tableName);
         }
         return results;
     }
 
+    @SneakyThrows
+    private void cleanupPage(@Nonnull String tableName, @Nonnull TestDataCleaner cleaner,
+                             @Nonnull List<TestDataTableColumn> header, @Nonnull List<Map<String, Object>> rows,
+                             @Nonnull CleanupResults results) {
+        TestDataTable page = new TestDataTable();
+        page.setName(tableName);
+        page.setColumns(header);
+        page.setData(rows);
+        page.setRecords(rows.size());
+        List<UUID> rowsToDelete = cleaner.runCleanup(page).stream()
+                .map(row -> UUID.fromString(String.valueOf(row.get(SystemColumns.ROW_ID.getName()))))
+                .collect(Collectors.toList());
+        if (!rowsToDelete.isEmpty()) {
+            log.debug("Removing {} of {} rows of the page from table {}", rowsToDelete.size(), rows.size(),
+                    tableName);
+            testDataTableRepository.deleteRows(tableName, rowsToDelete);
+        }
+        results.setRecordsTotal(results.getRecordsTotal() + rows.size());
+        results.setRecordsRemoved(results.getRecordsRemoved() + rowsToDelete.size());
+    }
+
     @Nonnull
     private CleanupResults runCleanupByDate(@Nonnull String tableName, @Nonnull LocalDate cleanupDate) {
         CleanupResults results = new CleanupResults();
@@ -414,8 +431,7 @@ public class CleanupServiceImpl implements CleanupService {
 
     private boolean checkSqlAvailability(@Nonnull String tableName) {
         Server server = sqlRepository.getServer(tableName, catalogRepository, environmentsService);
-        sqlRepository.createJdbcTemplate(server);
-        return true;
+        return sqlRepository.isConnectionValid(server);
     }
 
     private void schedule(@Nonnull List<TestDataCleanupConfig> configs) {
@@ -45,6 +45,7 @@ import org.qubership.atp.tdm.model.table.column.TestDataTableColumnIdentity;
 import org.qubership.atp.tdm.repo.CatalogRepository;
 import org.qubership.atp.tdm.repo.ColumnRepository;
 import org.qubership.atp.tdm.repo.TestDataTableRepository;
+import org.qubership.atp.tdm.repo.impl.ColumnStatisticsCache;
 import org.qubership.atp.tdm.repo.impl.SystemColumns;
 import org.qubership.atp.tdm.service.ColumnService;
 import org.qubership.atp.tdm.utils.TestDataUtils;
@@ -71,6 +72,7 @@ public class ColumnServiceImpl implements ColumnService {
     private final EnvironmentsService environmentsService;
     private final TestDataTableRepository testDataTableRepository;
     private final LockManager lockManager;
+    private final ColumnStatisticsCache columnStatisticsCache;
 
     @Value("${tdm.linker.property.external.url}")
     private Boolean externalUrl;
@@ -83,12 +85,14 @@ public class ColumnServiceImpl implements ColumnService {
     public ColumnServiceImpl(@Nonnull CatalogRepository catalogRepository, @Nonnull ColumnRepository columnRepository,
                              @Nonnull EnvironmentsService environmentsService,
                              @Nonnull TestDataTableRepository testDataTableRepository,
-                             @Nonnull LockManager lockManager) {
+                             @Nonnull LockManager lockManager,
+                             @Nonnull ColumnStatisticsCache columnStatisticsCache) {
         this.catalogRepository = catalogRepository;
         this.columnRepository = columnRepository;
         this.environmentsService = environmentsService;
         this.testDataTableRepository = testDataTableRepository;
         this.lockManager = lockManager;
+        this.columnStatisticsCache = columnStatisticsCache;
     }
 
     @Override
@@ -119,20 +123,8 @@ public class ColumnServiceImpl implements ColumnService {
                 column.setColumnType(ColumnType.DATE);
                 column.setFilterType(FilterType.DATE);
             } else {
-                boolean occupied = TestDataType.OCCUPIED.equals(testDataType);
-                log.debug("GetColumnDistinctValues start");
-                int columnDistinctValuesCount = testDataTableRepository.getColumnDistinctValuesCount(tableName,
-                        columnName, columnType, occupied);
-                log.debug("GetColumnDistinctValues finish");
-                if (columnDistinctValuesCount < 1) {
-                    column.setFilterType(FilterType.NONE);
-                } else {
-                    if (columnDistinctValuesCount < COUNT_OF_DISTINCT_VALUES_FOR_LIST_FILTER_TYPE) {
-                        column.setFilterType(FilterType.LIST);
-                    } else {
-                        column.setFilterType(FilterType.TEXT);
-                    }
-                }
+                column.setFilterType(columnStatisticsCache.getFilterType(tableName, columnName, testDataType,
+                        () -> calculateFilterType(tableName, columnName, columnType, testDataType)));
             }
             columns.add(column);
         }
@@ -140,6 +132,22 @@ public class ColumnServiceImpl implements ColumnService {
         return columns;
     }
 
+    private FilterType calculateFilterType(@Nonnull String tableName, @Nonnull String columnName,
+                                           @Nonnull String columnType, @Nonnull TestDataType testDataType) {
+        boolean occupied = TestDataType.OCCUPIED.equals(testDataType);
+        log.debug("GetColumnDistinctValues start");
+        int columnDistinctValuesCount = testDataTableRepository.getColumnDistinctValuesCount(tableName,
+                columnName, columnType, occupied);
+        log.debug("GetColumnDistinctValues finish");
+        if (columnDistinctValuesCount < 1) {
+            return FilterType.NONE;
+        } else if (columnDistinctValuesCount < COUNT_OF_DISTINCT_VALUES_FOR_LIST_FILTER_TYPE) {
+            return FilterType.LIST;
+        } else {
+            return FilterType.TEXT;
+        }
+    }
+
     @Override
     public List<TestDataTableColumn> extractColumnsMultiple(@Nonnull String tableName,
                                                             @Nonnull TestDataType testDataType,
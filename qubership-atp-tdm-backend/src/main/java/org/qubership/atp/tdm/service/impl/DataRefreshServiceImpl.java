@@ -16,20 +16,14 @@
 
 package org.qubership.atp.tdm.service.impl;
 
-import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
-import java.sql.SQLException;
 import java.text.ParseException;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.ObjectUtils;
@@ -62,7 +56,6 @@ import org.qubership.atp.tdm.utils.ValidateCronExpression;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -84,6 +77,7 @@ public class DataRefreshServiceImpl implements DataRefreshService {
     private final SqlRepository sqlRepository;
     private final MetricService metricService;
     private final TdmMdcHelper tdmMdcHelper;
+    private final EnvironmentTaskExecutor environmentTaskExecutor;
     @Value("${external.query.default.timeout:1800}")
     private Integer defaultQueryTimeout;
     @Value("${external.query.max.timeout:3600}")
@@ -100,7 +94,8 @@ public class DataRefreshServiceImpl implements DataRefreshService {
                                   @Nonnull ImportInfoRepository importInfoRepository,
                                   @Nonnull CatalogRepository catalogRepository,
                                   @Nonnull SqlRepository sqlRepository,
-                                  @Nonnull MetricService metricService, TdmMdcHelper helper) {
+                                  @Nonnull MetricService metricService, TdmMdcHelper helper,
+                                  @Nonnull EnvironmentTaskExecutor environmentTaskExecutor) {
         this.environmentsService = environmentsService;
         this.schedulerService = schedulerService;
         this.refreshConfigRepository = repository;
@@ -110,6 +105,7 @@ public class DataRefreshServiceImpl implements DataRefreshService {
         this.sqlRepository = sqlRepository;
         this.metricService = metricService;
         tdmMdcHelper = helper;
+        this.environmentTaskExecutor = environmentTaskExecutor;
     }
 
     @Override
@@ -229,7 +225,7 @@ public class DataRefreshServiceImpl implements DataRefreshService {
      *
      * @param tableName        - table name.
      * @param saveOccupiedData - save occupied rows.
-     * @return refresh results.
+     * @return refresh results of every table, results of failed tables contain the error.
      * @throws Exception RuntimeException if can't find table by name.
      */
     @Override
@@ -237,14 +233,15 @@ public class DataRefreshServiceImpl implements DataRefreshService {
                                            @Nonnull Integer queryTimeout,
                                            boolean allEnv,
                                            boolean saveOccupiedData) throws Exception {
-        List<RefreshResults> refreshResultsList = new ArrayList<>();
         List<TestDataTableCatalog> catalogList = getTableWithSameTitleAndQuery(tableName, allEnv);
-
-        for (TestDataTableCatalog tableCatalog : catalogList) {
-            testDataTableRepository.updateLastUsage(tableName);
-            refreshResultsList.add(runRefresh(tableCatalog.getTableName(), saveOccupiedData));
-        }
-        return refreshResultsList;
+        testDataTableRepository.updateLastUsage(tableName);
+        return environmentTaskExecutor.execute(catalogList,
+                TestDataTableCatalog::getEnvironmentId,
+                tableCatalog -> runRefresh(tableCatalog.getTableName(), saveOccupiedData),
+                (tableCatalog, e) -> {
+                    log.error("Error while executing refresh for table: {}", tableCatalog.getTableName(), e);
+                    return new RefreshResults(tableCatalog.getTableName(), e.getMessage(), 0);
+                });
     }
 
     @Override
@@ -266,48 +263,21 @@ public class DataRefreshServiceImpl implements DataRefreshService {
                 defaultQueryTimeout);
 
         JdbcTemplate userJdbcTemplate = sqlRepository.createJdbcTemplate(server, queryTimeout);
-        List<String> columns = new ArrayList<>();
-        List<Map<String, Object>> rowsBuffer = new ArrayList<>();
-        int batchSize = 100;
-        AtomicReference<Integer> refreshedRows = new AtomicReference<>(0);
+        String tableQuery = importInfo.get().getTableQuery();
+        int refreshedRows;
         try {
-            userJdbcTemplate.query(importInfo.get().getTableQuery(), new RowCallbackHandler() {
-                @Override
-                public void processRow(ResultSet resultSet) throws SQLException {
-                    if (columns.isEmpty()) {
-                        ResultSetMetaData metaData = resultSet.getMetaData();
-                        int columnCount = metaData.getColumnCount();
-                        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
-                            columns.add(metaData.getColumnName(columnIndex));
-                        }
-                    }
-                    Map<String, Object> row = new HashMap<>();
-                    for (String column : columns) {
-                        row.put(column, resultSet.getObject(column));
-                    }
-                    rowsBuffer.add(row);
-                    if (rowsBuffer.size() == batchSize) {
-                        testDataTableRepository
-                                .insertRows(tableName, true, rowsBuffer, refreshedRows.get() > 0);
-                        refreshedRows.updateAndGet(v -> v + batchSize);
-                        rowsBuffer.clear();
-                    }
-                }
-            });
+            refreshedRows = testDataTableRepository.loadRows(tableName, true,
+                    sink -> sqlRepository.queryRows(userJdbcTemplate, tableQuery, sink));
         } catch (Exception e) {
             log.error(TdmDbExecuteQueryException.DEFAULT_MESSAGE, e);
             throw new TdmDbExecuteQueryException(e.getMessage());
         }
-        if (!rowsBuffer.isEmpty()) {
-            testDataTableRepository.insertRows(tableName, true, rowsBuffer, refreshedRows.get() > 0);
-            refreshedRows.updateAndGet(v -> v + rowsBuffer.size());
-        }
-        if (refreshedRows.get() == 0) {
+        if (refreshedRows == 0) {
             throw new TdmSearchImportInfoException(tableName);
         }
-        log.info("Total refreshed records: {}", refreshedRows.get());
+        log.info("Total refreshed records: {}", refreshedRows);
         RefreshResults results = new RefreshResults();
-        results.setRecordsTotal(refreshedRows.get());
+        results.setRecordsTotal(refreshedRows);
         log.info("Data refresh has been finished");
         return results;
     }
@@ -349,8 +319,7 @@ public class DataRefreshServiceImpl implements DataRefreshService {
 
     private boolean checkSqlAvailability(@Nonnull String tableName) {
         Server server = sqlRepository.getServer(tableName, catalogRepository, environmentsService);
-        sqlRepository.createJdbcTemplate(server);
-        return true;
+        return sqlRepository.isConnectionValid(server);
     }
 
     private void schedule(@Nonnull List<TestDataRefreshConfig> configs) {
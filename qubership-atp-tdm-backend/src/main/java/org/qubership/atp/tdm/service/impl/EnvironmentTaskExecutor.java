@@ -0,0 +1,162 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.service.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.qubership.atp.integration.configuration.mdc.MdcUtils;
+import org.qubership.atp.tdm.exceptions.internal.TdmEnvironmentUnavailableException;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs per-table tasks of multi-environment cleanups and refreshes in parallel.
+ * Tasks of one environment are limited by configured concurrency. A failed task opens the circuit
+ * of its environment: remaining tasks of this environment in the same run are skipped. With non-zero
+ * circuit open duration tasks of following runs are skipped too, until the duration passes.
+ */
+@Slf4j
+@Component
+public class EnvironmentTaskExecutor {
+
+    private final ExecutorService executorService;
+    private final int maxTasksPerEnvironment;
+    private final Cache<UUID, String> openCircuits;
+
+    /**
+     * Creates executor of environment tasks.
+     */
+    public EnvironmentTaskExecutor(@Value("${environment.tasks.threads:8}") int threads,
+                                   @Value("${environment.tasks.per-environment:2}") int maxTasksPerEnvironment,
+                                   @Value("${environment.tasks.circuit-open-duration:0}") long circuitOpenDuration) {
+        this.executorService = Executors.newFixedThreadPool(threads,
+                new ThreadFactoryBuilder().setNameFormat("tdm-environment-task-%d").build());
+        this.maxTasksPerEnvironment = maxTasksPerEnvironment;
+        this.openCircuits = CacheBuilder.newBuilder()
+                .expireAfterWrite(circuitOpenDuration, TimeUnit.MINUTES)
+                .build();
+    }
+
+    /**
+     * Runs tasks and waits for all of them.
+     *
+     * @param sources       task sources, e.g. test data table catalogs.
+     * @param environmentOf environment the task connects to.
+     * @param task          task to run.
+     * @param failureResult result of failed or skipped task.
+     * @return results in order of sources.
+     */
+    public <S, T> List<T> execute(@Nonnull List<S> sources, @Nonnull Function<S, UUID> environmentOf,
+                                  @Nonnull EnvironmentTask<S, T> task,
+                                  @Nonnull BiFunction<S, Exception, T> failureResult) {
+        Map<UUID, Queue<Integer>> environmentQueues = new LinkedHashMap<>();
+        for (int index = 0; index < sources.size(); index++) {
+            environmentQueues.computeIfAbsent(environmentOf.apply(sources.get(index)),
+                    environmentId -> new ConcurrentLinkedQueue<>()).add(index);
+        }
+        AtomicReferenceArray<T> results = new AtomicReferenceArray<>(sources.size());
+        Map<UUID, String> failedEnvironments = new ConcurrentHashMap<>();
+        Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+        List<CompletableFuture<Void>> workers = new ArrayList<>();
+        environmentQueues.forEach((environmentId, queue) -> {
+            int workersCount = Math.min(maxTasksPerEnvironment, queue.size());
+            for (int worker = 0; worker < workersCount; worker++) {
+                workers.add(CompletableFuture.runAsync(() -> {
+                    if (mdcContext != null) {
+                        MdcUtils.setContextMap(mdcContext);
+                    }
+                    try {
+                        Integer index;
+                        while ((index = queue.poll()) != null) {
+                            S source = sources.get(index);
+                            results.set(index, run(environmentId, source, task, failureResult,
+                                    failedEnvironments));
+                        }
+                    } finally {
+                        MDC.clear();
+                    }
+                }, executorService));
+            }
+        });
+        CompletableFuture.allOf(workers.toArray(new CompletableFuture[0])).join();
+        List<T> orderedResults = new ArrayList<>(sources.size());
+        for (int index = 0; index < sources.size(); index++) {
+            orderedResults.add(results.get(index));
+        }
+        return orderedResults;
+    }
+
+    private <S, T> T run(UUID environmentId, S source, EnvironmentTask<S, T> task,
+                         BiFunction<S, Exception, T> failureResult, Map<UUID, String> failedEnvironments) {
+        String failure = null;
+        if (environmentId != null) {
+            failure = failedEnvironments.getOrDefault(environmentId, openCircuits.getIfPresent(environmentId));
+        }
+        if (failure != null) {
+            log.warn("Skip task for environment {}, previous task failed: {}", environmentId, failure);
+            return failureResult.apply(source,
+                    new TdmEnvironmentUnavailableException(environmentId.toString(), failure));
+        }
+        try {
+            T result = task.run(source);
+            if (environmentId != null) {
+                openCircuits.invalidate(environmentId);
+            }
+            return result;
+        } catch (Exception e) {
+            log.error("Task for environment {} failed", environmentId, e);
+            if (environmentId != null) {
+                failedEnvironments.put(environmentId, String.valueOf(e.getMessage()));
+                openCircuits.put(environmentId, String.valueOf(e.getMessage()));
+            }
+            return failureResult.apply(source, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+
+    @FunctionalInterface
+    public interface EnvironmentTask<S, T> {
+
+        T run(S source) throws Exception;
+    }
+}
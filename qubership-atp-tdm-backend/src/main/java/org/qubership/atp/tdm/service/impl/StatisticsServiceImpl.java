@@ -17,7 +17,6 @@
 package org.qubership.atp.tdm.service.impl;
 
 import static java.time.temporal.ChronoUnit.DAYS;
-import static org.qubership.atp.tdm.utils.AvailableStatisticUtils.availableDataQuery;
 import static org.qubership.atp.tdm.utils.DateFormatters.FULL_DATE_FORMATTER;
 import static org.qubership.atp.tdm.utils.TestDataQueries.GET_COUNT_OF_ROWS;
 
@@ -86,6 +85,7 @@ import org.qubership.atp.tdm.model.statistics.report.StatisticsReportEnvironment
 import org.qubership.atp.tdm.model.statistics.report.StatisticsReportObject;
 import org.qubership.atp.tdm.model.statistics.report.UsersStatisticsReportElement;
 import org.qubership.atp.tdm.model.statistics.report.UsersStatisticsReportObject;
+import org.qubership.atp.tdm.model.table.TableColumnValues;
 import org.qubership.atp.tdm.model.table.TestDataOccupyReportGroupBy;
 import org.qubership.atp.tdm.model.table.TestDataTable;
 import org.qubership.atp.tdm.model.table.TestDataTableFilter;
@@ -97,6 +97,7 @@ import org.qubership.atp.tdm.repo.TableColumnValuesRepository;
 import org.qubership.atp.tdm.repo.TestAvailableDataMonitoringRepository;
 import org.qubership.atp.tdm.repo.TestDataMonitoringRepository;
 import org.qubership.atp.tdm.repo.TestDataUsersMonitoringRepository;
+import org.qubership.atp.tdm.repo.impl.OccupyStatisticJournal;
 import org.qubership.atp.tdm.repo.impl.SystemColumns;
 import org.qubership.atp.tdm.service.SchedulerService;
 import org.qubership.atp.tdm.service.StatisticsService;
@@ -107,6 +108,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 
 import com.google.common.base.Preconditions;
@@ -135,6 +137,7 @@ public class StatisticsServiceImpl implements StatisticsService {
     private final TestAvailableDataMonitoringRepository availableDataMonitoringRepository;
     private final TableColumnValuesRepository tableColumnValuesRepository;
     private final OccupyStatisticRepository occupyStatisticRepository;
+    private final OccupyStatisticJournal occupyStatisticJournal;
     private final SchedulerService schedulerService;
     private final EnvironmentsService environmentsService;
     private final TestDataService testDataService;
@@ -155,6 +158,7 @@ public class StatisticsServiceImpl implements StatisticsService {
                                  @Lazy TestDataService testDataService,
                                  @Nonnull CatalogRepository catalogRepository,
                                  @Nonnull OccupyStatisticRepository occupyStatisticRepository,
+                                 @Nonnull OccupyStatisticJournal occupyStatisticJournal,
                                  @Nonnull TestAvailableDataMonitoringRepository availableDataMonitoringRepository,
                                  @Nonnull TableColumnValuesRepository tableColumnValuesRepository,
                                  @Value("${test.data.initial.threshold}") Integer threshold) {
@@ -166,6 +170,7 @@ public class StatisticsServiceImpl implements StatisticsService {
         this.catalogRepository = catalogRepository;
         this.testDataService = testDataService;
         this.occupyStatisticRepository = occupyStatisticRepository;
+        this.occupyStatisticJournal = occupyStatisticJournal;
         this.availableDataMonitoringRepository = availableDataMonitoringRepository;
         this.tableColumnValuesRepository = tableColumnValuesRepository;
         this.threshold = threshold;
@@ -511,22 +516,24 @@ public class StatisticsServiceImpl implements StatisticsService {
     }
 
     @Override
-    public void saveOccupyStatistic(@Nonnull TestDataOccupyStatistic testDataOccupyStatistic) {
-        occupyStatisticRepository.save(testDataOccupyStatistic);
+    public void saveOccupyStatistics(@Nonnull List<TestDataOccupyStatistic> statistics) {
+        occupyStatisticJournal.save(statistics);
     }
 
     @Override
     public void deleteAllOccupyStatisticByRowId(@Nonnull List<UUID> rows) {
-        occupyStatisticRepository.deleteAllByRowId(rows);
+        occupyStatisticJournal.delete(rows);
     }
 
     @Override
+    @Transactional
     public void fillCreatedWhenStatistics(@Nonnull String tableName, @Nonnull TestDataTableCatalog catalog) {
         TestDataTable testDataTable = getCreatedWhenTestDataInfo(tableName);
         fillCreatedWhenStatistics(tableName, catalog, testDataTable);
     }
 
     @Override
+    @Transactional
     public void fillCreatedWhenStatistics(@Nonnull String tableName, @Nonnull TestDataTableCatalog catalog,
                                           @Nonnull List<UUID> rows) {
         TestDataTable testDataTable = getCreatedWhenTestDataInfo(tableName, rows);
@@ -546,7 +553,7 @@ public class StatisticsServiceImpl implements StatisticsService {
                             catalog.getTableTitle(), null, null, createdWhen);
                 })
                 .collect(Collectors.toList());
-        occupyStatisticRepository.saveAll(statistics);
+        statisticsRepository.saveOccupyStatistics(statistics);
         log.info("Created when statistics for table: [{}] successfully saved.", tableName);
     }
 
@@ -581,7 +588,7 @@ public class StatisticsServiceImpl implements StatisticsService {
 
             Map<String, TestDataTableCatalog> catalogMap = catalogRepository.findAllByProjectId(projectId)
                     .stream()
-                    .collect(Collectors.toMap(TestDataTableCatalog::getTableName, Function.identity()));
+                    .collect(Collectors.toMap(catalog -> catalog.getTableName().toLowerCase(), Function.identity()));
 
             List<String> userNames = testDataOccupy.stream()
                     .map(TestDataOccupyReportGroupBy::getOccupiedBy)
@@ -962,21 +969,19 @@ public class StatisticsServiceImpl implements StatisticsService {
         if (CollectionUtils.isEmpty(config.getTablesColumns())) {
             throw new TdmSearchAvailableStatisticConfigException();
         }
-        config.getTablesColumns().stream().forEach(columnValues -> {
+        List<TableColumnValues> tablesColumns = config.getTablesColumns();
+        List<Map<String, Long>> counts = statisticsRepository.getAvailableDataByValues(tablesColumns,
+                config.getActiveColumnKey());
+        for (int index = 0; index < tablesColumns.size(); index++) {
+            TableColumnValues columnValues = tablesColumns.get(index);
+            Map<String, Long> tableCounts = counts.get(index);
             TableAvailableDataStats tableStats = new TableAvailableDataStats();
             tableStats.setTableName(columnValues.getTableName());
             tableStats.setTableTitle(columnValues.getTableTitle());
-            List<Object[]> result = entityManager
-                    .createNativeQuery(availableDataQuery(columnValues, config.getActiveColumnKey())).getResultList();
-            result.forEach(resultRow -> {
-                String key = String.valueOf(resultRow[0]);
-                if (columnValues.getValues().contains(key)) {
-                    tableStats.getOptions().put(key, ((Number) resultRow[1]).intValue());
-                }
-            });
-            columnValues.getValues().stream().forEach(value -> tableStats.getOptions().putIfAbsent(value, 0));
+            columnValues.getValues().forEach(value -> tableStats.getOptions().put(value,
+                    tableCounts.getOrDefault(value, 0L).intValue()));
             statistic.addTableStatistics(tableStats);
-        });
+        }
         log.debug("Received available data statistic: {}", statistic);
         return statistic;
     }
@@ -1030,7 +1035,7 @@ public class StatisticsServiceImpl implements StatisticsService {
                                                    @Nullable String tableTitle) {
         log.info("Updating occupied statistics table title. Table: [{}], title: [{}]",
                 tableName, tableTitle);
-        occupyStatisticRepository.changeOccupiedTestDataTitle(tableName, tableTitle);
+        occupyStatisticRepository.changeOccupiedTestDataTitle(tableName.toLowerCase(), tableTitle);
     }
 
 }
@@ -62,10 +62,14 @@ import org.qubership.atp.tdm.model.DropResults;
 import org.qubership.atp.tdm.model.EnvsList;
 import org.qubership.atp.tdm.model.ImportTestDataStatistic;
 import org.qubership.atp.tdm.model.TestDataOccupyStatistic;
+import org.qubership.atp.tdm.model.TestDataRequest;
 import org.qubership.atp.tdm.model.TestDataTableCatalog;
 import org.qubership.atp.tdm.model.TestDataTableImportInfo;
 import org.qubership.atp.tdm.model.ei.TdmDataToExport;
 import org.qubership.atp.tdm.model.scheduler.CleanRemovingHistoryJob;
+import org.qubership.atp.tdm.model.scheduler.OccupyStatisticRetentionJob;
+import org.qubership.atp.tdm.model.scheduler.TableCountersReconcileJob;
+import org.qubership.atp.tdm.model.scheduler.TableIndexesMigrationJob;
 import org.qubership.atp.tdm.model.scheduler.TableCleanerJob;
 import org.qubership.atp.tdm.model.statistics.DateStatistics;
 import org.qubership.atp.tdm.model.statistics.DateStatisticsItem;
@@ -74,6 +78,7 @@ import org.qubership.atp.tdm.model.table.TestDataFlagsTable;
 import org.qubership.atp.tdm.model.table.TestDataTable;
 import org.qubership.atp.tdm.model.table.TestDataTableFilter;
 import org.qubership.atp.tdm.model.table.TestDataTableOrder;
+import org.qubership.atp.tdm.model.table.TestDataType;
 import org.qubership.atp.tdm.model.table.conditions.search.SearchConditionType;
 import org.qubership.atp.tdm.repo.CatalogRepository;
 import org.qubership.atp.tdm.repo.ImportInfoRepository;
@@ -90,6 +95,7 @@ import org.qubership.atp.tdm.service.TestDataService;
 import org.qubership.atp.tdm.utils.DataUtils;
 import org.qubership.atp.tdm.utils.TestDataTableConvertor;
 import org.qubership.atp.tdm.utils.TestDataUtils;
+import org.qubership.atp.tdm.utils.TimeBucketAggregator;
 import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -97,6 +103,8 @@ import org.springframework.jdbc.BadSqlGrammarException;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.google.common.collect.Lists;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
@@ -109,9 +117,13 @@ public class TestDataServiceImpl implements TestDataService {
             "OCCUPIED_DATE", "ROW_ID", "SELECTED", "OCCUPIED_BY"));
     private static final String DB_CONNECTION_NAME = "DB";
     private static final String SCHED_GROUP = "REMOVING_TABLE";
+    private static final int STATISTICS_PARTITION_SIZE = 1000;
     private static final Pattern COLUMN_PATTERN = Pattern.compile("\\$\\{'([^']+)'}");
     private final String removingCron;
     private final String historyCleanerCron;
+    private final String countersReconcileCron;
+    private final String indexesMigrationCron;
+    private final String statisticRetentionCron;
     private final Integer defaultQueryTimeout;
     private final CatalogRepository catalogRepository;
     private final TestDataTableRepository testDataTableRepository;
@@ -148,6 +160,9 @@ public class TestDataServiceImpl implements TestDataService {
                                @Value("${external.query.default.timeout:1800}") Integer defaultQueryTimeout,
                                @Value("${table.expiration.cron}") String removingCron,
                                @Value("${clean.removed.tables.history.cron}") String historyCleanerCron,
+                               @Value("${table.counters.reconcile.cron:0 0 3 ? * * *}") String countersReconcileCron,
+                               @Value("${table.indexes.migration.cron:0 0 2 ? * * *}") String indexesMigrationCron,
+                               @Value("${occupy.statistic.retention.cron:0 0 4 ? * * *}") String statisticRetentionCron,
                                TdmMdcHelper helper,
                                GitService gitService) {
         this.catalogRepository = catalogRepository;
@@ -166,6 +181,9 @@ public class TestDataServiceImpl implements TestDataService {
         this.schedulerService = schedulerService;
         this.removingCron = removingCron;
         this.historyCleanerCron = historyCleanerCron;
+        this.countersReconcileCron = countersReconcileCron;
+        this.indexesMigrationCron = indexesMigrationCron;
+        this.statisticRetentionCron = statisticRetentionCron;
         this.gitService = gitService;
     }
 
@@ -230,6 +248,12 @@ public class TestDataServiceImpl implements TestDataService {
         return testDataTableRepository.getTestData(tableName, columnNames, filters);
     }
 
+    @Override
+    public void writeTestData(@Nonnull TestDataRequest testDataRequest, @Nonnull JsonGenerator jsonGenerator) {
+        testDataTableRepository.updateLastUsage(testDataRequest.getTableName());
+        testDataTableRepository.writeTestData(testDataRequest, jsonGenerator);
+    }
+
     @Override
     public List<ImportTestDataStatistic> importExcelTestData(@Nonnull UUID projectId, @Nullable UUID environmentId,
                                                              @Nullable UUID systemId, @Nonnull String tableTitle,
@@ -366,12 +390,11 @@ public class TestDataServiceImpl implements TestDataService {
         testDataTableRepository.updateLastUsage(tableName);
         tdmMdcHelper.putConfigFields(catalog);
         LocalDateTime occupyTime = LocalDateTime.parse(date, FULL_DATE_FORMATTER);
-        rows.forEach(row -> {
-            LocalDateTime createdTime = LocalDateTime.parse(String.valueOf(getTableRow(tableName, "ROW_ID",
-                    row.toString(), true).get("CREATED_WHEN")), FULL_DATE_FORMATTER);
-            statisticsService.saveOccupyStatistic(new TestDataOccupyStatistic(row, catalog.getProjectId(),
-                    catalog.getSystemId(), tableName, catalog.getTableTitle(), occupiedBy, occupyTime, createdTime));
-        });
+        List<TestDataOccupyStatistic> statistics = new ArrayList<>();
+        testDataTableRepository.getCreatedWhen(tableName, rows).forEach((row, createdTime) ->
+                statistics.add(new TestDataOccupyStatistic(row, catalog.getProjectId(), catalog.getSystemId(),
+                        tableName, catalog.getTableTitle(), occupiedBy, occupyTime, createdTime)));
+        statisticsService.saveOccupyStatistics(statistics);
     }
 
     @Override
@@ -573,96 +596,21 @@ public class TestDataServiceImpl implements TestDataService {
         DateStatistics dateStatistics = new DateStatistics();
         List<DateStatisticsItem> listStatisticsItems = new ArrayList<>();
         dateStatistics.setDates(DataUtils.getStatisticsInterval(dateFrom, dateTo));
+        TimeBucketAggregator created = TimeBucketAggregator.forPeriod(dateFrom, dateTo);
         catalogList.forEach(catalog -> {
             TestDataTable table = testDataTableRepository.getTableByCreatedWhen(catalog.getTableName(),
                     dateFrom, dateTo);
-            LocalDate iterDate = dateFrom;
-            DateStatisticsItem statisticsItem = new DateStatisticsItem(catalog.getTableTitle());
-            List<Long> created = new ArrayList<>();
-            long count;
-            switch (DataUtils.statisticsInterval) {
-                case YEARS:
-                    do {
-                        count = 0L;
-                        for (Map<String, Object> row : table.getData()) {
-                            LocalDate createdWhen = LocalDateTime
-                                    .parse(
-                                            row.get(SystemColumns.CREATED_WHEN.getName()).toString(),
-                                            FULL_DATE_FORMATTER
-                                    )
-                                    .toLocalDate();
-                            if (iterDate.getYear() == createdWhen.getYear()) {
-                                count++;
-                            }
-                        }
-                        created.add(count);
-                        iterDate = iterDate.plusYears(1);
-                    } while (!iterDate.isAfter(dateTo));
-                    break;
-                case WEEKS:
-                    do {
-                        count = 0L;
-                        for (Map<String, Object> row : table.getData()) {
-                            LocalDate createdWhen =
-                                    LocalDateTime.parse(
-                                                    row.get(SystemColumns.CREATED_WHEN.getName()).toString(),
-                                                    FULL_DATE_FORMATTER
-                                            )
-                                            .toLocalDate();
-                            if (iterDate.getYear() == createdWhen.getYear()
-                                    && iterDate.getMonth() == createdWhen.getMonth()
-                                    && (createdWhen.isEqual(iterDate) || createdWhen.isAfter(iterDate))
-                                    && createdWhen.isBefore(iterDate.plusWeeks(1))) {
-                                count++;
-                            }
-                        }
-                        created.add(count);
-                        iterDate = iterDate.plusWeeks(1);
-                    } while (!iterDate.isAfter(dateTo));
-                    break;
-                case DAYS:
-                    do {
-                        count = 0L;
-                        for (Map<String, Object> row : table.getData()) {
-                            LocalDate createdWhen = LocalDateTime.parse(
-                                            row.get(SystemColumns.CREATED_WHEN.getName()).toString(),
-                                            FULL_DATE_FORMATTER
-                                    )
-                                    .toLocalDate();
-                            if (iterDate.getYear() == createdWhen.getYear()
-                                    && iterDate.getMonth() == createdWhen.getMonth()
-                                    && iterDate.getDayOfMonth() == createdWhen.getDayOfMonth()) {
-                                count++;
-                            }
-                        }
-                        created.add(count);
-                        iterDate = iterDate.plusDays(1);
-                    } while (!iterDate.isAfter(dateTo));
-                    break;
-                default:
-                    do {
-                        count = 0L;
-                        for (Map<String, Object> row : table.getData()) {
-                            LocalDate createdWhen = LocalDateTime.parse(
-                                            row.get(SystemColumns.CREATED_WHEN.getName()).toString(),
-                                            FULL_DATE_FORMATTER
-                                    )
-                                    .toLocalDate();
-                            if (iterDate.getYear() == createdWhen.getYear()
-                                    && iterDate.getMonth() == createdWhen.getMonth()) {
-                                count++;
-                            }
-                        }
-                        created.add(count);
-                        iterDate = iterDate.plusMonths(1);
-                    } while (!iterDate.isAfter(dateTo));
-                    break;
+            for (Map<String, Object> row : table.getData()) {
+                LocalDate createdWhen = LocalDateTime.parse(row.get(SystemColumns.CREATED_WHEN.getName()).toString(),
+                        FULL_DATE_FORMATTER).toLocalDate();
+                created.add(catalog.getTableName(), createdWhen, 1);
             }
+            DateStatisticsItem statisticsItem = new DateStatisticsItem(catalog.getTableTitle());
             UUID system = catalog.getSystemId();
             if (system != null) {
                 statisticsItem.setSystem(system.toString());
             }
-            statisticsItem.setCreated(created);
+            statisticsItem.setCreated(created.getCounts(catalog.getTableName()));
             listStatisticsItems.add(statisticsItem);
         });
         listStatisticsItems.sort(Comparator.comparing(DateStatisticsItem::getContext));
@@ -684,10 +632,10 @@ public class TestDataServiceImpl implements TestDataService {
         TestDataTableFilter filter = new TestDataTableFilter(columnName, SearchConditionType.EQUALS.toString(),
                 Collections.singletonList(searchValue), true);
         filters.add(filter);
-        TestDataTable table;
+        List<Map<String, Object>> rows;
         try {
-            table = testDataTableRepository.getTestData(occupied, catalog.getTableName(),
-                    null, null, filters, null);
+            rows = testDataTableRepository.getTestDataRows(catalog.getTableName(),
+                    occupied ? TestDataType.OCCUPIED : TestDataType.AVAILABLE, filters, 1);
             testDataTableRepository.updateLastUsage(catalog.getTableName());
         } catch (Exception e) {
             if (Objects.isNull(systemId)) {
@@ -700,7 +648,7 @@ public class TestDataServiceImpl implements TestDataService {
                 throw new TdmRetrieveTestDataException(tableTitle, projectId.toString(), systemId.toString());
             }
         }
-        Optional<Map<String, Object>> row = table.getData().stream().findFirst();
+        Optional<Map<String, Object>> row = rows.stream().findFirst();
         if (row.isPresent()) {
             log.info("Successfully retrieved row from table {} under project {} and system {}.", tableTitle,
                     projectId, systemId);
@@ -722,15 +670,15 @@ public class TestDataServiceImpl implements TestDataService {
         TestDataTableFilter filter = new TestDataTableFilter(columnName, SearchConditionType.EQUALS.toString(),
                 Collections.singletonList(searchValue), true);
         filters.add(filter);
-        TestDataTable table;
+        List<Map<String, Object>> rows;
         try {
-            table = testDataTableRepository.getTestData(occupied, catalog.getTableName(),
-                    null, null, filters, null);
+            rows = testDataTableRepository.getTestDataRows(catalog.getTableName(),
+                    occupied ? TestDataType.OCCUPIED : TestDataType.AVAILABLE, filters, 1);
         } catch (Exception e) {
             log.error(String.format("Error while retrieving test data from table %s", tableName), e);
             throw new TdmRetrieveTestDataException(tableName);
         }
-        Optional<Map<String, Object>> row = table.getData().stream().findFirst();
+        Optional<Map<String, Object>> row = rows.stream().findFirst();
         if (row.isPresent()) {
             log.info("Successfully retrieved row from table {}.", tableName);
             return row.get();
@@ -759,6 +707,7 @@ public class TestDataServiceImpl implements TestDataService {
                         null, null, null, null);
                 if (table.getData().size() > 0) {
                     List<Map<String, Object>> rows = table.getData();
+                    List<TestDataOccupyStatistic> statistics = new ArrayList<>();
                     for (Map<String, Object> row : rows) {
                         log.debug("Processing row #{} from table {}", row.get("ROW_ID"), catalog.getTableName());
                         if (Objects.nonNull(row.get("OCCUPIED_BY"))) {
@@ -766,13 +715,15 @@ public class TestDataServiceImpl implements TestDataService {
                             String dateCreated = String.valueOf(row.get("CREATED_WHEN"));
                             LocalDateTime occupyTime = LocalDateTime.parse(dateOccupied, FULL_DATE_FORMATTER);
                             LocalDateTime createTime = LocalDateTime.parse(dateCreated, FULL_DATE_FORMATTER);
-                            statisticsService.saveOccupyStatistic(
+                            statistics.add(
                                     new TestDataOccupyStatistic(UUID.fromString(row.get("ROW_ID").toString()),
                                             catalog.getProjectId(), catalog.getSystemId(), catalog.getTableName(),
                                             catalog.getTableTitle(), String.valueOf(row.get("OCCUPIED_BY")),
                                             occupyTime, createTime));
                         }
                     }
+                    Lists.partition(statistics, STATISTICS_PARTITION_SIZE)
+                            .forEach(statisticsService::saveOccupyStatistics);
                 }
             } catch (BadSqlGrammarException e) {
                 log.error("Table with name {} does not exist.", catalog.getTableName());
@@ -843,6 +794,36 @@ public class TestDataServiceImpl implements TestDataService {
                 .get()
                 .build();
         schedulerService.reschedule(historyCleanerJob, historyCleanerTrigger, true);
+
+        JobDetail countersReconcileJob = JobBuilder.newJob(TableCountersReconcileJob.class)
+                .withIdentity(SCHED_GROUP + "_reconcile_counters")
+                .build();
+        Trigger countersReconcileTrigger = Optional.of(TriggerBuilder.newTrigger()
+                        .withIdentity(SCHED_GROUP + "_reconcile_counters"))
+                .map(builder -> builder.withSchedule(CronScheduleBuilder.cronSchedule(countersReconcileCron)))
+                .get()
+                .build();
+        schedulerService.reschedule(countersReconcileJob, countersReconcileTrigger, true);
+
+        JobDetail indexesMigrationJob = JobBuilder.newJob(TableIndexesMigrationJob.class)
+                .withIdentity(SCHED_GROUP + "_migrate_indexes")
+                .build();
+        Trigger indexesMigrationTrigger = Optional.of(TriggerBuilder.newTrigger()
+                        .withIdentity(SCHED_GROUP + "_migrate_indexes"))
+                .map(builder -> builder.withSchedule(CronScheduleBuilder.cronSchedule(indexesMigrationCron)))
+                .get()
+                .build();
+        schedulerService.reschedule(indexesMigrationJob, indexesMigrationTrigger, true);
+
+        JobDetail statisticRetentionJob = JobBuilder.newJob(OccupyStatisticRetentionJob.class)
+                .withIdentity(SCHED_GROUP + "_prune_statistics")
+                .build();
+        Trigger statisticRetentionTrigger = Optional.of(TriggerBuilder.newTrigger()
+                        .withIdentity(SCHED_GROUP + "_prune_statistics"))
+                .map(builder -> builder.withSchedule(CronScheduleBuilder.cronSchedule(statisticRetentionCron)))
+                .get()
+                .build();
+        schedulerService.reschedule(statisticRetentionJob, statisticRetentionTrigger, true);
     }
 
     @Override
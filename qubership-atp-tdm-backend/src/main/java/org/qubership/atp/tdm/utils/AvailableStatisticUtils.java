@@ -27,7 +27,6 @@ import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.qubership.atp.tdm.model.mail.charts.ChartSeries;
-import org.qubership.atp.tdm.model.table.TableColumnValues;
 
 import com.google.gson.Gson;
 
@@ -70,16 +69,4 @@ public class AvailableStatisticUtils {
         }
         return jsonString;
     }
-
-    /**
-     * Available Data Query.
-     */
-    public static String availableDataQuery(TableColumnValues columnValues, String activeColumn) {
-        return String.format(TestDataQueries.GET_AVAILABLE_DATA_FOR_EACH_VALUE,
-                activeColumn,
-                columnValues.getTableName(),
-                activeColumn,
-                String.join("','", columnValues.getValues()),
-                activeColumn);
-    }
 }
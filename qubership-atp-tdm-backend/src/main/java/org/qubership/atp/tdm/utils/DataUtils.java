@@ -18,6 +18,7 @@ package org.qubership.atp.tdm.utils;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.sql.Savepoint;
 import java.time.LocalDate;
 import java.time.Period;
 import java.time.ZoneId;
@@ -28,6 +29,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -35,9 +37,13 @@ import org.qubership.atp.tdm.exceptions.db.TdmDbCheckColumnNameException;
 import org.qubership.atp.tdm.exceptions.db.TdmDbCheckQueryException;
 import org.qubership.atp.tdm.exceptions.db.TdmDbCheckTableNameException;
 import org.qubership.atp.tdm.model.statistics.StatisticsInterval;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.util.FileSystemUtils;
 
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -47,7 +53,6 @@ public class DataUtils {
     private static final int WEEK_LENGTH = 7;
     private static final String WEEK_PLACEHOLDER = "w";
     private static final String DAY_PLACEHOLDER = "d";
-    public static StatisticsInterval statisticsInterval;
 
     /**
      * Preparing cleanup by date string.
@@ -70,6 +75,27 @@ public class DataUtils {
         return LocalDate.now().minusWeeks(weekCount).minusDays(daysCount);
     }
 
+    /**
+     * Get statistics interval type suitable for the period.
+     *
+     * @param dateFrom - beginning time.
+     * @param dateTo   - ending time.
+     * @return - interval of statistics buckets.
+     */
+    public static StatisticsInterval getStatisticsIntervalType(@Nonnull LocalDate dateFrom,
+                                                               @Nonnull LocalDate dateTo) {
+        Period period = Period.between(dateFrom, dateTo);
+        if (period.getYears() != 0) {
+            return StatisticsInterval.YEARS;
+        }
+        if (period.getMonths() == 0 && period.getDays() < UI_SUITABLE_PERIODS) {
+            return StatisticsInterval.DAYS;
+        }
+        double days = ChronoUnit.DAYS.between(dateFrom, dateTo);
+        long weeks = (long) Math.ceil(days / WEEK_LENGTH);
+        return weeks < UI_SUITABLE_PERIODS ? StatisticsInterval.WEEKS : StatisticsInterval.MONTHS;
+    }
+
     /**
      * Get statistics interval.
      *
@@ -79,17 +105,16 @@ public class DataUtils {
      */
     public static List<String> getStatisticsInterval(@Nonnull LocalDate dateFrom, @Nonnull LocalDate dateTo) {
         List<String> dates = new ArrayList<>();
-        double days = ChronoUnit.DAYS.between(dateFrom, dateTo);
-        long weeks = (long) Math.ceil(days / WEEK_LENGTH);
         Period period = Period.between(dateFrom, dateTo);
-        if (period.getYears() == 0) {
-            if (period.getMonths() == 0 && period.getDays() < UI_SUITABLE_PERIODS) {
+        switch (getStatisticsIntervalType(dateFrom, dateTo)) {
+            case DAYS:
                 for (int i = 0; i <= period.getDays(); ++i) {
                     dates.add(dateFrom.plusDays(i).format(DateTimeFormatter.ofPattern(
                             DateFormatters.UI_DATE_FORMATTER_DAYS)));
                 }
-                statisticsInterval = StatisticsInterval.DAYS;
-            } else if (weeks < UI_SUITABLE_PERIODS) {
+                break;
+            case WEEKS:
+                long weeks = (long) Math.ceil((double) ChronoUnit.DAYS.between(dateFrom, dateTo) / WEEK_LENGTH);
                 for (int i = 1; i <= weeks; ++i) {
                     dates.add(dateFrom.plusWeeks(i - 1).format(DateTimeFormatter.ofPattern(
                             DateFormatters.UI_DATE_FORMATTER_DAYS))
@@ -97,20 +122,19 @@ public class DataUtils {
                             + dateFrom.plusWeeks(i).minusDays(1)
                             .format(DateTimeFormatter.ofPattern(DateFormatters.UI_DATE_FORMATTER_DAYS)));
                 }
-                statisticsInterval = StatisticsInterval.WEEKS;
-            } else {
+                break;
+            case MONTHS:
                 for (int i = 0; i <= period.getMonths(); ++i) {
                     dates.add(dateFrom.plusMonths(i).format(DateTimeFormatter.ofPattern(
                             DateFormatters.UI_DATE_FORMATTER_MONTHS)));
                 }
-                statisticsInterval = StatisticsInterval.MONTHS;
-            }
-        } else {
-            for (int i = 0; i <= period.getYears(); ++i) {
-                dates.add(dateFrom.plusYears(i).format(DateTimeFormatter.ofPattern(
-                        DateFormatters.UI_DATE_FORMATTER_YEARS)) + " year");
-            }
-            statisticsInterval = StatisticsInterval.YEARS;
+                break;
+            default:
+                for (int i = 0; i <= period.getYears(); ++i) {
+                    dates.add(dateFrom.plusYears(i).format(DateTimeFormatter.ofPattern(
+                            DateFormatters.UI_DATE_FORMATTER_YEARS)) + " year");
+                }
+                break;
         }
         return dates;
     }
@@ -147,6 +171,47 @@ public class DataUtils {
         }
     }
 
+    /**
+     * Updates the row and inserts it if there is nothing to update. If the row is inserted concurrently,
+     * the insert is rolled back to a savepoint and the row is updated, so the surrounding transaction
+     * is not aborted on PostgreSQL.
+     *
+     * @param jdbcTemplate jdbc template.
+     * @param updateQuery  update query.
+     * @param insertQuery  insert query with the same parameters as the update query.
+     * @param parameters   query parameters.
+     * @param types        sql types of the parameters, null to derive them from the values.
+     */
+    public static void updateOrInsert(@Nonnull JdbcTemplate jdbcTemplate, @Nonnull String updateQuery,
+                                      @Nonnull String insertQuery, @Nonnull Object[] parameters,
+                                      @Nullable int[] types) {
+        if (update(jdbcTemplate, updateQuery, parameters, types) > 0) {
+            return;
+        }
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            Savepoint savepoint = connection.getAutoCommit() ? null : connection.setSavepoint();
+            try {
+                update(jdbcTemplate, insertQuery, parameters, types);
+            } catch (DuplicateKeyException e) {
+                log.debug("Row is inserted concurrently, update it.");
+                if (Objects.nonNull(savepoint)) {
+                    connection.rollback(savepoint);
+                }
+                update(jdbcTemplate, updateQuery, parameters, types);
+                return null;
+            }
+            if (Objects.nonNull(savepoint)) {
+                connection.releaseSavepoint(savepoint);
+            }
+            return null;
+        });
+    }
+
+    private static int update(JdbcTemplate jdbcTemplate, String query, Object[] parameters, @Nullable int[] types) {
+        return Objects.isNull(types) ? jdbcTemplate.update(query, parameters)
+                : jdbcTemplate.update(query, parameters, types);
+    }
+
     /**
      * Check parameters.
      */
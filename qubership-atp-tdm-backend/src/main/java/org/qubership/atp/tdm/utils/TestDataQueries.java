@@ -33,9 +33,22 @@ public class TestDataQueries {
             "update %s set \"SELECTED\" = true, \"OCCUPIED_BY\" = :user, \"OCCUPIED_DATE\" = '%s' "
                     + "where \"SELECTED\" = false and \"ROW_ID\" IN (:ids)";
 
+    public static final String OCCUPY_AVAILABLE_ROWS_SKIP_LOCKED =
+            "update %s set \"SELECTED\" = true, \"OCCUPIED_BY\" = :user, \"OCCUPIED_DATE\" = :date "
+                    + "where \"SELECTED\" = false and \"ROW_ID\" IN (%s FOR UPDATE SKIP LOCKED) returning *";
+
+    public static final String OCCUPY_LOCKED_ROWS =
+            "update %s set \"SELECTED\" = true, \"OCCUPIED_BY\" = :user, \"OCCUPIED_DATE\" = :date "
+                    + "where \"SELECTED\" = false and \"ROW_ID\" IN (:ids)";
+
+    public static final String GET_ROWS_BY_ID = "select * from %s where \"ROW_ID\" IN (:ids)";
+
+    public static final String GET_CREATED_WHEN_BY_ROW_IDS =
+            "select \"ROW_ID\", \"CREATED_WHEN\" from %s where \"ROW_ID\" IN (:ids)";
+
     public static final String RELEASE_TEST_DATA =
             "update %s set \"SELECTED\" = false, \"OCCUPIED_BY\" = '' "
-                    + "where \"ROW_ID\" IN (:ids)";
+                    + "where \"SELECTED\" = true and \"ROW_ID\" IN (:ids)";
 
     public static final String DROP_TABLE = "DROP TABLE IF EXISTS %s CASCADE";
 
@@ -60,48 +73,58 @@ public class TestDataQueries {
 
     public static final String DELETE_UNOCCUPIED_ROWS = "DELETE FROM %s where \"SELECTED\" = false";
 
-    public static final String GET_TEST_DATA_AVAILABILITY_ITEM = ""
-            + "SELECT * FROM "
-            + "(SELECT COUNT(*) as available FROM %s WHERE \"SELECTED\" = false) available, "
-            + "(SELECT COUNT(*) as occupied FROM %s WHERE \"SELECTED\" = true) occupied,"
-            + "(SELECT COUNT(*) FROM %s\n"
-            + "WHERE \"SELECTED\" = true\n"
-            + "AND \"OCCUPIED_DATE\" >= '%s'::TIMESTAMP WITH TIME ZONE\n"
-            + "AND \"OCCUPIED_DATE\" <= '%s'::TIMESTAMP WITH TIME ZONE) occupiedToday,"
-            + "(SELECT COUNT(*) as total FROM %s ) total";
-
-    public static final String GET_TEST_DATA_CONSUMPTION_ITEM = ""
-            + "SELECT date, SUM(count) as count FROM ( "
-            + "SELECT date, count FROM "
-            + "( "
-            + "SELECT TO_CHAR(occupied_date, 'YYYY-MM-dd') as date, COUNT(*) as count "
-            + "FROM test_data_occupy_statistic "
-            + "WHERE LOWER(table_name) = ? AND (occupied_date BETWEEN ?::date AND ?::date) "
-            + "GROUP BY date ORDER BY date) as existing "
-            + ") as statistics "
-            + "GROUP BY date ORDER BY date";
-
-    public static final String GET_TEST_DATA_OUTDATED_ITEM = ""
-            + "SELECT date, SUM(created) AS created, SUM(consumed) AS consumed, SUM(outdated) AS outdated "
-            + "FROM ((SELECT TO_CHAR(\"CREATED_WHEN\", 'YYYY-MM-dd') AS date, COUNT(*) as created, 0 consumed, 0 "
-            + "outdated "
+    public static final String GET_TEST_DATA_OCCUPIED_TODAY = ""
+            + "SELECT COUNT(*) FROM %1$s WHERE \"SELECTED\" = true "
+            + "AND \"OCCUPIED_DATE\" >= '%2$s'::TIMESTAMP WITH TIME ZONE "
+            + "AND \"OCCUPIED_DATE\" <= '%3$s'::TIMESTAMP WITH TIME ZONE";
+
+    public static final String COUNT_TEST_DATA_TABLE = ""
+            + "SELECT COUNT(CASE WHEN \"SELECTED\" = false THEN 1 END) AS available, "
+            + "COUNT(CASE WHEN \"SELECTED\" = true THEN 1 END) AS occupied, "
+            + "MAX(CASE WHEN \"SELECTED\" = true THEN \"OCCUPIED_DATE\" END) AS last_occupied FROM %s";
+
+    public static final String GET_TABLE_COUNTERS = ""
+            + "SELECT table_name, available, occupied, last_occupied FROM test_data_table_counters "
+            + "WHERE table_name IN (:tableNames) AND recounted_when IS NOT NULL";
+
+    public static final String ADD_TABLE_COUNTERS = ""
+            + "UPDATE test_data_table_counters SET available = available + ?, occupied = occupied + ?, "
+            + "last_occupied = COALESCE(?, last_occupied) WHERE table_name = ?";
+
+    public static final String INSERT_UNCOUNTED_TABLE_COUNTERS = ""
+            + "INSERT INTO test_data_table_counters (available, occupied, last_occupied, table_name) "
+            + "VALUES (?, ?, ?, ?)";
+
+    public static final String UPDATE_TABLE_COUNTERS = ""
+            + "UPDATE test_data_table_counters SET available = ?, occupied = ?, last_occupied = ?, "
+            + "recounted_when = ? WHERE table_name = ?";
+
+    public static final String INSERT_TABLE_COUNTERS = ""
+            + "INSERT INTO test_data_table_counters (available, occupied, last_occupied, recounted_when, table_name) "
+            + "VALUES (?, ?, ?, ?, ?)";
+
+    public static final String DELETE_TABLE_COUNTERS = "DELETE FROM test_data_table_counters WHERE table_name = ?";
+
+    public static final String GET_TEST_DATA_CREATED_ITEM = ""
+            + "SELECT TO_CHAR(\"CREATED_WHEN\", 'YYYY-MM-dd') AS date, COUNT(*) AS count "
             + "FROM %s WHERE \"SELECTED\" = false AND (\"CREATED_WHEN\" BETWEEN ?::date AND ?::date) "
-            + "GROUP BY date ORDER BY date) "
-            + "UNION ALL "
-            + "( "
-            + "SELECT TO_CHAR(occupied_date, 'YYYY-MM-dd') as date, 0 created, COUNT(*) as consumed, 0 outdated "
-            + "FROM test_data_occupy_statistic "
-            + "WHERE LOWER(table_name) = ? "
-            + "AND occupied_date is not null "
-            + "GROUP BY date ORDER BY date) "
-            + "UNION ALL "
-            + "( "
-            + "SELECT TO_CHAR(occupied_date, 'YYYY-MM-dd') as date,0 created, 0 consumed, COUNT(*) "
-            + "AS outdated "
-            + "FROM test_data_occupy_statistic WHERE LOWER(table_name) = ? "
-            + "AND OCCUPIED_DATE >= ?::date "
-            + "GROUP BY date ORDER BY date "
-            + ")) AS test GROUP BY date ";
+            + "GROUP BY date";
+
+    public static final String GET_OCCUPY_STATISTIC_DATES = ""
+            + "SELECT table_name, occupied_date, created_when FROM test_data_occupy_statistic "
+            + "WHERE row_id IN (:rowIds)";
+
+    public static final String UPDATE_OCCUPY_STATISTIC_DAILY = ""
+            + "UPDATE test_data_occupy_statistic_daily SET created = created + ?, consumed = consumed + ? "
+            + "WHERE table_name = ? AND stat_date = ?";
+
+    public static final String INSERT_OCCUPY_STATISTIC_DAILY = ""
+            + "INSERT INTO test_data_occupy_statistic_daily (created, consumed, table_name, stat_date) "
+            + "VALUES (?, ?, ?, ?)";
+
+    public static final String GET_OCCUPY_STATISTIC_DAILY = ""
+            + "SELECT table_name, stat_date, created, consumed FROM test_data_occupy_statistic_daily "
+            + "WHERE table_name IN (:tableNames) AND stat_date >= :dateFrom";
 
     public static final String ALTER_OCCUPIED_DATE_COLUMN =
             "ALTER TABLE %s ADD COLUMN IF NOT EXISTS \"OCCUPIED_DATE\" TIMESTAMP";
@@ -155,12 +178,13 @@ public class TestDataQueries {
     public static final String DELETE_OCCUPIED_STATISTIC = "DELETE FROM test_data_occupy_statistic "
             + "WHERE row_id IN (:rowIds)";
 
-    public static final String GET_STATISTIC_CREATED_WHEN =
-            "SELECT TO_CHAR(CREATED_WHEN, 'YYYY-MM-dd') as date, COUNT(*) as count "
-                    + "FROM test_data_occupy_statistic "
-                    + "WHERE LOWER(table_name) = ? "
-                    + "AND CREATED_WHEN BETWEEN ?::date AND ?::date "
-                    + "GROUP BY CREATED_WHEN ORDER BY CREATED_WHEN";
+    public static final String INSERT_OCCUPIED_STATISTIC = "INSERT INTO test_data_occupy_statistic "
+            + "(row_id, project_id, system_id, table_name, table_title, occupied_by, occupied_date, created_when) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    public static final String DELETE_OCCUPIED_STATISTIC_BEFORE = "DELETE FROM test_data_occupy_statistic "
+            + "WHERE row_id IN (SELECT row_id FROM test_data_occupy_statistic "
+            + "WHERE COALESCE(occupied_date, created_when) < ? LIMIT ?)";
 
     public static final String CHANGE_TEST_DATA_TITLE = "UPDATE test_data_table_catalog "
             + "SET table_title = :table_title WHERE table_name = :table_name";
@@ -188,12 +212,12 @@ public class TestDataQueries {
             + "sourceTable.occupied_by,"
             + " %s "
             + "FROM ( "
-            + "    SELECT stats.table_title, stats.table_name, "
+            + "    SELECT stats.table_title, catalog.table_name, "
             + "        stats.occupied_by, stats.occupied_date, count(*) as amount "
             + "    FROM test_data_occupy_statistic AS stats "
-            + "JOIN test_data_table_catalog AS catalog on stats.table_name = catalog.table_name "
+            + "JOIN test_data_table_catalog AS catalog on stats.table_name = LOWER(catalog.table_name) "
             + "    WHERE stats.project_id ='%s' AND occupied_date BETWEEN '%s' AND '%s' %s "
-            + "    GROUP BY stats.table_title, stats.table_name, occupied_by, occupied_date  ) sourceTable "
+            + "    GROUP BY stats.table_title, catalog.table_name, occupied_by, occupied_date  ) sourceTable "
             + "GROUP BY sourceTable.table_title,sourceTable.table_name, sourceTable.occupied_by "
             + "%s ";
 
@@ -209,8 +233,154 @@ public class TestDataQueries {
             + "WHERE system_id = ?)";
 
     public static final String GET_AVAILABLE_DATA_FOR_EACH_VALUE =
-            "SELECT \"%s\", count(*) FROM %s "
-            + "WHERE \"SELECTED\" = false AND \"%s\" IN ('%s') "
-            + "GROUP BY \"%s\"";
+            "SELECT \"%1$s\", count(*) FROM %2$s "
+            + "WHERE \"SELECTED\" = false AND \"%1$s\" IN (:values) "
+            + "GROUP BY \"%1$s\"";
+
+    public static final String HAS_PRIMARY_KEY = ""
+            + "SELECT COUNT(*) FROM information_schema.TABLE_CONSTRAINTS "
+            + "WHERE UPPER(TABLE_NAME) = UPPER(?) AND CONSTRAINT_TYPE = 'PRIMARY KEY'";
+
+    public static final String HAS_INDEX_POSTGRES = ""
+            + "SELECT COUNT(*) FROM pg_index i "
+            + "JOIN pg_class t ON t.oid = i.indrelid JOIN pg_class ix ON ix.oid = i.indexrelid "
+            + "WHERE t.relname = LOWER(?) AND ix.relname = LOWER(?) AND i.indisvalid";
+
+    public static final String HAS_INVALID_INDEX_POSTGRES = ""
+            + "SELECT COUNT(*) FROM pg_index i "
+            + "JOIN pg_class t ON t.oid = i.indrelid JOIN pg_class ix ON ix.oid = i.indexrelid "
+            + "WHERE t.relname = LOWER(?) AND ix.relname = LOWER(?) AND NOT i.indisvalid";
+
+    public static final String DROP_INDEX_CONCURRENTLY = "DROP INDEX CONCURRENTLY IF EXISTS %s";
+
+    public static final String HAS_INDEX_H2 = ""
+            + "SELECT COUNT(*) FROM information_schema.INDEXES "
+            + "WHERE UPPER(TABLE_NAME) = UPPER(?) AND UPPER(INDEX_NAME) = UPPER(?)";
+
+    public static final String COUNT_NOT_UNIQUE_ROW_IDS = ""
+            + "SELECT COUNT(*) FROM (SELECT \"ROW_ID\" FROM %s GROUP BY \"ROW_ID\" "
+            + "HAVING COUNT(*) > 1 OR \"ROW_ID\" IS NULL) not_unique";
+
+    public static final String ADD_ROW_ID_PRIMARY_KEY =
+            "ALTER TABLE %1$s ADD CONSTRAINT %1$s_pk PRIMARY KEY (\"ROW_ID\")";
+
+    public static final String CREATE_ROW_ID_UNIQUE_INDEX_CONCURRENTLY =
+            "CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS %1$s_pk ON %1$s (\"ROW_ID\")";
+
+    public static final String ADD_ROW_ID_PRIMARY_KEY_USING_INDEX =
+            "ALTER TABLE %1$s ADD CONSTRAINT %1$s_pk PRIMARY KEY USING INDEX %1$s_pk";
+
+    public static final String DROP_ROW_ID_UNIQUE_INDEX_CONCURRENTLY = "DROP INDEX CONCURRENTLY IF EXISTS %1$s_pk";
+
+    public static final String CREATE_ROW_ID_INDEX =
+            "CREATE INDEX IF NOT EXISTS %1$s_row_id_idx ON %1$s (\"ROW_ID\")";
+
+    public static final String CREATE_ROW_ID_INDEX_CONCURRENTLY =
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS %1$s_row_id_idx ON %1$s (\"ROW_ID\")";
+
+    public static final String CREATE_AVAILABLE_ROWS_INDEX =
+            "CREATE INDEX IF NOT EXISTS %1$s_available_idx ON %1$s (\"ROW_ID\") WHERE \"SELECTED\" = false";
+
+    public static final String CREATE_AVAILABLE_ROWS_INDEX_CONCURRENTLY =
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS %1$s_available_idx ON %1$s (\"ROW_ID\") "
+            + "WHERE \"SELECTED\" = false";
+
+    public static final String CREATE_SELECTED_INDEX =
+            "CREATE INDEX IF NOT EXISTS %1$s_available_idx ON %1$s (\"SELECTED\")";
+
+    public static final String CREATE_CREATED_WHEN_INDEX =
+            "CREATE INDEX IF NOT EXISTS %1$s_created_when_idx ON %1$s (\"CREATED_WHEN\")";
+
+    public static final String CREATE_CREATED_WHEN_INDEX_CONCURRENTLY =
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS %1$s_created_when_idx ON %1$s (\"CREATED_WHEN\")";
+
+    public static final String CREATE_COLUMN_INDEX = "CREATE INDEX IF NOT EXISTS %s ON %s (\"%s\")";
+
+    public static final String CREATE_COLUMN_INDEX_CONCURRENTLY =
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS %s ON %s (\"%s\")";
+
+    public static final String INSERT_BULK_ACTION_JOB = ""
+            + "INSERT INTO bulk_action_jobs (id, action, project_id, config, process_id, status, created_when) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    public static final String INSERT_BULK_ACTION_TASK = ""
+            + "INSERT INTO bulk_action_tasks (id, job_id, task_index, table_name, table_title, environment_name, "
+            + "status) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    public static final String GET_BULK_ACTION_JOB = ""
+            + "SELECT id, action, project_id, config, process_id, status, created_when, finished_when "
+            + "FROM bulk_action_jobs WHERE id = ?";
+
+    public static final String GET_BULK_ACTION_JOBS = ""
+            + "SELECT id, action, project_id, config, process_id, status, created_when, finished_when "
+            + "FROM bulk_action_jobs WHERE project_id = ? AND (status = 'RUNNING' OR created_when >= ?) "
+            + "ORDER BY created_when DESC";
+
+    public static final String GET_BULK_ACTION_JOB_STATUS = "SELECT status FROM bulk_action_jobs WHERE id = ?";
+
+    public static final String GET_RUNNING_BULK_ACTION_JOBS = ""
+            + "SELECT id, action, project_id, config, process_id, status, created_when, finished_when "
+            + "FROM bulk_action_jobs WHERE action = ? AND project_id = ? AND status = 'RUNNING'";
+
+    public static final String GET_BULK_ACTION_TASKS = ""
+            + "SELECT id, job_id, task_index, table_name, table_title, environment_name, status, owner, heartbeat, "
+            + "started_when, finished_when, result, error FROM bulk_action_tasks WHERE job_id = ? "
+            + "ORDER BY task_index";
+
+    public static final String GET_COMPLETED_BULK_ACTION_TASKS = ""
+            + "SELECT id, finished_when, result FROM bulk_action_tasks "
+            + "WHERE job_id = ? AND status = 'COMPLETED' AND finished_when >= ? "
+            + "ORDER BY finished_when, task_index";
+
+    public static final String GET_CLAIMABLE_BULK_ACTION_TASKS = ""
+            + "SELECT t.id, t.job_id, t.task_index, t.table_name, t.table_title, t.environment_name, t.status, "
+            + "t.owner, t.heartbeat, t.started_when, t.finished_when, t.result, t.error "
+            + "FROM bulk_action_tasks t JOIN bulk_action_jobs j ON j.id = t.job_id "
+            + "WHERE j.status = 'RUNNING' AND (t.status = 'PENDING' OR (t.status = 'RUNNING' "
+            + "AND t.heartbeat < CURRENT_TIMESTAMP - INTERVAL '1' SECOND * CAST(? AS INTEGER))) "
+            + "ORDER BY j.created_when, t.task_index LIMIT ?";
+
+    public static final String LOCK_BULK_ACTION_JOB = "SELECT id FROM bulk_action_jobs WHERE id = ? FOR UPDATE";
+
+    public static final String CLAIM_BULK_ACTION_TASK = ""
+            + "UPDATE bulk_action_tasks SET status = 'RUNNING', owner = ?, heartbeat = CURRENT_TIMESTAMP, "
+            + "started_when = CURRENT_TIMESTAMP WHERE id = ? AND (status = 'PENDING' OR (status = 'RUNNING' "
+            + "AND heartbeat < CURRENT_TIMESTAMP - INTERVAL '1' SECOND * CAST(? AS INTEGER))) "
+            + "AND EXISTS (SELECT 1 FROM bulk_action_jobs j WHERE j.id = bulk_action_tasks.job_id "
+            + "AND j.status = 'RUNNING') "
+            + "AND (? = true OR NOT EXISTS (SELECT 1 FROM bulk_action_tasks r "
+            + "WHERE r.job_id = bulk_action_tasks.job_id AND r.id <> bulk_action_tasks.id "
+            + "AND r.status = 'RUNNING' "
+            + "AND r.heartbeat >= CURRENT_TIMESTAMP - INTERVAL '1' SECOND * CAST(? AS INTEGER)))";
+
+    public static final String UNCLAIM_BULK_ACTION_TASK = ""
+            + "UPDATE bulk_action_tasks SET status = 'PENDING', owner = NULL, heartbeat = NULL, started_when = NULL "
+            + "WHERE id = ? AND owner = ? AND status = 'RUNNING'";
+
+    public static final String COMPLETE_BULK_ACTION_TASK = ""
+            + "UPDATE bulk_action_tasks SET status = 'COMPLETED', result = ?, error = ?, "
+            + "finished_when = CURRENT_TIMESTAMP "
+            + "WHERE id = ? AND owner = ? AND status = 'RUNNING'";
+
+    public static final String UPDATE_BULK_ACTION_TASKS_HEARTBEAT = ""
+            + "UPDATE bulk_action_tasks SET heartbeat = CURRENT_TIMESTAMP "
+            + "WHERE owner = :owner AND status = 'RUNNING' AND id IN (:taskIds)";
+
+    public static final String FINISH_BULK_ACTION_JOB = ""
+            + "UPDATE bulk_action_jobs SET status = 'FINISHED', finished_when = CURRENT_TIMESTAMP "
+            + "WHERE id = ? AND status = 'RUNNING' "
+            + "AND NOT EXISTS (SELECT 1 FROM bulk_action_tasks t WHERE t.job_id = bulk_action_jobs.id "
+            + "AND t.status IN ('PENDING', 'RUNNING'))";
+
+    public static final String CANCEL_BULK_ACTION_JOB = ""
+            + "UPDATE bulk_action_jobs SET status = 'CANCELLED', finished_when = CURRENT_TIMESTAMP "
+            + "WHERE id = ? AND status = 'RUNNING'";
+
+    public static final String CANCEL_BULK_ACTION_TASKS = ""
+            + "UPDATE bulk_action_tasks SET status = 'CANCELLED', finished_when = CURRENT_TIMESTAMP "
+            + "WHERE job_id = ? AND status = 'PENDING'";
+
+    public static final String DELETE_FINISHED_BULK_ACTION_JOBS = ""
+            + "DELETE FROM bulk_action_jobs WHERE status <> 'RUNNING' AND finished_when < ?";
 
 }
@@ -41,6 +41,8 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class TestDataUtils {
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     /**
      * Returns column names from sql query.
      */
@@ -103,13 +105,30 @@ public class TestDataUtils {
      */
     public static String convertToJsonString(Object rowContent) {
         try {
-            return new ObjectMapper().writeValueAsString(rowContent);
+            return OBJECT_MAPPER.writeValueAsString(rowContent);
         } catch (JsonProcessingException e) {
             log.error(format(TdmJsonParsingException.DEFAULT_MESSAGE, rowContent), e);
             throw new TdmJsonParsingException(rowContent);
         }
     }
 
+    /**
+     * Converts row value to the value stored in test data table column:
+     * strings are stored as is, other objects as JSON, null values as empty string.
+     *
+     * @param rowValue - row value.
+     * @return - column value.
+     */
+    public static String toColumnValue(Object rowValue) {
+        if (rowValue instanceof String && !rowValue.equals("null")) {
+            return (String) rowValue;
+        } else if (!(rowValue instanceof String) && rowValue != null) {
+            return convertToJsonString(rowValue);
+        } else {
+            return "";
+        }
+    }
+
     /**
      * Returns index of header column by name.
      */
@@ -0,0 +1,149 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.utils;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+import org.qubership.atp.tdm.model.statistics.StatisticsInterval;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * Aggregates counts of a statistics period into time buckets per key, e.g. per test data table.
+ * A date is mapped to its bucket by arithmetic on the date, so aggregation is linear in the number
+ * of counted dates. Days and weeks are counted from the beginning of the period, months and years
+ * are calendar ones. Instances are created per request and counts may be added from several threads.
+ */
+public class TimeBucketAggregator {
+
+    private static final int WEEK_LENGTH = 7;
+    private static final int YEAR_LENGTH = 12;
+
+    private final StatisticsInterval interval;
+    private final long periodStart;
+    private final int bucketsCount;
+    private final ConcurrentMap<String, long[]> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * Creates aggregator of the period.
+     *
+     * @param interval bucket interval.
+     * @param dateFrom first date of the period.
+     * @param dateTo   last date of the period.
+     */
+    public TimeBucketAggregator(@Nonnull StatisticsInterval interval, @Nonnull LocalDate dateFrom,
+                                @Nonnull LocalDate dateTo) {
+        this.interval = interval;
+        this.periodStart = toUnit(interval, dateFrom);
+        this.bucketsCount = (int) (getUnit(interval).between(dateFrom, dateTo) + 1);
+    }
+
+    /**
+     * Creates aggregator of the period with interval suitable for the period length.
+     */
+    public static TimeBucketAggregator forPeriod(@Nonnull LocalDate dateFrom, @Nonnull LocalDate dateTo) {
+        return new TimeBucketAggregator(DataUtils.getStatisticsIntervalType(dateFrom, dateTo), dateFrom, dateTo);
+    }
+
+    public StatisticsInterval getInterval() {
+        return interval;
+    }
+
+    public int getBucketsCount() {
+        return bucketsCount;
+    }
+
+    /**
+     * Gets bucket of the date.
+     *
+     * @param date counted date.
+     * @return bucket index, or -1 if the date is out of the period.
+     */
+    public int getBucketIndex(@Nonnull LocalDate date) {
+        long bucket = toUnit(interval, date) - periodStart;
+        if (interval == StatisticsInterval.WEEKS) {
+            bucket = Math.floorDiv(bucket, WEEK_LENGTH);
+        }
+        return bucket >= 0 && bucket < bucketsCount ? (int) bucket : -1;
+    }
+
+    /**
+     * Adds count to the bucket of the date. Dates out of the period are ignored.
+     *
+     * @param key   aggregation key.
+     * @param date  counted date.
+     * @param count count to add.
+     */
+    public void add(@Nonnull String key, @Nonnull LocalDate date, long count) {
+        int bucket = getBucketIndex(date);
+        if (bucket < 0 || count == 0) {
+            return;
+        }
+        long[] counts = buckets.computeIfAbsent(key, k -> new long[bucketsCount]);
+        synchronized (counts) {
+            counts[bucket] += count;
+        }
+    }
+
+    /**
+     * Gets counts of the key, zero counts if nothing was added for the key.
+     *
+     * @param key aggregation key.
+     * @return counts in order of buckets.
+     */
+    public List<Long> getCounts(@Nonnull String key) {
+        long[] counts = buckets.get(key);
+        if (counts == null) {
+            counts = new long[bucketsCount];
+        } else {
+            synchronized (counts) {
+                counts = counts.clone();
+            }
+        }
+        return Arrays.stream(counts).boxed().collect(Collectors.toList());
+    }
+
+    private static long toUnit(StatisticsInterval interval, LocalDate date) {
+        switch (interval) {
+            case YEARS:
+                return date.getYear();
+            case MONTHS:
+                return (long) date.getYear() * YEAR_LENGTH + date.getMonthValue() - 1;
+            default:
+                return date.toEpochDay();
+        }
+    }
+
+    private static ChronoUnit getUnit(StatisticsInterval interval) {
+        switch (interval) {
+            case YEARS:
+                return ChronoUnit.YEARS;
+            case MONTHS:
+                return ChronoUnit.MONTHS;
+            case WEEKS:
+                return ChronoUnit.WEEKS;
+            default:
+                return ChronoUnit.DAYS;
+        }
+    }
+}
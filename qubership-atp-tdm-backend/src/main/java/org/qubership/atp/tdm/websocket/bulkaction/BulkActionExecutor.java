@@ -0,0 +1,146 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.websocket.bulkaction;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs tasks of all bulk actions on one bounded and instrumented pool. Tasks of one project are limited
+ * by configured concurrency, other tasks of the project wait in its own queue and are passed to the pool
+ * one by one as running tasks finish, so a large bulk action of one project does not hold all threads
+ * while bulk actions of other projects wait.
+ */
+@Slf4j
+@Component
+public class BulkActionExecutor {
+
+    private static final String METRIC_NAME = "atp_tdm_bulk_actions";
+
+    private final ExecutorService executorService;
+    private final int maxTasksPerProject;
+    private final Map<UUID, LimitedExecutor> projectExecutors = new ConcurrentHashMap<>();
+
+    /**
+     * Creates executor of bulk action tasks.
+     */
+    public BulkActionExecutor(@Nonnull MeterRegistry meterRegistry,
+                              @Value("${bulk.actions.threads:20}") int threads,
+                              @Value("${bulk.actions.per-project:10}") int maxTasksPerProject) {
+        this.executorService = ExecutorServiceMetrics.monitor(meterRegistry, Executors.newFixedThreadPool(threads,
+                new ThreadFactoryBuilder().setNameFormat("tdm-bulk-action-%d").build()), METRIC_NAME);
+        this.maxTasksPerProject = maxTasksPerProject;
+    }
+
+    /**
+     * Creates executor of one bulk action run.
+     *
+     * @param projectId           project of the bulk action.
+     * @param isExecuteInParallel whether tasks of the run are executed in parallel or one by one.
+     * @return executor of the run, results of its tasks are taken in completion order.
+     */
+    BulkActionRun newRun(@Nonnull UUID projectId, boolean isExecuteInParallel) {
+        Executor projectExecutor = projectExecutors.computeIfAbsent(projectId,
+                id -> new LimitedExecutor(executorService, maxTasksPerProject));
+        return new BulkActionRun(new LimitedExecutor(projectExecutor,
+                isExecuteInParallel ? maxTasksPerProject : 1));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+
+    /**
+     * Passes at most given number of tasks to the delegate at a time, other tasks wait in the queue.
+     */
+    static class LimitedExecutor implements Executor {
+
+        private final Executor delegate;
+        private final int maxTasks;
+        private final Queue<Runnable> queue = new ArrayDeque<>();
+        private int runningTasks;
+
+        LimitedExecutor(@Nonnull Executor delegate, int maxTasks) {
+            this.delegate = delegate;
+            this.maxTasks = Math.max(maxTasks, 1);
+        }
+
+        @Override
+        public void execute(@Nonnull Runnable command) {
+            synchronized (queue) {
+                queue.add(command);
+            }
+            drain();
+        }
+
+        private void drain() {
+            while (true) {
+                Runnable next;
+                synchronized (queue) {
+                    if (runningTasks >= maxTasks || queue.isEmpty()) {
+                        return;
+                    }
+                    next = queue.poll();
+                    runningTasks++;
+                }
+                try {
+                    delegate.execute(() -> {
+                        try {
+                            next.run();
+                        } finally {
+                            synchronized (queue) {
+                                runningTasks--;
+                            }
+                            try {
+                                drain();
+                            } catch (RejectedExecutionException e) {
+                                log.debug("Bulk action executor is shut down, queued tasks are not started.");
+                            }
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    synchronized (queue) {
+                        runningTasks--;
+                    }
+                    if (next instanceof Future) {
+                        ((Future<?>) next).cancel(false);
+                    }
+                    throw e;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,315 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.websocket.bulkaction;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.qubership.atp.integration.configuration.mdc.MdcUtils;
+import org.qubership.atp.tdm.exceptions.websocket.TdmSearchBulkActionJobException;
+import org.qubership.atp.tdm.mdc.MdcField;
+import org.qubership.atp.tdm.model.bulkaction.BulkActionConfig;
+import org.qubership.atp.tdm.model.bulkaction.BulkActionJob;
+import org.qubership.atp.tdm.model.bulkaction.BulkActionJobStatus;
+import org.qubership.atp.tdm.model.bulkaction.BulkActionTask;
+import org.qubership.atp.tdm.repo.BulkActionJobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps bulk actions as jobs with one task per test data table, so a bulk action survives restart
+ * of the node which started it. Every node updates heartbeat of its running tasks and polls for pending tasks
+ * and tasks whose owner stopped updating heartbeat, so work of a large bulk action is spread across nodes
+ * and tables completed before a restart are not processed again.
+ */
+@Slf4j
+@Component("bulkActionJobs")
+public class BulkActionJobs {
+
+    private final BulkActionJobRepository repository;
+    private final BulkActionExecutor bulkActionExecutor;
+    private final Map<String, BulkActionsHandler> handlers = new ConcurrentHashMap<>();
+    private final Set<UUID> ownedTasks = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger claimedTasks = new AtomicInteger();
+    private final ScheduledExecutorService scheduler;
+    private final String nodeId;
+    private final long taskTimeout;
+    private final long pollInterval;
+    private final int maxClaimedTasks;
+    private final long feedInterval;
+    private final int keepDays;
+
+    /**
+     * Creates registry of bulk action jobs.
+     */
+    public BulkActionJobs(@Nonnull BulkActionJobRepository repository,
+                          @Nonnull BulkActionExecutor bulkActionExecutor,
+                          @Value("${bulk.jobs.task-timeout:120}") long taskTimeout,
+                          @Value("${bulk.jobs.poll-interval:10}") long pollInterval,
+                          @Value("${bulk.jobs.worker.tasks:2}") int maxClaimedTasks,
+                          @Value("${bulk.jobs.feed-interval:2}") long feedInterval,
+                          @Value("${bulk.jobs.keep-days:7}") int keepDays) {
+        this.repository = repository;
+        this.bulkActionExecutor = bulkActionExecutor;
+        this.taskTimeout = taskTimeout;
+        this.pollInterval = pollInterval;
+        this.maxClaimedTasks = maxClaimedTasks;
+        this.feedInterval = feedInterval;
+        this.keepDays = keepDays;
+        this.nodeId = System.getenv().getOrDefault("HOSTNAME", "tdm") + "-" + UUID.randomUUID();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("tdm-bulk-job-worker-%d").setDaemon(true).build());
+    }
+
+    /**
+     * Starts heartbeat of owned tasks, polling of claimable tasks and removal of old jobs.
+     */
+    @PostConstruct
+    public void start() {
+        long heartbeatInterval = Math.max(taskTimeout / 4, 1);
+        scheduler.scheduleWithFixedDelay(this::updateHeartbeat, heartbeatInterval, heartbeatInterval,
+                TimeUnit.SECONDS);
+        if (pollInterval > 0) {
+            scheduler.scheduleWithFixedDelay(this::pollTasks, pollInterval, pollInterval, TimeUnit.SECONDS);
+        }
+        scheduler.scheduleWithFixedDelay(this::deleteFinishedJobs, 1, 60, TimeUnit.MINUTES);
+        log.info("Bulk action jobs worker started, node: {}.", nodeId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Registers handler running tasks of its bulk action.
+     *
+     * @param handler bulk action handler.
+     */
+    public void register(@Nonnull BulkActionsHandler handler) {
+        handlers.put(handler.getAction(), handler);
+    }
+
+    /**
+     * Gets job with its tasks.
+     *
+     * @param jobId bulk action job id.
+     * @return job with tasks in order of creation.
+     */
+    public BulkActionJob getJob(@Nonnull UUID jobId) {
+        BulkActionJob job = repository.getJob(jobId);
+        if (Objects.isNull(job)) {
+            log.error(String.format(TdmSearchBulkActionJobException.DEFAULT_MESSAGE, jobId));
+            throw new TdmSearchBulkActionJobException(jobId.toString());
+        }
+        return job;
+    }
+
+    /**
+     * Gets status of the job without loading the job and its tasks.
+     *
+     * @param jobId bulk action job id.
+     * @return job status.
+     */
+    public BulkActionJobStatus getJobStatus(@Nonnull UUID jobId) {
+        BulkActionJobStatus status = repository.getJobStatus(jobId);
+        if (Objects.isNull(status)) {
+            log.error(String.format(TdmSearchBulkActionJobException.DEFAULT_MESSAGE, jobId));
+            throw new TdmSearchBulkActionJobException(jobId.toString());
+        }
+        return status;
+    }
+
+    public UUID getProjectId(@Nonnull UUID jobId) {
+        return getJob(jobId).getProjectId();
+    }
+
+    /**
+     * Gets running jobs of the project and jobs created during configured number of days.
+     *
+     * @param projectId project id.
+     * @return jobs without tasks, latest first.
+     */
+    public List<BulkActionJob> getJobs(@Nonnull UUID projectId) {
+        return repository.getJobs(projectId, LocalDateTime.now().minusDays(keepDays));
+    }
+
+    /**
+     * Cancels the job: pending tasks are not started, running tasks are completed.
+     *
+     * @param jobId bulk action job id.
+     */
+    public void cancelJob(@Nonnull UUID jobId) {
+        getJob(jobId);
+        if (repository.cancelJob(jobId)) {
+            log.info("Bulk action job {} cancelled.", jobId);
+        }
+    }
+
+    /**
+     * Finds job the client reattaches to: job given in the config, or running job of the action
+     * started with the same config. Job given in the config is found only for the same action and project,
+     * so the tasks of the job are not run by a handler of another action and results are not sent to another project.
+     */
+    @Nullable
+    BulkActionJob findJob(@Nonnull String action, @Nonnull BulkActionConfig config) {
+        if (Objects.nonNull(config.getJobId())) {
+            BulkActionJob job = getJob(config.getJobId());
+            if (!action.equals(job.getAction()) || !job.getProjectId().equals(config.getProjectId())) {
+                log.error(String.format(TdmSearchBulkActionJobException.DEFAULT_MESSAGE, config.getJobId())
+                        + " Action: " + action + ", project: " + config.getProjectId());
+                throw new TdmSearchBulkActionJobException(config.getJobId().toString());
+            }
+            return job;
+        }
+        return repository.getRunningJobs(action, config.getProjectId()).stream()
+                .filter(job -> config.equals(job.getConfig()))
+                .findFirst()
+                .map(job -> getJob(job.getId()))
+                .orElse(null);
+    }
+
+    List<BulkActionTask> getCompletedTasks(@Nonnull UUID jobId, @Nonnull LocalDateTime finishedSince) {
+        return repository.getCompletedTasks(jobId, finishedSince);
+    }
+
+    void createJob(@Nonnull BulkActionJob job) {
+        repository.createJob(job);
+    }
+
+    boolean claimTask(@Nonnull BulkActionTask task, boolean parallel) {
+        if (!repository.claimTask(task.getJobId(), task.getId(), nodeId, taskTimeout, parallel)) {
+            return false;
+        }
+        ownedTasks.add(task.getId());
+        return true;
+    }
+
+    boolean completeTask(@Nonnull BulkActionTask task, @Nonnull String result, @Nullable String error) {
+        return repository.completeTask(task.getId(), nodeId, result, error);
+    }
+
+    /**
+     * Stops heartbeat of the task, so the task left running by a failure is taken over by another node.
+     */
+    void releaseTask(@Nonnull BulkActionTask task) {
+        ownedTasks.remove(task.getId());
+    }
+
+    /**
+     * Stops heartbeat of the claimed task which is not started and returns it to pending.
+     */
+    void unclaimTask(@Nonnull BulkActionTask task) {
+        ownedTasks.remove(task.getId());
+        try {
+            repository.unclaimTask(task.getId(), nodeId);
+        } catch (Exception e) {
+            log.error("Failed to return bulk action task {} to pending, node: {}.", task.getId(), nodeId, e);
+        }
+    }
+
+    boolean finishJob(@Nonnull UUID jobId) {
+        return repository.finishJob(jobId);
+    }
+
+    BulkActionRun newRun(@Nonnull UUID projectId, boolean isExecuteInParallel) {
+        return bulkActionExecutor.newRun(projectId, isExecuteInParallel);
+    }
+
+    long getFeedInterval() {
+        return feedInterval;
+    }
+
+    private void updateHeartbeat() {
+        try {
+            if (!ownedTasks.isEmpty()) {
+                repository.updateHeartbeat(nodeId, ownedTasks);
+            }
+        } catch (Exception e) {
+            log.error("Failed to update heartbeat of bulk action tasks, node: {}.", nodeId, e);
+        }
+    }
+
+    private void pollTasks() {
+        try {
+            int limit = maxClaimedTasks - claimedTasks.get();
+            if (limit <= 0) {
+                return;
+            }
+            Map<UUID, BulkActionJob> jobs = new HashMap<>();
+            for (BulkActionTask task : repository.getClaimableTasks(taskTimeout, limit)) {
+                BulkActionJob job = jobs.computeIfAbsent(task.getJobId(), repository::getJob);
+                BulkActionsHandler handler = Objects.isNull(job) ? null : handlers.get(job.getAction());
+                if (Objects.isNull(handler) || !claimTask(task, job.getConfig().isExecuteInParallel())) {
+                    continue;
+                }
+                log.info("Task {} of bulk action job {} claimed by node {}.", task.getId(), job.getId(), nodeId);
+                runClaimedTask(handler, job, task);
+            }
+        } catch (Exception e) {
+            log.error("Failed to poll bulk action tasks, node: {}.", nodeId, e);
+        }
+    }
+
+    private void runClaimedTask(BulkActionsHandler handler, BulkActionJob job, BulkActionTask task) {
+        BulkActionRun run = newRun(job.getProjectId(), true);
+        claimedTasks.incrementAndGet();
+        try {
+            run.submit(() -> {
+                try {
+                    MdcUtils.put(MdcField.PROJECT_ID.toString(), job.getProjectId());
+                    handler.runTask(job, task);
+                } finally {
+                    claimedTasks.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            claimedTasks.decrementAndGet();
+            unclaimTask(task);
+            log.warn("Task {} of bulk action job {} is not started, executor is shut down.", task.getId(),
+                    job.getId());
+        } finally {
+            run.shutdown();
+        }
+    }
+
+    private void deleteFinishedJobs() {
+        try {
+            repository.deleteFinishedJobs(LocalDateTime.now().minusDays(keepDays));
+        } catch (Exception e) {
+            log.error("Failed to remove finished bulk action jobs.", e);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.websocket.bulkaction;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.MDC;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * Executor of one bulk action run. Tasks are passed to the shared bulk action pool, completed tasks
+ * are queued in completion order, so results of fast tasks are taken without waiting for slow ones.
+ * Shutting the run down now cancels all its tasks: queued tasks are not started, running tasks are interrupted.
+ */
+class BulkActionRun extends AbstractExecutorService {
+
+    private final Executor executor;
+    private final BlockingQueue<Future<?>> completedTasks = new LinkedBlockingQueue<>();
+    private final Set<RunTask<?>> activeTasks = ConcurrentHashMap.newKeySet();
+    private final Object lock = new Object();
+    private volatile boolean shutdown;
+
+    BulkActionRun(@Nonnull Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Waits for the next completed task of the run.
+     *
+     * @return completed, failed or cancelled task.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    Future<?> take() throws InterruptedException {
+        return completedTasks.take();
+    }
+
+    /**
+     * Waits for the next completed task of the run at most given time.
+     *
+     * @return completed, failed or cancelled task, or null if no task completed in time.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    Future<?> poll(long timeout, @Nonnull TimeUnit unit) throws InterruptedException {
+        return completedTasks.poll(timeout, unit);
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+        return new RunTask<>(Executors.callable(runnable, value));
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        return new RunTask<>(callable);
+    }
+
+    @Override
+    public void execute(@Nonnull Runnable command) {
+        RunTask<?> task = command instanceof RunTask ? (RunTask<?>) command : new RunTask<>(
+                Executors.callable(command, null));
+        synchronized (lock) {
+            if (shutdown) {
+                throw new RejectedExecutionException("Bulk action run is shut down");
+            }
+            activeTasks.add(task);
+        }
+        executor.execute(task);
+    }
+
+    @Override
+    public void shutdown() {
+        synchronized (lock) {
+            shutdown = true;
+            lock.notifyAll();
+        }
+    }
+
+    @Override
+    @Nonnull
+    public List<Runnable> shutdownNow() {
+        shutdown();
+        List<RunTask<?>> tasks = new ArrayList<>(activeTasks);
+        tasks.forEach(task -> task.cancel(true));
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown && activeTasks.isEmpty();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, @Nonnull TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (lock) {
+            while (!isTerminated()) {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0) {
+                    return false;
+                }
+                lock.wait(remaining);
+            }
+            return true;
+        }
+    }
+
+    private class RunTask<T> extends FutureTask<T> {
+
+        RunTask(Callable<T> callable) {
+            super(callable);
+        }
+
+        @Override
+        public void run() {
+            try {
+                super.run();
+            } finally {
+                MDC.clear();
+            }
+        }
+
+        @Override
+        protected void done() {
+            completedTasks.add(this);
+            synchronized (lock) {
+                activeTasks.remove(this);
+                lock.notifyAll();
+            }
+        }
+    }
+}
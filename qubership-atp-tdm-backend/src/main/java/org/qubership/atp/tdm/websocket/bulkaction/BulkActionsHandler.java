@@ -17,17 +17,25 @@
 package org.qubership.atp.tdm.websocket.bulkaction;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.qubership.atp.common.lock.LockManager;
 import org.qubership.atp.integration.configuration.mdc.MdcUtils;
 import org.qubership.atp.tdm.env.configurator.model.LazyEnvironment;
 import org.qubership.atp.tdm.env.configurator.service.EnvironmentsService;
+import org.qubership.atp.tdm.exceptions.internal.TdmSearchTableException;
+import org.qubership.atp.tdm.exceptions.websocket.TdmBulkActionJobException;
 import org.qubership.atp.tdm.exceptions.websocket.TdmGetEnvironmentNameException;
 import org.qubership.atp.tdm.exceptions.websocket.TdmParseRequestException;
 import org.qubership.atp.tdm.exceptions.websocket.TdmProcessBulkActionFuturesException;
@@ -35,9 +43,15 @@ import org.qubership.atp.tdm.exceptions.websocket.TdmSendMessageException;
 import org.qubership.atp.tdm.exceptions.websocket.TdmWriteBulkActionResultsAsStringException;
 import org.qubership.atp.tdm.mdc.MdcField;
 import org.qubership.atp.tdm.mdc.TdmMdcHelper;
+import org.qubership.atp.tdm.model.CommonResults;
+import org.qubership.atp.tdm.model.TestDataTableCatalog;
 import org.qubership.atp.tdm.model.bulkaction.BulkActionConfig;
 import org.qubership.atp.tdm.model.bulkaction.BulkActionContext;
+import org.qubership.atp.tdm.model.bulkaction.BulkActionJob;
+import org.qubership.atp.tdm.model.bulkaction.BulkActionJobStatus;
 import org.qubership.atp.tdm.model.bulkaction.BulkActionResult;
+import org.qubership.atp.tdm.model.bulkaction.BulkActionTask;
+import org.qubership.atp.tdm.model.bulkaction.BulkActionTaskStatus;
 import org.qubership.atp.tdm.model.mail.bulkaction.AbstractBulkActionMailSender;
 import org.qubership.atp.tdm.repo.CatalogRepository;
 import org.qubership.atp.tdm.utils.CurrentTime;
@@ -49,25 +63,34 @@ import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.Nonnull;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Runs bulk action as a job with one task per test data table. Tasks are saved before they run and their
+ * results are saved as they complete, so the client reconnecting with the same config or with the job id
+ * gets results of completed tables and the progress of the rest, and tasks left by a stopped node
+ * are taken over by other nodes. Closing the session does not cancel the job.
+ */
 @Slf4j
 public abstract class BulkActionsHandler extends TextWebSocketHandler {
 
     private static final ObjectMapper objectMapper = new ObjectMapper();
 
-    private static final int NUMBER_OF_THREADS = 10;
     private static final String STARTED = "STARTED";
     private static final String NOTHING_FOUND = "NOTHING_FOUND";
     private static final String FINISHED = "FINISHED";
+    private static final String CANCELLED = "CANCELLED";
+    private static final LocalDateTime FEED_START = LocalDateTime.of(1970, 1, 1, 0, 0);
     protected final EnvironmentsService environmentsService;
     protected final CatalogRepository catalogRepository;
     protected final CurrentTime currentTime;
     protected final LockManager lockManager;
     protected final TdmMdcHelper mdcHelper;
     private final ExecutorService executorService;
+    private final BulkActionJobs bulkActionJobs;
     private final AbstractBulkActionMailSender mailSender;
 
     @Value("${atp.lock.bulk.action.duration.sec}")
@@ -77,6 +100,7 @@ public abstract class BulkActionsHandler extends TextWebSocketHandler {
      * Constructor with parameters.
      */
     public BulkActionsHandler(@Qualifier("websocket") ExecutorService executorService,
+                              @Nonnull BulkActionJobs bulkActionJobs,
                               @Nonnull CatalogRepository catalogRepository,
                               @Nonnull EnvironmentsService environmentsService,
                               @Nonnull AbstractBulkActionMailSender mailSender,
@@ -84,6 +108,7 @@ public abstract class BulkActionsHandler extends TextWebSocketHandler {
                               @Nonnull LockManager lockManager,
                               @Nonnull TdmMdcHelper mdcHelper) {
         this.executorService = executorService;
+        this.bulkActionJobs = bulkActionJobs;
         this.catalogRepository = catalogRepository;
         this.environmentsService = environmentsService;
         this.currentTime = currentTime;
@@ -131,34 +156,39 @@ public abstract class BulkActionsHandler extends TextWebSocketHandler {
                 bulkActionDuration, () -> {
                     MDC.clear();
                     MdcUtils.put(MdcField.PROJECT_ID.toString(), config.getProjectId());
-                    long processId = currentTime.getCurrentTimeMillis();
-                    sendStatusMsg(session, processId, STARTED);
-
-                    ExecutorService executor = createExecutorService(config.isExecuteInParallel());
-
-                    List<LazyEnvironment> lazyEnvironments = environmentsService
-                            .getLazyEnvironments(config.getProjectId());
-
-                    List<Future<BulkActionResult>> futures = runBulkAction(session, executor, lazyEnvironments,
-                            config, processId);
-
-                    if (futures.isEmpty()) {
-                        sendStatusMsg(session, processId, NOTHING_FOUND);
-                    } else {
-                        handleResults(session, futures, config, processId);
-                        sendStatusMsg(session, processId, FINISHED);
+                    BulkActionJob job = bulkActionJobs.findJob(getAction(), config);
+                    BulkActionRun run = bulkActionJobs.newRun(config.getProjectId(), config.isExecuteInParallel());
+                    try {
+                        if (Objects.nonNull(job)) {
+                            log.info("Reattach to bulk action job {}. Session: [{}].", job.getId(), session);
+                            sendStatusMsg(session, job.getProcessId(), STARTED);
+                            if (BulkActionJobStatus.RUNNING.equals(job.getStatus())) {
+                                runTasks(run, job);
+                            }
+                        } else {
+                            long processId = currentTime.getCurrentTimeMillis();
+                            sendStatusMsg(session, processId, STARTED);
+                            if (!session.isOpen()) {
+                                log.info("Websocket session closed before bulk action started. Session: [{}].",
+                                        session);
+                                return;
+                            }
+                            List<LazyEnvironment> lazyEnvironments = environmentsService
+                                    .getLazyEnvironments(config.getProjectId());
+                            job = createJob(lazyEnvironments, config, processId);
+                            if (job.getTasks().isEmpty()) {
+                                sendStatusMsg(session, processId, NOTHING_FOUND);
+                                return;
+                            }
+                            runTasks(run, job);
+                        }
+                        streamResults(session, run, job);
+                    } finally {
+                        run.shutdown();
                     }
                 });
     }
 
-    private ExecutorService createExecutorService(boolean isExecuteInParallel) {
-        if (isExecuteInParallel) {
-            return Executors.newFixedThreadPool(NUMBER_OF_THREADS);
-        } else {
-            return Executors.newSingleThreadExecutor();
-        }
-    }
-
     private BulkActionConfig parseRequest(@Nonnull TextMessage message) {
         String payload = message.getPayload();
         try {
@@ -194,8 +224,7 @@ public abstract class BulkActionsHandler extends TextWebSocketHandler {
         }
     }
 
-    private void sendMessage(@Nonnull WebSocketSession session, @Nonnull BulkActionResult results) {
-        String payloadText = writeBulkActionResultAsString(results);
+    private void sendResultMsg(@Nonnull WebSocketSession session, @Nonnull String payloadText) {
         try {
             sendMessage(session, payloadText);
         } catch (Exception e) {
@@ -222,41 +251,164 @@ public abstract class BulkActionsHandler extends TextWebSocketHandler {
         }
     }
 
-    private void handleResults(@Nonnull WebSocketSession session,
-                               @Nonnull List<Future<BulkActionResult>> futures,
-                               @Nonnull BulkActionConfig config,
-                               long processId) {
+    /**
+     * Sends saved results of the job as its tasks complete on any node, until the job is finished
+     * or cancelled, or the session is closed. Each poll reads the job status and the tasks completed since
+     * the last sent one, looking back one feed interval for tasks committed after a later completed task.
+     */
+    private void streamResults(@Nonnull WebSocketSession session, @Nonnull BulkActionRun run,
+                               @Nonnull BulkActionJob job) {
+        UUID jobId = job.getId();
+        long processId = job.getProcessId();
         log.trace("Handle bulk action results, session: {}, id: {}", session.getId(), processId);
-        for (Future<BulkActionResult> future : futures) {
-            try {
-                sendMessage(session, future.get());
-            } catch (Exception e) {
-                log.error(TdmProcessBulkActionFuturesException.DEFAULT_MESSAGE, e);
-                throw new TdmProcessBulkActionFuturesException();
+        Set<UUID> sentTasks = new HashSet<>();
+        LocalDateTime finishedSince = FEED_START;
+        try {
+            while (session.isOpen()) {
+                BulkActionJobStatus status = bulkActionJobs.getJobStatus(jobId);
+                boolean sent = false;
+                for (BulkActionTask task : bulkActionJobs.getCompletedTasks(jobId, finishedSince)) {
+                    if (sentTasks.add(task.getId())) {
+                        sendResultMsg(session, task.getResult());
+                        sent = true;
+                    }
+                    LocalDateTime lookBack = task.getFinishedWhen().minusSeconds(bulkActionJobs.getFeedInterval());
+                    if (lookBack.isAfter(finishedSince)) {
+                        finishedSince = lookBack;
+                    }
+                }
+                if (BulkActionJobStatus.FINISHED.equals(status)) {
+                    log.trace("Bulk action results handled.");
+                    sendStatusMsg(session, processId, FINISHED);
+                    return;
+                }
+                if (BulkActionJobStatus.CANCELLED.equals(status)) {
+                    log.info("Bulk action cancelled, session: {}, id: {}", session.getId(), processId);
+                    sendStatusMsg(session, processId, CANCELLED);
+                    return;
+                }
+                if (sent && bulkActionJobs.finishJob(jobId)) {
+                    onJobFinished(job);
+                    continue;
+                }
+                run.poll(bulkActionJobs.getFeedInterval(), TimeUnit.SECONDS);
             }
+            log.info("Websocket session closed, bulk action job {} goes on. Session: [{}].", jobId, session);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error(TdmProcessBulkActionFuturesException.DEFAULT_MESSAGE, e);
+            throw new TdmProcessBulkActionFuturesException();
         }
-        log.trace("Bulk action results handled.");
-        if (config.isSendResult()) {
-            log.info("Send email results, session: {}, id: {}", session.getId(), processId);
-            sendResultViaMail(mailSender, processId, config, futures);
+    }
+
+    /**
+     * Runs bulk action for the tables found by the config.
+     *
+     * @param session          websocket session.
+     * @param executor         executor of table tasks.
+     * @param lazyEnvironments environments of the project.
+     * @param config           bulk action config.
+     * @param processId        id of the bulk action shown to the client.
+     * @return results of table tasks; result is null if the task was taken by another node.
+     */
+    public List<Future<BulkActionResult>> runBulkAction(@Nonnull WebSocketSession session,
+                                                        @Nonnull ExecutorService executor,
+                                                        @Nonnull List<LazyEnvironment> lazyEnvironments,
+                                                        @Nonnull BulkActionConfig config, long processId) {
+        return runTasks(executor, createJob(lazyEnvironments, config, processId));
+    }
+
+    private BulkActionJob createJob(@Nonnull List<LazyEnvironment> lazyEnvironments,
+                                    @Nonnull BulkActionConfig config, long processId) {
+        List<TestDataTableCatalog> catalogList = findTables(lazyEnvironments, config, processId);
+        BulkActionJob job = new BulkActionJob(getAction(), config, processId);
+        catalogList.forEach(tableCatalog -> job.getTasks().add(new BulkActionTask(job.getId(), job.getTasks().size(),
+                tableCatalog.getTableName(), tableCatalog.getTableTitle(),
+                getEnvName(lazyEnvironments, tableCatalog.getEnvironmentId()))));
+        if (!job.getTasks().isEmpty()) {
+            bulkActionJobs.createJob(job);
+            log.info("Bulk action job {} created with {} tasks, id: {}", job.getId(), job.getTasks().size(),
+                    processId);
         }
+        return job;
+    }
+
+    private List<Future<BulkActionResult>> runTasks(@Nonnull ExecutorService executor, @Nonnull BulkActionJob job) {
+        List<Future<BulkActionResult>> futures = new ArrayList<>();
+        Map<String, String> mdcMap = MDC.getCopyOfContextMap();
+        job.getTasks().stream()
+                .filter(task -> BulkActionTaskStatus.PENDING.equals(task.getStatus())
+                        || BulkActionTaskStatus.RUNNING.equals(task.getStatus()))
+                .forEach(task -> futures.add(executor.submit(() -> {
+                    MdcUtils.setContextMap(mdcMap);
+                    if (!bulkActionJobs.claimTask(task, job.getConfig().isExecuteInParallel())) {
+                        log.debug("Task {} of bulk action job {} is taken by another node.", task.getId(),
+                                job.getId());
+                        return null;
+                    }
+                    return runTask(job, task);
+                })));
+        return futures;
     }
 
-    private void sendResultViaMail(@Nonnull AbstractBulkActionMailSender mailSender, long id,
-                                   @Nonnull BulkActionConfig config, @Nonnull List<Future<BulkActionResult>> futures) {
+    /**
+     * Processes the table of the task claimed by this node and saves the result.
+     * The job is finished when its last task completes.
+     */
+    BulkActionResult runTask(@Nonnull BulkActionJob job, @Nonnull BulkActionTask task) {
+        BulkActionResult result;
+        String error = null;
+        try {
+            TestDataTableCatalog tableCatalog = catalogRepository.findByTableName(task.getTableName());
+            if (Objects.isNull(tableCatalog)) {
+                throw new TdmSearchTableException(task.getTableName());
+            }
+            mdcHelper.putConfigFields(tableCatalog);
+            result = new BulkActionResult(task.getTableTitle(), task.getTableName(), task.getEnvironmentName(),
+                    processTable(tableCatalog, job.getConfig()));
+        } catch (Exception e) {
+            result = new BulkActionResult(task.getTableTitle(), task.getTableName(), task.getEnvironmentName(), e);
+            error = e.toString();
+        } finally {
+            mdcHelper.removeConfigFields();
+        }
+        try {
+            if (!bulkActionJobs.completeTask(task, writeBulkActionResultAsString(result), error)) {
+                log.warn("Task {} of bulk action job {} was taken over by another node, result is dropped.",
+                        task.getId(), job.getId());
+            } else if (bulkActionJobs.finishJob(job.getId())) {
+                onJobFinished(job);
+            }
+        } finally {
+            bulkActionJobs.releaseTask(task);
+        }
+        return result;
+    }
+
+    private void onJobFinished(@Nonnull BulkActionJob job) {
+        log.info("Bulk action job {} finished, id: {}", job.getId(), job.getProcessId());
+        if (job.getConfig().isSendResult()) {
+            log.info("Send email results, job: {}, id: {}", job.getId(), job.getProcessId());
+            sendResultViaMail(mailSender, job.getId());
+        }
+    }
+
+    private void sendResultViaMail(@Nonnull AbstractBulkActionMailSender mailSender, @Nonnull UUID jobId) {
         log.trace("Collecting bulk action results...");
-        Executors.newSingleThreadExecutor().submit(() -> {
-            BulkActionContext bulkActionContext = buildBulkActionContext(environmentsService, id, config, futures);
+        executorService.submit(() -> {
+            BulkActionJob job = bulkActionJobs.getJob(jobId);
+            BulkActionContext bulkActionContext = buildBulkActionContext(environmentsService, job);
             log.trace("Sending bulk action result to email...");
-            mailSender.send(bulkActionContext, config.getProjectId());
+            mailSender.send(bulkActionContext, job.getProjectId());
             log.info(bulkActionContext.getResults().toString());
             log.trace("Email sent.");
         });
     }
 
     private BulkActionContext buildBulkActionContext(@Nonnull EnvironmentsService environmentsService,
-                                                     long id, @Nonnull BulkActionConfig config,
-                                                     @Nonnull List<Future<BulkActionResult>> futures) {
+                                                     @Nonnull BulkActionJob job) {
+        BulkActionConfig config = job.getConfig();
+        long id = job.getProcessId();
         log.trace("Build bulk action context with id: {}, config: {}", id, config);
         BulkActionContext bulkActionContext = new BulkActionContext();
         bulkActionContext.setId(id);
@@ -274,20 +426,48 @@ public abstract class BulkActionsHandler extends TextWebSocketHandler {
         } catch (Exception e) {
             bulkActionContext.setSystemName("Not Found");
         }
-        bulkActionContext.setResults(futures.stream().map(i -> {
-            try {
-                return i.get();
-            } catch (Exception e) {
-                log.error(TdmProcessBulkActionFuturesException.DEFAULT_MESSAGE, e);
-                throw new TdmProcessBulkActionFuturesException();
-            }
-        }).collect(Collectors.toList()));
+        bulkActionContext.setResults(job.getTasks().stream()
+                .filter(task -> BulkActionTaskStatus.COMPLETED.equals(task.getStatus()))
+                .map(task -> readBulkActionResult(job.getId(), task))
+                .collect(Collectors.toList()));
         log.trace("Build bulk action context has been created.");
         return bulkActionContext;
     }
 
-    public abstract List<Future<BulkActionResult>> runBulkAction(@Nonnull WebSocketSession session,
-                                                                 @Nonnull ExecutorService executor,
-                                                                 @Nonnull List<LazyEnvironment> lazyEnvironments,
-                                                                 @Nonnull BulkActionConfig config, long processId);
+    private BulkActionResult readBulkActionResult(@Nonnull UUID jobId, @Nonnull BulkActionTask task) {
+        if (Objects.nonNull(task.getError())) {
+            return new BulkActionResult(task.getTableTitle(), task.getTableName(), task.getEnvironmentName(),
+                    new TdmBulkActionJobException(jobId.toString(), task.getError()));
+        }
+        try {
+            JsonNode results = objectMapper.readTree(task.getResult()).get("results");
+            return new BulkActionResult(task.getTableTitle(), task.getTableName(), task.getEnvironmentName(),
+                    objectMapper.treeToValue(results, getResultsType()));
+        } catch (IOException e) {
+            log.error(String.format(TdmBulkActionJobException.DEFAULT_MESSAGE, jobId, e.getMessage()), e);
+            throw new TdmBulkActionJobException(jobId.toString(), e.getMessage());
+        }
+    }
+
+    /**
+     * Name of the bulk action, handler of the job is found by it on every node.
+     */
+    protected abstract String getAction();
+
+    /**
+     * Type of table results, saved results are read back to it for the mail.
+     */
+    protected abstract Class<? extends CommonResults> getResultsType();
+
+    /**
+     * Finds tables of the bulk action, a task is created for each of them.
+     */
+    protected abstract List<TestDataTableCatalog> findTables(@Nonnull List<LazyEnvironment> lazyEnvironments,
+                                                             @Nonnull BulkActionConfig config, long processId);
+
+    /**
+     * Runs the bulk action for one table.
+     */
+    protected abstract CommonResults processTable(@Nonnull TestDataTableCatalog tableCatalog,
+                                                  @Nonnull BulkActionConfig config) throws Exception;
 }
@@ -16,24 +16,18 @@
 
 package org.qubership.atp.tdm.websocket.bulkaction.cleanup;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.UUID;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import org.qubership.atp.common.lock.LockManager;
-import org.qubership.atp.integration.configuration.mdc.MdcUtils;
 import org.qubership.atp.tdm.env.configurator.model.LazyEnvironment;
 import org.qubership.atp.tdm.env.configurator.service.EnvironmentsService;
 import org.qubership.atp.tdm.exceptions.internal.TdmSearchCleanupConfigException;
 import org.qubership.atp.tdm.mdc.TdmMdcHelper;
+import org.qubership.atp.tdm.model.CommonResults;
 import org.qubership.atp.tdm.model.TestDataTableCatalog;
 import org.qubership.atp.tdm.model.bulkaction.BulkActionConfig;
-import org.qubership.atp.tdm.model.bulkaction.BulkActionResult;
 import org.qubership.atp.tdm.model.cleanup.CleanupResults;
 import org.qubership.atp.tdm.model.cleanup.TestDataCleanupConfig;
 import org.qubership.atp.tdm.model.mail.bulkaction.BulkCleanupMailSender;
@@ -41,10 +35,9 @@ import org.qubership.atp.tdm.repo.CatalogRepository;
 import org.qubership.atp.tdm.repo.CleanupConfigRepository;
 import org.qubership.atp.tdm.service.CleanupService;
 import org.qubership.atp.tdm.utils.CurrentTime;
+import org.qubership.atp.tdm.websocket.bulkaction.BulkActionJobs;
 import org.qubership.atp.tdm.websocket.bulkaction.BulkActionsHandler;
-import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.web.socket.WebSocketSession;
 
 import jakarta.annotation.Nonnull;
 import lombok.extern.slf4j.Slf4j;
@@ -59,6 +52,7 @@ public class BulkDataCleanupHandler extends BulkActionsHandler {
      * Constructor with parameters.
      */
     public BulkDataCleanupHandler(@Qualifier("websocket") ExecutorService executorService,
+                                  @Nonnull BulkActionJobs bulkActionJobs,
                                   @Nonnull CatalogRepository catalogRepository,
                                   @Nonnull EnvironmentsService environmentsService,
                                   @Nonnull CleanupService cleanupService,
@@ -67,16 +61,25 @@ public class BulkDataCleanupHandler extends BulkActionsHandler {
                                   @Nonnull CurrentTime currentTime,
                                   @Nonnull LockManager lockManager,
                                   TdmMdcHelper helper) {
-        super(executorService, catalogRepository, environmentsService, mailSender, currentTime, lockManager, helper);
+        super(executorService, bulkActionJobs, catalogRepository, environmentsService, mailSender, currentTime,
+                lockManager, helper);
         this.cleanupConfigRepository = cleanupConfigRepository;
         this.cleanupService = cleanupService;
     }
 
     @Override
-    public List<Future<BulkActionResult>> runBulkAction(@Nonnull WebSocketSession session,
-                                                        @Nonnull ExecutorService executor,
-                                                        @Nonnull List<LazyEnvironment> lazyEnvironments,
-                                                        @Nonnull BulkActionConfig config, long processId) {
+    protected String getAction() {
+        return "cleanup";
+    }
+
+    @Override
+    protected Class<? extends CommonResults> getResultsType() {
+        return CleanupResults.class;
+    }
+
+    @Override
+    protected List<TestDataTableCatalog> findTables(@Nonnull List<LazyEnvironment> lazyEnvironments,
+                                                    @Nonnull BulkActionConfig config, long processId) {
         log.info("Bulk cleanup has been initiated, id: {}, config: {}", processId, config);
         List<TestDataTableCatalog> catalogList = catalogRepository
                 .findAllByProjectIdAndSystemIdAndCleanupConfigIdIsNotNull(config.getProjectId(), config.getSystemId())
@@ -85,35 +88,15 @@ public class BulkDataCleanupHandler extends BulkActionsHandler {
                         .orElseThrow(() ->
                                 new TdmSearchCleanupConfigException(c.getCleanupConfigId().toString()))
                         .isEnabled()).collect(Collectors.toList());
-        Map<UUID, Optional<TestDataCleanupConfig>> testDataCleanUpConfigs = catalogList.stream()
-                .collect(Collectors.toMap(TestDataTableCatalog::getCleanupConfigId,
-                        c -> cleanupConfigRepository.findById(c.getCleanupConfigId()), (a, b) -> b));
         log.trace("Found: {} tables with cleanup config.", catalogList.size());
+        return catalogList;
+    }
 
-        List<Future<BulkActionResult>> futures = new ArrayList<>();
-        Map<String, String> mdcMap = MDC.getCopyOfContextMap();
-        catalogList.forEach(tableCatalog -> {
-            Future<BulkActionResult> future = executor
-                    .submit(() -> {
-                        MdcUtils.setContextMap(mdcMap);
-                        String envName = getEnvName(lazyEnvironments, tableCatalog.getEnvironmentId());
-                        try {
-                            mdcHelper.putConfigFields(tableCatalog);
-                            CleanupResults cleanupResults = cleanupService
-                                    .runCleanup(tableCatalog.getTableName(),
-                                            testDataCleanUpConfigs.get(tableCatalog.getCleanupConfigId())
-                                                    .orElseThrow(() -> new TdmSearchCleanupConfigException()));
-                            return new BulkActionResult(tableCatalog.getTableTitle(), tableCatalog.getTableName(),
-                                    envName, cleanupResults);
-                        } catch (Exception e) {
-                            return new BulkActionResult(tableCatalog.getTableTitle(), tableCatalog.getTableName(),
-                                    envName, e);
-                        } finally {
-                            mdcHelper.removeConfigFields();
-                        }
-                    });
-            futures.add(future);
-        });
-        return futures;
+    @Override
+    protected CommonResults processTable(@Nonnull TestDataTableCatalog tableCatalog,
+                                         @Nonnull BulkActionConfig config) throws Exception {
+        TestDataCleanupConfig cleanupConfig = cleanupConfigRepository.findById(tableCatalog.getCleanupConfigId())
+                .orElseThrow(() -> new TdmSearchCleanupConfigException(tableCatalog.getCleanupConfigId().toString()));
+        return cleanupService.runCleanup(tableCatalog.getTableName(), cleanupConfig);
     }
 }
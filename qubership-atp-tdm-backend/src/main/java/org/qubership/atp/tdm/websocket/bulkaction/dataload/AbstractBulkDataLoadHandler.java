@@ -16,28 +16,22 @@
 
 package org.qubership.atp.tdm.websocket.bulkaction.dataload;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
 
 import org.qubership.atp.common.lock.LockManager;
-import org.qubership.atp.integration.configuration.mdc.MdcUtils;
-import org.qubership.atp.tdm.env.configurator.model.LazyEnvironment;
 import org.qubership.atp.tdm.env.configurator.service.EnvironmentsService;
-import org.qubership.atp.tdm.exceptions.websocket.TdmGetEnvironmentNameException;
 import org.qubership.atp.tdm.mdc.TdmMdcHelper;
+import org.qubership.atp.tdm.model.CommonResults;
 import org.qubership.atp.tdm.model.TestDataTableCatalog;
-import org.qubership.atp.tdm.model.bulkaction.BulkActionResult;
+import org.qubership.atp.tdm.model.bulkaction.BulkActionConfig;
 import org.qubership.atp.tdm.model.mail.bulkaction.AbstractBulkActionMailSender;
 import org.qubership.atp.tdm.model.refresh.RefreshResults;
 import org.qubership.atp.tdm.repo.CatalogRepository;
 import org.qubership.atp.tdm.repo.ImportInfoRepository;
 import org.qubership.atp.tdm.service.DataRefreshService;
 import org.qubership.atp.tdm.utils.CurrentTime;
+import org.qubership.atp.tdm.websocket.bulkaction.BulkActionJobs;
 import org.qubership.atp.tdm.websocket.bulkaction.BulkActionsHandler;
-import org.slf4j.MDC;
 
 import jakarta.annotation.Nonnull;
 
@@ -50,6 +44,7 @@ public abstract class AbstractBulkDataLoadHandler extends BulkActionsHandler {
      * Constructor with parameters.
      */
     AbstractBulkDataLoadHandler(ExecutorService executorService,
+                                @Nonnull BulkActionJobs bulkActionJobs,
                                 @Nonnull CatalogRepository catalogRepository,
                                 @Nonnull ImportInfoRepository importInfoRepository,
                                 @Nonnull EnvironmentsService environmentsService,
@@ -58,50 +53,20 @@ public abstract class AbstractBulkDataLoadHandler extends BulkActionsHandler {
                                 @Nonnull CurrentTime currentTime,
                                 @Nonnull LockManager lockManager,
                                 TdmMdcHelper helper) {
-        super(executorService, catalogRepository, environmentsService, mailSender, currentTime, lockManager, helper);
+        super(executorService, bulkActionJobs, catalogRepository, environmentsService, mailSender, currentTime,
+                lockManager, helper);
         this.dataRefreshService = dataRefreshService;
         this.importInfoRepository = importInfoRepository;
     }
 
-    /**
-     * Run bulk action.
-     *
-     * @param executor - executor service.
-     * @param lazyEnvironments - lazy environment list.
-     * @param refreshCatalogs  - catalog for refresh.
-     * @return BulkActionResult.
-     */
-    public List<Future<BulkActionResult>> runBulkAction(@Nonnull ExecutorService executor,
-                                                        @Nonnull List<LazyEnvironment> lazyEnvironments,
-                                                        @Nonnull List<TestDataTableCatalog> refreshCatalogs,
-                                                        boolean saveOccupiedData) {
-        List<Future<BulkActionResult>> futures = new ArrayList<>();
-        Map<String, String> mdcMap = MDC.getCopyOfContextMap();
-        refreshCatalogs.forEach(tableCatalog -> {
-            Future<BulkActionResult> future = executor
-                    .submit(() -> {
-                        MdcUtils.setContextMap(mdcMap);
-                        String envName = lazyEnvironments.stream()
-                                .filter(env -> tableCatalog.getEnvironmentId().equals(env.getId()))
-                                .findFirst()
-                                .orElseThrow(() -> new
-                                        TdmGetEnvironmentNameException(tableCatalog.getEnvironmentId().toString()))
-                                .getName();
-                        try {
-                            mdcHelper.putConfigFields(tableCatalog);
-                            RefreshResults refreshResults = dataRefreshService.runRefresh(tableCatalog.getTableName(),
-                                    saveOccupiedData);
-                            return new BulkActionResult(tableCatalog.getTableTitle(), tableCatalog.getTableName(),
-                                    envName, refreshResults);
-                        } catch (Exception e) {
-                            return new BulkActionResult(tableCatalog.getTableTitle(), tableCatalog.getTableName(),
-                                    envName, e);
-                        } finally {
-                            mdcHelper.removeConfigFields();
-                        }
-                    });
-            futures.add(future);
-        });
-        return futures;
+    @Override
+    protected Class<? extends CommonResults> getResultsType() {
+        return RefreshResults.class;
+    }
+
+    @Override
+    protected CommonResults processTable(@Nonnull TestDataTableCatalog tableCatalog,
+                                         @Nonnull BulkActionConfig config) throws Exception {
+        return dataRefreshService.runRefresh(tableCatalog.getTableName(), config.isSaveOccupiedData());
     }
 }
@@ -19,7 +19,6 @@ package org.qubership.atp.tdm.websocket.bulkaction.dataload;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import org.qubership.atp.common.lock.LockManager;
@@ -28,14 +27,13 @@ import org.qubership.atp.tdm.env.configurator.service.EnvironmentsService;
 import org.qubership.atp.tdm.mdc.TdmMdcHelper;
 import org.qubership.atp.tdm.model.TestDataTableCatalog;
 import org.qubership.atp.tdm.model.bulkaction.BulkActionConfig;
-import org.qubership.atp.tdm.model.bulkaction.BulkActionResult;
 import org.qubership.atp.tdm.model.mail.bulkaction.BulkCleanupMailSender;
 import org.qubership.atp.tdm.repo.CatalogRepository;
 import org.qubership.atp.tdm.repo.ImportInfoRepository;
 import org.qubership.atp.tdm.service.DataRefreshService;
 import org.qubership.atp.tdm.utils.CurrentTime;
+import org.qubership.atp.tdm.websocket.bulkaction.BulkActionJobs;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.web.socket.WebSocketSession;
 
 import jakarta.annotation.Nonnull;
 import lombok.extern.slf4j.Slf4j;
@@ -47,6 +45,7 @@ public class BulkDataImportHandler extends AbstractBulkDataLoadHandler {
      * Constructor with parameters.
      */
     public BulkDataImportHandler(@Qualifier("websocket") ExecutorService executorService,
+                                 @Nonnull BulkActionJobs bulkActionJobs,
                                  @Nonnull CatalogRepository catalogRepository,
                                  @Nonnull EnvironmentsService environmentsService,
                                  @Nonnull BulkCleanupMailSender mailSender,
@@ -55,15 +54,18 @@ public class BulkDataImportHandler extends AbstractBulkDataLoadHandler {
                                  @Nonnull CurrentTime currentTime,
                                  @Nonnull LockManager lockManager,
                                  @Nonnull TdmMdcHelper mdcHelper) {
-        super(executorService, catalogRepository, importInfoRepository, environmentsService, mailSender,
-                dataRefreshService, currentTime, lockManager, mdcHelper);
+        super(executorService, bulkActionJobs, catalogRepository, importInfoRepository, environmentsService,
+                mailSender, dataRefreshService, currentTime, lockManager, mdcHelper);
     }
 
     @Override
-    public List<Future<BulkActionResult>> runBulkAction(@Nonnull WebSocketSession session,
-                                                        @Nonnull ExecutorService executor,
-                                                        @Nonnull List<LazyEnvironment> lazyEnvironments,
-                                                        @Nonnull BulkActionConfig config, long processId) {
+    protected String getAction() {
+        return "import";
+    }
+
+    @Override
+    protected List<TestDataTableCatalog> findTables(@Nonnull List<LazyEnvironment> lazyEnvironments,
+                                                    @Nonnull BulkActionConfig config, long processId) {
         log.info("Bulk data import has been initiated, id: {}, config: {}", processId, config);
         List<TestDataTableCatalog> catalogList =
                 catalogRepository.findAllByProjectIdAndTableTitle(config.getProjectId(), config.getTableTitle());
@@ -74,6 +76,6 @@ public class BulkDataImportHandler extends AbstractBulkDataLoadHandler {
                 .collect(Collectors.toList());
         log.trace("Found: {} tables with title [{}].", catalogListWithImportInfo.size(), config.getTableTitle());
 
-        return runBulkAction(executor, lazyEnvironments, catalogListWithImportInfo, config.isSaveOccupiedData());
+        return catalogListWithImportInfo;
     }
 }
@@ -16,29 +16,24 @@
 
 package org.qubership.atp.tdm.websocket.bulkaction.links;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
 
 import org.qubership.atp.common.lock.LockManager;
-import org.qubership.atp.integration.configuration.mdc.MdcUtils;
 import org.qubership.atp.tdm.env.configurator.model.LazyEnvironment;
 import org.qubership.atp.tdm.env.configurator.service.EnvironmentsService;
 import org.qubership.atp.tdm.mdc.TdmMdcHelper;
+import org.qubership.atp.tdm.model.CommonResults;
 import org.qubership.atp.tdm.model.LinkSetupResult;
 import org.qubership.atp.tdm.model.TestDataTableCatalog;
 import org.qubership.atp.tdm.model.bulkaction.BulkActionConfig;
-import org.qubership.atp.tdm.model.bulkaction.BulkActionResult;
 import org.qubership.atp.tdm.model.mail.bulkaction.BulkLinksRefreshMailSender;
 import org.qubership.atp.tdm.repo.CatalogRepository;
 import org.qubership.atp.tdm.service.ColumnService;
 import org.qubership.atp.tdm.utils.CurrentTime;
+import org.qubership.atp.tdm.websocket.bulkaction.BulkActionJobs;
 import org.qubership.atp.tdm.websocket.bulkaction.BulkActionsHandler;
-import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.web.socket.WebSocketSession;
 
 import jakarta.annotation.Nonnull;
 import lombok.extern.slf4j.Slf4j;
@@ -49,6 +44,7 @@ public class BulkDataLinksRefreshHandler extends BulkActionsHandler {
     private final ColumnService columnService;
 
     public BulkDataLinksRefreshHandler(@Qualifier("websocket") ExecutorService executorService,
+                                       @Nonnull BulkActionJobs bulkActionJobs,
                                        @Nonnull CatalogRepository catalogRepository,
                                        @Nonnull EnvironmentsService environmentsService,
                                        @Nonnull ColumnService columnService,
@@ -57,42 +53,35 @@ public class BulkDataLinksRefreshHandler extends BulkActionsHandler {
                                        @Nonnull LockManager lockManager,
                                        @Nonnull TdmMdcHelper mdcHelper
     ) {
-        super(executorService, catalogRepository, environmentsService, mailSender, currentTime, lockManager, mdcHelper);
+        super(executorService, bulkActionJobs, catalogRepository, environmentsService, mailSender, currentTime,
+                lockManager, mdcHelper);
         this.columnService = columnService;
     }
 
     @Override
-    public List<Future<BulkActionResult>> runBulkAction(@Nonnull WebSocketSession session,
-                                                        @Nonnull ExecutorService executor,
-                                                        @Nonnull List<LazyEnvironment> lazyEnvironments,
-                                                        @Nonnull BulkActionConfig config, long processId) {
+    protected String getAction() {
+        return "links";
+    }
+
+    @Override
+    protected Class<? extends CommonResults> getResultsType() {
+        return LinkSetupResult.class;
+    }
+
+    @Override
+    protected List<TestDataTableCatalog> findTables(@Nonnull List<LazyEnvironment> lazyEnvironments,
+                                                    @Nonnull BulkActionConfig config, long processId) {
         log.info("Bulk links refresh has been initiated, id: {}, config: {}", processId, config);
         List<TestDataTableCatalog> catalogList = columnService.getAllTablesWithLinks(config.getProjectId(),
                 config.getSystemId());
         environmentsService.resetCaches();
         log.trace("Found: {} tables.", catalogList.size());
-        List<Future<BulkActionResult>> futures = new ArrayList<>();
-        Map<String, String> mdcMap = MDC.getCopyOfContextMap();
-        catalogList.forEach(tableCatalog -> {
-            Future<BulkActionResult> future = executor
-                    .submit(() -> {
-                        MdcUtils.setContextMap(mdcMap);
-                        String envName = getEnvName(lazyEnvironments, tableCatalog.getEnvironmentId());
-                        try {
-                            LinkSetupResult linkSetupResults =
-                                    columnService.setUpLinks(config.getProjectId(),
-                                            config.getSystemId(), tableCatalog.getTableName());
-                            return new BulkActionResult(tableCatalog.getTableTitle(),
-                                    tableCatalog.getTableName(), envName, linkSetupResults);
-                        } catch (Exception e) {
-                            return new BulkActionResult(tableCatalog.getTableTitle(), tableCatalog.getTableName(),
-                                    envName, e);
-                        }
-                    });
-            futures.add(future);
-        });
-        return futures;
+        return catalogList;
     }
-}
-
 
+    @Override
+    protected CommonResults processTable(@Nonnull TestDataTableCatalog tableCatalog,
+                                         @Nonnull BulkActionConfig config) {
+        return columnService.setUpLinks(config.getProjectId(), config.getSystemId(), tableCatalog.getTableName());
+    }
+}
@@ -1,2 +1,6 @@
 delete from test_data_occupy_statistic where table_name = 'test_table_statistic_availability_first';
 delete from test_data_occupy_statistic where table_name = 'test_table_statistic_availability_second';
+delete from test_data_occupy_statistic_daily where table_name = 'test_table_statistic_availability_first';
+delete from test_data_occupy_statistic_daily where table_name = 'test_table_statistic_availability_second';
+delete from test_data_table_counters where table_name = 'test_table_statistic_availability_first';
+delete from test_data_table_counters where table_name = 'test_table_statistic_availability_second';
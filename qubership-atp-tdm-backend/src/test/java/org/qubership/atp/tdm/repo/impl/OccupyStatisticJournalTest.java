@@ -0,0 +1,152 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.qubership.atp.tdm.model.TestDataOccupyStatistic;
+import org.qubership.atp.tdm.repo.StatisticsRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class OccupyStatisticJournalTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void occupyStatisticJournal_flush_changesWrittenInOrderByKind() {
+        StatisticsRepository repository = mock(StatisticsRepository.class);
+        OccupyStatisticJournal journal = newJournal(repository);
+        TestDataOccupyStatistic first = newStatistic();
+        TestDataOccupyStatistic second = newStatistic();
+
+        journal.save(Collections.singletonList(first));
+        journal.save(Collections.singletonList(second));
+        journal.delete(Collections.singletonList(first.getRowId()));
+        journal.flush();
+
+        InOrder inOrder = inOrder(repository);
+        inOrder.verify(repository).saveOccupyStatistics(Arrays.asList(first, second));
+        inOrder.verify(repository).deleteOccupyStatistics(Collections.singletonList(first.getRowId()));
+    }
+
+    @Test
+    public void occupyStatisticJournal_writeFailed_changesSpilledAndWrittenOnNextStart() {
+        StatisticsRepository failingRepository = mock(StatisticsRepository.class);
+        doThrow(new IllegalStateException("Database is unavailable"))
+                .when(failingRepository).saveOccupyStatistics(any());
+        TestDataOccupyStatistic statistic = newStatistic();
+        OccupyStatisticJournal journal = newJournal(failingRepository);
+        journal.save(Collections.singletonList(statistic));
+        journal.flush();
+        Assertions.assertTrue(Files.exists(tempDir.resolve("journal.jsonl")));
+
+        StatisticsRepository repository = mock(StatisticsRepository.class);
+        newJournal(repository).flush();
+
+        verify(repository).saveOccupyStatistics(Collections.singletonList(statistic));
+        Assertions.assertFalse(Files.exists(tempDir.resolve("journal.jsonl")));
+    }
+
+    @Test
+    public void occupyStatisticJournal_writeFailed_laterChangesSpilledAndWrittenInOrder() {
+        StatisticsRepository failingRepository = mock(StatisticsRepository.class);
+        doThrow(new IllegalStateException("Database is unavailable"))
+                .when(failingRepository).saveOccupyStatistics(any());
+        TestDataOccupyStatistic statistic = newStatistic();
+        OccupyStatisticJournal journal = newJournal(failingRepository);
+        journal.save(Collections.singletonList(statistic));
+        journal.delete(Collections.singletonList(statistic.getRowId()));
+        journal.flush();
+        verify(failingRepository, never()).deleteOccupyStatistics(any());
+
+        StatisticsRepository repository = mock(StatisticsRepository.class);
+        newJournal(repository).flush();
+
+        InOrder inOrder = inOrder(repository);
+        inOrder.verify(repository).saveOccupyStatistics(Collections.singletonList(statistic));
+        inOrder.verify(repository).deleteOccupyStatistics(Collections.singletonList(statistic.getRowId()));
+        Assertions.assertFalse(Files.exists(tempDir.resolve("journal.jsonl")));
+    }
+
+    @Test
+    public void occupyStatisticJournal_changeFailedMaxAttempts_changeMovedToDeadLetterAndLaterChangesWritten() {
+        StatisticsRepository repository = mock(StatisticsRepository.class);
+        doThrow(new DataIntegrityViolationException("Invalid statistic"))
+                .when(repository).saveOccupyStatistics(any());
+        TestDataOccupyStatistic statistic = newStatistic();
+        UUID releasedRowId = UUID.randomUUID();
+        OccupyStatisticJournal journal = newJournal(repository);
+        journal.save(Collections.singletonList(statistic));
+        journal.delete(Collections.singletonList(releasedRowId));
+
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            journal.flush();
+        }
+
+        verify(repository).deleteOccupyStatistics(Collections.singletonList(releasedRowId));
+        Assertions.assertTrue(Files.exists(tempDir.resolve("journal.jsonl.dead")));
+        Assertions.assertFalse(Files.exists(tempDir.resolve("journal.jsonl")));
+    }
+
+    @Test
+    public void occupyStatisticJournal_databaseUnavailable_changeKeptInSpillFile() {
+        StatisticsRepository repository = mock(StatisticsRepository.class);
+        doThrow(new CannotGetJdbcConnectionException("Database is unavailable"))
+                .when(repository).saveOccupyStatistics(any());
+        OccupyStatisticJournal journal = newJournal(repository);
+        journal.save(Collections.singletonList(newStatistic()));
+
+        for (int attempt = 0; attempt < MAX_ATTEMPTS * 2; attempt++) {
+            journal.flush();
+        }
+
+        Assertions.assertTrue(Files.exists(tempDir.resolve("journal.jsonl")));
+        Assertions.assertFalse(Files.exists(tempDir.resolve("journal.jsonl.dead")));
+    }
+
+    private OccupyStatisticJournal newJournal(StatisticsRepository repository) {
+        return new OccupyStatisticJournal(repository, new SimpleMeterRegistry(), true, 100, 100, 60000, MAX_ATTEMPTS,
+                tempDir.resolve("journal.jsonl").toString());
+    }
+
+    private TestDataOccupyStatistic newStatistic() {
+        return new TestDataOccupyStatistic(UUID.randomUUID(), UUID.randomUUID(), null, "tdm_table", "Table",
+                "User", LocalDateTime.of(2024, 5, 1, 10, 15), LocalDateTime.of(2024, 4, 1, 9, 0));
+    }
+}
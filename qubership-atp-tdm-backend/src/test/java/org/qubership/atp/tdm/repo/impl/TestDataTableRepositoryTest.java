@@ -19,25 +19,57 @@ package org.qubership.atp.tdm.repo.impl;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.qubership.atp.tdm.exceptions.internal.TdmTestDataPageLimitException;
 import org.qubership.atp.tdm.model.ColumnValues;
+import org.qubership.atp.tdm.model.TestDataRequest;
+import org.qubership.atp.tdm.model.statistics.TableCounters;
+import org.qubership.atp.tdm.model.table.OrderType;
 import org.qubership.atp.tdm.model.table.TestDataTable;
+import org.qubership.atp.tdm.model.table.TestDataTableOrder;
 import org.qubership.atp.tdm.model.table.column.TestDataTableColumn;
+import org.qubership.atp.tdm.repo.TableCountersRepository;
+import org.qubership.atp.tdm.repo.TestDataIndexRepository;
+import org.qubership.atp.tdm.utils.TestDataQueries;
 import org.qubership.atp.tdm.utils.TestDataTableConvertor;
+import org.qubership.atp.tdm.utils.TestDataTableCreator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import org.qubership.atp.tdm.AbstractTestDataTest;
 
 public class TestDataTableRepositoryTest extends AbstractTestDataTest {
 
+    @Autowired
+    private TableCountersRepository tableCountersRepository;
+
+    @Autowired
+    private TestDataIndexRepository indexRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     public void testDataTableRepository_getFullTestDataTest_extractedTableEqualToExpected() {
         String tableName = TestDataTableConvertor.generateTestDataTableName();
@@ -57,6 +89,56 @@ public class TestDataTableRepositoryTest extends AbstractTestDataTest {
         deleteTestDataTableIfExists(tableName);
     }
 
+    @Test
+    public void testDataTableRepository_forEachTestDataPage_rowsStreamedInPagesWithSelectedColumns() {
+        String tableName = TestDataTableConvertor.generateTestDataTableName();
+        createTestDataTable(tableName);
+        List<Integer> pageSizes = new ArrayList<>();
+        Set<Set<String>> rowColumns = new HashSet<>();
+
+        testDataTableRepository.forEachTestDataPage(tableName, Arrays.asList("ROW_ID", "Partner"), 4, page -> {
+            pageSizes.add(page.size());
+            page.forEach(row -> rowColumns.add(row.keySet()));
+        });
+
+        deleteTestDataTableIfExists(tableName);
+        Assertions.assertEquals(Arrays.asList(4, 2), pageSizes);
+        Assertions.assertEquals(Collections.singleton(new HashSet<>(Arrays.asList("ROW_ID", "Partner"))), rowColumns);
+    }
+
+    @Test
+    public void testDataTableRepository_loadRows_streamedRowsInsertedIntoNewTable() {
+        String tableName = TestDataTableConvertor.generateTestDataTableName();
+
+        int loadedRows = testDataTableRepository.loadRows(tableName, false, sink -> {
+            for (int index = 0; index < 3; index++) {
+                Map<String, Object> row = new HashMap<>();
+                row.put("Partner", "Partner " + index);
+                row.put("Value", index);
+                sink.accept(row);
+            }
+        });
+
+        TestDataTable testData = testDataService.getTestData(tableName);
+        deleteTestDataTableIfExists(tableName);
+        Assertions.assertEquals(3, loadedRows);
+        Assertions.assertEquals(3, testData.getData().size());
+    }
+
+    @Test
+    public void testDataTableRepository_loadRows_producerFailed_failureRethrown() {
+        String tableName = TestDataTableConvertor.generateTestDataTableName();
+
+        IllegalStateException exception = Assertions.assertThrows(IllegalStateException.class,
+                () -> testDataTableRepository.loadRows(tableName, false, sink -> {
+                    sink.accept(Collections.singletonMap("Partner", "Partner"));
+                    throw new IllegalStateException("Source query failed");
+                }));
+
+        deleteTestDataTableIfExists(tableName);
+        Assertions.assertEquals("Source query failed", exception.getMessage());
+    }
+
     @Test
     public void testInsertRow_addNewColumn_newColumnExist() {
         String tableName = TestDataTableConvertor.generateTestDataTableName();
@@ -113,6 +195,169 @@ public class TestDataTableRepositoryTest extends AbstractTestDataTest {
     }
 
 
+    @Test
+    public void tableRepository_occupyAvailableRows_occupiedRowsAreNotReturnedTwice() {
+        String tableName = TestDataTableConvertor.generateTestDataTableName();
+        createTestDataTable(tableName);
+        try {
+            List<Map<String, Object>> firstRows = testDataTableRepository
+                    .occupyAvailableRows(tableName, "ATP_User", null, 4);
+            List<Map<String, Object>> secondRows = testDataTableRepository
+                    .occupyAvailableRows(tableName, "ATP_User", null, 4);
+
+            Assertions.assertEquals(4, firstRows.size());
+            Assertions.assertEquals(2, secondRows.size());
+            Set<Object> firstRowIds = firstRows.stream().map(row -> row.get("ROW_ID")).collect(Collectors.toSet());
+            secondRows.forEach(row -> Assertions.assertFalse(firstRowIds.contains(row.get("ROW_ID"))));
+            Assertions.assertTrue(testDataTableRepository.occupyAvailableRows(tableName, "ATP_User", null, 1)
+                    .isEmpty());
+        } finally {
+            deleteTestDataTableIfExists(tableName);
+        }
+    }
+
+    @Test
+    public void tableRepository_occupyAndReleaseRows_tableCountersFollowChanges() {
+        String tableName = TestDataTableConvertor.generateTestDataTableName();
+        createTestDataTable(tableName);
+        try {
+            tableCountersRepository.recount(tableName);
+            List<Map<String, Object>> occupiedRows = testDataTableRepository
+                    .occupyAvailableRows(tableName, "ATP_User", null, 4);
+            testDataTableRepository.releaseTestData(tableName,
+                    Collections.singletonList(UUID.fromString(String.valueOf(occupiedRows.get(0).get("ROW_ID")))));
+
+            TableCounters counters = tableCountersRepository.getCounters(Collections.singletonList(tableName))
+                    .get(tableName.toLowerCase());
+            TableCounters recounted = tableCountersRepository.recount(tableName);
+            Assertions.assertEquals(3, counters.getAvailable());
+            Assertions.assertEquals(3, counters.getOccupied());
+            Assertions.assertEquals(recounted.getAvailable(), counters.getAvailable());
+            Assertions.assertEquals(recounted.getOccupied(), counters.getOccupied());
+        } finally {
+            deleteTestDataTableIfExists(tableName);
+        }
+    }
+
+    @Test
+    public void tableCountersRepository_addDeltaToInvalidatedCounters_countersRecountedOnRead() {
+        String tableName = TestDataTableConvertor.generateTestDataTableName();
+        createTestDataTable(tableName);
+        try {
+            TableCounters counted = tableCountersRepository.recount(tableName);
+            tableCountersRepository.invalidate(tableName);
+            tableCountersRepository.addDelta(tableName, -1, 1, null);
+
+            Assertions.assertFalse(tableCountersRepository.getCounters(Collections.singletonList(tableName))
+                    .containsKey(tableName.toLowerCase()));
+            TableCounters recounted = tableCountersRepository.recount(tableName);
+            Assertions.assertEquals(counted.getAvailable(), recounted.getAvailable());
+            Assertions.assertEquals(recounted, tableCountersRepository.getCounters(
+                    Collections.singletonList(tableName)).get(tableName.toLowerCase()));
+        } finally {
+            deleteTestDataTableIfExists(tableName);
+        }
+    }
+
+    @Test
+    public void tableRepository_writeTestDataByKeyset_allRowsWrittenOnceInOrder() throws IOException {
+        String tableName = TestDataTableConvertor.generateTestDataTableName();
+        createTestDataTable(tableName);
+        try {
+            TestDataRequest request = new TestDataRequest();
+            request.setTableName(tableName);
+            request.setLimit(4);
+            request.setDataTableOrder(new TestDataTableOrder("Partner", OrderType.DESC));
+            JsonNode firstPage = writeTestDataPage(request);
+            request.setAfterValue(firstPage.get("nextPage").get("afterValue").textValue());
+            request.setAfterRowId(UUID.fromString(firstPage.get("nextPage").get("afterRowId").asText()));
+            JsonNode secondPage = writeTestDataPage(request);
+
+            List<String> rowIds = new ArrayList<>();
+            firstPage.get("data").get("body").get("rows").forEach(row -> rowIds.add(row.get("id").asText()));
+            secondPage.get("data").get("body").get("rows").forEach(row -> rowIds.add(row.get("id").asText()));
+            List<String> expectedRowIds = jdbcTemplate.queryForList(String.format(
+                    "SELECT \"ROW_ID\" FROM %s ORDER BY \"Partner\" DESC, \"ROW_ID\" DESC", tableName),
+                    String.class);
+            Assertions.assertEquals(expectedRowIds, rowIds);
+            Assertions.assertNull(secondPage.get("nextPage"));
+            Assertions.assertEquals(6, firstPage.get("records").asInt());
+            Assertions.assertEquals(6, secondPage.get("records").asInt());
+        } finally {
+            deleteTestDataTableIfExists(tableName);
+        }
+    }
+
+    @Test
+    public void tableRepository_writeTestDataWithoutLimit_throwPageLimitException() {
+        TestDataRequest request = new TestDataRequest();
+        request.setTableName(TestDataTableConvertor.generateTestDataTableName());
+        Assertions.assertThrows(TdmTestDataPageLimitException.class, () -> writeTestDataPage(request));
+    }
+
+    private JsonNode writeTestDataPage(TestDataRequest request) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator jsonGenerator = objectMapper.getFactory().createGenerator(writer)) {
+            testDataTableRepository.writeTestData(request, jsonGenerator);
+        }
+        return objectMapper.readTree(writer.toString());
+    }
+
+    @Test
+    public void tableRepository_getCreatedWhen_createdWhenOfRequestedRowsReturned() {
+        String tableName = TestDataTableConvertor.generateTestDataTableName();
+        createTestDataTable(tableName);
+        try {
+            TestDataTable table = testDataService.getTestData(tableName);
+            List<UUID> rowIds = table.getData().stream()
+                    .map(row -> UUID.fromString(String.valueOf(row.get("ROW_ID"))))
+                    .collect(Collectors.toList());
+            rowIds.add(UUID.randomUUID());
+
+            Map<UUID, LocalDateTime> createdWhen = testDataTableRepository.getCreatedWhen(tableName, rowIds);
+
+            Assertions.assertEquals(table.getData().size(), createdWhen.size());
+            createdWhen.values().forEach(Assertions::assertNotNull);
+        } finally {
+            deleteTestDataTableIfExists(tableName);
+        }
+    }
+
+    @Test
+    public void tableRepository_createTable_rowIdPrimaryKeyCreated() {
+        String tableName = TestDataTableConvertor.generateTestDataTableName();
+        createTestDataTable(tableName);
+        try {
+            Assertions.assertEquals(1, jdbcTemplate.queryForObject(TestDataQueries.HAS_PRIMARY_KEY, Integer.class,
+                    tableName));
+        } finally {
+            deleteTestDataTableIfExists(tableName);
+        }
+    }
+
+    @Test
+    public void tableRepository_createIndexesWithDuplicatedRowIds_indexesCreatedWithoutPrimaryKey() {
+        String tableName = TestDataTableConvertor.generateTestDataTableName();
+        jdbcTemplate.execute(new TestDataTableCreator(tableName).createTableQuery());
+        UUID rowId = UUID.randomUUID();
+        for (int index = 0; index < 2; index++) {
+            jdbcTemplate.update("INSERT INTO " + tableName + " (\"ROW_ID\", \"SELECTED\") VALUES (?, false)",
+                    rowId);
+        }
+        try {
+            indexRepository.createIndexes(tableName);
+            indexRepository.createMissingIndexes(tableName);
+
+            Assertions.assertEquals(0, jdbcTemplate.queryForObject(TestDataQueries.HAS_PRIMARY_KEY, Integer.class,
+                    tableName));
+            Assertions.assertEquals(1, jdbcTemplate.queryForObject(TestDataQueries.HAS_INDEX_H2, Integer.class,
+                    tableName, tableName + "_row_id_idx"));
+        } finally {
+            jdbcTemplate.execute(String.format(TestDataQueries.DROP_TABLE, tableName));
+        }
+    }
+
     @Test
     public void tableRepository_updateLastUsage_success() {
         String tableTitle = "tdm_update_last_usage";
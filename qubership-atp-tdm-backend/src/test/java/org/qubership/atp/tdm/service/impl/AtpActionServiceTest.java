@@ -187,6 +187,28 @@ public class AtpActionServiceTest extends AbstractTestDataTest {
                 responseMessage.getLink());
     }
 
+    @Test
+    public void atpOccupyTestData_sameFiltersInOneRequest_differentRowsOccupied() {
+        String tableName = "tdm_api_test_occupy_same_filters";
+        TestDataTableCatalog catalog = createTestDataTableCatalog(projectId, systemId, environmentId,
+                "TDM API Test Occupy Same Filters", tableName);
+        createTestDataTable(catalog.getTableName());
+        List<OccupyRowRequest> occupyRowRequests = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            occupyRowRequests.add(buildOccupyRowRequest("Assignment", "sim", "Start With", "89"));
+        }
+
+        List<ResponseMessage> responseMessages = atpActionService.occupyTestData(lazyProject.getName(),
+                lazyEnvironment.getName(), system.getName(), catalog.getTableTitle(), occupyRowRequests);
+
+        deleteTestDataTableIfExists(tableName);
+        catalogRepository.deleteByTableName(tableName);
+
+        Assertions.assertEquals(3, responseMessages.size());
+        responseMessages.forEach(message -> Assertions.assertEquals(ResponseType.SUCCESS, message.getType()));
+        Assertions.assertEquals(3, responseMessages.stream().map(ResponseMessage::getContent).distinct().count());
+    }
+
     @Test
     public void atpOccupyTestDataFullRow_applyFilterTypeContains_successfullyFind() {
         String tableName = "tdm_api_test_occupy_full_row_contains_filter";
@@ -19,7 +19,9 @@ package org.qubership.atp.tdm.service.impl;
 import org.qubership.atp.tdm.AbstractTestDataTest;
 import org.qubership.atp.tdm.env.configurator.model.Project;
 import org.qubership.atp.tdm.model.ColumnType;
+import org.qubership.atp.tdm.model.FilterType;
 import org.qubership.atp.tdm.model.LinkSetupResult;
+import org.qubership.atp.tdm.model.table.TestDataTable;
 import org.qubership.atp.tdm.model.table.column.TestDataTableColumn;
 import org.qubership.atp.tdm.model.table.column.TestDataTableColumnIdentity;
 import org.qubership.atp.tdm.service.ColumnService;
@@ -65,6 +67,29 @@ public class ColumnServiceTest extends AbstractTestDataTest {
         Assertions.assertEquals(expectedLink, actualLink);
     }
 
+    @Test
+    public void columnService_extractColumns_filterTypeRecalculatedAfterTableChange() {
+        String tableName = "tdm_test_column_filter_type_cache";
+        createTestDataTable(tableName);
+        try {
+            Assertions.assertEquals(FilterType.LIST, getFilterType(testDataService.getTestData(tableName), "Status"));
+
+            testDataTableRepository.deleteAllRows(tableName);
+
+            Assertions.assertEquals(FilterType.NONE, getFilterType(testDataService.getTestData(tableName), "Status"));
+        } finally {
+            deleteTestDataTableIfExists(tableName);
+        }
+    }
+
+    private FilterType getFilterType(TestDataTable table, String columnName) {
+        return table.getColumns().stream()
+                .filter(column -> columnName.equals(column.getIdentity().getColumnName()))
+                .findFirst()
+                .orElseThrow(IllegalStateException::new)
+                .getFilterType();
+    }
+
     @Test
     public void columnService_setupColumnLinks_linksSet() {
         String tableName = "tdm_test_setup_column_link";
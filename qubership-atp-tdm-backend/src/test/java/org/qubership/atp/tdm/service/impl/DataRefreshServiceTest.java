@@ -149,6 +149,21 @@ public class DataRefreshServiceTest extends AbstractTestDataTest {
         Assertions.assertEquals(sourceTable.getData().size(), actualRows);
     }
 
+    @Test
+    public void runRefresh_refreshTableWithoutImportInfo_returnsResultsWithError() throws Exception {
+        String tableName = "tdm_test_data_refresh_without_import_info";
+        createTestDataTable(tableName);
+        createTestDataTableCatalog(projectId, systemId, environmentId,
+                "TDM Test Data Refresh Without Import Info", tableName);
+        when(gitEnvironmentsService.getFullProject(any())).thenReturn(project);
+        List<RefreshResults> refreshResults = dataRefreshService.runRefresh(tableName, 30, false, false);
+        deleteTestDataTableIfExists(tableName);
+        catalogRepository.deleteByTableName(tableName);
+        Assertions.assertEquals(1, refreshResults.size());
+        Assertions.assertEquals(tableName, refreshResults.get(0).getTableName());
+        Assertions.assertNotNull(refreshResults.get(0).getError());
+    }
+
     @Test
     public void refreshConfig_saveConfigWithOutTableNams_returnError() {
         String tableName = "";
@@ -0,0 +1,51 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.service.impl;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class EnvironmentTaskExecutorTest {
+
+    private final UUID failingEnvironment = UUID.randomUUID();
+    private final UUID workingEnvironment = UUID.randomUUID();
+
+    @Test
+    public void environmentTaskExecutor_execute_failedEnvironmentSkippedAndResultsOrdered() {
+        EnvironmentTaskExecutor executor = new EnvironmentTaskExecutor(4, 1, 0);
+        List<String> tasks = Arrays.asList("fail-1", "ok-1", "fail-2", "ok-2", "ok-3");
+
+        List<String> results = executor.execute(tasks,
+                task -> task.startsWith("fail") ? failingEnvironment : workingEnvironment,
+                task -> {
+                    if (task.startsWith("fail")) {
+                        throw new IllegalStateException("Connection refused");
+                    }
+                    return task + " done";
+                },
+                (task, e) -> task + " " + e.getMessage());
+        executor.shutdown();
+
+        Assertions.assertEquals(Arrays.asList("fail-1 Connection refused", "ok-1 done",
+                "fail-2 Environment " + failingEnvironment + " is skipped after previous failure: Connection refused",
+                "ok-2 done", "ok-3 done"), results);
+    }
+}
@@ -36,6 +36,11 @@ import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
@@ -49,10 +54,12 @@ import org.qubership.atp.tdm.env.configurator.model.LazySystem;
 import org.qubership.atp.tdm.env.configurator.model.Project;
 import org.qubership.atp.tdm.env.configurator.model.System;
 import org.qubership.atp.tdm.model.ProjectInformation;
+import org.qubership.atp.tdm.model.TestDataOccupyStatistic;
 import org.qubership.atp.tdm.model.mail.charts.ChartSeries;
 import org.qubership.atp.tdm.model.statistics.AvailableDataStatisticsConfig;
 import org.qubership.atp.tdm.model.statistics.ConsumedStatistics;
 import org.qubership.atp.tdm.model.statistics.ConsumedStatisticsItem;
+import org.qubership.atp.tdm.model.statistics.DailyStatisticsCounter;
 import org.qubership.atp.tdm.model.statistics.DateStatistics;
 import org.qubership.atp.tdm.model.statistics.DateStatisticsItem;
 import org.qubership.atp.tdm.model.statistics.GeneralStatisticsItem;
@@ -72,13 +79,18 @@ import org.qubership.atp.tdm.model.statistics.report.UsersStatisticsReportElemen
 import org.qubership.atp.tdm.model.statistics.report.UsersStatisticsReportObject;
 import org.qubership.atp.tdm.model.table.TableColumnValues;
 import org.qubership.atp.tdm.model.table.TestDataTable;
+import org.qubership.atp.tdm.repo.StatisticsRepository;
+import org.qubership.atp.tdm.repo.StatisticsRollupRepository;
 import org.qubership.atp.tdm.repo.TestAvailableDataMonitoringRepository;
 import org.qubership.atp.tdm.repo.TestDataUsersMonitoringRepository;
 import org.qubership.atp.tdm.utils.AvailableStatisticUtils;
 import org.qubership.atp.tdm.utils.DataUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Sql({"/scripts.sql"})
 public class StatisticsServiceTest extends AbstractTestDataTest {
@@ -154,6 +166,18 @@ public class StatisticsServiceTest extends AbstractTestDataTest {
     @Autowired
     private TestAvailableDataMonitoringRepository availableDataMonitoringRepository;
 
+    @Autowired
+    private StatisticsRepository statisticsRepository;
+
+    @Autowired
+    private StatisticsRollupRepository statisticsRollupRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     public void setUp() throws RuntimeException {
         deleteTestDataTableIfExists(TABLE_NAME_FIRST);
         deleteTestDataTableIfExists(TABLE_NAME_SECOND);
@@ -386,6 +410,17 @@ public class StatisticsServiceTest extends AbstractTestDataTest {
         Assertions.assertEquals(expectedStatistics, actualStatistics);
     }
 
+    @Test
+    public void statisticsService_checkAvailabilityAfterOccupy_returnsActualAvailabilityStatistics() {
+        setUp();
+        statisticsService.getTestDataAvailability(projectId, systemId);
+        TestDataTable table = testDataService.getTestData(TABLE_NAME_FIRST);
+        testDataService.occupyTestData(TABLE_NAME_FIRST, "TestUser", extractRowIds(table.getData().subList(1, 2)));
+        GeneralStatisticsItem actualStatistics = statisticsService.getTestDataAvailability(projectId, systemId).get(0);
+        Assertions.assertEquals(4L, actualStatistics.getAvailable());
+        Assertions.assertEquals(2L, actualStatistics.getOccupied());
+    }
+
     @Test
     public void availableStatisticsUtils_buildConfiguration_bodyCorrect() throws IOException {
         ArrayList<ChartSeries> charts = new ArrayList<>();
@@ -801,6 +836,73 @@ public class StatisticsServiceTest extends AbstractTestDataTest {
         Assertions.assertEquals("TestUser", response.getData().get(1).getUserName());
     }
 
+    @Test
+    public void statisticsRepository_deleteOccupyStatisticsBefore_prunedStatisticsNotInUsersStatistics() {
+        setUp();
+        mockEnvForStatistics();
+        statisticsRepository.deleteOccupyStatisticsBefore(LocalDate.now().plusDays(2L));
+        UsersOccupyStatisticResponse response = statisticsService.getOccupiedDataByUsers(usersOccupyStatisticRequest);
+
+        Assertions.assertEquals(0, response.getRecords());
+    }
+
+    @Test
+    public void statisticsRepository_deleteOccupyStatisticsBefore_createdWhenStatisticsPruned() {
+        UUID rowId = UUID.randomUUID();
+        TestDataOccupyStatistic createdStatistic = new TestDataOccupyStatistic(rowId, UUID.randomUUID(),
+                UUID.randomUUID(), "test_table_statistic_created_when", TABLE_TITLE, null, null,
+                LocalDateTime.now().minusDays(10L));
+        statisticsRepository.saveOccupyStatistics(Collections.singletonList(createdStatistic));
+
+        statisticsRepository.deleteOccupyStatisticsBefore(LocalDate.now().minusDays(5L));
+
+        Assertions.assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM test_data_occupy_statistic WHERE row_id = ?", Integer.class, rowId));
+    }
+
+    @Test
+    public void statisticsRepository_saveOccupyStatisticsConcurrently_dailyCountersOfBothWritersSaved()
+            throws Exception {
+        String tableName = "test_table_statistic_concurrent_" + UUID.randomUUID().toString().replace("-", "");
+        LocalDateTime occupiedDate = LocalDateTime.now();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CountDownLatch firstSaved = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> first = executorService.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                statisticsRepository.saveOccupyStatistics(Collections.singletonList(
+                        createOccupyStatistic(tableName, occupiedDate)));
+                firstSaved.countDown();
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            Future<?> second = executorService.submit(() -> {
+                firstSaved.await();
+                transactionTemplate.executeWithoutResult(status -> statisticsRepository.saveOccupyStatistics(
+                        Collections.singletonList(createOccupyStatistic(tableName, occupiedDate))));
+                return null;
+            });
+            first.get(10, TimeUnit.SECONDS);
+            second.get(10, TimeUnit.SECONDS);
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        List<DailyStatisticsCounter> counters = statisticsRollupRepository.getCounters(
+                Collections.singletonList(tableName), occupiedDate.toLocalDate(), null);
+        Assertions.assertEquals(1, counters.size());
+        Assertions.assertEquals(2, counters.get(0).getCreated());
+        Assertions.assertEquals(2, counters.get(0).getConsumed());
+    }
+
+    private TestDataOccupyStatistic createOccupyStatistic(String tableName, LocalDateTime occupiedDate) {
+        return new TestDataOccupyStatistic(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), tableName,
+                TABLE_TITLE, "ATP_User", occupiedDate, occupiedDate);
+    }
+
     @Test
     public void statisticsService_getUsersMonitoringSchedule_successfulGet() {
         TestDataTableUsersMonitoring usersMonitoring = getTestDataTableUsersMonitoring(cron);
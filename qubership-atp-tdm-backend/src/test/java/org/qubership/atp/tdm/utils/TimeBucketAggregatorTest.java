@@ -0,0 +1,54 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.utils;
+
+import org.qubership.atp.tdm.model.statistics.StatisticsInterval;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+public class TimeBucketAggregatorTest {
+
+    @Test
+    public void timeBucketAggregator_addWeeksOfPeriod_countsInBucketsFromPeriodStart() {
+        LocalDate dateFrom = LocalDate.of(2024, 1, 31);
+        TimeBucketAggregator aggregator = new TimeBucketAggregator(StatisticsInterval.WEEKS, dateFrom,
+                dateFrom.plusDays(20));
+        aggregator.add("table", dateFrom, 1);
+        aggregator.add("table", dateFrom.plusDays(6), 2);
+        aggregator.add("table", dateFrom.plusDays(7), 3);
+        aggregator.add("table", dateFrom.plusDays(20), 4);
+        aggregator.add("table", dateFrom.minusDays(1), 5);
+        aggregator.add("table", dateFrom.plusDays(21), 6);
+        Assertions.assertEquals(Arrays.asList(3L, 3L, 4L), aggregator.getCounts("table"));
+        Assertions.assertEquals(Arrays.asList(0L, 0L, 0L), aggregator.getCounts("other"));
+    }
+
+    @Test
+    public void timeBucketAggregator_addMonthsOfPeriod_countsInCalendarMonths() {
+        LocalDate dateFrom = LocalDate.of(2023, 11, 15);
+        TimeBucketAggregator aggregator = TimeBucketAggregator.forPeriod(dateFrom, LocalDate.of(2024, 2, 15));
+        aggregator.add("table", LocalDate.of(2023, 11, 1), 1);
+        aggregator.add("table", LocalDate.of(2024, 1, 31), 2);
+        aggregator.add("table", LocalDate.of(2024, 2, 29), 3);
+        Assertions.assertEquals(StatisticsInterval.MONTHS, aggregator.getInterval());
+        Assertions.assertEquals(Arrays.asList(1L, 0L, 2L, 3L), aggregator.getCounts("table"));
+    }
+}
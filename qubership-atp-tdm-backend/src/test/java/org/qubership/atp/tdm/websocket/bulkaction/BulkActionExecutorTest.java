@@ -0,0 +1,74 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.websocket.bulkaction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class BulkActionExecutorTest {
+
+    @Test
+    public void bulkActionExecutor_take_resultsTakenInCompletionOrder() throws Exception {
+        BulkActionExecutor executor = new BulkActionExecutor(new SimpleMeterRegistry(), 4, 2);
+        BulkActionRun run = executor.newRun(UUID.randomUUID(), true);
+        CountDownLatch fastTaskTaken = new CountDownLatch(1);
+
+        run.submit(() -> {
+            fastTaskTaken.await();
+            return "slow";
+        });
+        run.submit(() -> "fast");
+        List<Object> results = new ArrayList<>();
+        results.add(run.take().get());
+        fastTaskTaken.countDown();
+        results.add(run.take().get());
+        executor.shutdown();
+
+        Assertions.assertEquals(Arrays.asList("fast", "slow"), results);
+    }
+
+    @Test
+    public void bulkActionExecutor_shutdownNow_runningAndQueuedTasksCancelled() throws Exception {
+        BulkActionExecutor executor = new BulkActionExecutor(new SimpleMeterRegistry(), 4, 2);
+        BulkActionRun run = executor.newRun(UUID.randomUUID(), false);
+        CountDownLatch started = new CountDownLatch(1);
+
+        Future<?> running = run.submit(() -> {
+            started.countDown();
+            Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            return null;
+        });
+        Future<?> queued = run.submit(() -> null);
+        started.await();
+        run.shutdownNow();
+
+        Assertions.assertTrue(running.isCancelled());
+        Assertions.assertTrue(queued.isCancelled());
+        Assertions.assertTrue(run.awaitTermination(1, TimeUnit.SECONDS));
+        executor.shutdown();
+    }
+}
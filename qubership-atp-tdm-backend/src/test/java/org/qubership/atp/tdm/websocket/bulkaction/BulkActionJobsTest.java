@@ -0,0 +1,319 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.qubership.atp.tdm.websocket.bulkaction;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.mockito.Mockito;
+import org.qubership.atp.tdm.AbstractTestDataTest;
+import org.qubership.atp.tdm.controllers.BulkActionJobController;
+import org.qubership.atp.tdm.exceptions.websocket.TdmSearchBulkActionJobException;
+import org.qubership.atp.tdm.model.bulkaction.BulkActionConfig;
+import org.qubership.atp.tdm.model.bulkaction.BulkActionJob;
+import org.qubership.atp.tdm.model.bulkaction.BulkActionJobStatus;
+import org.qubership.atp.tdm.model.bulkaction.BulkActionTask;
+import org.qubership.atp.tdm.model.bulkaction.BulkActionTaskStatus;
+import org.qubership.atp.tdm.repo.BulkActionJobRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class BulkActionJobsTest extends AbstractTestDataTest {
+
+    private static final String ACTION = "test-action";
+    private static final String FIRST_WORKER = "worker-1";
+    private static final String SECOND_WORKER = "worker-2";
+    private static final long TASK_TIMEOUT = 120;
+    private static final String EXPIRE_HEARTBEAT = ""
+            + "UPDATE bulk_action_tasks SET heartbeat = heartbeat - INTERVAL '600' SECOND WHERE id = ?";
+
+    @Autowired
+    private BulkActionJobs bulkActionJobs;
+    @Autowired
+    private BulkActionJobRepository bulkActionJobRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<UUID> createdJobs = new ArrayList<>();
+
+    @AfterEach
+    public void tearDown() {
+        createdJobs.forEach(bulkActionJobRepository::cancelJob);
+        createdJobs.clear();
+    }
+
+    @Test
+    public void bulkActionJobs_findJobOfSameActionAndProject_jobFound() {
+        BulkActionJob job = createJob(ACTION, projectId, true, 0);
+
+        BulkActionJob found = bulkActionJobs.findJob(ACTION, reattachConfig(job.getId(), projectId));
+
+        Assertions.assertEquals(job.getId(), found.getId());
+    }
+
+    @Test
+    public void bulkActionJobs_findJobOfAnotherAction_throwSearchBulkActionJobException() {
+        BulkActionJob job = createJob(ACTION, projectId, true, 0);
+
+        Assertions.assertThrows(TdmSearchBulkActionJobException.class,
+                () -> bulkActionJobs.findJob("another-action", reattachConfig(job.getId(), projectId)));
+    }
+
+    @Test
+    public void bulkActionJobs_findJobOfAnotherProject_throwSearchBulkActionJobException() {
+        BulkActionJob job = createJob(ACTION, projectId, true, 0);
+
+        Assertions.assertThrows(TdmSearchBulkActionJobException.class,
+                () -> bulkActionJobs.findJob(ACTION, reattachConfig(job.getId(), UUID.randomUUID())));
+    }
+
+    @Test
+    public void bulkActionJobs_findJobBySameConfig_runningJobReattachedWithCompletedResults() {
+        BulkActionJob job = createJob(ACTION, UUID.randomUUID(), true, 2);
+        BulkActionTask first = job.getTasks().get(0);
+        bulkActionJobRepository.claimTask(job.getId(), first.getId(), FIRST_WORKER, TASK_TIMEOUT, true);
+        bulkActionJobRepository.completeTask(first.getId(), FIRST_WORKER, "{}", null);
+
+        BulkActionJob found = bulkActionJobs.findJob(ACTION, copyConfig(job.getConfig()));
+
+        Assertions.assertEquals(job.getId(), found.getId());
+        Assertions.assertEquals(BulkActionTaskStatus.COMPLETED, found.getTasks().get(0).getStatus());
+        Assertions.assertEquals("{}", found.getTasks().get(0).getResult());
+        Assertions.assertEquals(BulkActionTaskStatus.PENDING, found.getTasks().get(1).getStatus());
+    }
+
+    @Test
+    public void bulkActionJobs_findJobBySameConfigOfFinishedJob_jobNotFound() {
+        BulkActionJob job = createJob(ACTION, UUID.randomUUID(), true, 1);
+        BulkActionTask task = job.getTasks().get(0);
+        bulkActionJobRepository.claimTask(job.getId(), task.getId(), FIRST_WORKER, TASK_TIMEOUT, true);
+        bulkActionJobRepository.completeTask(task.getId(), FIRST_WORKER, "{}", null);
+
+        Assertions.assertTrue(bulkActionJobs.finishJob(job.getId()));
+        Assertions.assertNull(bulkActionJobs.findJob(ACTION, copyConfig(job.getConfig())));
+    }
+
+    @Test
+    public void bulkActionJobs_claimTaskClaimedByAnotherWorker_taskNotClaimed() {
+        BulkActionJob job = createJob(ACTION, projectId, true, 1);
+        UUID taskId = job.getTasks().get(0).getId();
+
+        Assertions.assertTrue(bulkActionJobRepository.claimTask(job.getId(), taskId, FIRST_WORKER, TASK_TIMEOUT,
+                true));
+        Assertions.assertFalse(bulkActionJobRepository.claimTask(job.getId(), taskId, SECOND_WORKER, TASK_TIMEOUT,
+                true));
+        Assertions.assertEquals(FIRST_WORKER, getTask(job.getId(), 0).getOwner());
+    }
+
+    @Test
+    public void bulkActionJobs_claimTaskWithExpiredHeartbeat_taskTakenOverByAnotherWorker() {
+        BulkActionJob job = createJob(ACTION, projectId, true, 1);
+        UUID taskId = job.getTasks().get(0).getId();
+        bulkActionJobRepository.claimTask(job.getId(), taskId, FIRST_WORKER, TASK_TIMEOUT, true);
+        jdbcTemplate.update(EXPIRE_HEARTBEAT, taskId);
+
+        Assertions.assertTrue(bulkActionJobRepository.claimTask(job.getId(), taskId, SECOND_WORKER, TASK_TIMEOUT,
+                true));
+        Assertions.assertFalse(bulkActionJobRepository.completeTask(taskId, FIRST_WORKER, "{}", null));
+        Assertions.assertTrue(bulkActionJobRepository.completeTask(taskId, SECOND_WORKER, "{}", null));
+    }
+
+    @Test
+    public void bulkActionJobs_updateHeartbeatOfExpiredTask_taskNotTakenOver() {
+        BulkActionJob job = createJob(ACTION, projectId, true, 1);
+        UUID taskId = job.getTasks().get(0).getId();
+        bulkActionJobRepository.claimTask(job.getId(), taskId, FIRST_WORKER, TASK_TIMEOUT, true);
+        jdbcTemplate.update(EXPIRE_HEARTBEAT, taskId);
+
+        bulkActionJobRepository.updateHeartbeat(FIRST_WORKER, Collections.singletonList(taskId));
+
+        Assertions.assertFalse(bulkActionJobRepository.claimTask(job.getId(), taskId, SECOND_WORKER, TASK_TIMEOUT,
+                true));
+    }
+
+    @Test
+    public void bulkActionJobs_completedTask_notClaimedOnResume() {
+        BulkActionJob job = createJob(ACTION, projectId, true, 2);
+        UUID completedTaskId = job.getTasks().get(0).getId();
+        bulkActionJobRepository.claimTask(job.getId(), completedTaskId, FIRST_WORKER, TASK_TIMEOUT, true);
+        bulkActionJobRepository.completeTask(completedTaskId, FIRST_WORKER, "{}", null);
+
+        List<UUID> claimableTasks = new ArrayList<>();
+        bulkActionJobRepository.getClaimableTasks(TASK_TIMEOUT, Integer.MAX_VALUE)
+                .forEach(task -> claimableTasks.add(task.getId()));
+
+        Assertions.assertFalse(claimableTasks.contains(completedTaskId));
+        Assertions.assertTrue(claimableTasks.contains(job.getTasks().get(1).getId()));
+        Assertions.assertFalse(bulkActionJobRepository.claimTask(job.getId(), completedTaskId, SECOND_WORKER,
+                TASK_TIMEOUT, true));
+    }
+
+    @Test
+    public void bulkActionJobs_claimTaskOfSequentialJobWhileAnotherTaskRunning_taskNotClaimed() {
+        BulkActionJob sequentialJob = createJob(ACTION, projectId, false, 2);
+        BulkActionJob parallelJob = createJob(ACTION, projectId, true, 2);
+
+        Assertions.assertTrue(claimTask(sequentialJob, 0, FIRST_WORKER));
+        Assertions.assertFalse(claimTask(sequentialJob, 1, SECOND_WORKER));
+        Assertions.assertTrue(claimTask(parallelJob, 0, FIRST_WORKER));
+        Assertions.assertTrue(claimTask(parallelJob, 1, SECOND_WORKER));
+    }
+
+    @Test
+    public void bulkActionJobs_claimTasksOfSequentialJobConcurrently_oneTaskClaimed() throws Exception {
+        BulkActionJob job = createJob(ACTION, projectId, false, 2);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CountDownLatch firstClaimed = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<Boolean> first = executorService.submit(() -> transactionTemplate.execute(status -> {
+                boolean claimed = claimTask(job, 0, FIRST_WORKER);
+                firstClaimed.countDown();
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return claimed;
+            }));
+            Future<Boolean> second = executorService.submit(() -> {
+                firstClaimed.await();
+                return claimTask(job, 1, SECOND_WORKER);
+            });
+
+            Assertions.assertTrue(first.get(10, TimeUnit.SECONDS));
+            Assertions.assertFalse(second.get(10, TimeUnit.SECONDS));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void bulkActionJobs_cancelJobViaController_pendingTasksCancelledAndRunningTaskCompleted() {
+        BulkActionJob job = createJob(ACTION, projectId, true, 2);
+        UUID runningTaskId = job.getTasks().get(0).getId();
+        bulkActionJobRepository.claimTask(job.getId(), runningTaskId, FIRST_WORKER, TASK_TIMEOUT, true);
+
+        new BulkActionJobController(bulkActionJobs).cancelJob(job.getId());
+
+        Assertions.assertEquals(BulkActionJobStatus.CANCELLED, bulkActionJobs.getJobStatus(job.getId()));
+        Assertions.assertEquals(BulkActionTaskStatus.CANCELLED, getTask(job.getId(), 1).getStatus());
+        Assertions.assertFalse(claimTask(job, 1, SECOND_WORKER));
+        Assertions.assertTrue(bulkActionJobRepository.completeTask(runningTaskId, FIRST_WORKER, "{}", null));
+    }
+
+    @Test
+    public void bulkActionJobs_claimedTaskRejectedByExecutor_taskReturnedToPending() throws Exception {
+        String action = "rejected-action";
+        BulkActionJob job = createJob(action, projectId, true, 1);
+        UUID taskId = job.getTasks().get(0).getId();
+        AtomicReference<BulkActionTask> unclaimedTask = new AtomicReference<>();
+        CountDownLatch unclaimed = new CountDownLatch(1);
+        BulkActionJobRepository repository = Mockito.mock(BulkActionJobRepository.class,
+                AdditionalAnswers.delegatesTo(bulkActionJobRepository));
+        doAnswer(invocation -> {
+            bulkActionJobRepository.unclaimTask(invocation.getArgument(0), invocation.getArgument(1));
+            unclaimedTask.compareAndSet(null, getTask(job.getId(), 0));
+            unclaimed.countDown();
+            return null;
+        }).when(repository).unclaimTask(eq(taskId), anyString());
+        BulkActionExecutor executor = new BulkActionExecutor(new SimpleMeterRegistry(), 1, 1);
+        executor.shutdown();
+        BulkActionJobs jobs = new BulkActionJobs(repository, executor, TASK_TIMEOUT, 1, 1000, 2, 7);
+        BulkActionsHandler handler = Mockito.mock(BulkActionsHandler.class);
+        when(handler.getAction()).thenReturn(action);
+        jobs.register(handler);
+        try {
+            jobs.start();
+
+            Assertions.assertTrue(unclaimed.await(10, TimeUnit.SECONDS));
+        } finally {
+            jobs.shutdown();
+        }
+
+        Assertions.assertEquals(BulkActionTaskStatus.PENDING, unclaimedTask.get().getStatus());
+        Assertions.assertNull(unclaimedTask.get().getOwner());
+        verify(handler, never()).runTask(any(), any());
+    }
+
+    private BulkActionJob createJob(String action, UUID projectId, boolean parallel, int tasks) {
+        BulkActionConfig config = new BulkActionConfig() {{
+            setProjectId(projectId);
+            setSystemId(systemId);
+            setExecuteInParallel(parallel);
+        }};
+        BulkActionJob job = new BulkActionJob(action, config, 1L);
+        for (int i = 0; i < tasks; i++) {
+            job.getTasks().add(new BulkActionTask(job.getId(), i, "test_table_" + i, "Table " + i,
+                    environmentName));
+        }
+        bulkActionJobs.createJob(job);
+        createdJobs.add(job.getId());
+        return job;
+    }
+
+    private boolean claimTask(BulkActionJob job, int index, String owner) {
+        return bulkActionJobRepository.claimTask(job.getId(), job.getTasks().get(index).getId(), owner,
+                TASK_TIMEOUT, job.getConfig().isExecuteInParallel());
+    }
+
+    private BulkActionTask getTask(UUID jobId, int index) {
+        return bulkActionJobs.getJob(jobId).getTasks().get(index);
+    }
+
+    private static BulkActionConfig copyConfig(BulkActionConfig config) {
+        return new BulkActionConfig() {{
+            setProjectId(config.getProjectId());
+            setSystemId(config.getSystemId());
+            setExecuteInParallel(config.isExecuteInParallel());
+        }};
+    }
+
+    private static BulkActionConfig reattachConfig(UUID jobId, UUID projectId) {
+        return new BulkActionConfig() {{
+            setProjectId(projectId);
+            setJobId(jobId);
+        }};
+    }
+}
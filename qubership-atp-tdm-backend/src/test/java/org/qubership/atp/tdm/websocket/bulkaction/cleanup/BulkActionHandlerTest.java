@@ -36,6 +36,7 @@ import org.qubership.atp.tdm.model.bulkaction.BulkActionResult;
 import org.qubership.atp.tdm.model.cleanup.CleanupResults;
 import org.qubership.atp.tdm.model.mail.bulkaction.BulkCleanupMailSender;
 import org.qubership.atp.tdm.repo.CleanupConfigRepository;
+import org.qubership.atp.tdm.websocket.bulkaction.BulkActionJobs;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.web.socket.CloseStatus;
@@ -53,6 +54,8 @@ public class BulkActionHandlerTest extends AbstractTestDataTest {
     @Autowired
     ExecutorService executorService;
     @Autowired
+    BulkActionJobs bulkActionJobs;
+    @Autowired
     CleanupConfigRepository cleanupConfigRepository;
     @Autowired
     BulkCleanupMailSender bulkCleanupMailSender;
@@ -62,8 +65,9 @@ public class BulkActionHandlerTest extends AbstractTestDataTest {
 
     @BeforeEach
     public void setUp() throws Exception {
-        bulkDataCleanupHandler = new BulkDataCleanupHandler(executorService, catalogRepository, environmentsService,
-                cleanupService, cleanupConfigRepository, bulkCleanupMailSender, currentTime, lockManager, helper);
+        bulkDataCleanupHandler = new BulkDataCleanupHandler(executorService, bulkActionJobs, catalogRepository,
+                environmentsService, cleanupService, cleanupConfigRepository, bulkCleanupMailSender, currentTime,
+                lockManager, helper);
 
         when(session.isOpen()).thenReturn(true);
         when(session.getUri()).thenReturn(new URI("localhost:8080/"));
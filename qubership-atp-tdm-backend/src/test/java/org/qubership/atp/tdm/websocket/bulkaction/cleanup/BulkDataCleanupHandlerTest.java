@@ -24,6 +24,7 @@ import org.qubership.atp.tdm.model.mail.bulkaction.BulkCleanupMailSender;
 import org.qubership.atp.tdm.model.cleanup.CleanupResults;
 import org.qubership.atp.tdm.repo.CleanupConfigRepository;
 import org.qubership.atp.tdm.env.configurator.model.LazyEnvironment;
+import org.qubership.atp.tdm.websocket.bulkaction.BulkActionJobs;
 import org.assertj.core.util.Lists;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Assertions;
@@ -49,6 +50,9 @@ public class BulkDataCleanupHandlerTest extends AbstractTestDataTest {
     @Autowired
     ExecutorService executorService;
 
+    @Autowired
+    BulkActionJobs bulkActionJobs;
+
     @Autowired
     CleanupConfigRepository cleanupConfigRepository;
 
@@ -61,8 +65,9 @@ public class BulkDataCleanupHandlerTest extends AbstractTestDataTest {
 
     @BeforeEach
     public void setUp() throws Exception {
-        bulkDataCleanupHandler = new BulkDataCleanupHandler(executorService, catalogRepository, environmentsService,
-                cleanupService, cleanupConfigRepository, bulkCleanupMailSender, currentTime, lockManager, tdmMdcHelper);
+        bulkDataCleanupHandler = new BulkDataCleanupHandler(executorService, bulkActionJobs, catalogRepository,
+                environmentsService, cleanupService, cleanupConfigRepository, bulkCleanupMailSender, currentTime,
+                lockManager, tdmMdcHelper);
 
         when(environmentsService.getConnectionsSystemById(any(), any())).thenReturn(connections);
     }
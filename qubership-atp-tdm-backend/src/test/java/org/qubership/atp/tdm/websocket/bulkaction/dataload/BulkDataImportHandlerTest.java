@@ -24,6 +24,7 @@ import org.qubership.atp.tdm.model.mail.bulkaction.BulkCleanupMailSender;
 import org.qubership.atp.tdm.model.refresh.RefreshResults;
 import org.qubership.atp.tdm.model.table.TestDataTable;
 import org.qubership.atp.tdm.service.DataRefreshService;
+import org.qubership.atp.tdm.websocket.bulkaction.BulkActionJobs;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Assertions;
@@ -47,6 +48,9 @@ public class BulkDataImportHandlerTest extends AbstractTestDataTest {
     @Autowired
     ExecutorService executorService;
 
+    @Autowired
+    BulkActionJobs bulkActionJobs;
+
     @Autowired
     BulkCleanupMailSender bulkCleanupMailSender;
 
@@ -60,8 +64,9 @@ public class BulkDataImportHandlerTest extends AbstractTestDataTest {
 
     @BeforeEach
     public void setUp() throws Exception {
-        bulkDataImportHandler = new BulkDataImportHandler(executorService, catalogRepository, environmentsService,
-                bulkCleanupMailSender, dataRefreshService, importInfoRepository, currentTime, lockManager, tdmMdcHelper);
+        bulkDataImportHandler = new BulkDataImportHandler(executorService, bulkActionJobs, catalogRepository,
+                environmentsService, bulkCleanupMailSender, dataRefreshService, importInfoRepository, currentTime,
+                lockManager, tdmMdcHelper);
 
         when(environmentsService.getConnectionsSystemById(any(), any())).thenReturn(Collections.singletonList(dbConnection));
     }
@@ -23,6 +23,7 @@ import org.qubership.atp.tdm.model.mail.bulkaction.BulkRefreshMailSender;
 import org.qubership.atp.tdm.model.refresh.RefreshResults;
 import org.qubership.atp.tdm.model.table.TestDataTable;
 import org.qubership.atp.tdm.service.DataRefreshService;
+import org.qubership.atp.tdm.websocket.bulkaction.BulkActionJobs;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Assertions;
@@ -46,6 +47,9 @@ public class BulkDataRefreshHandlerTest extends AbstractTestDataTest {
     @Autowired
     ExecutorService executorService;
 
+    @Autowired
+    BulkActionJobs bulkActionJobs;
+
     @Autowired
     BulkRefreshMailSender bulkRefreshMailSender;
 
@@ -59,8 +63,9 @@ public class BulkDataRefreshHandlerTest extends AbstractTestDataTest {
 
     @BeforeEach
     public void setUp() throws Exception {
-        bulkDataRefreshHandler = new BulkDataRefreshHandler(executorService, catalogRepository, importInfoRepository,
-                dataRefreshService, environmentsService, bulkRefreshMailSender, currentTime, lockManager, tdmMdcHelper);
+        bulkDataRefreshHandler = new BulkDataRefreshHandler(executorService, bulkActionJobs, catalogRepository,
+                importInfoRepository, dataRefreshService, environmentsService, bulkRefreshMailSender, currentTime,
+                lockManager, tdmMdcHelper);
 
         when(environmentsService.getConnectionsSystemById(any(), any())).thenReturn(Collections.singletonList(dbConnection));
     }
@@ -20,8 +20,12 @@ import org.qubership.atp.tdm.AbstractTestDataTest;
 import org.qubership.atp.tdm.model.CommonResults;
 import org.qubership.atp.tdm.model.DropResults;
 import org.qubership.atp.tdm.model.bulkaction.BulkActionConfig;
+import org.qubership.atp.tdm.model.bulkaction.BulkActionJob;
+import org.qubership.atp.tdm.model.bulkaction.BulkActionJobStatus;
+import org.qubership.atp.tdm.model.bulkaction.BulkActionTaskStatus;
 import org.qubership.atp.tdm.model.bulkaction.BulkActionResult;
 import org.qubership.atp.tdm.model.mail.bulkaction.BulkDropMailSender;
+import org.qubership.atp.tdm.websocket.bulkaction.BulkActionJobs;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -38,6 +42,9 @@ public class BulkDataDropHandlerTest  extends AbstractTestDataTest {
     @Autowired
     ExecutorService executorService;
 
+    @Autowired
+    BulkActionJobs bulkActionJobs;
+
     @Autowired
     BulkDropMailSender bulkDropMailSender;
 
@@ -48,8 +55,8 @@ public class BulkDataDropHandlerTest  extends AbstractTestDataTest {
 
     @BeforeEach
     public void setUp() throws Exception {
-        bulkDataDropHandler = new BulkDataDropHandler(executorService, catalogRepository, environmentsService,
-                testDataService, bulkDropMailSender, currentTime, lockManager, tdmMdcHelper);
+        bulkDataDropHandler = new BulkDataDropHandler(executorService, bulkActionJobs, catalogRepository,
+                environmentsService, testDataService, bulkDropMailSender, currentTime, lockManager, tdmMdcHelper);
     }
 
 
@@ -120,6 +127,41 @@ public class BulkDataDropHandlerTest  extends AbstractTestDataTest {
         deleteTestDataTableIfExists(tableName);
     }
 
+    @Test
+    public void runBulkAction_dropTable_jobFinishedWithSavedResult() throws Exception {
+        final UUID projectId = UUID.randomUUID();
+        long processId = java.lang.System.currentTimeMillis();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        String tableName = "tdm_run_balk_drop_job";
+        String tableTitle = "TDM Run Balk Drop Job";
+        BulkActionConfig bulkActionConfig = new BulkActionConfig(){{
+            setProjectId(projectId);
+            setSystemId(systemId);
+            setSaveOccupiedData(false);
+            setExecuteInParallel(false);
+            setSendResult(false);
+            setRecipients("example@example.com");
+            setTableTitle(tableTitle);
+        }};
+        createTestDataTable(tableName);
+        createTestDataTableCatalog(projectId, systemId, environmentId, tableTitle, tableName);
+
+        List<Future<BulkActionResult>> futures =
+                bulkDataDropHandler.runBulkAction(session, executor, lazyEnvironments, bulkActionConfig, processId);
+        futures.get(0).get();
+
+        List<BulkActionJob> jobs = bulkActionJobs.getJobs(projectId);
+        Assertions.assertEquals(1, jobs.size());
+        BulkActionJob job = bulkActionJobs.getJob(jobs.get(0).getId());
+        Assertions.assertEquals(BulkActionJobStatus.FINISHED, job.getStatus());
+        Assertions.assertEquals(processId, job.getProcessId());
+        Assertions.assertEquals(BulkActionTaskStatus.COMPLETED, job.getTasks().get(0).getStatus());
+        Assertions.assertTrue(job.getTasks().get(0).getResult().contains(tableName));
+
+        catalogRepository.deleteByTableName(tableName);
+        deleteTestDataTableIfExists(tableName);
+    }
+
     @Test
     public void runBulkAction_dropTable_returnException() throws Exception {
         final UUID projectId = UUID.randomUUID();
@@ -24,6 +24,7 @@ import org.qubership.atp.tdm.model.mail.bulkaction.BulkLinksRefreshMailSender;
 import org.qubership.atp.tdm.model.table.TestDataTable;
 import org.qubership.atp.tdm.model.table.column.TestDataTableColumn;
 import org.qubership.atp.tdm.service.ColumnService;
+import org.qubership.atp.tdm.websocket.bulkaction.BulkActionJobs;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
@@ -48,6 +49,9 @@ public class BulkDataLinksRefreshHandlerTest  extends AbstractTestDataTest {
     @Autowired
     ExecutorService executorService;
 
+    @Autowired
+    BulkActionJobs bulkActionJobs;
+
     @Autowired
     ColumnService columnService;
 
@@ -60,8 +64,9 @@ public class BulkDataLinksRefreshHandlerTest  extends AbstractTestDataTest {
 
     @BeforeEach
     public void setUp() throws Exception {
-        bulkDataLinksRefreshHandler = new BulkDataLinksRefreshHandler(executorService, catalogRepository,
-                environmentsService, columnService, bulkLinksRefreshMailSender, currentTime, lockManager, tdmMdcHelper);
+        bulkDataLinksRefreshHandler = new BulkDataLinksRefreshHandler(executorService, bulkActionJobs,
+                catalogRepository, environmentsService, columnService, bulkLinksRefreshMailSender, currentTime,
+                lockManager, tdmMdcHelper);
 
         when(environmentsService.getConnectionsSystemById(any(), any())).thenReturn(Collections.singletonList(httpConnection));
     }
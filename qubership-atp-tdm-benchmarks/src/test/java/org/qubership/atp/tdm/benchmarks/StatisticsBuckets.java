@@ -0,0 +1,88 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.benchmarks;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+
+import org.qubership.atp.tdm.model.statistics.StatisticsInterval;
+import org.qubership.atp.tdm.utils.TimeBucketAggregator;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StatisticsBuckets implements AbstractJmhTest {
+
+    private static final String TABLE_NAME = "tdm_benchmark_statistics_buckets";
+    private static final LocalDate DATE_FROM = LocalDate.of(2015, 1, 1);
+    private static final LocalDate DATE_TO = LocalDate.of(2024, 12, 31);
+
+    @Test
+    public void runBenchmarksToAggregateStatistics() throws Exception {
+        Options opts = prepareOptionBuilder("jmh-statistics-buckets-report.json");
+        new Runner(opts).run();
+    }
+
+    @Benchmark
+    @Warmup(iterations = 2, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 8, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    public List<Long> aggregateMultiYearPeriod(MultiYearPeriod data) {
+        TimeBucketAggregator aggregator = new TimeBucketAggregator(data.interval, DATE_FROM, DATE_TO);
+        for (LocalDate date : data.dates) {
+            aggregator.add(TABLE_NAME, date, 1);
+        }
+        return aggregator.getCounts(TABLE_NAME);
+    }
+
+    @State(Scope.Benchmark)
+    public static class MultiYearPeriod {
+
+        @Param({"DAYS", "WEEKS", "MONTHS", "YEARS"})
+        private StatisticsInterval interval;
+
+        @Param({"100000"})
+        private int datesCount;
+
+        private LocalDate[] dates;
+
+        @Setup
+        public void setUp() {
+            Random random = new Random(42);
+            int days = (int) (DATE_TO.toEpochDay() - DATE_FROM.toEpochDay() + 1);
+            dates = new LocalDate[datesCount];
+            for (int index = 0; index < datesCount; index++) {
+                dates[index] = DATE_FROM.plusDays(random.nextInt(days));
+            }
+        }
+    }
+}
@@ -23,6 +23,7 @@ import java.util.concurrent.TimeUnit;
 
 import org.qubership.atp.tdm.env.configurator.exceptions.internal.TdmEnvInitiateCacheException;
 import org.qubership.atp.tdm.env.configurator.utils.CacheNames;
+import org.qubership.atp.tdm.env.configurator.utils.decryptor.CachingDecryptor;
 import org.qubership.atp.tdm.env.configurator.utils.decryptor.Decryptor;
 import org.qubership.atp.tdm.env.configurator.utils.decryptor.SopsDecryptor;
 import org.springframework.beans.factory.annotation.Value;
@@ -52,15 +53,23 @@ public class EnvironmentsConfig {
     @Value("${envgene.age.private.key:}")
     private String agePrivateKey;
 
+    @Value("${envgene.decryption.threads:4}")
+    private Integer decryptionThreads;
+
+    @Value("${envgene.decryption.cache.size:1000}")
+    private Long decryptionCacheSize;
+
     /**
      * Creates SopsDecryptor bean if age private key is configured.
+     * Decrypted contents are cached by content hash and decryptions are limited by configured threads.
      * @return SopsDecryptor instance or null if key is not configured
      */
-    @Bean
+    @Bean(destroyMethod = "shutdown")
     @ConditionalOnExpression("!'${envgene.age.private.key:}'.isEmpty()")
     public Decryptor sopsDecryptor() {
-        log.info("Initializing SopsDecryptor with age private key from configuration");
-        return new SopsDecryptor(agePrivateKey);
+        log.info("Initializing SopsDecryptor with age private key from configuration. Decryption threads: {}",
+                decryptionThreads);
+        return new CachingDecryptor(new SopsDecryptor(agePrivateKey), decryptionThreads, decryptionCacheSize);
     }
 
     /**
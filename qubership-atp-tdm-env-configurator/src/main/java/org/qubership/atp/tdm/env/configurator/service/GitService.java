@@ -28,16 +28,24 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.gitlab4j.api.GitLabApi;
 import org.gitlab4j.api.GitLabApiException;
 import org.gitlab4j.api.models.RepositoryFile;
 import org.gitlab4j.api.models.TreeItem;
+import org.qubership.atp.integration.configuration.mdc.MdcUtils;
 import org.qubership.atp.tdm.env.configurator.exceptions.internal.TdmEnvDbConnectionException;
 import org.qubership.atp.tdm.env.configurator.model.Connection;
 import org.qubership.atp.tdm.env.configurator.model.Environment;
@@ -53,7 +61,7 @@ import org.qubership.atp.tdm.env.configurator.model.envgen.YamlConnection;
 import org.qubership.atp.tdm.env.configurator.model.envgen.YamlEnvironment;
 import org.qubership.atp.tdm.env.configurator.model.envgen.YamlSystem;
 import org.qubership.atp.tdm.env.configurator.utils.decryptor.Decryptor;
-import org.qubership.atp.tdm.env.configurator.utils.decryptor.SopsDecryptor;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -63,7 +71,11 @@ import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -94,10 +106,18 @@ public class GitService {
     @Value("#{${projects.info}}")
     private Map<UUID, String> projects;
 
+    @Value("${git.environments.load.threads:8}")
+    private int environmentsLoadThreads = 8;
+
     private CacheService cacheService;
     private ObjectMapper enfConfObjectMapper;
     private Optional<Decryptor> decryptor;
     private static final List<String> EXCLUSIONS = Arrays.asList("credentials", "parameters");
+    private static final String ENVIRONMENTS_PATH = "environments";
+    private static final String EFFECTIVE_SET = "effective-set";
+    private final Map<String, LoadedFile> loadedEnvironmentFiles = new ConcurrentHashMap<>();
+    private GitLabApi gitLabApi;
+    private ExecutorService environmentsLoadExecutor;
 
     {
         enfConfObjectMapper = new YAMLMapper();
@@ -123,6 +143,34 @@ public class GitService {
         }
     }
 
+    @PreDestroy
+    public void shutdown() {
+        if (environmentsLoadExecutor != null) {
+            environmentsLoadExecutor.shutdownNow();
+        }
+        if (gitLabApi != null) {
+            gitLabApi.close();
+        }
+    }
+
+    /**
+     * Gets Git API client shared by all requests, so connections to Git are reused.
+     */
+    private synchronized GitLabApi getGitLabApi() {
+        if (gitLabApi == null) {
+            gitLabApi = new GitLabApi(getBaseUrl(), gitToken);
+        }
+        return gitLabApi;
+    }
+
+    private synchronized ExecutorService getEnvironmentsLoadExecutor() {
+        if (environmentsLoadExecutor == null) {
+            environmentsLoadExecutor = Executors.newFixedThreadPool(environmentsLoadThreads,
+                    new ThreadFactoryBuilder().setNameFormat("tdm-env-load-%d").build());
+        }
+        return environmentsLoadExecutor;
+    }
+
     /**
      * Extracts base URL from the full git repository URL.
      * The URL format is expected to be: https://git.example.com/path/to/project
@@ -547,7 +595,8 @@ public class GitService {
 
     private RepositoryFile getGitFile(String gitEndpoint) throws Exception {
         RepositoryFile file;
-        try (GitLabApi gitLabApi = new GitLabApi(getBaseUrl(), gitToken)) {
+        try {
+            GitLabApi gitLabApi = getGitLabApi();
             file = gitLabApi.getRepositoryFileApi().getFile(getProjectPath(), gitEndpoint, ref);
         } catch (GitLabApiException e) {
             if ("Not Found".equals(e.getReason()) && e.getHttpStatus() == 404) {
@@ -627,7 +676,8 @@ public class GitService {
      */
     public List<RepositoryFile> getAllFilesFromDirectory(String directoryPath) throws Exception {
         List<RepositoryFile> files = new ArrayList<>();
-        try (GitLabApi gitLabApi = new GitLabApi(getBaseUrl(), gitToken)) {
+        try {
+            GitLabApi gitLabApi = getGitLabApi();
             List<TreeItem> treeItems = gitLabApi.getRepositoryApi().getTree(getProjectPath(), directoryPath, ref, true);
 
             for (TreeItem item : treeItems) {
@@ -660,7 +710,8 @@ public class GitService {
      */
     public List<RepositoryFile> getAllFilesRecursively(String directoryPath) throws Exception {
         List<RepositoryFile> allFiles = new ArrayList<>();
-        try (GitLabApi gitLabApi = new GitLabApi(getBaseUrl(), gitToken)) {
+        try {
+            GitLabApi gitLabApi = getGitLabApi();
             List<TreeItem> treeItems = gitLabApi.getRepositoryApi().getTree(getProjectPath(), directoryPath, ref, true);
 
             for (TreeItem item : treeItems) {
@@ -692,7 +743,8 @@ public class GitService {
      * @throws Exception if error occurred while getting file list
      */
     private List<TreeItem> getFileTree(String directoryPath) throws Exception {
-        try (GitLabApi gitLabApi = new GitLabApi(getBaseUrl(), gitToken)) {
+        try {
+            GitLabApi gitLabApi = getGitLabApi();
             return gitLabApi.getRepositoryApi().getTree(getProjectPath(), directoryPath, ref, true);
         } catch (GitLabApiException e) {
             log.error("Error getting file tree: {}", directoryPath, e);
@@ -714,29 +766,13 @@ public class GitService {
         RepositoryFile file = getGitFile(filePath);
         byte[] decodedBytes = Base64.getDecoder().decode(file.getContent());
 
-        if (decryptor.isPresent() && decryptor.get() instanceof SopsDecryptor) {
-            File tempFile = File.createTempFile("git_file_", ".yaml");
+        if (decryptor.isPresent() && decryptor.get().isEncrypted(decodedBytes)) {
+            log.debug("File {} is encrypted, attempting to decrypt", filePath);
             try {
-                try (FileOutputStream fos = new FileOutputStream(tempFile)) {
-                    fos.write(decodedBytes);
-                }
-
-                // Check if file is encrypted and decrypt if needed
-                SopsDecryptor sopsDecryptor = (SopsDecryptor) decryptor.get();
-                if (sopsDecryptor.isEncrypted(tempFile.toPath())) {
-                    log.debug("File {} is encrypted, attempting to decrypt", filePath);
-                    try {
-                        return sopsDecryptor.decrypt(tempFile.toPath());
-                    } catch (Exception exception) {
-                        log.warn(String.format("Restoring original content due to file %s decryption failure",
-                                filePath), exception);
-                    }
-                }
-            } finally {
-                // Clean up temporary file
-                if (tempFile.exists() && !tempFile.delete()) {
-                    log.warn("Failed to delete temporary file: {}", tempFile.getAbsolutePath());
-                }
+                return decryptor.get().decrypt(decodedBytes);
+            } catch (Exception exception) {
+                log.warn(String.format("Restoring original content due to file %s decryption failure",
+                        filePath), exception);
             }
         }
 
@@ -752,7 +788,8 @@ public class GitService {
      */
     public List<String> getDirectoryNames(String directoryPath) throws Exception {
         List<String> directoryNames = new ArrayList<>();
-        try (GitLabApi gitLabApi = new GitLabApi(getBaseUrl(), gitToken)) {
+        try {
+            GitLabApi gitLabApi = getGitLabApi();
             List<TreeItem> treeItems = gitLabApi.getRepositoryApi()
                     .getTree(getProjectPath(), directoryPath, ref, false);
 
@@ -774,72 +811,37 @@ public class GitService {
         return directoryNames;
     }
 
+    /**
+     * Loads environments of the project from one recursive tree of the environments directory.
+     * Deployment parameters files of environments are downloaded in parallel; files with the same blob SHA
+     * as on previous load are not downloaded and parsed again.
+     *
+     * @param projectId project id
+     * @return environments having systems
+     */
     public List<LazyEnvironment> getLazyEnvironmentsByFileTree(UUID projectId) {
         try {
-            String environmentsPath = "environments/";
-            List<String> envClusterNames = getDirectoryNames(environmentsPath);
-            List<LazyEnvironment> lazyEnvironments = new ArrayList<>();
-            
-            for (String envClusterName : envClusterNames) {
-                try {
-                    String clusterPath = buildPath(environmentsPath, envClusterName);
-                    List<String> envNames = getDirectoryNames(clusterPath);
-                    
-                    for (String envName : envNames) {
+            List<EnvironmentFile> environmentFiles = findDeploymentParametersFiles(getFileTree(ENVIRONMENTS_PATH));
+            Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+            List<CompletableFuture<LazyEnvironment>> loads = environmentFiles.stream()
+                    .map(environmentFile -> CompletableFuture.supplyAsync(() -> {
+                        if (mdcContext != null) {
+                            MdcUtils.setContextMap(mdcContext);
+                        }
                         try {
-                            String envPath = buildPath(clusterPath, envName);
-                            List<String> envSubDirs = getDirectoryNames(envPath);
-                            boolean hasEffectiveSet = envSubDirs.contains("effective-set");
-                            
-                            if (hasEffectiveSet) {
-                                String fullDeploymentPath = buildPath(deploymentPath, ncAppPath,
-                                        deploymentParametersPath);
-                                String deploymentParamsPath = buildPath(envPath, fullDeploymentPath);
-
-                                try {
-                                    String paramsContent = getFileContentAsString(deploymentParamsPath);
-                                    Map<String, Object> deploymentParams =
-                                            enfConfObjectMapper.readValue(paramsContent, Map.class);
-                                    List<YamlSystem> yamlSystems = parseSystemsFromDeploymentParams(deploymentParams);
-                                    
-                                    if (!yamlSystems.isEmpty()) {
-                                        String fullEnvName = envClusterName + "." + envName;
-                                        LazyEnvironment lazyEnvironment = LazyEnvironment.builder()
-                                                .id(UUID.nameUUIDFromBytes(fullEnvName.getBytes()))
-                                                .name(fullEnvName)
-                                                .clusterName(envClusterName)
-                                                .projectId(projectId)
-                                                .systems(yamlSystems.stream()
-                                                        .map(system -> UUID.nameUUIDFromBytes(
-                                                                String.format("%s/%s", fullEnvName,
-                                                                        system.getName()).getBytes()).toString())
-                                                        .collect(Collectors.toList()))
-                                                .build();
-                                        lazyEnvironments.add(lazyEnvironment);
-                                        
-                                        YamlEnvironment yamlEnvironment = new YamlEnvironment(fullEnvName);
-                                        yamlEnvironment.setClusterName(envClusterName);
-                                        yamlEnvironment.setProjectId(projectId);
-                                        yamlEnvironment.setParameters(deploymentParams);
-                                        yamlEnvironment.setYamlSystems(yamlSystems);
-                                        cacheService.put(yamlEnvironment);
-                                    }
-                                    
-                                } catch (Exception e) {
-                                    log.warn("Failed to parse deployment parameters for environment {}/{}: {}", 
-                                            envClusterName, envName, e.getMessage());
-                                }
-                            }
-                        } catch (Exception e) {
-                            log.warn("Failed to process environment {}/{}: {}", 
-                                    envClusterName, envName, e.getMessage());
+                            return loadEnvironment(projectId, environmentFile);
+                        } finally {
+                            MDC.clear();
                         }
-                    }
-                } catch (Exception e) {
-                    log.warn("Failed to process cluster {}: {}", envClusterName, e.getMessage());
-                }
-            }
-            
+                    }, getEnvironmentsLoadExecutor()))
+                    .collect(Collectors.toList());
+            List<LazyEnvironment> lazyEnvironments = loads.stream()
+                    .map(CompletableFuture::join)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+            loadedEnvironmentFiles.keySet().retainAll(environmentFiles.stream()
+                    .map(EnvironmentFile::getPath)
+                    .collect(Collectors.toSet()));
             return lazyEnvironments;
         } catch (Exception e) {
             log.error("Failed to get lazy environments by file tree for project {}: {}", projectId, e.getMessage());
@@ -847,6 +849,97 @@ public class GitService {
         }
     }
 
+    /**
+     * Finds deployment parameters files of environments/cluster/environment directories having effective set.
+     *
+     * @param treeItems recursive tree of the environments directory
+     * @return deployment parameters files in tree order
+     */
+    private List<EnvironmentFile> findDeploymentParametersFiles(List<TreeItem> treeItems) {
+        Set<String> directories = new HashSet<>();
+        Map<String, TreeItem> files = new HashMap<>();
+        for (TreeItem item : treeItems) {
+            if (TreeItem.Type.TREE.equals(item.getType())) {
+                directories.add(item.getPath());
+            } else if (TreeItem.Type.BLOB.equals(item.getType())) {
+                files.put(item.getPath(), item);
+            }
+        }
+        String fullDeploymentPath = buildPath(deploymentPath, ncAppPath, deploymentParametersPath);
+        List<EnvironmentFile> environmentFiles = new ArrayList<>();
+        for (TreeItem item : treeItems) {
+            String[] names = item.getPath().split("/");
+            if (!TreeItem.Type.TREE.equals(item.getType()) || names.length != 3
+                    || EXCLUSIONS.contains(names[1]) || EXCLUSIONS.contains(names[2])
+                    || !directories.contains(buildPath(item.getPath(), EFFECTIVE_SET))) {
+                continue;
+            }
+            String deploymentParamsPath = buildPath(item.getPath(), fullDeploymentPath);
+            TreeItem deploymentParams = files.get(deploymentParamsPath);
+            if (deploymentParams == null) {
+                log.warn("Deployment parameters file {} is not found for environment {}/{}",
+                        deploymentParamsPath, names[1], names[2]);
+                continue;
+            }
+            environmentFiles.add(new EnvironmentFile(names[1], names[2], deploymentParamsPath,
+                    deploymentParams.getId()));
+        }
+        return environmentFiles;
+    }
+
+    private LazyEnvironment loadEnvironment(UUID projectId, EnvironmentFile environmentFile) {
+        String clusterName = environmentFile.getClusterName();
+        String envName = environmentFile.getEnvironmentName();
+        try {
+            Map<String, Object> deploymentParams = getDeploymentParams(environmentFile);
+            List<YamlSystem> yamlSystems = parseSystemsFromDeploymentParams(deploymentParams);
+            if (yamlSystems.isEmpty()) {
+                return null;
+            }
+            String fullEnvName = clusterName + "." + envName;
+            YamlEnvironment yamlEnvironment = new YamlEnvironment(fullEnvName);
+            yamlEnvironment.setClusterName(clusterName);
+            yamlEnvironment.setProjectId(projectId);
+            yamlEnvironment.setParameters(deploymentParams);
+            yamlEnvironment.setYamlSystems(yamlSystems);
+            cacheService.put(yamlEnvironment);
+            return LazyEnvironment.builder()
+                    .id(UUID.nameUUIDFromBytes(fullEnvName.getBytes()))
+                    .name(fullEnvName)
+                    .clusterName(clusterName)
+                    .projectId(projectId)
+                    .systems(yamlSystems.stream()
+                            .map(system -> UUID.nameUUIDFromBytes(String.format("%s/%s", fullEnvName,
+                                    system.getName()).getBytes()).toString())
+                            .collect(Collectors.toList()))
+                    .build();
+        } catch (Exception e) {
+            log.warn("Failed to parse deployment parameters for environment {}/{}: {}",
+                    clusterName, envName, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Gets parsed deployment parameters of the environment. The file is downloaded and parsed
+     * only if its blob SHA is changed since previous load.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> getDeploymentParams(EnvironmentFile environmentFile) throws Exception {
+        LoadedFile loadedFile = loadedEnvironmentFiles.get(environmentFile.getPath());
+        if (loadedFile != null && loadedFile.getBlobId().equals(environmentFile.getBlobId())) {
+            log.debug("Deployment parameters file {} is not changed, skip loading", environmentFile.getPath());
+            return loadedFile.getContent();
+        }
+        String paramsContent = getFileContentAsString(environmentFile.getPath());
+        Map<String, Object> deploymentParams = enfConfObjectMapper.readValue(paramsContent, Map.class);
+        if (environmentFile.getBlobId() != null) {
+            loadedEnvironmentFiles.put(environmentFile.getPath(),
+                    new LoadedFile(environmentFile.getBlobId(), deploymentParams));
+        }
+        return deploymentParams;
+    }
+
     /**
      * Parse systems and connections from deployment-parameters.yaml file using ObjectMapper.
      *
@@ -1012,4 +1105,22 @@ public class GitService {
         
         return result.toString().replace('\\', '/');
     }
+
+    @Getter
+    @AllArgsConstructor
+    private static class EnvironmentFile {
+
+        private final String clusterName;
+        private final String environmentName;
+        private final String path;
+        private final String blobId;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class LoadedFile {
+
+        private final String blobId;
+        private final Map<String, Object> content;
+    }
 }
@@ -0,0 +1,122 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.env.configurator.utils.decryptor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.qubership.atp.integration.configuration.mdc.MdcUtils;
+import org.qubership.atp.tdm.env.configurator.exceptions.internal.TdmEnvDecryptionException;
+import org.slf4j.MDC;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Decryptor keeping decrypted content in memory by hash of the encrypted content, so unchanged files
+ * are decrypted once. Decryptions are run by the delegate on a bounded pool of workers, which limits
+ * the number of parallel decryptions, e.g. SOPS processes, whatever number of threads requests them.
+ */
+@Slf4j
+public class CachingDecryptor implements Decryptor {
+
+    private final Decryptor delegate;
+    private final ExecutorService executorService;
+    private final Cache<String, String> decryptedContents;
+
+    /**
+     * Creates caching decryptor.
+     *
+     * @param delegate decryptor doing decryption
+     * @param threads number of parallel decryptions
+     * @param cacheSize maximum number of decrypted contents kept in memory
+     */
+    public CachingDecryptor(Decryptor delegate, int threads, long cacheSize) {
+        this.delegate = delegate;
+        this.executorService = Executors.newFixedThreadPool(threads,
+                new ThreadFactoryBuilder().setNameFormat("tdm-env-decrypt-%d").build());
+        this.decryptedContents = CacheBuilder.newBuilder()
+                .maximumSize(cacheSize)
+                .build();
+    }
+
+    @Override
+    public String decrypt(Path encryptedFilePath) throws TdmEnvDecryptionException {
+        try {
+            return decrypt(Files.readAllBytes(encryptedFilePath));
+        } catch (IOException e) {
+            log.error("Failed to read file: " + encryptedFilePath, e);
+            throw new TdmEnvDecryptionException("Failed to decrypt file: " + encryptedFilePath);
+        }
+    }
+
+    @Override
+    public String decrypt(byte[] encryptedContent) throws TdmEnvDecryptionException {
+        String contentHash = Hashing.sha256().hashBytes(encryptedContent).toString();
+        try {
+            return decryptedContents.get(contentHash, () -> decryptOnWorker(encryptedContent));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Throwables.throwIfInstanceOf(e.getCause(), TdmEnvDecryptionException.class);
+            log.error("Failed to decrypt content", e.getCause());
+            throw new TdmEnvDecryptionException("Failed to decrypt content");
+        }
+    }
+
+    private String decryptOnWorker(byte[] encryptedContent) throws Exception {
+        Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+        Future<String> decryption = executorService.submit(() -> {
+            if (mdcContext != null) {
+                MdcUtils.setContextMap(mdcContext);
+            }
+            try {
+                return delegate.decrypt(encryptedContent);
+            } finally {
+                MDC.clear();
+            }
+        });
+        try {
+            return decryption.get();
+        } catch (InterruptedException e) {
+            decryption.cancel(true);
+            Thread.currentThread().interrupt();
+            throw e;
+        } catch (ExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean isEncrypted(byte[] content) {
+        return delegate.isEncrypted(content);
+    }
+
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+}
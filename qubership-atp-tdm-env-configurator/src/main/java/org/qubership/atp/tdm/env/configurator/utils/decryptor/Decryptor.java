@@ -24,7 +24,7 @@ import java.nio.file.Path;
  * Abstract interface for decrypting encrypted files.
  * <p>
  * Implementations of this interface provide decryption capabilities
- * for different encryption backends.
+ * for different encryption backends, e.g. SOPS CLI or an in-JVM one.
  */
 public interface Decryptor {
 
@@ -36,4 +36,21 @@ public interface Decryptor {
      * @throws TdmEnvDecryptionException if decryption fails
      */
     String decrypt(Path encryptedFilePath) throws TdmEnvDecryptionException;
+
+    /**
+     * Decrypts encrypted content without writing it to a file.
+     *
+     * @param encryptedContent encrypted content
+     * @return decrypted content as a string
+     * @throws TdmEnvDecryptionException if decryption fails
+     */
+    String decrypt(byte[] encryptedContent) throws TdmEnvDecryptionException;
+
+    /**
+     * Checks if content is encrypted and should be decrypted.
+     *
+     * @param content content to check
+     * @return true if the content appears to be encrypted, false otherwise
+     */
+    boolean isEncrypted(byte[] content);
 }
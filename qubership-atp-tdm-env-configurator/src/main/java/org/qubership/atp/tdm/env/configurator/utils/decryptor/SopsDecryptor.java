@@ -19,11 +19,14 @@ package org.qubership.atp.tdm.env.configurator.utils.decryptor;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -45,6 +48,8 @@ public class SopsDecryptor implements Decryptor {
 
     private static final String SOPS_AGE_KEY_ENV = "SOPS_AGE_KEY";
     private static final String SOPS_COMMAND = "sops";
+    private static final String SOPS_STDIN = "/dev/stdin";
+    private static final String YAML_TYPE = "yaml";
     private static final int DEFAULT_TIMEOUT_SECONDS = 60;
     
     // Pattern to match SOPS metadata: "sops:" at the beginning of a line (with optional whitespace)
@@ -104,7 +109,8 @@ public class SopsDecryptor implements Decryptor {
         log.debug("Decrypting file: {}", encryptedFilePath);
 
         try {
-            return executeSopsDecrypt(encryptedFilePath);
+            return executeSopsDecrypt(Collections.singletonList(encryptedFilePath.toString()), null,
+                    encryptedFilePath.toString());
         } catch (IOException | InterruptedException e) {
             log.error("Failed to decrypt file: " + encryptedFilePath, e);
             throw new TdmEnvDecryptionException("Failed to decrypt file: " + encryptedFilePath);
@@ -122,11 +128,33 @@ public class SopsDecryptor implements Decryptor {
         return decrypt(Paths.get(encryptedFilePath));
     }
 
+    /**
+     * Decrypts SOPS-encrypted YAML content. The content is passed to SOPS through standard input,
+     * so it is not written to a temporary file.
+     *
+     * @param encryptedContent encrypted YAML content
+     * @return decrypted content as a string
+     * @throws TdmEnvDecryptionException if decryption fails
+     */
+    @Override
+    public String decrypt(byte[] encryptedContent) throws TdmEnvDecryptionException {
+        if (encryptedContent == null) {
+            throw new IllegalArgumentException("Encrypted content cannot be null");
+        }
+
+        log.debug("Decrypting {} bytes of content", encryptedContent.length);
+
+        try {
+            return executeSopsDecrypt(Arrays.asList("--input-type", YAML_TYPE, "--output-type", YAML_TYPE,
+                    SOPS_STDIN), encryptedContent, SOPS_STDIN);
+        } catch (IOException | InterruptedException e) {
+            log.error("Failed to decrypt content", e);
+            throw new TdmEnvDecryptionException("Failed to decrypt content");
+        }
+    }
+
     /**
      * Checks if a file is encrypted with SOPS.
-     * SOPS-encrypted files contain:
-     * 1. A top-level 'sops' key in their YAML structure (metadata)
-     * 2. Encrypted values in the format ENC[ALGORITHM, data:...]
      *
      * @param filePath path to the file to check
      * @return true if the file appears to be SOPS-encrypted, false otherwise
@@ -137,41 +165,59 @@ public class SopsDecryptor implements Decryptor {
         }
 
         try {
-            byte[] bytes = Files.readAllBytes(filePath);
-            String content = new String(bytes, StandardCharsets.UTF_8);
-            
-            boolean hasSopsMetadata = SOPS_METADATA_PATTERN.matcher(content).find();
-            boolean hasEncryptedValues = ENCRYPTED_VALUE_PATTERN.matcher(content).find();
-            
-            boolean isEncrypted = hasSopsMetadata || hasEncryptedValues;
-            
-            if (isEncrypted) {
-                log.debug("File {} detected as SOPS-encrypted (metadata: {}, encrypted values: {})", 
-                        filePath, hasSopsMetadata, hasEncryptedValues);
-            }
-            
-            return isEncrypted;
+            return isEncrypted(Files.readAllBytes(filePath));
         } catch (IOException e) {
             log.warn("Failed to check if file is encrypted: {}", filePath, e);
             return false;
         }
     }
 
+    /**
+     * Checks if content is encrypted with SOPS.
+     * SOPS-encrypted content contains:
+     * 1. A top-level 'sops' key in its YAML structure (metadata)
+     * 2. Encrypted values in the format ENC[ALGORITHM, data:...]
+     *
+     * @param content content to check
+     * @return true if the content appears to be SOPS-encrypted, false otherwise
+     */
+    @Override
+    public boolean isEncrypted(byte[] content) {
+        if (content == null) {
+            return false;
+        }
+
+        String text = new String(content, StandardCharsets.UTF_8);
+        boolean hasSopsMetadata = SOPS_METADATA_PATTERN.matcher(text).find();
+        boolean hasEncryptedValues = ENCRYPTED_VALUE_PATTERN.matcher(text).find();
+
+        boolean isEncrypted = hasSopsMetadata || hasEncryptedValues;
+
+        if (isEncrypted) {
+            log.debug("Content detected as SOPS-encrypted (metadata: {}, encrypted values: {})",
+                    hasSopsMetadata, hasEncryptedValues);
+        }
+
+        return isEncrypted;
+    }
+
     /**
      * Executes SOPS decrypt command.
      *
-     * @param filePath path to the encrypted file
+     * @param arguments arguments of the decrypt command
+     * @param input content passed to standard input of the command, if any
+     * @param source decrypted file or stream, for messages
      * @return decrypted content
      * @throws IOException if I/O error occurs
      * @throws InterruptedException if the process is interrupted
      * @throws TdmEnvDecryptionException if decryption fails
      */
-    private String executeSopsDecrypt(Path filePath)
+    private String executeSopsDecrypt(List<String> arguments, byte[] input, String source)
             throws IOException, InterruptedException, TdmEnvDecryptionException {
         List<String> command = new ArrayList<>();
         command.add(SOPS_COMMAND);
         command.add("--decrypt");
-        command.add(filePath.toString());
+        command.addAll(arguments);
 
         ProcessBuilder processBuilder = new ProcessBuilder(command);
 
@@ -215,6 +261,12 @@ public class SopsDecryptor implements Decryptor {
         outputThread.start();
         errorThread.start();
 
+        try (OutputStream inputStream = process.getOutputStream()) {
+            if (input != null) {
+                inputStream.write(input);
+            }
+        }
+
         try {
             outputThread.join();
             errorThread.join();
@@ -236,19 +288,19 @@ public class SopsDecryptor implements Decryptor {
         int exitCode = process.exitValue();
 
         if (exitCode != 0) {
-            String errorMessage = getErrorMessage(filePath, errorOutput, output);
+            String errorMessage = getErrorMessage(source, errorOutput, output);
 
             throw new TdmEnvDecryptionException(
                     String.format("SOPS decryption failed with exit code %d: %s", exitCode, errorMessage));
         }
 
         String decryptedContent = output.toString();
-        log.debug("Successfully decrypted file: {}", filePath);
+        log.debug("Successfully decrypted: {}", source);
 
         return decryptedContent;
     }
 
-    private static String getErrorMessage(Path filePath, StringBuilder errorOutput, StringBuilder output) {
+    private static String getErrorMessage(String source, StringBuilder errorOutput, StringBuilder output) {
         String errorMessage = errorOutput.length() > 0
                 ? errorOutput.toString()
                 : output.toString();
@@ -256,7 +308,7 @@ public class SopsDecryptor implements Decryptor {
         // Handle specific SOPS error cases
         if (errorMessage.contains("metadata not found")) {
             throw new TdmEnvDecryptionException(
-                    "File is not encrypted or already decrypted: " + filePath);
+                    "File is not encrypted or already decrypted: " + source);
         }
 
         if (errorMessage.contains("no decryption key")) {
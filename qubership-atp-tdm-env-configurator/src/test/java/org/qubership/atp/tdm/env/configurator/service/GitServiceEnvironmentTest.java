@@ -19,10 +19,13 @@ package org.qubership.atp.tdm.env.configurator.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.lang.reflect.Constructor;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -34,11 +37,13 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.gitlab4j.api.models.TreeItem;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.qubership.atp.tdm.env.configurator.model.LazyEnvironment;
 import org.qubership.atp.tdm.env.configurator.model.LazySystem;
 import org.qubership.atp.tdm.env.configurator.model.envgen.YamlEnvironment;
 import org.qubership.atp.tdm.env.configurator.model.envgen.YamlSystem;
@@ -255,6 +260,55 @@ class GitServiceEnvironmentTest {
         assertEquals(2, lazySystem.getConnections().size());
     }
 
+    @Test
+    void testFindDeploymentParametersFiles_RecursiveTree_ShouldSelectEnvironmentsWithEffectiveSet() {
+        // Given
+        String paramsPath = "effective-set/deployment/atp/atp3-playwright-runner/values/deployment-parameters.yaml";
+        List<TreeItem> treeItems = Arrays.asList(
+                createTreeItem("environments/cluster", TreeItem.Type.TREE, null),
+                createTreeItem("environments/cluster/env-1", TreeItem.Type.TREE, null),
+                createTreeItem("environments/cluster/env-1/effective-set", TreeItem.Type.TREE, null),
+                createTreeItem("environments/cluster/env-1/" + paramsPath, TreeItem.Type.BLOB, "sha-1"),
+                createTreeItem("environments/cluster/env-2", TreeItem.Type.TREE, null),
+                createTreeItem("environments/cluster/parameters", TreeItem.Type.TREE, null),
+                createTreeItem("environments/cluster/parameters/effective-set", TreeItem.Type.TREE, null));
+
+        // When
+        List<?> environmentFiles = ReflectionTestUtils.invokeMethod(gitService,
+                "findDeploymentParametersFiles", treeItems);
+
+        // Then
+        assertNotNull(environmentFiles);
+        assertEquals(1, environmentFiles.size());
+        assertEquals("env-1", ReflectionTestUtils.getField(environmentFiles.get(0), "environmentName"));
+        assertEquals("environments/cluster/env-1/" + paramsPath,
+                ReflectionTestUtils.getField(environmentFiles.get(0), "path"));
+        assertEquals("sha-1", ReflectionTestUtils.getField(environmentFiles.get(0), "blobId"));
+    }
+
+    @Test
+    void testLoadEnvironment_BlobNotChanged_ShouldUsePreviouslyParsedFile() throws Exception {
+        // Given - file is not downloaded, loading from Git would fail on the test URL
+        UUID projectId = UUID.randomUUID();
+        String path = "environments/cluster/env-1/deployment-parameters.yaml";
+        @SuppressWarnings("unchecked")
+        Map<String, Object> deploymentParams = yamlMapper.readValue(testDeploymentParamsContent, Map.class);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> loadedFiles = (Map<String, Object>) ReflectionTestUtils.getField(gitService,
+                "loadedEnvironmentFiles");
+        loadedFiles.put(path, newInnerInstance("LoadedFile", "sha-1", deploymentParams));
+
+        // When
+        LazyEnvironment lazyEnvironment = ReflectionTestUtils.invokeMethod(gitService, "loadEnvironment",
+                projectId, newInnerInstance("EnvironmentFile", "cluster", "env-1", path, "sha-1"));
+
+        // Then
+        assertNotNull(lazyEnvironment);
+        assertEquals("cluster.env-1", lazyEnvironment.getName());
+        assertEquals(3, lazyEnvironment.getSystems().size());
+        verify(cacheService).put(any(YamlEnvironment.class));
+    }
+
     // Helper methods
     private List<YamlSystem> invokeParseSystemsFromDeploymentParams(Map<String, Object> deploymentParams) {
         try {
@@ -265,6 +319,24 @@ class GitServiceEnvironmentTest {
         }
     }
 
+    private TreeItem createTreeItem(String path, TreeItem.Type type, String id) {
+        TreeItem treeItem = new TreeItem();
+        treeItem.setPath(path);
+        treeItem.setName(path.substring(path.lastIndexOf('/') + 1));
+        treeItem.setType(type);
+        treeItem.setId(id);
+        return treeItem;
+    }
+
+    private Object newInnerInstance(String className, Object... arguments) throws Exception {
+        Constructor<?> constructor = Arrays.stream(GitService.class.getDeclaredClasses())
+                .filter(innerClass -> className.equals(innerClass.getSimpleName()))
+                .findFirst()
+                .orElseThrow(IllegalStateException::new)
+                .getDeclaredConstructors()[0];
+        constructor.setAccessible(true);
+        return constructor.newInstance(arguments);
+    }
 
     private YamlEnvironment createTestYamlEnvironment(UUID environmentId) {
         YamlEnvironment yamlEnvironment = new YamlEnvironment("test-env");
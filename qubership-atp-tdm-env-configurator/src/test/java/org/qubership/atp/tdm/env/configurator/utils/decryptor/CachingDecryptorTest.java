@@ -0,0 +1,79 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.env.configurator.utils.decryptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.tdm.env.configurator.exceptions.internal.TdmEnvDecryptionException;
+
+class CachingDecryptorTest {
+
+    private static final byte[] ENCRYPTED_CONTENT = "key: ENC[AES256-GCM, data:test]\n"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private Decryptor delegate;
+    private CachingDecryptor decryptor;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(Decryptor.class);
+        decryptor = new CachingDecryptor(delegate, 2, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        decryptor.shutdown();
+    }
+
+    @Test
+    void testDecrypt_SameContentTwice_ShouldDecryptOnce() {
+        // Given
+        when(delegate.decrypt(ENCRYPTED_CONTENT)).thenReturn("key: value\n");
+
+        // When
+        String first = decryptor.decrypt(ENCRYPTED_CONTENT);
+        String second = decryptor.decrypt(ENCRYPTED_CONTENT.clone());
+
+        // Then
+        assertEquals("key: value\n", first);
+        assertEquals("key: value\n", second);
+        verify(delegate, times(1)).decrypt(ENCRYPTED_CONTENT);
+    }
+
+    @Test
+    void testDecrypt_DelegateFailed_ShouldThrowExceptionAndNotCacheFailure() {
+        // Given
+        when(delegate.decrypt(ENCRYPTED_CONTENT)).thenThrow(new TdmEnvDecryptionException("Decryption failed"));
+
+        // When & Then
+        TdmEnvDecryptionException exception = assertThrows(TdmEnvDecryptionException.class,
+                () -> decryptor.decrypt(ENCRYPTED_CONTENT));
+        assertEquals("Decryption failed", exception.getMessage());
+        assertThrows(TdmEnvDecryptionException.class, () -> decryptor.decrypt(ENCRYPTED_CONTENT));
+        verify(delegate, times(2)).decrypt(ENCRYPTED_CONTENT);
+    }
+}
@@ -269,6 +269,27 @@ class SopsDecryptorTest {
         assertThrows(TdmEnvDecryptionException.class, () -> decryptor.decrypt(directory));
     }
 
+    @Test
+    void testIsEncrypted_WithEncryptedBytes_ShouldReturnTrue() {
+        // Given
+        byte[] content = "password: ENC[AES256-GCM, data:abc123, iv:xyz, tag:123, type:str]\n".getBytes();
+
+        // When
+        boolean result = decryptor.isEncrypted(content);
+
+        // Then
+        assertTrue(result);
+    }
+
+    @Test
+    void testIsEncrypted_WithPlainBytes_ShouldReturnFalse() {
+        // When
+        boolean result = decryptor.isEncrypted("key: plain-value\n".getBytes());
+
+        // Then
+        assertFalse(result);
+    }
+
     // Helper method to create test files
     private Path createTestFile(String fileName, String content) throws IOException {
         Path file = tempDir.resolve(fileName);